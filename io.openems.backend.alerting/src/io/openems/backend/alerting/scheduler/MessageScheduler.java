@@ -1,10 +1,9 @@
 package io.openems.backend.alerting.scheduler;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.TreeMap;
 import java.util.function.Predicate;
 
 import io.openems.backend.alerting.Handler;
@@ -21,14 +20,14 @@ import io.openems.backend.alerting.Message;
  */
 public class MessageScheduler<T extends Message> {
 	private final Map<String, T> messageForId;
-	private final PriorityQueue<T> queue;
+	private final TimingWheel<T> queue;
 
 	private final Handler<T> handler;
 
 	public MessageScheduler(Handler<T> handler) {
 		this.handler = handler;
-		this.queue = new PriorityQueue<>();
-		this.messageForId = new TreeMap<>();
+		this.queue = new TimingWheel<>();
+		this.messageForId = new HashMap<>();
 	}
 
 	/**
@@ -42,7 +41,7 @@ public class MessageScheduler<T extends Message> {
 		}
 		synchronized (this) {
 			this.messageForId.computeIfAbsent(msg.getId(), (key) -> {
-				this.queue.add(msg);
+				this.queue.add(msg, msg.getNotifyStamp());
 				return msg;
 			});
 		}
@@ -73,8 +72,8 @@ public class MessageScheduler<T extends Message> {
 	 * @param msg to check for
 	 * @return true if is scheduled
 	 */
-	public boolean isScheduled(Message msg) {
-		return this.queue.contains(msg);
+	public synchronized boolean isScheduled(Message msg) {
+		return msg != null && this.messageForId.containsKey(msg.getId());
 	}
 
 	/**
@@ -83,8 +82,8 @@ public class MessageScheduler<T extends Message> {
 	 * @param find ;filter to use
 	 * @return true if is scheduled
 	 */
-	public boolean isScheduled(Predicate<T> find) {
-		return this.queue.stream().anyMatch(find);
+	public synchronized boolean isScheduled(Predicate<T> find) {
+		return this.messageForId.values().stream().anyMatch(find);
 	}
 
 	public Class<T> getGeneric() {
@@ -96,8 +95,8 @@ public class MessageScheduler<T extends Message> {
 	 *
 	 * @return size of message queue
 	 */
-	public int size() {
-		return this.queue.size();
+	public synchronized int size() {
+		return this.messageForId.size();
 	}
 
 	/**
@@ -106,32 +105,15 @@ public class MessageScheduler<T extends Message> {
 	 * @param now TimeStamp on call
 	 */
 	public void handle(ZonedDateTime now) {
-		var msgs = new ArrayList<T>();
-		while (this.hasTimeElapsed(now, this.peek())) {
-			msgs.add(this.poll());
-		}
-		if (!msgs.isEmpty()) {
-			this.handler.send(now, msgs);
-		}
-	}
-
-	private boolean hasTimeElapsed(ZonedDateTime now, T msg) {
-		return msg != null && now.isAfter(msg.getNotifyStamp());
-	}
-
-	private T poll() {
+		final List<T> msgs;
 		synchronized (this) {
-			var msg = this.queue.poll();
-			if (msg != null) {
+			msgs = this.queue.advance(now);
+			for (var msg : msgs) {
 				this.messageForId.remove(msg.getId());
 			}
-			return msg;
 		}
-	}
-
-	private T peek() {
-		synchronized (this) {
-			return this.queue.peek();
+		if (!msgs.isEmpty()) {
+			this.handler.send(now, msgs);
 		}
 	}
 
@@ -4,7 +4,6 @@ import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.PriorityQueue;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -21,7 +20,7 @@ public class MinuteTimer implements TimedExecutor {
 	private final Logger log = LoggerFactory.getLogger(MinuteTimer.class);
 
 	private final List<Consumer<ZonedDateTime>> subscriber = new ArrayList<>();
-	private final PriorityQueue<TimedTask> singleTasks = new PriorityQueue<>();
+	private final TimingWheel<TimedTask> singleTasks = new TimingWheel<>();
 
 	private final Clock clock;
 	private long cycleCount = 0;
@@ -72,9 +71,9 @@ public class MinuteTimer implements TimedExecutor {
 	 * @return reference to Task. Can be used to cancel the task.
 	 */
 	@Override
-	public TimedTask schedule(ZonedDateTime at, Consumer<ZonedDateTime> task) {
+	public synchronized TimedTask schedule(ZonedDateTime at, Consumer<ZonedDateTime> task) {
 		var singleTask = new TimedTask(at, task);
-		this.singleTasks.add(singleTask);
+		this.singleTasks.add(singleTask, at);
 		return singleTask;
 	}
 
@@ -84,7 +83,7 @@ public class MinuteTimer implements TimedExecutor {
 	 * @param task to remove
 	 */
 	@Override
-	public void cancel(TimedTask task) {
+	public synchronized void cancel(TimedTask task) {
 		if (task != null) {
 			this.singleTasks.remove(task);
 		}
@@ -136,10 +135,9 @@ public class MinuteTimer implements TimedExecutor {
 	}
 
 	private void callSingleTasks(ZonedDateTime now) {
-		while (!this.singleTasks.isEmpty() //
-				&& this.singleTasks.peek().executeAt.isBefore(now)) {
+		for (var singleTask : this.singleTasks.advance(now)) {
 			try {
-				this.singleTasks.poll().task.accept(now);
+				singleTask.task.accept(now);
 			} catch (Throwable t) {
 				this.log.error(t.getMessage(), t);
 			}
@@ -0,0 +1,241 @@
+package io.openems.backend.alerting.scheduler;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A hierarchical timing wheel with a resolution of one minute.
+ *
+ * <p>
+ * Adding and removing an element is O(1), independent of the number of
+ * pending elements. Each level has {@link #SLOTS} slots; level 0 covers the
+ * next 64 minutes, level 1 the next ~68 hours, level 2 the next ~182 days and
+ * level 3 everything beyond. Elements of a higher level are moved to a lower
+ * level once their slot is reached.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> type of the elements; must implement hashCode and equals
+ */
+public class TimingWheel<T> {
+
+	private static final int BITS = 6;
+	public static final int SLOTS = 1 << BITS;
+	private static final int MASK = SLOTS - 1;
+	private static final int LEVELS = 4;
+
+	private record Entry(ZonedDateTime at, long minute, Set<?> slot) {
+	}
+
+	@SuppressWarnings("unchecked")
+	private final Set<T>[][] wheels = new Set[LEVELS][SLOTS];
+	private final Map<T, Entry> entries = new HashMap<>();
+
+	/** Elements that are added before the first {@link #advance(ZonedDateTime)}. */
+	private final Set<T> unplaced = new HashSet<>();
+	/** Elements whose minute is already processed. */
+	private final Set<T> overdue = new HashSet<>();
+
+	/** The last processed minute; {@link Long#MIN_VALUE} if not started. */
+	private long current = Long.MIN_VALUE;
+
+	/**
+	 * Adds an element. If the element already exists, it is rescheduled.
+	 *
+	 * @param element the element
+	 * @param at      the time at which the element is due
+	 */
+	public void add(T element, ZonedDateTime at) {
+		this.remove(element);
+		this.place(element, at, toMinute(at));
+	}
+
+	/**
+	 * Removes an element.
+	 *
+	 * @param element the element
+	 * @return true if the element was found
+	 */
+	public boolean remove(T element) {
+		var entry = this.entries.remove(element);
+		if (entry == null) {
+			return false;
+		}
+		entry.slot.remove(element);
+		return true;
+	}
+
+	/**
+	 * Is the element scheduled?.
+	 *
+	 * @param element the element
+	 * @return true if yes
+	 */
+	public boolean contains(T element) {
+		return this.entries.containsKey(element);
+	}
+
+	/**
+	 * Gets all scheduled elements.
+	 *
+	 * @return an unmodifiable view of the elements
+	 */
+	public Collection<T> elements() {
+		return Collections.unmodifiableSet(this.entries.keySet());
+	}
+
+	/**
+	 * Gets the number of scheduled elements.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Is the wheel empty?.
+	 *
+	 * @return true if there are no scheduled elements
+	 */
+	public boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	/**
+	 * Advances the wheel and removes all elements that are due, i.e. their time
+	 * is before 'now'.
+	 *
+	 * @param now the current time
+	 * @return the due elements, sorted by their time
+	 */
+	public List<T> advance(ZonedDateTime now) {
+		var nowMinute = toMinute(now);
+		if (this.current == Long.MIN_VALUE || nowMinute - this.current > (long) SLOTS * SLOTS) {
+			// Start or jump in time -> place all elements relative to now
+			this.rebuild(nowMinute - 1);
+		}
+
+		var candidates = new ArrayList<T>(this.overdue);
+		this.overdue.clear();
+		while (this.current < nowMinute) {
+			this.current++;
+			this.cascade();
+			if (!this.overdue.isEmpty()) {
+				// Cascaded elements that are due in the current minute
+				candidates.addAll(this.overdue);
+				this.overdue.clear();
+			}
+			var slot = this.wheels[0][(int) (this.current & MASK)];
+			if (slot != null && !slot.isEmpty()) {
+				candidates.addAll(slot);
+				slot.clear();
+			}
+		}
+
+		var due = new ArrayList<Map.Entry<T, ZonedDateTime>>(candidates.size());
+		for (var element : candidates) {
+			var entry = this.entries.remove(element);
+			if (entry.at.isBefore(now)) {
+				due.add(Map.entry(element, entry.at));
+			} else {
+				// Due later within the current minute
+				this.place(element, entry.at, this.current + 1);
+			}
+		}
+		due.sort(Map.Entry.comparingByValue());
+		return due.stream() //
+				.map(Map.Entry::getKey) //
+				.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	/**
+	 * Moves the elements of higher levels whose slot is reached to lower levels.
+	 */
+	private void cascade() {
+		for (var level = LEVELS - 1; level > 0; level--) {
+			if ((this.current & ((1L << (BITS * level)) - 1)) != 0) {
+				continue;
+			}
+			var slot = this.wheels[level][(int) ((this.current >> (BITS * level)) & MASK)];
+			if (slot == null || slot.isEmpty()) {
+				continue;
+			}
+			var elements = new ArrayList<T>(slot);
+			slot.clear();
+			for (var element : elements) {
+				var entry = this.entries.remove(element);
+				this.place(element, entry.at, entry.minute);
+			}
+		}
+	}
+
+	private void rebuild(long minute) {
+		var elements = new ArrayList<T>(this.entries.keySet());
+		var ats = new ArrayList<ZonedDateTime>(elements.size());
+		for (var element : elements) {
+			ats.add(this.entries.get(element).at);
+		}
+		this.entries.clear();
+		this.unplaced.clear();
+		this.overdue.clear();
+		for (var wheel : this.wheels) {
+			for (var slot : wheel) {
+				if (slot != null) {
+					slot.clear();
+				}
+			}
+		}
+		this.current = minute;
+		for (var i = 0; i < elements.size(); i++) {
+			var at = ats.get(i);
+			this.place(elements.get(i), at, toMinute(at));
+		}
+	}
+
+	private void place(T element, ZonedDateTime at, long minute) {
+		final Set<T> slot;
+		if (this.current == Long.MIN_VALUE) {
+			slot = this.unplaced;
+		} else {
+			var delta = minute - this.current;
+			if (delta <= 0) {
+				slot = this.overdue;
+			} else {
+				var level = 0;
+				while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+					level++;
+				}
+				var index = level == LEVELS - 1 && delta >= 1L << (BITS * LEVELS) //
+						// Beyond range -> last slot before wrap-around; cascades again
+						? (int) (((this.current >> (BITS * level)) - 1) & MASK) //
+						: (int) ((minute >> (BITS * level)) & MASK);
+				slot = this.getSlot(level, index);
+			}
+		}
+		slot.add(element);
+		this.entries.put(element, new Entry(at, minute, slot));
+	}
+
+	private Set<T> getSlot(int level, int index) {
+		var slot = this.wheels[level][index];
+		if (slot == null) {
+			slot = new HashSet<>();
+			this.wheels[level][index] = slot;
+		}
+		return slot;
+	}
+
+	private static long toMinute(ZonedDateTime at) {
+		return Math.floorDiv(at.toEpochSecond(), 60);
+	}
+}
@@ -0,0 +1,102 @@
+package io.openems.backend.alerting.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+	private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 30, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testAdvance() {
+		var sut = new TimingWheel<String>();
+		sut.add("c", START.plusMinutes(3));
+		sut.add("a", START.plusSeconds(10));
+		sut.add("b", START.plusMinutes(1));
+		sut.add("past", START.minusDays(3));
+		assertEquals(4, sut.size());
+
+		assertEquals(List.of("past"), sut.advance(START));
+		// "a" is due later within the same minute
+		assertEquals(List.of(), sut.advance(START.plusSeconds(5)));
+		assertEquals(List.of("a", "b"), sut.advance(START.plusMinutes(2)));
+		assertEquals(List.of("c"), sut.advance(START.plusMinutes(5)));
+		assertTrue(sut.isEmpty());
+	}
+
+	@Test
+	public void testRemove() {
+		var sut = new TimingWheel<String>();
+		sut.add("a", START.plusMinutes(1));
+		sut.add("b", START.plusMinutes(1));
+		assertTrue(sut.contains("a"));
+		assertTrue(sut.remove("a"));
+		assertFalse(sut.remove("a"));
+		assertFalse(sut.contains("a"));
+
+		// Reschedule
+		sut.add("b", START.plusMinutes(10));
+		assertEquals(1, sut.size());
+		assertEquals(List.of(), sut.advance(START.plusMinutes(5)));
+		assertEquals(List.of("b"), sut.advance(START.plusMinutes(11)));
+	}
+
+	@Test
+	public void testCascade() {
+		var sut = new TimingWheel<String>();
+		sut.advance(START);
+		sut.add("hours", START.plusHours(5));
+		sut.add("days", START.plusDays(5));
+		sut.add("year", START.plusDays(300));
+
+		var now = START;
+		for (var hour = 1; hour <= 24 * 301; hour++) {
+			now = START.plusHours(hour);
+			var due = sut.advance(now);
+			if (hour == 6) {
+				assertEquals(List.of("hours"), due);
+			} else if (hour == 5 * 24 + 1) {
+				assertEquals(List.of("days"), due);
+			} else if (hour == 300 * 24 + 1) {
+				assertEquals(List.of("year"), due);
+			} else {
+				assertEquals("Hour " + hour, List.of(), due);
+			}
+		}
+		assertTrue(sut.isEmpty());
+	}
+
+	@Test
+	public void testMinuteByMinute() {
+		var sut = new TimingWheel<Integer>();
+		sut.advance(START);
+		// Crosses multiple 64-minute boundaries; elements beyond 64 minutes start on
+		// level 1 and are cascaded exactly in their minute
+		for (var minute = 1; minute <= 200; minute++) {
+			sut.add(minute, START.plusMinutes(minute));
+		}
+		for (var minute = 1; minute <= 200; minute++) {
+			assertEquals("Minute " + minute, List.of(minute), sut.advance(START.plusMinutes(minute).plusSeconds(1)));
+		}
+		assertTrue(sut.isEmpty());
+	}
+
+	@Test
+	public void testJump() {
+		var sut = new TimingWheel<String>();
+		sut.advance(START);
+		sut.add("a", START.plusDays(10));
+		sut.add("b", START.plusDays(30));
+
+		assertEquals(List.of("a"), sut.advance(START.plusDays(20)));
+		assertEquals(List.of("b"), sut.advance(START.plusDays(40)));
+	}
+
+}
@@ -100,13 +100,13 @@ public class RestHandler extends AbstractHandler {
 		throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
 	}
 
-	private void sendOkResponse(Request baseRequest, HttpServletResponse response, JsonObject data)
+	private void sendOkResponse(Request baseRequest, HttpServletResponse response, JsonrpcMessage message)
 			throws OpenemsException {
 		try {
 			response.setContentType("application/json");
 			response.setStatus(HttpServletResponse.SC_OK);
 			baseRequest.setHandled(true);
-			response.getWriter().write(data.toString());
+			message.writeTo(response.getWriter());
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
 		}
@@ -216,7 +216,7 @@ public class RestHandler extends AbstractHandler {
 			}
 
 			// send response
-			this.sendOkResponse(baseRequest, httpResponse, response.toJsonObject());
+			this.sendOkResponse(baseRequest, httpResponse, response);
 
 		} catch (OpenemsNamedException e) {
 			this.sendErrorResponse(baseRequest, httpResponse, requestId,
@@ -89,7 +89,7 @@ public class Backend2BackendWebsocket extends AbstractOpenemsBackendComponent im
 	private synchronized void startServer() {
 		if (this.server == null) {
 			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
-					this.config.debugMode());
+					this.config.debugMode(), this.config.threadMode(), this.config.maxTasksPerConnection());
 			this.server.start();
 		}
 	}
@@ -13,8 +13,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(Backend2BackendWebsocket parent, String name, int port, int poolSize, DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+	public WebsocketServer(Backend2BackendWebsocket parent, String name, int port, int poolSize, DebugMode debugMode,
+			ThreadMode threadMode, int maxTasksPerConnection) {
+		super(name, port, poolSize, debugMode, threadMode, maxTasksPerConnection);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -1,20 +1,47 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.StringUtils;
 
+/**
+ * Caches the latest current and aggregated Channel values of one Edge.
+ *
+ * <p>
+ * The cache is written by the Edge-Websocket thread of the Edge and read by
+ * UI/Backend-to-Backend subscriptions. It is backed by a
+ * {@link ConcurrentHashMap}, so reads never block writes. Channel-Addresses are
+ * interned, so that thousands of Edges share the same key instances; numbers
+ * and booleans are stored as primitive bits in a {@link CachedValue} instead of
+ * a {@link JsonElement}.
+ *
+ * <p>
+ * The {@link JsonElement} of a {@link CachedValue} is created on the first read
+ * and then reused by all following reads until the value changes. An unchanged
+ * incoming value keeps the existing {@link CachedValue}.
+ */
 public class EdgeCache {
 
+	/** Cache is not anymore valid if it is older than 15 minutes. */
+	private static final long MAX_AGE = 15 * 60 * 1000;
+
+	private static final Interner<String> ADDRESSES = Interners.newWeakInterner();
+
 	private final ChannelDataCache current = new ChannelDataCache();
 	private final ChannelDataCache aggregated = new ChannelDataCache();
 
@@ -23,19 +50,18 @@ public class EdgeCache {
 	}
 
 	private static class ChannelDataCache {
-		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+		private final AtomicLong timestamp = new AtomicLong(0L);
+		private final ConcurrentHashMap<String, CachedValue> data = new ConcurrentHashMap<>();
 
 		/**
 		 * Gets the channel value from cache.
 		 *
 		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @return the value; null if it is not in cache
 		 */
 		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
-			}
+			var value = this.data.get(address);
+			return value == null ? null : value.toJson();
 		}
 
 		/**
@@ -49,29 +75,128 @@ public class EdgeCache {
 				var incomingData = entry.getValue();
 
 				// Check if cache should be applied
-				if (incomingTimestamp < this.timestamp) {
+				var timestamp = this.timestamp.get();
+				if (incomingTimestamp < timestamp) {
 					// Incoming data is older than cache -> do not apply cache
+					continue;
+				}
 
-				} else {
-					// Incoming data is more recent than cache
+				// Incoming data is more recent than cache
+				if (incomingTimestamp > timestamp + MAX_AGE) {
+					// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
+					this.data.clear();
+				}
 
-					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
+				// update cache
+				this.timestamp.accumulateAndGet(incomingTimestamp, Math::max);
+				for (var data : incomingData.entrySet()) {
+					var value = CachedValue.from(data.getValue());
+					if (value == null) {
+						this.data.remove(data.getKey());
+						continue;
 					}
-
-					// update cache
-					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
+					var existing = this.data.get(data.getKey());
+					if (existing == null || !existing.isSameValue(value)) {
+						this.data.put(ADDRESSES.intern(data.getKey()), value);
 					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * The compact cache representation of a Channel value.
+	 */
+	protected static final class CachedValue {
+
+		private static final byte LONG = 0;
+		private static final byte DOUBLE = 1;
+		private static final byte BOOLEAN = 2;
+		private static final byte OTHER = 3;
+
+		private final byte kind;
+		/** The value for {@link #LONG}, {@link #DOUBLE} and {@link #BOOLEAN}. */
+		private final long bits;
+		/** The {@link String} or {@link JsonElement} for {@link #OTHER}. */
+		private final Object other;
+
+		/**
+		 * The {@link JsonElement}; created on first read. {@link JsonPrimitive}s are
+		 * immutable, so a concurrent creation by two readers is harmless.
+		 */
+		private JsonElement json;
+
+		private CachedValue(byte kind, long bits, Object other, JsonElement json) {
+			this.kind = kind;
+			this.bits = bits;
+			this.other = other;
+			this.json = json;
+		}
+
+		/**
+		 * Converts a {@link JsonElement} to its compact cache representation.
+		 *
+		 * @param json the {@link JsonElement}
+		 * @return the {@link CachedValue}; null for null
+		 */
+		protected static CachedValue from(JsonElement json) {
+			if (json == null) {
+				return null;
+			}
+			if (!json.isJsonPrimitive()) {
+				// JsonNull, JsonObject, JsonArray
+				return new CachedValue(OTHER, 0, json, json);
+			}
+			var p = json.getAsJsonPrimitive();
+			if (p.isBoolean()) {
+				return new CachedValue(BOOLEAN, p.getAsBoolean() ? 1 : 0, null, null);
+			}
+			if (p.isString()) {
+				return new CachedValue(OTHER, 0, p.getAsString(), null);
+			}
+			var n = p.getAsNumber();
+			if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+				return new CachedValue(LONG, n.longValue(), null, null);
+			}
+			if (n instanceof Double || n instanceof Float) {
+				return new CachedValue(DOUBLE, Double.doubleToLongBits(n.doubleValue()), null, null);
+			}
+			// e.g. LazilyParsedNumber stores value internally as String
+			var string = n.toString();
+			if (StringUtils.matchesFloatPattern(string)) {
+				return new CachedValue(DOUBLE, Double.doubleToLongBits(n.doubleValue()), null, null);
+			}
+			if (string.length() < 19) {
+				return new CachedValue(LONG, n.longValue(), null, null);
+			}
+			// keep precision of very long integers
+			return new CachedValue(OTHER, 0, json, json);
+		}
+
+		/**
+		 * Gets the {@link JsonElement} of this value.
+		 *
+		 * @return the {@link JsonElement}
+		 */
+		protected JsonElement toJson() {
+			var json = this.json;
+			if (json == null) {
+				json = switch (this.kind) {
+				case LONG -> new JsonPrimitive(this.bits);
+				case DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(this.bits));
+				case BOOLEAN -> new JsonPrimitive(this.bits != 0);
+				default -> new JsonPrimitive((String) this.other);
+				};
+				this.json = json;
+			}
+			return json;
+		}
+
+		private boolean isSameValue(CachedValue other) {
+			return this.kind == other.kind && this.bits == other.bits && Objects.equals(this.other, other.other);
+		}
+	}
+
 	/**
 	 * Gets the channel value from cache.
 	 *
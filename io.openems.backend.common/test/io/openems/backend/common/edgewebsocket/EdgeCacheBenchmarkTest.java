@@ -0,0 +1,91 @@
+package io.openems.backend.common.edgewebsocket;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Measures the throughput of {@link EdgeCache} for a mix of writes (Edge
+ * notifications) and reads (UI subscriptions) on many Edges.
+ */
+public class EdgeCacheBenchmarkTest {
+
+	private static final int EDGES = 1_000;
+	private static final int CHANNELS_PER_EDGE = 200;
+	private static final int SUBSCRIBED_CHANNELS = 20;
+	private static final int WRITER_THREADS = 4;
+	private static final int READER_THREADS = 4;
+	private static final long DURATION_MILLIS = 5_000;
+
+	private final Logger log = LoggerFactory.getLogger(EdgeCacheBenchmarkTest.class);
+
+	@Ignore
+	@Test
+	public void benchmark() throws Exception {
+		var caches = new ArrayList<EdgeCache>(EDGES);
+		for (var i = 0; i < EDGES; i++) {
+			caches.add(new EdgeCache());
+		}
+		var subscribed = new HashSet<String>();
+		for (var i = 0; i < SUBSCRIBED_CHANNELS; i++) {
+			subscribed.add("meter0/Channel" + i);
+		}
+
+		var writes = new AtomicLong();
+		var reads = new AtomicLong();
+		var executor = Executors.newFixedThreadPool(WRITER_THREADS + READER_THREADS);
+		final var end = System.currentTimeMillis() + DURATION_MILLIS;
+
+		for (var t = 0; t < WRITER_THREADS; t++) {
+			final var offset = t;
+			executor.execute(() -> {
+				var timestamp = 0L;
+				while (System.currentTimeMillis() < end) {
+					timestamp += 1000;
+					for (var e = offset; e < EDGES; e += WRITER_THREADS) {
+						var table = TreeBasedTable.<Long, String, JsonElement>create();
+						for (var c = 0; c < CHANNELS_PER_EDGE; c++) {
+							table.put(timestamp, "meter0/Channel" + c, new JsonPrimitive(c * timestamp));
+						}
+						caches.get(e).updateCurrentData(new TimestampedDataNotification(table));
+						writes.incrementAndGet();
+					}
+				}
+			});
+		}
+		for (var t = 0; t < READER_THREADS; t++) {
+			executor.execute(() -> {
+				var e = 0;
+				while (System.currentTimeMillis() < end) {
+					caches.get(e).getChannelValues(subscribed);
+					reads.incrementAndGet();
+					e = (e + 1) % EDGES;
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(DURATION_MILLIS * 2, TimeUnit.MILLISECONDS);
+
+		assertTrue(writes.get() > 0);
+		assertTrue(reads.get() > 0);
+		this.log.info("EdgeCache Benchmark: " //
+				+ "Writes/s [" + writes.get() * 1000 / DURATION_MILLIS + "] " //
+				+ "Reads/s [" + reads.get() * 1000 / DURATION_MILLIS + "]");
+	}
+}
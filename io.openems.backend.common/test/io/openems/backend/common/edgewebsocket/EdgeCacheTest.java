@@ -1,9 +1,12 @@
 package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.junit.Test;
@@ -11,6 +14,7 @@ import org.junit.Test;
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -51,6 +55,56 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testValueTypes() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(1L, "_sum/Long", new JsonPrimitive(123L));
+		table.put(1L, "_sum/Double", new JsonPrimitive(1.5));
+		table.put(1L, "_sum/Parsed", JsonParser.parseString("42"));
+		table.put(1L, "_sum/ParsedFloat", JsonParser.parseString("4.2"));
+		table.put(1L, "_sum/Boolean", new JsonPrimitive(true));
+		table.put(1L, "_sum/Null", JsonNull.INSTANCE);
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+
+		assertEquals(new JsonPrimitive(123L), cache.getChannelValue("_sum/Long"));
+		assertEquals(new JsonPrimitive(1.5), cache.getChannelValue("_sum/Double"));
+		assertEquals(new JsonPrimitive(42L), cache.getChannelValue("_sum/Parsed"));
+		assertEquals("42", cache.getChannelValue("_sum/Parsed").toString());
+		assertEquals(new JsonPrimitive(4.2), cache.getChannelValue("_sum/ParsedFloat"));
+		assertEquals(new JsonPrimitive(true), cache.getChannelValue("_sum/Boolean"));
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("_sum/Null"));
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("_sum/Missing"));
+
+		var values = cache.getChannelValues(Set.of("_sum/Long", "_sum/Missing"));
+		assertEquals(2, values.a().size());
+		assertTrue(values.b().isEmpty());
+	}
+
+	@Test
+	public void testReadsReuseJson() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		cache.updateCurrentData(buildData(0L, CHANNEL1, 1.5));
+		var json = cache.getChannelValue(CHANNEL1);
+		assertSame(json, cache.getChannelValue(CHANNEL1));
+		assertSame(json, cache.getChannelValues(Set.of(CHANNEL1)).a().get(CHANNEL1));
+
+		// Unchanged value keeps the JsonElement
+		cache.updateCurrentData(buildData(1_000L, CHANNEL1, 1.5));
+		assertSame(json, cache.getChannelValue(CHANNEL1));
+
+		// Changed value
+		cache.updateCurrentData(buildData(2_000L, CHANNEL1, 2.5));
+		assertEquals(new JsonPrimitive(2.5), cache.getChannelValue(CHANNEL1));
+	}
+
+	private static TimestampedDataNotification buildData(long timestamp, String channel, double value)
+			throws OpenemsNamedException {
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(timestamp, channel, new JsonPrimitive(value));
+		return new TimestampedDataNotification(table);
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
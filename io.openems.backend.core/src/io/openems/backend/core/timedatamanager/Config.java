@@ -13,4 +13,7 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
+	@AttributeDefinition(name = "Query-Cache Size", description = "Maximum number of cached historic values, e.g. '1000000'. '0' disables the cache.")
+	int queryCacheSize() default 0;
+
 }
\ No newline at end of file
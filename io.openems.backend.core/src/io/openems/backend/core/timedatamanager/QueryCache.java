@@ -0,0 +1,263 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches results of historic queries per Edge.
+ *
+ * <p>
+ * Cached results are invalidated when new data for the Edge is handed to the
+ * Timedata services. Results of closed periods, i.e. periods that ended in the
+ * past, are kept for at most {@link #CLOSED_PERIOD_MAX_AGE}; results that
+ * include the open current period for at most {@link #OPEN_PERIOD_MAX_AGE}.
+ *
+ * <p>
+ * Timedata services write asynchronously, so a query shortly after a write
+ * might not see the written data yet. Results that cover data written within
+ * the last {@link #PENDING_WRITE_DURATION} are therefore also kept for at most
+ * {@link #OPEN_PERIOD_MAX_AGE}. A result is not cached at all if data for the
+ * Edge was written while the query was running.
+ *
+ * <p>
+ * Results are returned as unmodifiable maps, as they are shared by all callers.
+ */
+public class QueryCache {
+
+	public static final Duration EXPIRE_AFTER_ACCESS = Duration.ofDays(1);
+	public static final Duration CLOSED_PERIOD_MAX_AGE = Duration.ofHours(1);
+	public static final Duration OPEN_PERIOD_MAX_AGE = Duration.ofMinutes(5);
+	public static final Duration PENDING_WRITE_DURATION = Duration.ofMinutes(5);
+
+	public enum Method {
+		HISTORIC_DATA, HISTORIC_ENERGY, HISTORIC_ENERGY_PER_PERIOD;
+	}
+
+	public record Key(String edgeId, Method method, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) {
+	}
+
+	private record Entry(Object value, int weight, Instant expiresAt) {
+	}
+
+	private static class EdgeState {
+
+		/** Incremented on every invalidation of the Edge. */
+		private final AtomicLong generation = new AtomicLong();
+
+		/** Time of the last write. Guarded by 'this'. */
+		private Instant lastWrite = Instant.EPOCH;
+
+		/**
+		 * Earliest data timestamp of the writes within the last
+		 * {@link QueryCache#PENDING_WRITE_DURATION}. Guarded by 'this'.
+		 */
+		private long pendingTimestamp = Long.MAX_VALUE;
+
+		private synchronized void onWrite(long timestamp, Instant now) {
+			if (this.lastWrite.plus(PENDING_WRITE_DURATION).isBefore(now)) {
+				this.pendingTimestamp = timestamp;
+			} else {
+				this.pendingTimestamp = Math.min(this.pendingTimestamp, timestamp);
+			}
+			this.lastWrite = now;
+		}
+
+		private synchronized boolean isWritePending(Key key, Instant now) {
+			return !this.lastWrite.plus(PENDING_WRITE_DURATION).isBefore(now) //
+					&& key.toDate.toInstant().toEpochMilli() >= this.pendingTimestamp;
+		}
+	}
+
+	private final Clock clock;
+	private final Cache<Key, Entry> cache;
+
+	/** Edge-ID to cached Keys; allows invalidation without scanning the cache. */
+	private final Map<String, Set<Key>> keysByEdge = new ConcurrentHashMap<>();
+
+	/** Edge-ID to {@link EdgeState}. */
+	private final Map<String, EdgeState> edges = new ConcurrentHashMap<>();
+
+	public QueryCache(Clock clock, long maxWeight) {
+		this.clock = clock;
+		this.cache = CacheBuilder.newBuilder() //
+				.maximumWeight(maxWeight) //
+				.<Key, Entry>weigher((key, entry) -> entry.weight) //
+				.expireAfterAccess(EXPIRE_AFTER_ACCESS.toSeconds(), TimeUnit.SECONDS) //
+				.<Key, Entry>removalListener(this::onRemoval) //
+				.build();
+	}
+
+	/**
+	 * Gets a cached result or queries and caches it.
+	 *
+	 * @param <T>   the type of the result
+	 * @param key   the {@link Key}
+	 * @param query the actual query; null results are not cached
+	 * @return the result; {@link SortedMap}s are unmodifiable
+	 * @throws OpenemsNamedException on error
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Key key, ThrowingSupplier<T, OpenemsNamedException> query) throws OpenemsNamedException {
+		var now = Instant.now(this.clock);
+		var entry = this.cache.getIfPresent(key);
+		if (entry != null) {
+			if (entry.expiresAt.isAfter(now)) {
+				return (T) entry.value;
+			}
+			this.cache.invalidate(key);
+		}
+
+		var edge = this.edges.computeIfAbsent(key.edgeId, edgeId -> new EdgeState());
+		var expectedGeneration = edge.generation.get();
+		var value = (T) unmodifiable(query.get());
+		if (value != null && edge.generation.get() == expectedGeneration) {
+			var maxAge = this.isOpenPeriod(key, now) || edge.isWritePending(key, now) //
+					? OPEN_PERIOD_MAX_AGE //
+					: CLOSED_PERIOD_MAX_AGE;
+			this.keysByEdge.computeIfAbsent(key.edgeId, edgeId -> ConcurrentHashMap.newKeySet()).add(key);
+			this.cache.put(key, new Entry(value, weigh(value), now.plus(maxAge)));
+			if (edge.generation.get() != expectedGeneration) {
+				// Invalidated concurrently
+				this.cache.invalidate(key);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Invalidates all cached results of an Edge that include data at or after the
+	 * given timestamp.
+	 *
+	 * @param edgeId    the Edge-ID
+	 * @param timestamp the earliest timestamp of the written data in epoch
+	 *                  milliseconds
+	 */
+	public void invalidate(String edgeId, long timestamp) {
+		var edge = this.edges.computeIfAbsent(edgeId, id -> new EdgeState());
+		edge.onWrite(timestamp, Instant.now(this.clock));
+		edge.generation.incrementAndGet();
+		var keys = this.keysByEdge.get(edgeId);
+		if (keys == null) {
+			return;
+		}
+		for (var key : keys) {
+			if (key.toDate.toInstant().toEpochMilli() >= timestamp) {
+				this.cache.invalidate(key);
+			}
+		}
+	}
+
+	/**
+	 * Invalidates all cached results.
+	 */
+	public void invalidateAll() {
+		this.edges.values().forEach(edge -> edge.generation.incrementAndGet());
+		this.cache.invalidateAll();
+	}
+
+	/**
+	 * Gets the number of cached results.
+	 *
+	 * @return the size
+	 */
+	public long size() {
+		return this.cache.size();
+	}
+
+	private void onRemoval(RemovalNotification<Key, Entry> notification) {
+		var key = notification.getKey();
+		if (key == null || notification.getCause() == RemovalCause.REPLACED) {
+			// Key is still cached
+			return;
+		}
+		this.keysByEdge.computeIfPresent(key.edgeId, (edgeId, keys) -> {
+			if (this.cache.asMap().containsKey(key)) {
+				// Key was cached again in the meantime
+				return keys;
+			}
+			keys.remove(key);
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	private boolean isOpenPeriod(Key key, Instant now) {
+		return !key.toDate.toInstant().isBefore(now);
+	}
+
+	/**
+	 * Wraps a result and its inner {@link SortedMap}s as unmodifiable maps.
+	 *
+	 * @param value the result
+	 * @return the unmodifiable result; other types are returned as they are
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object unmodifiable(Object value) {
+		if (!(value instanceof SortedMap<?, ?>)) {
+			return value;
+		}
+		var map = (SortedMap<Object, Object>) value;
+		var result = new TreeMap<Object, Object>(map.comparator());
+		map.forEach((k, v) -> result.put(k, v instanceof SortedMap<?, ?> inner //
+				? Collections.unmodifiableSortedMap(inner) //
+				: v));
+		return Collections.unmodifiableSortedMap(result);
+	}
+
+	/**
+	 * Estimates the weight of a result as the number of values.
+	 *
+	 * @param value the result
+	 * @return the weight
+	 */
+	private static int weigh(Object value) {
+		if (!(value instanceof SortedMap<?, ?> map)) {
+			return 1;
+		}
+		var weight = 1;
+		for (var v : map.values()) {
+			if (v instanceof SortedMap<?, ?> inner) {
+				weight += inner.size();
+			} else {
+				weight++;
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * Creates a {@link Key} for a historic query.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param method     the {@link Method}
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}; null if not applicable
+	 * @return the {@link Key}
+	 */
+	public static Key key(String edgeId, Method method, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) {
+		return new Key(edgeId, method, fromDate, toDate, Set.copyOf(channels), resolution);
+	}
+}
@@ -1,5 +1,6 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +32,7 @@ import io.openems.backend.common.timedata.TimedataManager;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
+import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.function.ThrowingTriConsumer;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
@@ -49,6 +51,7 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
 	private List<String> _configTimedataIds;
+	private volatile QueryCache queryCache = null;
 	private final List<Timedata> _rawTimedatas = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
 			ImmutableSortedSet.of());
@@ -116,6 +119,18 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public void activate(Config config) {
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
+		this.queryCache = config.queryCacheSize() > 0 //
+				? new QueryCache(Clock.systemUTC(), config.queryCacheSize()) //
+				: null;
+	}
+
+	private <T> T cached(QueryCache.Key key, ThrowingSupplier<T, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		var queryCache = this.queryCache;
+		if (queryCache == null) {
+			return query.get();
+		}
+		return queryCache.get(key, query);
 	}
 
 	/**
@@ -129,7 +144,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.cached(
+				QueryCache.key(edgeId, QueryCache.Method.HISTORIC_DATA, fromDate, toDate, channels, resolution), //
+				() -> this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -149,7 +166,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.cached(
+				QueryCache.key(edgeId, QueryCache.Method.HISTORIC_ENERGY, fromDate, toDate, channels, null), //
+				() -> this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels)));
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +189,11 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.cached(
+				QueryCache.key(edgeId, QueryCache.Method.HISTORIC_ENERGY_PER_PERIOD, fromDate, toDate, channels,
+						resolution), //
+				() -> this.firstOf(
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -238,6 +260,10 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 			final T data, //
 			final ThrowingTriConsumer<Timedata, String, T, OpenemsException> method //
 	) {
+		var queryCache = this.queryCache;
+		if (queryCache != null && !data.getData().isEmpty()) {
+			queryCache.invalidate(edgeId, data.getData().rowKeySet().first());
+		}
 		for (var timedata : this.timedatas.get()) {
 			try {
 				method.accept(timedata, edgeId, data);
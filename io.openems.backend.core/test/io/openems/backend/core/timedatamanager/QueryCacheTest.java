@@ -0,0 +1,134 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.backend.core.timedatamanager.QueryCache.Method;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.types.ChannelAddress;
+
+public class QueryCacheTest {
+
+	private static final String EDGE_ID = "edge0";
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2020-01-02T00:00:00Z"), ZoneOffset.UTC);
+	private static final ZonedDateTime FROM_DATE = ZonedDateTime.parse("2020-01-01T00:00:00Z");
+	private static final ZonedDateTime TO_DATE = ZonedDateTime.parse("2020-01-01T12:00:00Z");
+
+	// Closed period, i.e. before the Clock
+	private static final QueryCache.Key KEY = QueryCache.key(EDGE_ID, Method.HISTORIC_ENERGY, FROM_DATE, TO_DATE,
+			Set.of(new ChannelAddress("_sum", "EssActivePower")), null);
+
+	@Test
+	public void testGet() throws Exception {
+		var sut = new QueryCache(CLOCK, 1_000);
+		var queries = new AtomicInteger();
+		assertEquals("value1", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+		assertEquals("value1", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+		assertEquals(1, queries.get());
+		assertEquals(1, sut.size());
+
+		// Invalidate data before the Key
+		sut.invalidate(EDGE_ID, TO_DATE.plusHours(1).toInstant().toEpochMilli());
+		assertEquals(1, sut.size());
+
+		// Invalidate data within the Key
+		sut.invalidate(EDGE_ID, FROM_DATE.toInstant().toEpochMilli());
+		assertEquals(0, sut.size());
+		assertEquals("value2", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+	}
+
+	@Test
+	public void testInvalidateAfterReplace() throws Exception {
+		var sut = new QueryCache(CLOCK, 1_000);
+		var queries = new AtomicInteger();
+
+		// Same Key is cached while the query is running; the outer put replaces it
+		sut.get(KEY, () -> {
+			queries.incrementAndGet();
+			sut.get(KEY, () -> "inner");
+			return "outer";
+		});
+		assertEquals(1, sut.size());
+
+		sut.invalidate(EDGE_ID, 0);
+		assertEquals(0, sut.size());
+		assertEquals("value", sut.get(KEY, () -> "value"));
+		assertEquals(1, queries.get());
+	}
+
+	@Test
+	public void testInvalidateWhileQuerying() throws Exception {
+		var sut = new QueryCache(CLOCK, 1_000);
+
+		// Data is written while the query is running
+		assertEquals("stale", sut.get(KEY, () -> {
+			sut.invalidate(EDGE_ID, 0);
+			return "stale";
+		}));
+		assertEquals(0, sut.size());
+		assertEquals("fresh", sut.get(KEY, () -> "fresh"));
+		assertEquals(1, sut.size());
+	}
+
+	@Test
+	public void testClosedPeriodMaxAge() throws Exception {
+		var clock = new TimeLeapClock(CLOCK.instant());
+		var sut = new QueryCache(clock, 1_000);
+		var queries = new AtomicInteger();
+		sut.get(KEY, () -> "value" + queries.incrementAndGet());
+
+		clock.leap(QueryCache.CLOSED_PERIOD_MAX_AGE.toMinutes() - 1, ChronoUnit.MINUTES);
+		assertEquals("value1", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+
+		clock.leap(2, ChronoUnit.MINUTES);
+		assertEquals("value2", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+	}
+
+	@Test
+	public void testPendingWrite() throws Exception {
+		var clock = new TimeLeapClock(CLOCK.instant());
+		var sut = new QueryCache(clock, 1_000);
+		var queries = new AtomicInteger();
+
+		// Data is handed to the Timedata services, but might not be written yet
+		sut.invalidate(EDGE_ID, FROM_DATE.toInstant().toEpochMilli());
+		sut.get(KEY, () -> "value" + queries.incrementAndGet());
+
+		clock.leap(QueryCache.OPEN_PERIOD_MAX_AGE.toMinutes() + 1, ChronoUnit.MINUTES);
+		assertEquals("value2", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+
+		// Write is not pending anymore
+		clock.leap(QueryCache.OPEN_PERIOD_MAX_AGE.toMinutes() + 1, ChronoUnit.MINUTES);
+		assertEquals("value2", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+
+		// Write after the Key is not relevant
+		sut.invalidate(EDGE_ID, TO_DATE.plusHours(1).toInstant().toEpochMilli());
+		clock.leap(QueryCache.OPEN_PERIOD_MAX_AGE.toMinutes() + 1, ChronoUnit.MINUTES);
+		assertEquals("value2", sut.get(KEY, () -> "value" + queries.incrementAndGet()));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testUnmodifiable() throws Exception {
+		var sut = new QueryCache(CLOCK, 1_000);
+		var inner = new TreeMap<String, Integer>();
+		inner.put("a", 1);
+		SortedMap<String, SortedMap<String, Integer>> value = new TreeMap<>();
+		value.put("x", inner);
+
+		var result = sut.get(KEY, () -> value);
+		assertEquals(value, result);
+		result.get("x").put("b", 2);
+	}
+
+}
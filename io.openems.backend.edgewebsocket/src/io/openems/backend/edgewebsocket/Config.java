@@ -4,6 +4,7 @@ import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.AbstractWebsocketServer.ThreadMode;
 
 @ObjectClassDefinition(//
 		name = "Edge.Websocket", //
@@ -16,6 +17,12 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Thread Mode", description = "POOL: fixed pool of 'Number of Threads'; VIRTUAL: one virtual thread per task (requires Java 21)")
+	ThreadMode threadMode() default ThreadMode.POOL;
+
+	@AttributeDefinition(name = "Max. Tasks per Connection", description = "Maximum number of concurrently handled tasks per connection; further tasks are queued per connection. '0' for a quarter of the 'Number of Threads'. Responses and notifications are not limited")
+	int maxTasksPerConnection() default 0;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
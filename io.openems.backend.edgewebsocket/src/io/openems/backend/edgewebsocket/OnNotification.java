@@ -57,9 +57,13 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 		case EdgeConfigNotification.METHOD ->
 			this.handleEdgeConfigNotification(EdgeConfigNotification.from(notification), wsData);
 		case TimestampedDataNotification.METHOD ->
-			this.handleDataNotification(TimestampedDataNotification.from(notification), wsData);
+			this.handleDataNotification(notification instanceof TimestampedDataNotification n //
+					? n // already parsed, e.g. from binary data protocol
+					: TimestampedDataNotification.from(notification), wsData);
 		case AggregatedDataNotification.METHOD ->
-			this.handleDataNotification(AggregatedDataNotification.from(notification), wsData);
+			this.handleDataNotification(notification instanceof AggregatedDataNotification n //
+					? n // already parsed, e.g. from binary data protocol
+					: AggregatedDataNotification.from(notification), wsData);
 		case ResendDataNotification.METHOD ->
 			this.handleResendDataNotification(ResendDataNotification.from(notification), wsData);
 		case SystemLogNotification.METHOD ->
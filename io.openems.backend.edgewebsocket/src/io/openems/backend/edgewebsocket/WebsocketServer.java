@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -14,6 +15,9 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
@@ -27,6 +31,7 @@ import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.SystemLog;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryDataProtocol;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
@@ -37,8 +42,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode,
+			ThreadMode threadMode, int maxTasksPerConnection) {
+		super(name, port, poolSize, debugMode, threadMode, maxTasksPerConnection);
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -130,6 +136,27 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		throw new OpenemsException("EdgeWs. handleNonJsonrpcMessage", lastException);
 	}
 
+	@Override
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Confirm binary data protocol if requested by the Edge
+		if (BinaryDataProtocol.isSupported(request.getFieldValue(BinaryDataProtocol.HTTP_HEADER))) {
+			response.put(BinaryDataProtocol.HTTP_HEADER, String.valueOf(BinaryDataProtocol.VERSION));
+		}
+	}
+
+	@Override
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		try {
+			return wsData.getBinaryDecoder().decode(message);
+
+		} catch (OpenemsException e) {
+			// Decoder state is not in sync with the Edge anymore -> force a new session
+			ws.close(CloseFrame.PROTOCOL_ERROR, "Invalid binary data: " + e.getMessage());
+			throw e;
+		}
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
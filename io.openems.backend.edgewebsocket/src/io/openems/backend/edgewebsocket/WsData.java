@@ -11,6 +11,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryDataProtocol;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -23,6 +24,11 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	/**
+	 * Decoder for the binary data protocol; created on the first binary message.
+	 */
+	private BinaryDataProtocol.Decoder binaryDecoder = null;
+
 	/**
 	 * Asserts that the Edge-ID is available (i.e. properly authenticated).
 	 *
@@ -69,6 +75,18 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	/**
+	 * Gets the {@link BinaryDataProtocol.Decoder} of this session.
+	 *
+	 * @return the Decoder
+	 */
+	public synchronized BinaryDataProtocol.Decoder getBinaryDecoder() {
+		if (this.binaryDecoder == null) {
+			this.binaryDecoder = new BinaryDataProtocol.Decoder();
+		}
+		return this.binaryDecoder;
+	}
+
 	@Override
 	public String toString() {
 		return "EdgeWebsocket.WsData [" //
@@ -2,10 +2,12 @@ package io.openems.backend.metadata.odoo;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
@@ -13,6 +15,15 @@ import io.openems.backend.metadata.odoo.postgres.PgUtils;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.SemanticVersion;
 
+/**
+ * Caches the Edges of the Odoo database.
+ *
+ * <p>
+ * Lookups are lock-free, so authentication of many Edges, e.g. after a
+ * restart of the Backend, does not serialize on this cache while it is
+ * (re)filled from the database. Writers are serialized and always add an Edge
+ * to {@link #edgeIdToEdge} before adding it to the other indexes.
+ */
 public class EdgeCache {
 
 	public static final int EXPECTED_CACHE_SIZE = 1_000;
@@ -22,19 +33,17 @@ public class EdgeCache {
 	/**
 	 * Map Edge-ID (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, MyEdge> edgeIdToEdge = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final Map<String, MyEdge> edgeIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
-	 * Map Odoo-ID (Integer) to Edge-ID (String). Initialized with expected cache
-	 * size.
+	 * Map Odoo-ID (Integer) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<Integer, String> odooIdToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final Map<Integer, MyEdge> odooIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
-	 * Map Apikey (String) to Edge-ID (String). Initialized with expected cache
-	 * size.
+	 * Map Apikey (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, String> apikeyToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final Map<String, MyEdge> apikeyToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	public EdgeCache(MetadataOdoo parent) {
 		this.parent = parent;
@@ -48,7 +57,7 @@ public class EdgeCache {
 	 * @throws SQLException     on error
 	 * @throws OpenemsException on error
 	 */
-	public synchronized MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
+	public MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
 		// simple fields
 		var edgeId = PgUtils.getAsString(rs, EdgeDevice.NAME);
 		var odooId = PgUtils.getAsInt(rs, EdgeDevice.ID);
@@ -60,19 +69,33 @@ public class EdgeCache {
 		var producttype = PgUtils.getAsStringOrElse(rs, EdgeDevice.PRODUCTTYPE, "");
 		var lastmessage = PgUtils.getAsDateOrElse(rs, EdgeDevice.LASTMESSAGE, null);
 
+		return this.addOrUpdate(odooId, edgeId, apikey, comment, version, producttype, lastmessage);
+	}
+
+	protected synchronized MyEdge addOrUpdate(int odooId, String edgeId, String apikey, String comment,
+			String version, String producttype, ZonedDateTime lastmessage) {
 		var edge = this.edgeIdToEdge.get(edgeId);
 		if (edge == null) {
 			// This is new -> create instance of Edge
 			edge = new MyEdge(this.parent, odooId, edgeId, apikey, comment, version, producttype, lastmessage);
 			this.edgeIdToEdge.put(edgeId, edge);
-			this.odooIdToEdgeId.put(odooId, edgeId);
-			this.apikeyToEdgeId.put(apikey, edgeId);
+			this.odooIdToEdge.put(odooId, edge);
+			this.apikeyToEdge.put(apikey, edge);
 		} else {
 			// Edge exists -> update information
 			edge.setComment(comment);
 			edge.setVersion(SemanticVersion.fromStringOrZero(version));
 			edge.setProducttype(producttype);
-			edge.setLastmessage(lastmessage);
+			if (lastmessage != null && (edge.getLastmessage() == null || edge.getLastmessage().isBefore(lastmessage))) {
+				// Database might be behind the cached value
+				edge.setLastmessage(lastmessage);
+			}
+			var oldApikey = edge.getApikey();
+			if (!Objects.equals(oldApikey, apikey)) {
+				edge.setApikey(apikey);
+				this.apikeyToEdge.put(apikey, edge);
+				this.apikeyToEdge.remove(oldApikey, edge);
+			}
 		}
 
 		return edge;
@@ -84,7 +107,10 @@ public class EdgeCache {
 	 * @param edgeId the Edge-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromEdgeId(String edgeId) {
+	public MyEdge getEdgeFromEdgeId(String edgeId) {
+		if (edgeId == null) {
+			return null;
+		}
 		return this.edgeIdToEdge.get(edgeId);
 	}
 
@@ -94,12 +120,8 @@ public class EdgeCache {
 	 * @param odooId the Odoo-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromOdooId(int odooId) {
-		var edgeId = this.odooIdToEdgeId.get(odooId);
-		if (edgeId == null) {
-			return null;
-		}
-		return this.getEdgeFromEdgeId(edgeId);
+	public MyEdge getEdgeFromOdooId(int odooId) {
+		return this.odooIdToEdge.get(odooId);
 	}
 
 	/**
@@ -108,12 +130,11 @@ public class EdgeCache {
 	 * @param apikey the Apikey
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeForApikey(String apikey) {
-		var edgeId = this.apikeyToEdgeId.get(apikey);
-		if (edgeId == null) {
+	public MyEdge getEdgeForApikey(String apikey) {
+		if (apikey == null) {
 			return null;
 		}
-		return this.getEdgeFromEdgeId(edgeId);
+		return this.apikeyToEdge.get(apikey);
 	}
 
 	/**
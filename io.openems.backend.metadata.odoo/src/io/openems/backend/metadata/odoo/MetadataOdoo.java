@@ -717,6 +717,12 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			}
 			metrics.put("metadata0/" + key, new JsonPrimitive(value));
 		});
+		var postgresHandler = this.postgresHandler;
+		if (postgresHandler != null) {
+			postgresHandler.getPeriodicWriteWorker().debugMetrics().forEach((key, value) -> {
+				metrics.put("metadata0/" + key, value);
+			});
+		}
 		return metrics;
 	}
 
@@ -2,9 +2,12 @@ package io.openems.backend.metadata.odoo.postgres;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.concurrent.ExecutorService;
+import java.sql.Timestamp;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,8 +18,15 @@ import io.openems.backend.metadata.odoo.Field;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
 import io.openems.common.utils.ThreadPoolUtils;
 
+/**
+ * Reads all Edges from Postgres into the EdgeCache on start and afterwards
+ * periodically reads the Edges that were modified in Odoo since the last read.
+ */
 public class InitializeEdgesWorker {
 
+	/** Interval of the incremental refresh. */
+	public static final int REFRESH_INTERVAL_SECONDS = 60;
+
 	private final Logger log = LoggerFactory.getLogger(InitializeEdgesWorker.class);
 	protected final PostgresHandler parent;
 	private final HikariDataSource dataSource;
@@ -25,7 +35,13 @@ public class InitializeEdgesWorker {
 	/**
 	 * Executor for subscriptions task.
 	 */
-	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	/**
+	 * Highest 'write_date' that was read from Postgres. Only accessed by the
+	 * executor thread.
+	 */
+	private Timestamp lastWriteDate = null;
 
 	public InitializeEdgesWorker(PostgresHandler parent, HikariDataSource dataSource, Runnable onFinished) {
 		this.parent = parent;
@@ -49,6 +65,37 @@ public class InitializeEdgesWorker {
 			}
 			this.onFinished.run();
 		});
+		this.executor.scheduleWithFixedDelay(this::refresh, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS,
+				TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Reads Edges that were modified since the last read.
+	 */
+	private void refresh() {
+		if (this.lastWriteDate == null) {
+			// Initial read failed -> read all
+			try (var con = this.dataSource.getConnection()) {
+				this.readAllEdgesFromPostgres(con);
+			} catch (SQLException e) {
+				this.logError("Unable to connect do dataSource. ", e);
+			}
+			return;
+		}
+		try (var con = this.dataSource.getConnection(); //
+				var pst = this.psQueryEdgesModifiedSince(con, this.lastWriteDate); //
+				var rs = pst.executeQuery()) {
+			var counter = 0;
+			while (rs.next()) {
+				this.addOrUpdate(rs);
+				counter++;
+			}
+			if (counter > 0) {
+				this.parent.logInfo(this.log, "Updated [" + counter + "] modified Edges from Postgres");
+			}
+		} catch (SQLException e) {
+			this.logError("Unable to refresh Edges: ", e);
+		}
 	}
 
 	/**
@@ -73,11 +120,7 @@ public class InitializeEdgesWorker {
 			var counter = 0;
 			while (rs.next()) {
 				this.logCachingProgress(counter, 1000);
-				try {
-					this.parent.edgeCache.addOrUpdate(rs);
-				} catch (Exception e) {
-					this.logError("Unable to read Edge: ", e);
-				}
+				this.addOrUpdate(rs);
 				counter++;
 			}
 			this.logCachingProgress(counter, 1);
@@ -86,6 +129,18 @@ public class InitializeEdgesWorker {
 		}
 	}
 
+	private void addOrUpdate(ResultSet rs) {
+		try {
+			this.parent.edgeCache.addOrUpdate(rs);
+			var writeDate = rs.getTimestamp(EdgeDevice.WRITE_DATE.index());
+			if (writeDate != null && (this.lastWriteDate == null || writeDate.after(this.lastWriteDate))) {
+				this.lastWriteDate = writeDate;
+			}
+		} catch (Exception e) {
+			this.logError("Unable to read Edge: ", e);
+		}
+	}
+
 	private void logCachingProgress(int count, int interval) {
 		if (count % interval == 0 && count > 0) {
 			this.parent.logInfo(this.log, String.format("Caching Edges from Postgres [%1$6s]", count));
@@ -114,6 +169,29 @@ public class InitializeEdgesWorker {
 						+ ";");
 	}
 
+	/**
+	 * SELECT {} FROM {edge.device} WHERE write_date >= {};.
+	 *
+	 * <p>
+	 * Edges with equal 'write_date' are read again, to not miss Edges that were
+	 * committed later with the same timestamp.
+	 *
+	 * @param connection the {@link Connection}
+	 * @param writeDate  the last known 'write_date'
+	 * @return the {@link PreparedStatement}
+	 * @throws SQLException on error
+	 */
+	private PreparedStatement psQueryEdgesModifiedSince(Connection connection, Timestamp writeDate)
+			throws SQLException {
+		var pst = connection.prepareStatement(//
+				"SELECT " + Field.getSqlQueryFields(EdgeDevice.values()) //
+						+ " FROM " + EdgeDevice.ODOO_TABLE //
+						+ " WHERE " + EdgeDevice.WRITE_DATE.id() + " >= ?" //
+						+ ";");
+		pst.setTimestamp(1, writeDate);
+		return pst;
+	}
+
 	/**
 	 * UPDATE {} SET openems_is_connected = FALSE;.
 	 *
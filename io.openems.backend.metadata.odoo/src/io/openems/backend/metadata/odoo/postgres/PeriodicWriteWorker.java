@@ -1,12 +1,15 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -16,6 +19,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.MyEdge;
@@ -25,6 +30,10 @@ import io.openems.common.utils.ThreadPoolUtils;
 /**
  * This worker combines writes to lastMessage and lastUpdate fields, to avoid
  * DDOSing Odoo/Postgres by writing too often.
+ *
+ * <p>
+ * Only the latest value per Edge is kept and each field is written with one
+ * UPDATE statement for all Edges.
  */
 public class PeriodicWriteWorker {
 
@@ -46,7 +55,7 @@ public class PeriodicWriteWorker {
 	/**
 	 * Executor for subscriptions task.
 	 */
-	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(10,
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
 			new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.PGPeriodic-%d").build());
 
 	public PeriodicWriteWorker(PostgresHandler parent) {
@@ -75,36 +84,39 @@ public class PeriodicWriteWorker {
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
-	private final LinkedBlockingQueue<Integer> lastMessageOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> isOnlineOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> isOfflineOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateOk = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateInfo = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateWarning = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateFault = new LinkedBlockingQueue<>();
+	/** Odoo-IDs of Edges with a new LastMessage. */
+	private final Set<Integer> lastMessage = ConcurrentHashMap.newKeySet();
+	/** Odoo-IDs of Edges with their latest Online-State. */
+	private final Map<Integer, Boolean> isConnected = new ConcurrentHashMap<>();
+	/** Odoo-IDs of Edges with their latest Sum-State. */
+	private final Map<Integer, Level> sumState = new ConcurrentHashMap<>();
+
+	/* Statistics of the last run */
+	private volatile int lastRowsWritten = 0;
+	private volatile long lastDurationMillis = 0;
 
 	private final Consumer<PgEdgeHandler> task = edge -> {
 		if (PeriodicWriteWorker.DEBUG_MODE) {
 			this.debugLog();
 		}
 
+		var start = System.nanoTime();
+		var rows = 0;
 		try {
 			// Last Message
-			edge.updateLastMessage(drainToSet(this.lastMessageOdooIds));
+			rows += edge.updateLastMessage(drain(this.lastMessage));
 
 			// Online/Offline
-			edge.updateOpenemsIsConnected(drainToSet(this.isOfflineOdooIds), false);
-			edge.updateOpenemsIsConnected(drainToSet(this.isOnlineOdooIds), true);
+			rows += edge.updateOpenemsIsConnected(drain(this.isConnected));
 
 			// Sum-State
-			edge.updateSumState(drainToSet(this.sumStateOk), Level.OK);
-			edge.updateSumState(drainToSet(this.sumStateInfo), Level.INFO);
-			edge.updateSumState(drainToSet(this.sumStateWarning), Level.WARNING);
-			edge.updateSumState(drainToSet(this.sumStateFault), Level.FAULT);
+			rows += edge.updateSumState(drain(this.sumState));
 
 		} catch (SQLException e) {
 			this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
 		}
+		this.lastRowsWritten = rows;
+		this.lastDurationMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
 	};
 
 	/**
@@ -113,7 +125,7 @@ public class PeriodicWriteWorker {
 	 * @param edge the {@link MyEdge}.
 	 */
 	public void onLastMessage(MyEdge edge) {
-		this.lastMessageOdooIds.add(edge.getOdooId());
+		this.lastMessage.add(edge.getOdooId());
 	}
 
 	/**
@@ -123,12 +135,7 @@ public class PeriodicWriteWorker {
 	 * @param isOnline true if online, false if offline
 	 */
 	public void onSetOnline(MyEdge edge, boolean isOnline) {
-		var odooId = edge.getOdooId();
-		if (isOnline) {
-			this.isOnlineOdooIds.add(odooId);
-		} else {
-			this.isOfflineOdooIds.add(odooId);
-		}
+		this.isConnected.put(edge.getOdooId(), isOnline);
 	}
 
 	/**
@@ -138,36 +145,68 @@ public class PeriodicWriteWorker {
 	 * @param sumState Sum-State {@link Level}
 	 */
 	public void onSetSumState(MyEdge edge, Level sumState) {
-		var odooId = edge.getOdooId();
-		switch (sumState) {
-		case OK:
-			this.sumStateOk.add(odooId);
-			break;
-		case INFO:
-			this.sumStateInfo.add(odooId);
-			break;
-		case WARNING:
-			this.sumStateWarning.add(odooId);
-			break;
-		case FAULT:
-			this.sumStateFault.add(odooId);
-			break;
+		this.sumState.put(edge.getOdooId(), sumState);
+	}
+
+	/**
+	 * Moves all entries of a concurrent {@link Set} to a new Set. This is
+	 * thread-safe.
+	 * 
+	 * @param source the source {@link Set}
+	 * @return the drained entries
+	 */
+	protected static Set<Integer> drain(Set<Integer> source) {
+		var result = new HashSet<Integer>(source.size());
+		for (var id : source) {
+			if (source.remove(id)) {
+				result.add(id);
+			}
 		}
+		return result;
 	}
 
 	/**
-	 * Moves all entries of a {@link LinkedBlockingQueue} to a Set and clears the
-	 * queue. This is thread-safe.
+	 * Moves all entries of a concurrent {@link Map} to a new Map. Entries that
+	 * are updated concurrently stay in the source map for the next run. This is
+	 * thread-safe.
 	 * 
-	 * @param queue the {@link LinkedBlockingQueue}
-	 * @return the {@link Set}
+	 * @param <T>    the type of the values
+	 * @param source the source {@link Map}
+	 * @return the drained entries
 	 */
-	protected static Set<Integer> drainToSet(LinkedBlockingQueue<Integer> queue) {
-		Set<Integer> result = new HashSet<>(queue.size());
-		queue.drainTo(result);
+	protected static <T> Map<Integer, T> drain(Map<Integer, T> source) {
+		var result = new HashMap<Integer, T>(source.size());
+		for (var entry : source.entrySet()) {
+			var key = entry.getKey();
+			var value = entry.getValue();
+			if (source.remove(key, value)) {
+				result.put(key, value);
+			}
+		}
 		return result;
 	}
 
+	/**
+	 * Gets the number of pending writes.
+	 *
+	 * @return the number of pending writes
+	 */
+	public int getPendingWrites() {
+		return this.lastMessage.size() + this.isConnected.size() + this.sumState.size();
+	}
+
+	/**
+	 * Gets metrics of the {@link PeriodicWriteWorker}.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, JsonElement> debugMetrics() {
+		return Map.of(//
+				"PeriodicWriteWorker/PendingWrites", new JsonPrimitive(this.getPendingWrites()), //
+				"PeriodicWriteWorker/RowsWritten", new JsonPrimitive(this.lastRowsWritten), //
+				"PeriodicWriteWorker/DurationMillis", new JsonPrimitive(this.lastDurationMillis));
+	}
+
 	/*
 	 * From here required for DEBUG_MODE
 	 */
@@ -5,8 +5,8 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -191,83 +191,89 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the OpenemsIsConnected field for multiple Edge-IDs.
+	 * Updates the OpenemsIsConnected field for multiple Edge-IDs in one batch.
 	 * 
-	 * @param odooIds     the Odoo-IDs
-	 * @param isConnected true if online; false if offline
+	 * @param isConnected the Odoo-IDs with true if online; false if offline
+	 * @return the number of updated rows
 	 * @throws SQLException on error
 	 */
-	public void updateOpenemsIsConnected(Set<Integer> odooIds, boolean isConnected) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
+	public int updateOpenemsIsConnected(Map<Integer, Boolean> isConnected) throws SQLException {
+		if (isConnected.isEmpty()) {
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = ")
-					.append(isConnected ? "TRUE" : "FALSE") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = v.value") //
+						.append(" FROM unnest(?, ?) AS v(id, value)") //
+						.append(" WHERE ").append(EdgeDevice.ODOO_TABLE).append(".id = v.id") //
+						.toString())) {
+			var ids = new Integer[isConnected.size()];
+			var values = new Boolean[isConnected.size()];
+			var i = 0;
+			for (var entry : isConnected.entrySet()) {
+				ids[i] = entry.getKey();
+				values[i++] = entry.getValue();
+			}
+			pst.setArray(1, con.createArrayOf("INTEGER", ids));
+			pst.setArray(2, con.createArrayOf("BOOLEAN", values));
+			return pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Updates the LastMessage field for multiple Edge-IDs.
+	 * Updates the LastMessage field for multiple Edge-IDs in one batch.
 	 * 
 	 * @param odooIds the Odoo-IDs
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @return the number of updated rows
+	 * @throws SQLException on error
 	 */
-	public void updateLastMessage(Set<Integer> odooIds) throws SQLException {
+	public int updateLastMessage(Set<Integer> odooIds) throws SQLException {
 		if (odooIds.isEmpty()) {
-			return;
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
+						.append(" WHERE id = ANY(?)") //
+						.toString())) {
+			pst.setArray(1, con.createArrayOf("INTEGER", odooIds.toArray(Integer[]::new)));
+			return pst.executeUpdate();
 		}
 	}
 
 	/**
-	 * Updates the Sum-State field for multiple Edge-IDs.
+	 * Updates the Sum-State field for multiple Edge-IDs in one batch.
 	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @param level   the Sum-State {@link Level}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @param sumStates the Odoo-IDs with their Sum-State {@link Level}
+	 * @return the number of updated rows
+	 * @throws SQLException on error
 	 */
-	public void updateSumState(Set<Integer> odooIds, Level level) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
+	public int updateSumState(Map<Integer, Level> sumStates) throws SQLException {
+		if (sumStates.isEmpty()) {
+			return 0;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = '")
-					.append(level.getName().toLowerCase()) //
-					.append("' WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+				var pst = con.prepareStatement(new StringBuilder() //
+						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
+						.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = v.value") //
+						.append(" FROM unnest(?, ?) AS v(id, value)") //
+						.append(" WHERE ").append(EdgeDevice.ODOO_TABLE).append(".id = v.id") //
+						.toString())) {
+			var ids = new Integer[sumStates.size()];
+			var values = new String[sumStates.size()];
+			var i = 0;
+			for (var entry : sumStates.entrySet()) {
+				ids[i] = entry.getKey();
+				values[i++] = entry.getValue().getName().toLowerCase();
+			}
+			pst.setArray(1, con.createArrayOf("INTEGER", ids));
+			pst.setArray(2, con.createArrayOf("VARCHAR", values));
+			return pst.executeUpdate();
 		}
 	}
-}
\ No newline at end of file
+}
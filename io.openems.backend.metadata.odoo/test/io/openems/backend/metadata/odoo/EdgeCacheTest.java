@@ -0,0 +1,33 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class EdgeCacheTest {
+
+	@Test
+	public void test() {
+		var sut = new EdgeCache(null);
+		var edge0 = sut.addOrUpdate(1, "edge0", "apikey0", "comment", "2024.1.0", "producttype", null);
+		var edge1 = sut.addOrUpdate(2, "edge1", "apikey1", "comment", "2024.1.0", "producttype", null);
+
+		assertSame(edge0, sut.getEdgeFromEdgeId("edge0"));
+		assertSame(edge1, sut.getEdgeFromOdooId(2));
+		assertSame(edge1, sut.getEdgeForApikey("apikey1"));
+		assertNull(sut.getEdgeFromEdgeId(null));
+		assertNull(sut.getEdgeForApikey(null));
+		assertNull(sut.getEdgeForApikey("foo"));
+		assertEquals(2, sut.getAllEdges().size());
+
+		// Update existing Edge with new Apikey
+		assertSame(edge0, sut.addOrUpdate(1, "edge0", "apikey2", "new comment", "2024.1.0", "producttype", null));
+		assertEquals("new comment", edge0.getComment());
+		assertNull(sut.getEdgeForApikey("apikey0"));
+		assertSame(edge0, sut.getEdgeForApikey("apikey2"));
+		assertEquals(2, sut.getAllEdges().size());
+	}
+
+}
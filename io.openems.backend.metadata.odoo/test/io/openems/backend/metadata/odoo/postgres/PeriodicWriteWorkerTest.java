@@ -2,23 +2,38 @@ package io.openems.backend.metadata.odoo.postgres;
 
 import static org.junit.Assert.assertEquals;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 
+import io.openems.common.channel.Level;
+
 public class PeriodicWriteWorkerTest {
 
 	@Test
-	public void testDrainToSet() {
-		final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
-		queue.add(1);
-		queue.add(2);
-		queue.add(3);
-		queue.add(2);
-		queue.add(4);
-		var set = PeriodicWriteWorker.drainToSet(queue);
-		assertEquals(4, set.size());
-		assertEquals(0, queue.size());
+	public void testDrainSet() {
+		final Set<Integer> set = ConcurrentHashMap.newKeySet();
+		set.add(1);
+		set.add(2);
+		set.add(3);
+		set.add(2);
+		set.add(4);
+		var result = PeriodicWriteWorker.drain(set);
+		assertEquals(4, result.size());
+		assertEquals(0, set.size());
+	}
+
+	@Test
+	public void testDrainMap() {
+		final Map<Integer, Level> map = new ConcurrentHashMap<>();
+		map.put(1, Level.OK);
+		map.put(2, Level.FAULT);
+		map.put(1, Level.WARNING); // last write wins
+		var result = PeriodicWriteWorker.drain(map);
+		assertEquals(Map.of(1, Level.WARNING, 2, Level.FAULT), result);
+		assertEquals(0, map.size());
 	}
 
 }
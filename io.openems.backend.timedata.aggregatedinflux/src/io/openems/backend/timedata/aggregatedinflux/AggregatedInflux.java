@@ -447,7 +447,11 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		final var metrics = new HashMap<String, JsonElement>();
+		this.influxConnector.debugMetrics().forEach((key, value) -> {
+			metrics.put(this.config.id() + "/" + key, value);
+		});
+		return metrics;
 	}
 
 	private void handleEdgeVersionUpdateEvent(//
@@ -46,6 +46,12 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Number of max scheduled tasks", description = "Max-Size of Queued tasks.")
 	int maxQueueSize() default 5000;
 
+	@AttributeDefinition(name = "Spill directory", description = "Directory for points that cannot be written in time because InfluxDB is slow; empty to drop them", required = false)
+	String spillDirectory() default "";
+
+	@AttributeDefinition(name = "Max spill size [MB]", description = "Max-Size of spilled points on disk per bucket")
+	int maxSpillSize() default 1024;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata InfluxDB";
 
 }
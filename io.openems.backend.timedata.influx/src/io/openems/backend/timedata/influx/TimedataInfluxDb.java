@@ -1,7 +1,9 @@
 package io.openems.backend.timedata.influx;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -97,7 +99,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				config.poolSize(), config.maxQueueSize(), //
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
-				});
+				}, false, //
+				config.spillDirectory() == null || config.spillDirectory().isBlank() //
+						? null //
+						: Path.of(config.spillDirectory()), //
+				config.maxSpillSize() * 1024L * 1024L);
 	}
 
 	@Deactivate
@@ -448,7 +454,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		final var metrics = new HashMap<String, JsonElement>();
+		this.influxConnector.debugMetrics().forEach((key, value) -> {
+			metrics.put(this.config.id() + "/" + key, value);
+		});
+		return metrics;
 	}
 
 }
@@ -33,6 +33,9 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Use hourly and daily aggregates", description = "Reads from the hourly and daily continuous aggregates where possible. They have to be created before; see readme.")
+	boolean useRollupTiers() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
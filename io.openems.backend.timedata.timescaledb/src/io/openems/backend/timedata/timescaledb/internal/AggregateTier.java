@@ -0,0 +1,129 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+import io.openems.common.timedata.Resolution;
+
+/**
+ * The tiers of continuous aggregates. Each tier is built incrementally from
+ * the previous, finer tier.
+ *
+ * <p>
+ * The coarser tiers do not store the 'avg' of the finer tier, but its sum and
+ * count, so that the average over a coarser bucket equals the average over
+ * its 5-minute buckets, also if some of them are missing.
+ */
+public enum AggregateTier {
+	FIVE_MINUTES("5m", Duration.ofMinutes(5)), //
+	ONE_HOUR("1h", Duration.ofHours(1)), //
+	ONE_DAY("1d", Duration.ofDays(1)), //
+	;
+
+	public static final String AVG = "avg";
+	public static final String AVG_SUM = "avg_sum";
+	public static final String AVG_COUNT = "avg_count";
+
+	public final String tableSuffix;
+	public final Duration width;
+
+	private AggregateTier(String tableSuffix, Duration width) {
+		this.tableSuffix = tableSuffix;
+		this.width = width;
+	}
+
+	/**
+	 * Gets the tier this tier is built from.
+	 *
+	 * @return the source tier; null for {@link #FIVE_MINUTES}, which is built from
+	 *         the raw table
+	 */
+	public AggregateTier getSource() {
+		return this.ordinal() == 0 ? null : values()[this.ordinal() - 1];
+	}
+
+	/**
+	 * Gets the columns of the continuous aggregate of this tier, without 'time'
+	 * and 'edge_channel_id'.
+	 *
+	 * @param type the {@link Type}
+	 * @return the column names
+	 */
+	public String[] getColumns(Type type) {
+		if (this == FIVE_MINUTES) {
+			return type.aggregateFunctions;
+		}
+		return Stream.of(type.aggregateFunctions) //
+				.flatMap(f -> f.equals(AVG) ? Stream.of(AVG_SUM, AVG_COUNT) : Stream.of(f)) //
+				.toArray(String[]::new);
+	}
+
+	/**
+	 * Gets the SQL expression that aggregates the
+	 * {@link Type#defaultAggregateFunction} over multiple rows of this tier.
+	 *
+	 * @param type  the {@link Type}
+	 * @param alias the alias of the table in the query
+	 * @return the SQL expression
+	 */
+	public String getDefaultAggregate(Type type, String alias) {
+		var function = type.defaultAggregateFunction;
+		if (this == FIVE_MINUTES || !function.equals(AVG)) {
+			return function + "(" + alias + "." + function + ")";
+		}
+		return "sum(" + alias + "." + AVG_SUM + ") / NULLIF(sum(" + alias + "." + AVG_COUNT + "), 0)";
+	}
+
+	/**
+	 * Gets the coarsest tier that yields the same result as {@link #FIVE_MINUTES}
+	 * for a query.
+	 *
+	 * <p>
+	 * Requires the continuous aggregates of all tiers; see 'readme.adoc'.
+	 *
+	 * <p>
+	 * A tier is suitable if its buckets do not cross the boundaries of the query,
+	 * i.e. 'fromDate', 'toDate' and, if given, the {@link Resolution} are
+	 * multiples of the tier width in the time zone of 'fromDate'.
+	 *
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param resolution the {@link Resolution}; null if the query is not bucketed
+	 * @return the {@link AggregateTier}
+	 */
+	public static AggregateTier select(ZonedDateTime fromDate, ZonedDateTime toDate, Resolution resolution) {
+		var values = values();
+		for (var i = values.length - 1; i > 0; i--) {
+			var tier = values[i];
+			if (tier.isAligned(fromDate) && tier.isAligned(toDate) && tier.divides(resolution)) {
+				return tier;
+			}
+		}
+		return FIVE_MINUTES;
+	}
+
+	private boolean isAligned(ZonedDateTime date) {
+		var width = this.width.toSeconds();
+		return date.toEpochSecond() % width == 0 //
+				&& date.getOffset().getTotalSeconds() % width == 0;
+	}
+
+	private boolean divides(Resolution resolution) {
+		if (resolution == null) {
+			return true;
+		}
+		switch (resolution.getUnit()) {
+		case DAYS:
+		case WEEKS:
+		case MONTHS:
+		case YEARS:
+			// Calendar based; always whole days
+			return true;
+		default:
+			var duration = resolution.getUnit().getDuration().multipliedBy(resolution.getValue());
+			return duration.toSeconds() % this.width.toSeconds() == 0;
+		}
+	}
+
+}
@@ -35,7 +35,7 @@ public enum Type {
 	public final String[] aggregateFunctions;
 
 	private final Map<Priority, String> rawTableName = new EnumMap<>(Priority.class);
-	private final Map<Priority, String> aggregate5mTableName = new EnumMap<>(Priority.class);
+	private final Map<AggregateTier, Map<Priority, String>> aggregateTableName = new EnumMap<>(AggregateTier.class);
 
 	private final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet;
 	private final ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction;
@@ -69,7 +69,21 @@ public enum Type {
 	 * @return the table name
 	 */
 	public String getAggregate5mTableName(Priority priority) {
-		return this.aggregate5mTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_5m");
+		return this.getAggregateTableName(AggregateTier.FIVE_MINUTES, priority);
+	}
+
+	/**
+	 * Gets the aggregate table name of the current type, the specified
+	 * {@link AggregateTier} and priority.
+	 * 
+	 * @param tier     the {@link AggregateTier}
+	 * @param priority the priority of the table
+	 * @return the table name
+	 */
+	public String getAggregateTableName(AggregateTier tier, Priority priority) {
+		return this.aggregateTableName //
+				.computeIfAbsent(tier, t -> new EnumMap<>(Priority.class)) //
+				.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_" + tier.tableSuffix);
 	}
 
 	private String baseTableName(Priority priority) {
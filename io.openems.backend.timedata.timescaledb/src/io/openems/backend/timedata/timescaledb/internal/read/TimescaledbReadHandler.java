@@ -20,6 +20,7 @@ import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.Config;
+import io.openems.backend.timedata.timescaledb.internal.AggregateTier;
 import io.openems.backend.timedata.timescaledb.internal.Schema;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -39,10 +40,16 @@ public class TimescaledbReadHandler {
 	 */
 	private final HikariDataSource dataSource;
 
+	/**
+	 * Read from the hourly and daily {@link AggregateTier}s where possible.
+	 */
+	private final boolean useRollupTiers;
+
 	public TimescaledbReadHandler(Config config) throws SQLException {
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
 				config.user(), config.password(), config.poolSize());
+		this.useRollupTiers = config.useRollupTiers();
 	}
 
 	/**
@@ -81,6 +88,7 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var tier = this.selectTier(fromDate, toDate, resolution);
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -99,8 +107,8 @@ public class TimescaledbReadHandler {
 							+ "        ?::interval," // [1] Resolution
 							+ "        data.time)," //
 							+ "    data.edge_channel_id," //
-							+ "    " + type.defaultAggregateFunction + "(data." + type.defaultAggregateFunction + ") " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "    " + tier.getDefaultAggregate(type, "data") + " " //
+							+ "FROM " + type.getAggregateTableName(tier, priority) + " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id IN (" //
 							+ ids.keySet().stream() //
@@ -169,6 +177,7 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareEnergyMap(fromDate, toDate, channels);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var tier = this.selectTier(fromDate, toDate, null);
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -185,7 +194,7 @@ public class TimescaledbReadHandler {
 					var sql = "SELECT" //
 							+ "	   d.edge_channel_id," //
 							+ "    LAST(\"max\", d.time) - FIRST(\"min\", d.time) " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " d " //
+							+ "FROM " + type.getAggregateTableName(tier, priority) + " d " //
 							+ "WHERE" //
 							+ "    d.edge_channel_id = ANY (?) AND" // [1] Channel-ID
 							+ "    d.time >= ? AND" // [2] FromDate
@@ -246,6 +255,7 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var tier = this.selectTier(fromDate.minus(resolution.getValue(), resolution.getUnit()), toDate, resolution);
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -266,7 +276,7 @@ public class TimescaledbReadHandler {
 							+ "        timezone => ?)," // [2] timezone
 							+ "    data.edge_channel_id," //
 							+ "    LAST(\"max\", data.time)" //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "FROM " + type.getAggregateTableName(tier, priority) + " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id = ANY (?) AND" // [3] Channel IDs
 							+ "    data.time >= ? AND" // [4] FromDate
@@ -381,6 +391,13 @@ public class TimescaledbReadHandler {
 		return data;
 	}
 
+	private AggregateTier selectTier(ZonedDateTime fromDate, ZonedDateTime toDate, Resolution resolution) {
+		if (!this.useRollupTiers) {
+			return AggregateTier.FIVE_MINUTES;
+		}
+		return AggregateTier.select(fromDate, toDate, resolution);
+	}
+
 	private static Set<String> toStringSet(Set<ChannelAddress> channels) {
 		return channels.stream().map(c -> c.toString()).collect(Collectors.toUnmodifiableSet());
 	}
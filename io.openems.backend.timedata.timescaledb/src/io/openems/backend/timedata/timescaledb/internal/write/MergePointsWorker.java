@@ -1,12 +1,16 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -20,10 +24,22 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	private final ExecutorService executor;
 	private final Type type;
 	private final Priority priority;
-	// TODO queue: delete old entries if full; like an EvictingQueue;
-	// https://github.com/google/guava/issues/3882
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
-	private long countPoints = 0;
+
+	/**
+	 * Limits the number of parallel writes. If writes are slower than incoming
+	 * data, the queue fills up and the oldest Points are dropped.
+	 */
+	private final Semaphore writeSlots = new Semaphore(TimescaledbWriteHandler.MAX_PARALLEL_WRITES);
+
+	private final AtomicLong countPoints = new AtomicLong();
+	private final AtomicLong countWrittenPoints = new AtomicLong();
+	private final AtomicLong countFailedPoints = new AtomicLong();
+	private final AtomicLong countDroppedPoints = new AtomicLong();
+
+	private volatile int batchSize = TimescaledbWriteHandler.MAX_POINTS_PER_WRITE;
+	private Instant lastDebugLog = Instant.now();
+	private long lastDebugLogWrittenPoints = 0;
 
 	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
 		this.dataSource = dataSource;
@@ -32,8 +48,17 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		this.priority = priority;
 	}
 
-	public BlockingQueue<POINT> getQueue() {
-		return this.queue;
+	/**
+	 * Adds a Point to the queue. If the queue is full, the oldest Point is dropped.
+	 *
+	 * @param point the Point
+	 */
+	public void offer(POINT point) {
+		while (!this.queue.offer(point)) {
+			if (this.queue.poll() != null) {
+				this.countDroppedPoints.incrementAndGet();
+			}
+		}
 	}
 
 	@Override
@@ -43,37 +68,99 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		 * TimescaleDB. This approach improves speed as not every single Point gets sent
 		 * via HTTP individually.
 		 */
+		// Wait for a free write slot before taking Points from the queue
+		this.writeSlots.acquire();
+
 		// Poll and merge Points. Wait max 10 seconds in total.
-		var points = pollAndMergePoints(this.queue);
+		List<Point> points;
+		try {
+			points = pollAndMergePoints(this.queue, this.batchSize);
+		} catch (InterruptedException e) {
+			this.writeSlots.release();
+			throw e;
+		}
 
 		if (points.isEmpty()) {
+			this.writeSlots.release();
 			return;
 		}
 
-		this.countPoints += points.size();
+		this.countPoints.addAndGet(points.size());
 
 		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+		try {
+			this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points, //
+					this::onWriteFinished));
+		} catch (RuntimeException e) {
+			this.writeSlots.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Called after a {@link WritePointsHandler} finished. Adapts the batch size
+	 * towards {@link TimescaledbWriteHandler#TARGET_WRITE_DURATION}.
+	 *
+	 * @param result the {@link WritePointsHandler.Result}
+	 */
+	private void onWriteFinished(WritePointsHandler.Result result) {
+		this.writeSlots.release();
+
+		if (!result.success()) {
+			this.countFailedPoints.addAndGet(result.points());
+			this.batchSize = Math.max(TimescaledbWriteHandler.MIN_POINTS_PER_WRITE, this.batchSize / 2);
+			return;
+		}
+
+		this.countWrittenPoints.addAndGet(result.points());
+		this.batchSize = nextBatchSize(this.batchSize, result.points(), result.duration());
+	}
+
+	/**
+	 * Calculates the next batch size.
+	 *
+	 * <ul>
+	 * <li>slower than the target duration: halve
+	 * <li>full batch faster than half the target duration: double
+	 * </ul>
+	 *
+	 * @param batchSize the current batch size
+	 * @param points    the number of written Points
+	 * @param duration  the duration of the write
+	 * @return the next batch size
+	 */
+	protected static int nextBatchSize(int batchSize, int points, Duration duration) {
+		var target = TimescaledbWriteHandler.TARGET_WRITE_DURATION;
+		if (duration.compareTo(target) > 0) {
+			return Math.max(TimescaledbWriteHandler.MIN_POINTS_PER_WRITE, batchSize / 2);
+		}
+		if (points >= batchSize && duration.compareTo(target.dividedBy(2)) < 0) {
+			return Math.min(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE_ADAPTIVE, batchSize * 2);
+		}
+		return batchSize;
 	}
 
 	/**
 	 * Poll and merge Points. Wait max 10 seconds in total.
 	 * 
 	 * @param <POINT> the type of the Point
-	 * @param queue   the Queue of Points
+	 * @param queue     the Queue of Points
+	 * @param batchSize the maximum number of Points
 	 * @return a list of Points
 	 * @throws InterruptedException on error
 	 */
-	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue)
+	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue, int batchSize)
 			throws InterruptedException {
 		final Instant maxWait = Instant.now().plusSeconds(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
-		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE; i++) {
+		List<Point> points = new ArrayList<>(batchSize);
+		while (points.size() < batchSize) {
 			var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
 			if (point == null) {
 				break;
 			}
 			points.add(point);
+			// Take everything else that is immediately available
+			queue.drainTo(points, batchSize - points.size());
 			if (Instant.now().isAfter(maxWait)) {
 				break;
 			}
@@ -86,13 +173,44 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	 * 
 	 * @return debug log
 	 */
-	public String debugLog() {
+	public synchronized String debugLog() {
+		var now = Instant.now();
+		var written = this.countWrittenPoints.get();
+		var seconds = Math.max(1, Duration.between(this.lastDebugLog, now).toSeconds());
+		var throughput = (written - this.lastDebugLogWrittenPoints) / seconds;
+		this.lastDebugLog = now;
+		this.lastDebugLogWrittenPoints = written;
+
 		return new StringBuilder() //
 				.append(this.queue.size()) //
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
 				.append("|Total:") //
-				.append(this.countPoints) //
+				.append(this.countPoints.get()) //
+				.append("|Batch:") //
+				.append(this.batchSize) //
+				.append("|Written/s:") //
+				.append(throughput) //
+				.append("|Failed:") //
+				.append(this.countFailedPoints.get()) //
+				.append("|Dropped:") //
+				.append(this.countDroppedPoints.get()) //
 				.toString();
 	}
+
+	/**
+	 * Returns DebugMetrics, prefixed with Type and Priority.
+	 *
+	 * @return metrics
+	 */
+	public Map<String, Long> debugMetrics() {
+		var prefix = this.type.name() + "/" + this.priority.name() + "/";
+		return Map.of(//
+				prefix + "Queue", Long.valueOf(this.queue.size()), //
+				prefix + "BatchSize", Long.valueOf(this.batchSize), //
+				prefix + "Written", this.countWrittenPoints.get(), //
+				prefix + "Failed", this.countFailedPoints.get(), //
+				prefix + "Dropped", this.countDroppedPoints.get() //
+		);
+	}
 }
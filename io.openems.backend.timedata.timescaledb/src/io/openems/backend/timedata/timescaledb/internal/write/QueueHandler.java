@@ -34,7 +34,8 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param channel   the channel
 	 * @param timestamp the timestamp
 	 * @param json      the value
-	 * @return true if the element was added to this queue, else false
+	 * @return true if the element was added to this queue; false if the value was
+	 *         null
 	 * @throws OpenemsNamedException on error
 	 */
 	public boolean offer(ChannelRecord channel, long timestamp, JsonElement json) throws OpenemsNamedException {
@@ -43,7 +44,8 @@ public abstract class QueueHandler<T extends Point> {
 		if (value == null) {
 			return false;
 		}
-		return this.mergePointsWorker.getQueue().offer(value);
+		this.mergePointsWorker.offer(value);
+		return true;
 	}
 
 	public MergePointsWorker<T> getMergePointsWorker() {
@@ -4,6 +4,8 @@ import java.sql.SQLException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -47,6 +49,7 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 			TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
 	private final DoubleKeyMap<Type, Priority, QueueHandler<?>> queueHandler;
 	private final Consumer<Schema> onInitializedSchema;
+	private final AtomicLong countDroppedData = new AtomicLong();
 
 	private Schema schema;
 
@@ -61,13 +64,28 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 	}
 
 	/**
-	 * Adds new 'write' data to the Queue.
+	 * Adds new 'write' data to the Queue. If the Queue is full, the oldest data is
+	 * dropped.
 	 * 
 	 * @param edgeId the Edge-ID
 	 * @param table  the data table
 	 */
 	public void addData(String edgeId, TreeBasedTable<Long, String, JsonElement> table) {
-		this.sourceQueue.offer(new WriteData(edgeId, table));
+		var data = new WriteData(edgeId, table);
+		while (!this.sourceQueue.offer(data)) {
+			if (this.sourceQueue.poll() != null) {
+				this.countDroppedData.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of dropped data tables.
+	 *
+	 * @return the number of dropped data tables
+	 */
+	public long getCountDroppedData() {
+		return this.countDroppedData.get();
 	}
 
 	@Override
@@ -77,13 +95,12 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 			return;
 		}
 
-		if (this.sourceQueue.isEmpty()) {
+		// Retrieve next element in of Queue; waits till an element is available.
+		var data = this.sourceQueue.poll(1, TimeUnit.SECONDS);
+		if (data == null) {
 			return;
 		}
 
-		// Retrieve next element in of Queue; waits till an element is available.
-		var data = this.sourceQueue.take();
-
 		for (var cell : data.table.cellSet()) {
 			// Cache-Lookup
 			var channel = schema.getChannelFromCache(data.edgeId, cell.getColumnKey());
@@ -177,6 +194,8 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 				.append(this.sourceQueue.size()) //
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
+				.append("|Dropped:") //
+				.append(this.countDroppedData.get()) //
 				.toString();
 	}
 
@@ -1,7 +1,9 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -34,7 +36,11 @@ import io.openems.common.worker.AbstractWorker;
 public class TimescaledbWriteHandler {
 
 	public static final int POINTS_QUEUE_SIZE = 1_000_000;
-	public static final int MAX_POINTS_PER_WRITE = 10_000;
+	public static final int MAX_POINTS_PER_WRITE = 10_000; // initial batch size
+	public static final int MIN_POINTS_PER_WRITE = 1_000;
+	public static final int MAX_POINTS_PER_WRITE_ADAPTIVE = 200_000;
+	public static final Duration TARGET_WRITE_DURATION = Duration.ofSeconds(2);
+	public static final int MAX_PARALLEL_WRITES = 2; // per type and priority
 	public static final int MAX_AGGREGATE_WAIT = 10; // [s]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbWriteHandler.class);
@@ -154,7 +160,11 @@ public class TimescaledbWriteHandler {
 	 * @return metrics
 	 */
 	public Map<String, Long> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor);
+		var result = new HashMap<>(ThreadPoolUtils.debugMetrics(this.executor));
+		result.put("SplitDropped", this.splitPointsWorker.getCountDroppedData());
+		this.streamHandler() //
+				.forEach(h -> result.putAll(h.getMergePointsWorker().debugMetrics()));
+		return result;
 	}
 
 	private boolean enableWriteToTimescaledb(String edgeId) {
@@ -1,7 +1,9 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,17 +18,30 @@ import io.openems.backend.timedata.timescaledb.internal.Type;
 
 public class WritePointsHandler implements Runnable {
 
+	/**
+	 * The result of a write.
+	 *
+	 * @param points   the number of Points
+	 * @param duration the duration of the write
+	 * @param success  true if the Points were written successfully
+	 */
+	public record Result(int points, Duration duration, boolean success) {
+	}
+
 	private final Logger log = LoggerFactory.getLogger(WritePointsHandler.class);
 
 	private final HikariDataSource dataSource;
 	private final Type type;
 	private final List<Point> points;
 	private final Table table;
+	private final Consumer<Result> onFinished;
 
-	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points) {
+	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points,
+			Consumer<Result> onFinished) {
 		this.dataSource = dataSource;
 		this.type = type;
 		this.points = points;
+		this.onFinished = onFinished;
 
 		this.table = new SimpleRowWriter.Table(null, type.getRawTableName(priority), new String[] { //
 				"time", //
@@ -37,13 +52,19 @@ public class WritePointsHandler implements Runnable {
 
 	@Override
 	public void run() {
-		try (//
-				var con = this.dataSource.getConnection();
-				SimpleRowWriter writer = new SimpleRowWriter(this.table, PostgreSqlUtils.getPGConnection(con)) //
-		) {
-			for (var point : this.points) {
-				writer.startRow(this.type.fillRow(point));
+		final var start = System.nanoTime();
+		var success = false;
+		try {
+			try (//
+					var con = this.dataSource.getConnection();
+					SimpleRowWriter writer = new SimpleRowWriter(this.table, PostgreSqlUtils.getPGConnection(con)) //
+			) {
+				for (var point : this.points) {
+					writer.startRow(this.type.fillRow(point));
+				}
 			}
+			// COPY is finished on close
+			success = true;
 
 		} catch (SQLException e) {
 			// 'Expected errors', e.g. PostgreSQL server stopped
@@ -55,6 +76,9 @@ public class WritePointsHandler implements Runnable {
 			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
 			e.printStackTrace();
 
+		} finally {
+			this.onFinished.accept(
+					new Result(this.points.size(), Duration.ofNanos(System.nanoTime() - start), success));
 		}
 	}
 
@@ -14,6 +14,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String database;
 		private boolean isReadOnly;
 		private int poolSize;
+		private boolean useRollupTiers;
 
 		private Builder() {
 		}
@@ -58,6 +59,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setUseRollupTiers(boolean useRollupTiers) {
+			this.useRollupTiers = useRollupTiers;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -114,4 +120,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.poolSize;
 	}
 
+	@Override
+	public boolean useRollupTiers() {
+		return this.builder.useRollupTiers;
+	}
+
 }
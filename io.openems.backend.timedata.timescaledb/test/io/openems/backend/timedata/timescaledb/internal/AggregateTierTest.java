@@ -0,0 +1,69 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import io.openems.common.timedata.Resolution;
+
+public class AggregateTierTest {
+
+	private static final ZonedDateTime UTC = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+	private static final ZonedDateTime BERLIN = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+	private static final ZonedDateTime INDIA = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("Asia/Kolkata"));
+
+	@Test
+	public void testSelect() {
+		assertEquals(AggregateTier.ONE_DAY,
+				AggregateTier.select(UTC, UTC.plusMonths(1), new Resolution(1, ChronoUnit.DAYS)));
+		assertEquals(AggregateTier.ONE_DAY,
+				AggregateTier.select(UTC, UTC.plusYears(1), new Resolution(1, ChronoUnit.MONTHS)));
+		assertEquals(AggregateTier.ONE_DAY, AggregateTier.select(UTC, UTC.plusYears(1), null));
+
+		// Resolution is finer than a day
+		assertEquals(AggregateTier.ONE_HOUR,
+				AggregateTier.select(UTC, UTC.plusDays(1), new Resolution(1, ChronoUnit.HOURS)));
+		assertEquals(AggregateTier.FIVE_MINUTES,
+				AggregateTier.select(UTC, UTC.plusDays(1), new Resolution(15, ChronoUnit.MINUTES)));
+		assertEquals(AggregateTier.ONE_HOUR,
+				AggregateTier.select(UTC, UTC.plusDays(1), new Resolution(120, ChronoUnit.MINUTES)));
+
+		// Local days are not aligned to UTC days
+		assertEquals(AggregateTier.ONE_HOUR,
+				AggregateTier.select(BERLIN, BERLIN.plusMonths(1), new Resolution(1, ChronoUnit.DAYS)));
+		assertEquals(AggregateTier.FIVE_MINUTES,
+				AggregateTier.select(INDIA, INDIA.plusMonths(1), new Resolution(1, ChronoUnit.DAYS)));
+
+		// Unaligned range
+		assertEquals(AggregateTier.FIVE_MINUTES,
+				AggregateTier.select(UTC.plusMinutes(10), UTC.plusDays(1), new Resolution(1, ChronoUnit.HOURS)));
+	}
+
+	@Test
+	public void testGetAggregateTableName() {
+		assertEquals("data_integer_low_5m", Type.INTEGER.getAggregateTableName(AggregateTier.FIVE_MINUTES, Priority.LOW));
+		assertEquals("data_float_high_1h", Type.FLOAT.getAggregateTableName(AggregateTier.ONE_HOUR, Priority.HIGH));
+		assertEquals("data_string_low_1d", Type.STRING.getAggregateTableName(AggregateTier.ONE_DAY, Priority.LOW));
+		assertEquals(AggregateTier.ONE_HOUR, AggregateTier.ONE_DAY.getSource());
+	}
+
+	@Test
+	public void testGetDefaultAggregate() {
+		assertArrayEquals(new String[] { "avg", "min", "max" }, AggregateTier.FIVE_MINUTES.getColumns(Type.INTEGER));
+		assertArrayEquals(new String[] { "avg_sum", "avg_count", "min", "max" },
+				AggregateTier.ONE_HOUR.getColumns(Type.INTEGER));
+		assertArrayEquals(new String[] { "max" }, AggregateTier.ONE_DAY.getColumns(Type.STRING));
+
+		assertEquals("avg(data.avg)", AggregateTier.FIVE_MINUTES.getDefaultAggregate(Type.FLOAT, "data"));
+		assertEquals("sum(data.avg_sum) / NULLIF(sum(data.avg_count), 0)",
+				AggregateTier.ONE_DAY.getDefaultAggregate(Type.FLOAT, "data"));
+		assertEquals("max(data.max)", AggregateTier.ONE_DAY.getDefaultAggregate(Type.STRING, "data"));
+	}
+
+}
@@ -8,12 +8,15 @@ public class SchemaGenerator {
 	/**
 	 * Main.
 	 * 
-	 * @param args the arguments
+	 * @param args the arguments; 'rollups' to generate only the hourly and daily
+	 *             aggregates for an existing database
 	 */
 	public static void main(String[] args) {
 		var generator = new SchemaGenerator();
 
-		final var sql = generator.generate();
+		final var sql = args.length > 0 && args[0].equals("rollups") //
+				? generator.generateRollups() //
+				: generator.generate();
 
 		System.out.println(sql);
 	}
@@ -37,6 +40,16 @@ public class SchemaGenerator {
 		return sb.toString();
 	}
 
+	private final String generateRollups() {
+		var sb = new StringBuilder();
+		for (var type : Type.values()) {
+			for (var priority : Priority.values()) {
+				sb.append(this.createRollupTables(type, priority));
+			}
+		}
+		return sb.toString();
+	}
+
 	private String createEdgeTable() {
 		return """
 				CREATE TABLE IF NOT EXISTS edge (
@@ -100,7 +113,22 @@ public class SchemaGenerator {
 						.append(this.createAggregateTable(type, priority)) //
 						.append(this.addContinuousAggregate(type, priority)) //
 				;
+				sb.append(this.createRollupTables(type, priority));
+			}
+		}
+		return sb.toString();
+	}
+
+	private String createRollupTables(Type type, Priority priority) {
+		var sb = new StringBuilder();
+		for (var tier : AggregateTier.values()) {
+			if (tier.getSource() == null) {
+				continue;
 			}
+			sb //
+					.append(this.createRollupTable(type, priority, tier)) //
+					.append(this.addRollupPolicy(type, priority, tier)) //
+			;
 		}
 		return sb.toString();
 	}
@@ -184,6 +212,53 @@ public class SchemaGenerator {
 				+ ");\n\n";
 	}
 
+	private String createRollupTable(Type type, Priority priority, AggregateTier tier) {
+		// Hierarchical continuous aggregate on the finer tier; real-time aggregation
+		// includes the not yet materialized buckets.
+		var source = tier.getSource();
+		return "CREATE MATERIALIZED VIEW " + type.getAggregateTableName(tier, priority) //
+				+ "(time, edge_channel_id, " //
+				+ Stream.of(tier.getColumns(type)) //
+						.map(s -> "\"" + s + "\"") //
+						.collect(Collectors.joining(", "))
+				+ ")\n" //
+				+ "  WITH (timescaledb.continuous, timescaledb.materialized_only = false) AS\n" //
+				+ "  SELECT time_bucket ('" + tier.width.toMinutes() + " minutes', time) AS time,\n" //
+				+ "    edge_channel_id,\n" //
+				+ "    " + Stream.of(type.aggregateFunctions) //
+						.map(s -> this.rollupAggregate(source, s)) //
+						.collect(Collectors.joining(", "))
+				+ "\n" //
+				+ "  FROM " + type.getAggregateTableName(source, priority) + "\n" //
+				+ "  GROUP BY (1, 2)\n" + "WITH NO DATA;\n\n";
+	}
+
+	private String rollupAggregate(AggregateTier source, String function) {
+		if (!function.equals(AggregateTier.AVG)) {
+			return function + "(\"" + function + "\")";
+		}
+		if (source == AggregateTier.FIVE_MINUTES) {
+			return "sum(\"avg\"), count(\"avg\")";
+		}
+		return "sum(\"" + AggregateTier.AVG_SUM + "\"), sum(\"" + AggregateTier.AVG_COUNT + "\")";
+	}
+
+	private String addRollupPolicy(Type type, Priority priority, AggregateTier tier) {
+		return "SELECT add_continuous_aggregate_policy('" + type.getAggregateTableName(tier, priority) + "',\n" //
+				+ "  start_offset => NULL,\n" //
+				+ "  end_offset => interval '" + tier.width.toMinutes() + " minutes',\n" //
+				+ "  schedule_interval => interval '" + tier.width.toMinutes() + " minutes'\n" //
+				+ ");\n" //
+
+				+ "SELECT set_chunk_time_interval(\n" //
+				+ "  (\n" //
+				+ "    SELECT format('%I.%I', materialization_hypertable_schema, materialization_hypertable_name) AS materialization_hypertable\n"
+				+ "    FROM timescaledb_information.continuous_aggregates\n" //
+				+ "    WHERE view_name LIKE '" + type.getAggregateTableName(tier, priority) + "'\n" //
+				+ "  ), INTERVAL '" + (tier == AggregateTier.ONE_DAY ? "30 days" : "7 days") + "'\n" //
+				+ ");\n\n";
+	}
+
 	private String createFunctionGetOrCreateEdgeId() {
 		return """
 				CREATE OR REPLACE FUNCTION openems_get_or_create_edge_id(
@@ -0,0 +1,47 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static io.openems.backend.timedata.timescaledb.internal.write.MergePointsWorker.nextBatchSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+
+public class MergePointsWorkerTest {
+
+	@Test
+	public void testNextBatchSize() {
+		// Fast & full -> double
+		assertEquals(20_000, nextBatchSize(10_000, 10_000, Duration.ofMillis(100)));
+		// Fast but not full -> keep
+		assertEquals(10_000, nextBatchSize(10_000, 500, Duration.ofMillis(100)));
+		// Slow -> halve
+		assertEquals(5_000, nextBatchSize(10_000, 10_000, Duration.ofSeconds(5)));
+		// Limits
+		assertEquals(TimescaledbWriteHandler.MIN_POINTS_PER_WRITE,
+				nextBatchSize(TimescaledbWriteHandler.MIN_POINTS_PER_WRITE, 1, Duration.ofSeconds(5)));
+		assertEquals(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE_ADAPTIVE,
+				nextBatchSize(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE_ADAPTIVE,
+						TimescaledbWriteHandler.MAX_POINTS_PER_WRITE_ADAPTIVE, Duration.ofMillis(1)));
+	}
+
+	@Test
+	public void testEvictOldest() {
+		var sut = new MergePointsWorker<IntPoint>(null, null, Type.INTEGER, Priority.HIGH);
+		var now = ZonedDateTime.now(ZoneOffset.UTC);
+		for (var i = 0; i < TimescaledbWriteHandler.POINTS_QUEUE_SIZE + 5; i++) {
+			sut.offer(new IntPoint(1, now, i));
+		}
+		var metrics = sut.debugMetrics();
+		assertEquals(5L, (long) metrics.get("INTEGER/HIGH/Dropped"));
+		assertEquals((long) TimescaledbWriteHandler.POINTS_QUEUE_SIZE, (long) metrics.get("INTEGER/HIGH/Queue"));
+		assertTrue(sut.debugLog().contains("|Dropped:5"));
+	}
+}
@@ -0,0 +1,80 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index of the Channel subscriptions of all UI sessions: Edge-ID to
+ * the subscribing {@link WsData}s and their subscribed Channels.
+ *
+ * <p>
+ * The index is maintained on SubscribeEdgesRequest and SubscribeChannelsRequest,
+ * so that an incoming update of an Edge only touches the sessions that
+ * subscribed to it.
+ */
+public class SubscriptionIndex {
+
+	private final ConcurrentHashMap<String, ConcurrentHashMap<WsData, SortedSet<String>>> index = //
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Sets the subscribed Channels of a session for an Edge.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param wsData   the {@link WsData} of the session
+	 * @param channels the subscribed Channels; null or empty to unsubscribe
+	 */
+	public void put(String edgeId, WsData wsData, SortedSet<String> channels) {
+		if (channels == null || channels.isEmpty()) {
+			this.remove(edgeId, wsData);
+			return;
+		}
+		this.index.compute(edgeId, (key, sessions) -> {
+			if (sessions == null) {
+				sessions = new ConcurrentHashMap<>();
+			}
+			sessions.put(wsData, channels);
+			return sessions;
+		});
+	}
+
+	/**
+	 * Removes the subscription of a session for an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the {@link WsData} of the session
+	 */
+	public void remove(String edgeId, WsData wsData) {
+		this.index.computeIfPresent(edgeId, (key, sessions) -> {
+			sessions.remove(wsData);
+			return sessions.isEmpty() ? null : sessions;
+		});
+	}
+
+	/**
+	 * Gets the sessions that subscribed to an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return a map of {@link WsData} to subscribed Channels; empty if there are
+	 *         none
+	 */
+	public Map<WsData, SortedSet<String>> get(String edgeId) {
+		var sessions = this.index.get(edgeId);
+		if (sessions == null) {
+			return Collections.emptyMap();
+		}
+		return sessions;
+	}
+
+	/**
+	 * Gets the number of subscribed Edges.
+	 *
+	 * @return the number of Edges
+	 */
+	public int size() {
+		return this.index.size();
+	}
+
+}
@@ -3,11 +3,14 @@ package io.openems.backend.uiwebsocket.impl;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import org.java_websocket.WebSocket;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
@@ -41,6 +44,8 @@ import io.openems.common.jsonrpc.base.AbstractJsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -58,6 +63,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	protected WebsocketServer server = null;
 
+	protected final SubscriptionIndex subscriptions = new SubscriptionIndex();
+
 	@Reference
 	protected volatile JsonRpcRequestHandler jsonRpcRequestHandler;
 
@@ -99,7 +106,7 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	private synchronized void startServer() {
 		if (this.server == null) {
 			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
-					this.config.debugMode());
+					this.config.debugMode(), this.config.threadMode(), this.config.maxTasksPerConnection());
 			this.server.start();
 		}
 	}
@@ -233,13 +240,35 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		var sessions = this.subscriptions.get(edgeId);
+		if (sessions.isEmpty()) {
+			return;
 		}
+
+		// Group sessions with the same subscribed Channels to build and serialize each
+		// CurrentDataNotification only once
+		var groups = new HashMap<SortedSet<String>, List<WsData>>();
+		sessions.forEach((wsData, channels) -> {
+			groups.computeIfAbsent(channels, c -> new ArrayList<>()).add(wsData);
+		});
+
+		groups.forEach((channels, wsDatas) -> {
+			var result = edgeCache.getChannelValues(channels);
+			var websockets = new ArrayList<WebSocket>(wsDatas.size());
+			for (var wsData : wsDatas) {
+				wsData.logMissingChannels(edgeId, result.b());
+				var websocket = wsData.getWebsocket();
+				if (websocket != null) {
+					websockets.add(websocket);
+				}
+			}
+			if (result.a().isEmpty() || websockets.isEmpty()) {
+				return;
+			}
+			this.server.broadcastMessage(//
+					new EdgeRpcNotification(edgeId, new CurrentDataNotification(result.a())), //
+					websockets);
+		});
 	}
 
 	/**
@@ -12,16 +12,10 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonElement;
-
-import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.exceptions.OpenemsException;
-import io.openems.common.jsonrpc.notification.CurrentDataNotification;
-import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 
 public class WsData extends io.openems.common.websocket.WsData {
@@ -48,36 +42,37 @@ public class WsData extends io.openems.common.websocket.WsData {
 		}
 
 		/**
-		 * Gets the values for subscribed Channels.
-		 * 
-		 * @param edgeId    the Edge-ID
-		 * @param edgeCache the {@link EdgeCache}
-		 * @return a map of channel values
+		 * Gets the subscribed Channels of an Edge.
+		 *
+		 * @param edgeId the Edge-ID
+		 * @return the Channels; null if there is no subscription
 		 */
-		public Map<String, JsonElement> getChannelValues(String edgeId, EdgeCache edgeCache) {
-			var subscribedChannels = this.subscribedChannels.get(edgeId);
-			if (subscribedChannels == null || subscribedChannels.isEmpty()) {
-				return Collections.emptyMap();
-			}
+		public synchronized SortedSet<String> get(String edgeId) {
+			return this.subscribedChannels.get(edgeId);
+		}
 
-			var result = edgeCache.getChannelValues(subscribedChannels);
-			if (!result.b().isEmpty()) {
-				if (!result.b().equals(this.currentDataMissingChannelValues)) {
-					LOG.info("[" + edgeId + "] Channels missing in Current-Data: [" + String.join(", ", result.b())
-							+ "]");
-				}
-				this.currentDataMissingChannelValues = result.b();
+		/**
+		 * Logs subscribed Channels that are missing in Current-Data.
+		 *
+		 * @param edgeId          the Edge-ID
+		 * @param missingChannels the missing Channels
+		 */
+		public synchronized void logMissingChannels(String edgeId, Set<String> missingChannels) {
+			if (missingChannels.isEmpty()) {
+				return;
 			}
-			return result.a();
+			if (!missingChannels.equals(this.currentDataMissingChannelValues)) {
+				LOG.info("[" + edgeId + "] Channels missing in Current-Data: [" + String.join(", ", missingChannels)
+						+ "]");
+			}
+			this.currentDataMissingChannelValues = missingChannels;
 		}
 
-		protected void dispose() {
+		protected synchronized void dispose() {
 			this.subscribedChannels.clear();
 		}
 	}
 
-	private final Logger log = LoggerFactory.getLogger(WsData.class);
-
 	private final UUID id = UUID.randomUUID();
 
 	private final WebsocketServer parent;
@@ -87,6 +82,12 @@ public class WsData extends io.openems.common.websocket.WsData {
 
 	private Set<String> subscribedEdges = new HashSet<>();
 
+	/**
+	 * The websocket connection was closed; the {@link SubscriptionIndex} must not
+	 * be updated anymore. Guarded by 'this'.
+	 */
+	private boolean disposed = false;
+
 	public WsData(WebsocketServer parent) {
 		this.parent = parent;
 	}
@@ -97,7 +98,16 @@ public class WsData extends io.openems.common.websocket.WsData {
 	public void logout() {
 		this.unsetToken();
 		this.unsetUserId();
-		this.subscribedChannels.dispose();
+		this.unsubscribeAll();
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		synchronized (this) {
+			this.disposed = true;
+			this.unsubscribeAll();
+		}
 	}
 
 	public synchronized void setUserId(String userId) {
@@ -188,6 +198,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 */
 	public synchronized void handleSubscribeChannelsRequest(String edgeId, SubscribeChannelsRequest request) {
 		this.subscribedChannels.handleSubscribeChannelsRequest(edgeId, request);
+		this.updateSubscriptionIndex(edgeId);
 	}
 
 	/**
@@ -195,35 +206,55 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
+		final var previousEdgeIds = this.subscribedEdges;
 		this.subscribedEdges = edgeIds;
+		for (var edgeId : previousEdgeIds) {
+			if (!edgeIds.contains(edgeId)) {
+				this.parent.parent.subscriptions.remove(edgeId, this);
+			}
+		}
+		for (var edgeId : edgeIds) {
+			this.updateSubscriptionIndex(edgeId);
+		}
 	}
 
 	/**
-	 * Sends the subscribed Channels to the UI session.
-	 * 
-	 * @param edgeId    the Edge-ID
-	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
+	 * Updates the {@link SubscriptionIndex} for an Edge: Channels are only sent if
+	 * the Edge and Channels are subscribed. Does nothing after {@link #dispose()},
+	 * so that a request that finishes after the connection was closed does not
+	 * add this session to the index again.
+	 *
+	 * @param edgeId the Edge-ID
 	 */
-	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
-		if (!this.isEdgeSubscribed(edgeId)) {
+	private synchronized void updateSubscriptionIndex(String edgeId) {
+		if (this.disposed) {
 			return;
 		}
-		var values = this.subscribedChannels.getChannelValues(edgeId, edgeCache);
-		if (values.isEmpty()) {
-			return;
-		}
-		try {
-			this.send(//
-					new EdgeRpcNotification(edgeId, //
-							new CurrentDataNotification(values)));
-
-		} catch (OpenemsException e) {
-			// Log & stop subscribes
-			this.parent.logWarn(this.log, "Unable to send CurrentDataNotification: " + e.getMessage());
-			this.subscribedChannels.dispose();
+		this.parent.parent.subscriptions.put(edgeId, this, //
+				this.isEdgeSubscribed(edgeId) ? this.subscribedChannels.get(edgeId) : null);
+	}
+
+	/**
+	 * Removes all Channel subscriptions of this session.
+	 */
+	private synchronized void unsubscribeAll() {
+		for (var edgeId : this.subscribedEdges) {
+			this.parent.parent.subscriptions.remove(edgeId, this);
 		}
+		this.subscribedEdges = new HashSet<>();
+		this.subscribedChannels.dispose();
+	}
+
+	/**
+	 * Logs subscribed Channels that are missing in Current-Data.
+	 *
+	 * @param edgeId          the Edge-ID
+	 * @param missingChannels the missing Channels
+	 */
+	public void logMissingChannels(String edgeId, Set<String> missingChannels) {
+		this.subscribedChannels.logMissingChannels(edgeId, missingChannels);
 	}
 
 	/**
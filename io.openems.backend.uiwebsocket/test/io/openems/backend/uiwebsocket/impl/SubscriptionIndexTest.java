@@ -0,0 +1,42 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class SubscriptionIndexTest {
+
+	private static final String EDGE_ID = "edge0";
+
+	@Test
+	public void test() {
+		var sut = new SubscriptionIndex();
+		var wsData1 = new WsData(null);
+		var wsData2 = new WsData(null);
+		var channels = new TreeSet<String>();
+		channels.add("_sum/EssSoc");
+
+		sut.put(EDGE_ID, wsData1, channels);
+		sut.put(EDGE_ID, wsData2, channels);
+		assertEquals(1, sut.size());
+		assertEquals(Map.of(wsData1, channels, wsData2, channels), sut.get(EDGE_ID));
+
+		// Empty Channels unsubscribe
+		sut.put(EDGE_ID, wsData1, new TreeSet<>());
+		assertEquals(Map.of(wsData2, channels), sut.get(EDGE_ID));
+
+		// Last session removes the Edge
+		sut.remove(EDGE_ID, wsData2);
+		assertEquals(0, sut.size());
+		assertTrue(sut.get(EDGE_ID).isEmpty());
+
+		// Unknown Edge
+		sut.remove("edge1", wsData1);
+		assertEquals(0, sut.size());
+	}
+
+}
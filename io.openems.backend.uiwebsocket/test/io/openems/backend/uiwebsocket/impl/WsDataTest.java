@@ -0,0 +1,88 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.AbstractWebsocketServer.ThreadMode;
+
+public class WsDataTest {
+
+	private static final String EDGE_ID = "edge0";
+
+	private UiWebsocketImpl parent;
+	private WebsocketServer server;
+
+	@Before
+	public void before() {
+		this.parent = new UiWebsocketImpl();
+		this.server = new WebsocketServer(this.parent, "test", 0, 1, DebugMode.OFF, ThreadMode.POOL, 0);
+	}
+
+	@After
+	public void after() {
+		this.server.stop();
+	}
+
+	private static SubscribeChannelsRequest subscribeChannels(int count, String channel) {
+		var request = new SubscribeChannelsRequest(count);
+		request.getChannels().add(channel);
+		return request;
+	}
+
+	@Test
+	public void testSubscribe() {
+		var sut = new WsData(this.server);
+		sut.handleSubscribeChannelsRequest(EDGE_ID, subscribeChannels(1, "_sum/EssSoc"));
+		assertEquals(0, this.parent.subscriptions.size()); // Edge not subscribed
+
+		sut.handleSubscribeEdgesRequest(Set.of(EDGE_ID));
+		assertTrue(sut.isEdgeSubscribed(EDGE_ID));
+		assertEquals(Set.of("_sum/EssSoc"), this.parent.subscriptions.get(EDGE_ID).get(sut));
+
+		sut.handleSubscribeEdgesRequest(Set.of());
+		assertEquals(0, this.parent.subscriptions.size());
+	}
+
+	@Test
+	public void testDispose() {
+		var sut = new WsData(this.server);
+		sut.handleSubscribeEdgesRequest(Set.of(EDGE_ID));
+		sut.handleSubscribeChannelsRequest(EDGE_ID, subscribeChannels(1, "_sum/EssSoc"));
+		assertEquals(1, this.parent.subscriptions.size());
+
+		sut.dispose();
+		assertEquals(0, this.parent.subscriptions.size());
+		assertFalse(sut.isEdgeSubscribed(EDGE_ID));
+
+		// Requests that finish after the connection was closed are ignored
+		sut.handleSubscribeEdgesRequest(Set.of(EDGE_ID));
+		sut.handleSubscribeChannelsRequest(EDGE_ID, subscribeChannels(2, "_sum/GridActivePower"));
+		assertEquals(0, this.parent.subscriptions.size());
+	}
+
+	@Test
+	public void testLogout() {
+		var sut = new WsData(this.server);
+		sut.handleSubscribeEdgesRequest(Set.of(EDGE_ID));
+		sut.handleSubscribeChannelsRequest(EDGE_ID, subscribeChannels(1, "_sum/EssSoc"));
+
+		sut.logout();
+		assertEquals(0, this.parent.subscriptions.size());
+		assertFalse(sut.isEdgeSubscribed(EDGE_ID));
+
+		// Session is still open: a new login can subscribe again
+		sut.handleSubscribeEdgesRequest(Set.of(EDGE_ID));
+		sut.handleSubscribeChannelsRequest(EDGE_ID, subscribeChannels(2, "_sum/EssSoc"));
+		assertEquals(1, this.parent.subscriptions.size());
+	}
+
+}
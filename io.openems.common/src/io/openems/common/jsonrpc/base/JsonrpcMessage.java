@@ -1,6 +1,15 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -24,6 +33,8 @@ public abstract class JsonrpcMessage {
 
 	public static final String JSONRPC_VERSION = "2.0";
 
+	private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
 	/**
 	 * Parses a JSON String to a {@link JsonrpcMessage}.
 	 *
@@ -72,12 +83,59 @@ public abstract class JsonrpcMessage {
 				.build();
 	}
 
+	/**
+	 * Writes the JSON representation of this {@link JsonrpcMessage} to a
+	 * {@link JsonWriter}.
+	 *
+	 * <p>
+	 * Messages with large content override this method to stream their content
+	 * instead of building the complete {@link #toJsonObject()} tree first.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	public void writeTo(JsonWriter writer) throws IOException {
+		writeJson(writer, this.toJsonObject());
+	}
+
+	/**
+	 * Writes the JSON representation of this {@link JsonrpcMessage} to a
+	 * {@link Writer}, formatted like {@link JsonElement#toString()}.
+	 *
+	 * @param out the {@link Writer}
+	 * @throws IOException on error
+	 */
+	public void writeTo(Writer out) throws IOException {
+		var writer = new JsonWriter(out);
+		writer.setLenient(true);
+		this.writeTo(writer);
+		writer.flush();
+	}
+
+	/**
+	 * Writes a {@link JsonElement} to a {@link JsonWriter}.
+	 *
+	 * @param writer  the {@link JsonWriter}
+	 * @param element the {@link JsonElement}
+	 * @throws IOException on error
+	 */
+	protected static void writeJson(JsonWriter writer, JsonElement element) throws IOException {
+		JSON_ELEMENT_ADAPTER.write(writer, element);
+	}
+
 	/**
 	 * Returns this JsonrpcMessage as a JSON String.
 	 */
 	@Override
 	public String toString() {
-		return this.toJsonObject().toString();
+		var out = new StringWriter();
+		try {
+			this.writeTo(out);
+		} catch (IOException e) {
+			// StringWriter does not throw
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
 	}
 
 }
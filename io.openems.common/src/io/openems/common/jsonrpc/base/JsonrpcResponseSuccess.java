@@ -1,11 +1,14 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.utils.JsonUtils;
 
 /**
@@ -57,4 +60,25 @@ public abstract class JsonrpcResponseSuccess extends JsonrpcResponse {
 	 */
 	public abstract JsonObject getResult();
 
+	/**
+	 * Writes this {@link JsonrpcResponseSuccess} to a {@link JsonWriter}; the
+	 * 'result' property is written by the given callback.
+	 *
+	 * <p>
+	 * To be used by implementations of {@link #writeTo(JsonWriter)} that stream
+	 * their result.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param result writes the value of the 'result' property
+	 * @throws IOException on error
+	 */
+	protected void writeTo(JsonWriter writer, ThrowingConsumer<JsonWriter, IOException> result) throws IOException {
+		writer.beginObject();
+		writer.name("jsonrpc").value(JSONRPC_VERSION);
+		writer.name("id").value(this.getId().toString());
+		writer.name("result");
+		result.accept(writer);
+		writer.endObject();
+	}
+
 }
\ No newline at end of file
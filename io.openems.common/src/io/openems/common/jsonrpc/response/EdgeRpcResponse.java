@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.utils.JsonUtils;
@@ -36,4 +38,14 @@ public class EdgeRpcResponse extends JsonrpcResponseSuccess {
 				.build();
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		this.writeTo(writer, w -> {
+			w.beginObject();
+			w.name("payload");
+			this.payload.writeTo(w);
+			w.endObject();
+		});
+	}
+
 }
@@ -1,7 +1,9 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.UUID;
@@ -9,6 +11,7 @@ import java.util.UUID;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.types.ChannelAddress;
@@ -32,6 +35,10 @@ import io.openems.common.types.ChannelAddress;
  *   }
  * }
  * </pre>
+ *
+ * <p>
+ * {@link #writeTo(JsonWriter)} streams the columns directly from the table,
+ * without building the {@link #getResult()} tree.
  */
 public class QueryHistoricTimeseriesDataResponse extends JsonrpcResponseSuccess {
 
@@ -78,4 +85,53 @@ public class QueryHistoricTimeseriesDataResponse extends JsonrpcResponseSuccess
 		return result;
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		this.writeTo(writer, w -> writeTable(w, this.table));
+	}
+
+	/**
+	 * Writes a table in the columnar format of {@link #getResult()}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param table  the table
+	 * @throws IOException on error
+	 */
+	protected static void writeTable(JsonWriter writer,
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table) throws IOException {
+		writer.beginObject();
+
+		writer.name("timestamps").beginArray();
+		for (var timestamp : table.keySet()) {
+			writer.value(timestamp.format(DateTimeFormatter.ISO_INSTANT));
+		}
+		writer.endArray();
+
+		// Columns in order of their first appearance
+		var channels = new LinkedHashSet<ChannelAddress>();
+		for (var row : table.values()) {
+			channels.addAll(row.keySet());
+		}
+
+		writer.name("data").beginObject();
+		for (var channel : channels) {
+			writer.name(channel.toString()).beginArray();
+			for (var row : table.values()) {
+				if (!row.containsKey(channel)) {
+					continue;
+				}
+				var value = row.get(channel);
+				if (value == null) {
+					writer.nullValue();
+				} else {
+					writeJson(writer, value);
+				}
+			}
+			writer.endArray();
+		}
+		writer.endObject();
+
+		writer.endObject();
+	}
+
 }
@@ -1,5 +1,6 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map.Entry;
@@ -9,6 +10,7 @@ import java.util.UUID;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.types.ChannelAddress;
@@ -79,4 +81,9 @@ public class QueryHistoricTimeseriesEnergyPerPeriodResponse extends JsonrpcRespo
 		return result;
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		this.writeTo(writer, w -> QueryHistoricTimeseriesDataResponse.writeTable(w, this.table));
+	}
+
 }
@@ -3,6 +3,7 @@ package io.openems.common.timedata;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 
 import io.openems.common.exceptions.OpenemsException;
 
@@ -62,4 +63,19 @@ public class Resolution {
 	public String toString() {
 		return this.value + " " + this.unit;
 	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.value, this.unit);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		return obj instanceof Resolution other //
+				&& this.value == other.value //
+				&& this.unit == other.unit;
+	}
 }
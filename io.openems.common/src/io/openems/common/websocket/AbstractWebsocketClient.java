@@ -206,7 +206,7 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 	 */
 	public void sendMessageOrError(JsonrpcMessage message) throws OpenemsException {
 		try {
-			this.ws.send(message.toString());
+			WebsocketUtils.sendMessage(this.ws, message);
 		} catch (Exception e) {
 			if (e instanceof WebsocketNotConnectedException) {
 				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
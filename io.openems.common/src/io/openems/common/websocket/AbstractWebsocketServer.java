@@ -2,29 +2,25 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
 
 import org.java_websocket.WebSocket;
 import org.java_websocket.drafts.Draft;
 import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.exceptions.InvalidDataException;
 import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
@@ -33,7 +29,6 @@ import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponse;
 import io.openems.common.utils.JsonrpcUtils;
 import io.openems.common.utils.StringUtils;
-import io.openems.common.utils.ThreadPoolUtils;
 
 public abstract class AbstractWebsocketServer<T extends WsData> extends AbstractWebsocket<T> {
 
@@ -51,15 +46,22 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		}
 	}
 
+	public static enum ThreadMode {
+		/**
+		 * Tasks are executed by a fixed pool of platform threads.
+		 */
+		POOL, //
+		/**
+		 * Every task is executed by its own virtual thread. Requires a Java 21
+		 * runtime; falls back to {@link #POOL} otherwise.
+		 */
+		VIRTUAL;
+	}
+
 	/**
-	 * Shared {@link ExecutorService}.
+	 * Shared executor.
 	 */
-	private final ThreadPoolExecutor executor;
-
-	private final ConcurrentHashMap<String, AtomicInteger> activeTasks = new ConcurrentHashMap<>(100);
-	private static final Function<String, AtomicInteger> ATOMIC_INTEGER_PROVIDER = (key) -> {
-		return new AtomicInteger(0);
-	};
+	private final WebsocketExecutor executor;
 
 	private final Logger log = LoggerFactory.getLogger(AbstractWebsocketServer.class);
 	private final int port;
@@ -77,9 +79,27 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 * @param debugMode activate a regular debug log about the state of the tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode) {
+		this(name, port, poolSize, debugMode, ThreadMode.POOL, poolSize);
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name                  to identify this server
+	 * @param port                  to listen on
+	 * @param poolSize              number of threads dedicated to handle the tasks
+	 *                              in {@link ThreadMode#POOL}
+	 * @param debugMode             activate a regular debug log about the state of
+	 *                              the tasks
+	 * @param threadMode            the {@link ThreadMode}
+	 * @param maxTasksPerConnection maximum number of concurrently handled requests
+	 *                              per connection; '0' for a quarter of
+	 *                              'poolSize'
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode,
+			ThreadMode threadMode, int maxTasksPerConnection) {
 		super(name);
-		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
-				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.executor = new WebsocketExecutor(name, threadMode, poolSize, maxTasksPerConnection);
 
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
@@ -98,8 +118,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 					wsData.setWebsocket(ws);
 					ws.setAttachment(wsData);
 					var jHandshake = WebsocketUtils.handshakeToJsonObject(handshake);
-					AbstractWebsocketServer.this
-							.execute(new OnOpenHandler(AbstractWebsocketServer.this, ws, jHandshake));
+					AbstractWebsocketServer.this.execute(ws,
+							new OnOpenHandler(AbstractWebsocketServer.this, ws, jHandshake));
 
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
@@ -127,33 +147,51 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						return;
 					}
 
-					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
+					AbstractWebsocketServer.this.handleMessage(ws, message);
 
-					} else if (message instanceof JsonrpcResponse) {
-						AbstractWebsocketServer.this.execute(
-								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
 
-					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer bytes) {
+				try {
+					final JsonrpcMessage message;
+					try {
+						message = AbstractWebsocketServer.this.handleBinaryMessage(ws, bytes);
+						if (message == null) {
+							// silently ignore 'null'
+							return;
+						}
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						return;
 					}
 
+					AbstractWebsocketServer.this.handleMessage(ws, message);
+
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
 				}
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				AbstractWebsocketServer.this.onHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
 					if (ws == null) {
 						AbstractWebsocketServer.this.handleInternalErrorAsync(ex, WebsocketUtils.getWsDataString(ws));
 					} else {
-						AbstractWebsocketServer.this.execute(new OnErrorHandler(AbstractWebsocketServer.this, ws, ex));
+						AbstractWebsocketServer.this.execute(ws,
+								new OnErrorHandler(AbstractWebsocketServer.this, ws, ex));
 					}
 
 				} catch (Throwable t) {
@@ -164,8 +202,8 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			@Override
 			public void onClose(WebSocket ws, int code, String reason, boolean remote) {
 				try {
-					AbstractWebsocketServer.this
-							.execute(new OnCloseHandler(AbstractWebsocketServer.this, ws, code, reason, remote));
+					AbstractWebsocketServer.this.execute(ws,
+							new OnCloseHandler(AbstractWebsocketServer.this, ws, code, reason, remote));
 
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
@@ -213,26 +251,32 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		this.debugMode = debugMode == null ? DebugMode.OFF : debugMode;
 	}
 
+	private void handleMessage(WebSocket ws, JsonrpcMessage message) {
+		if (message instanceof JsonrpcRequest) {
+			this.execute(ws, new OnRequestHandler(this, ws, (JsonrpcRequest) message, response -> {
+				this.sendMessage(ws, response);
+			}));
+
+		} else if (message instanceof JsonrpcResponse) {
+			// Not limited per connection: a request handler of this connection might be
+			// waiting for this response
+			this.execute(new OnResponseHandler(this, ws, (JsonrpcResponse) message));
+
+		} else if (message instanceof JsonrpcNotification) {
+			this.execute(new OnNotificationHandler(this, ws, (JsonrpcNotification) message));
+		}
+	}
+
 	/**
 	 * Returns a debug log of the current websocket state.
 	 * 
 	 * @return the debug log string
 	 */
 	public String debugLog() {
-		var b = new StringBuilder("[monitor] ") //
+		return new StringBuilder("[monitor] ") //
 				.append("Connections: ").append(this.ws.getConnections().size()).append(", ") //
-				.append(ThreadPoolUtils.debugLog(this.executor)); //
-		if (this.debugMode.isAtLeast(DebugMode.DETAILED) && this.executor.getActiveCount() > 0) {
-			b.append(", Tasks: ");
-			this.activeTasks.forEach((id, count) -> {
-				var cnt = count.get();
-				if (cnt > 0) {
-					b.append(id).append(':').append(cnt).append(", ");
-				}
-			});
-		}
-
-		return b.toString();
+				.append(this.executor.debugLog(this.debugMode.isAtLeast(DebugMode.DETAILED))) //
+				.toString();
 	}
 
 	/**
@@ -242,7 +286,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	public Map<String, Number> debugMetrics() {
 		final var metrics = new HashMap<String, Number>();
-		metrics.putAll(ThreadPoolUtils.debugMetrics(this.executor));
+		metrics.putAll(this.executor.debugMetrics());
 		metrics.put("Connections", this.connections.size());
 		return metrics;
 	}
@@ -272,7 +316,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	public void sendMessage(WebSocket ws, JsonrpcMessage message) {
 		try {
-			ws.send(message.toString());
+			WebsocketUtils.sendMessage(ws, message);
 
 		} catch (WebsocketNotConnectedException e) {
 			WsData wsData = ws.getAttachment();
@@ -298,6 +342,17 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		}
 	}
 
+	/**
+	 * Broadcasts a message to the given WebSockets. The message is serialized and
+	 * framed only once.
+	 *
+	 * @param message     the JSON-RPC Message
+	 * @param connections the WebSockets
+	 */
+	public void broadcastMessage(JsonrpcMessage message, Collection<WebSocket> connections) {
+		this.ws.broadcast(message.toString(), connections);
+	}
+
 	/**
 	 * Gets the port number that this server listens on.
 	 *
@@ -318,34 +373,24 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	}
 
 	/**
-	 * Execute a {@link Runnable} using the shared {@link ExecutorService}.
+	 * Execute a {@link Runnable} using the shared executor.
 	 *
 	 * @param command the {@link Runnable}
 	 */
 	@Override
 	protected void execute(Runnable command) {
-		if (this.debugMode.isAtLeast(DebugMode.DETAILED)) {
-			this.executor.execute(() -> {
-				String id = AbstractWebsocketServer.getRunnableIdentifier(command);
-				try {
-					this.activeTasks.computeIfAbsent(id, ATOMIC_INTEGER_PROVIDER).incrementAndGet();
-					command.run();
-				} catch (Throwable t) {
-					throw t;
-				} finally {
-					this.activeTasks.get(id).decrementAndGet();
-				}
-			});
-		} else {
-			this.executor.execute(command);
-		}
+		this.executor.execute(null, command);
 	}
 
-	private static final String getRunnableIdentifier(Runnable r) {
-		if (r instanceof OnRequestHandler) {
-			return ((OnRequestHandler) r).getRequestMethod();
-		}
-		return r.getClass().getSimpleName();
+	/**
+	 * Execute a {@link Runnable} for a {@link WebSocket} using the shared executor,
+	 * respecting the limit of concurrent tasks per connection.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param command the {@link Runnable}
+	 */
+	private void execute(WebSocket ws, Runnable command) {
+		this.executor.execute(ws, command);
 	}
 
 	/**
@@ -354,7 +399,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	@Override
 	public void stop() {
 		// Shutdown executors
-		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		this.executor.shutdown(5);
 
 		var tries = 3;
 		while (tries-- > 0) {
@@ -389,4 +434,29 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Handle binary messages.
+	 *
+	 * <p>
+	 * This method is called synchronously in the order the messages were received.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 * @return message converted to {@link JsonrpcMessage}; or null
+	 * @throws OpenemsNamedException if conversion is not possible
+	 */
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer message) throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
+	/**
+	 * Called on an incoming handshake before the connection is opened. Allows to
+	 * add HTTP headers to the handshake response.
+	 *
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
 }
@@ -0,0 +1,302 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compact binary encoding of {@link TimestampedDataNotification}s and
+ * {@link AggregatedDataNotification}s for the websocket between Edge and
+ * Backend.
+ *
+ * <p>
+ * The protocol is negotiated during the websocket handshake: the Edge sends the
+ * {@link #HTTP_HEADER} with the supported {@link #VERSION}; the Backend echoes
+ * it if it supports the same version. Otherwise JSON-RPC is used.
+ *
+ * <p>
+ * Encoder and Decoder are stateful and exist once per websocket session:
+ * Channel-Addresses are sent only once and then referenced by their index in a
+ * per-session dictionary; timestamps and integer values are sent as
+ * (zig-zag) varint deltas to their previous value. Compression is provided by
+ * the 'permessage-deflate' websocket extension.
+ *
+ * <pre>
+ * Frame     := version type dictSize {string} rowCount {row}
+ * row       := timestampDelta valueCount {index tag [value]}
+ * string    := varint-length UTF-8-bytes
+ * </pre>
+ */
+public final class BinaryDataProtocol {
+
+	/** Name of the HTTP header used for negotiation. */
+	public static final String HTTP_HEADER = "openems-binary-data";
+
+	/** Version of the protocol. */
+	public static final int VERSION = 1;
+
+	private static final byte TYPE_TIMESTAMPED = 0;
+	private static final byte TYPE_AGGREGATED = 1;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_FALSE = 1;
+	private static final byte TAG_TRUE = 2;
+	private static final byte TAG_LONG = 3;
+	private static final byte TAG_DOUBLE = 4;
+	private static final byte TAG_STRING = 5;
+	private static final byte TAG_JSON = 6;
+
+	private BinaryDataProtocol() {
+	}
+
+	/**
+	 * Is the given handshake value a supported version of this protocol?.
+	 *
+	 * @param value the value of the {@link #HTTP_HEADER}; possibly null
+	 * @return true if the version is supported
+	 */
+	public static boolean isSupported(String value) {
+		return value != null && value.trim().equals(String.valueOf(VERSION));
+	}
+
+	/**
+	 * Encodes data notifications of one session. Not thread-safe; frames must be
+	 * sent in the order they were encoded.
+	 */
+	public static class Encoder {
+
+		private final Map<String, Integer> dictionary = new HashMap<>();
+		private final List<Long> lastLongs = new ArrayList<>();
+		private long lastTimestamp = 0L;
+
+		/**
+		 * Encodes a {@link TimestampedDataNotification} or
+		 * {@link AggregatedDataNotification}.
+		 *
+		 * @param notification the notification
+		 * @return the binary frame
+		 */
+		public byte[] encode(AbstractDataNotification notification) {
+			final var newAddresses = new ArrayList<String>();
+			final var body = new ByteArrayOutputStream();
+			final var rows = notification.getData().rowMap();
+			writeVarLong(body, rows.size());
+			for (var row : rows.entrySet()) {
+				writeVarLong(body, zigZag(row.getKey() - this.lastTimestamp));
+				this.lastTimestamp = row.getKey();
+				writeVarLong(body, row.getValue().size());
+				for (var entry : row.getValue().entrySet()) {
+					var index = this.dictionary.get(entry.getKey());
+					if (index == null) {
+						index = this.dictionary.size();
+						this.dictionary.put(entry.getKey(), index);
+						this.lastLongs.add(0L);
+						newAddresses.add(entry.getKey());
+					}
+					writeVarLong(body, index);
+					this.writeValue(body, index, entry.getValue());
+				}
+			}
+
+			final var out = new ByteArrayOutputStream(body.size() + newAddresses.size() * 24 + 8);
+			out.write(VERSION);
+			out.write(notification instanceof AggregatedDataNotification ? TYPE_AGGREGATED : TYPE_TIMESTAMPED);
+			writeVarLong(out, newAddresses.size());
+			for (var address : newAddresses) {
+				writeString(out, address);
+			}
+			out.writeBytes(body.toByteArray());
+			return out.toByteArray();
+		}
+
+		private void writeValue(ByteArrayOutputStream out, int index, JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				out.write(TAG_NULL);
+				return;
+			}
+			if (!value.isJsonPrimitive()) {
+				out.write(TAG_JSON);
+				writeString(out, value.toString());
+				return;
+			}
+			var p = value.getAsJsonPrimitive();
+			if (p.isBoolean()) {
+				out.write(p.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+				return;
+			}
+			if (p.isString()) {
+				out.write(TAG_STRING);
+				writeString(out, p.getAsString());
+				return;
+			}
+			var n = p.getAsNumber();
+			if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+				var l = n.longValue();
+				out.write(TAG_LONG);
+				writeVarLong(out, zigZag(l - this.lastLongs.get(index)));
+				this.lastLongs.set(index, l);
+				return;
+			}
+			if (n instanceof Double || n instanceof Float) {
+				// Float is converted via its String representation to keep e.g. '1.1'
+				var d = n instanceof Float f ? Double.parseDouble(f.toString()) : n.doubleValue();
+				out.write(TAG_DOUBLE);
+				var bits = Double.doubleToRawLongBits(d);
+				for (var i = 56; i >= 0; i -= 8) {
+					out.write((int) (bits >>> i));
+				}
+				return;
+			}
+			// e.g. LazilyParsedNumber or BigDecimal: keep the exact representation
+			out.write(TAG_JSON);
+			writeString(out, value.toString());
+		}
+	}
+
+	/**
+	 * Decodes the frames of one session. Not thread-safe; frames must be decoded
+	 * in the order they were received.
+	 */
+	public static class Decoder {
+
+		private final List<String> dictionary = new ArrayList<>();
+		private final List<Long> lastLongs = new ArrayList<>();
+		private long lastTimestamp = 0L;
+
+		/**
+		 * Decodes a binary frame.
+		 *
+		 * @param frame the binary frame
+		 * @return a {@link TimestampedDataNotification} or
+		 *         {@link AggregatedDataNotification}
+		 * @throws OpenemsException if the frame is invalid, e.g. it references an
+		 *                          unknown Channel-Address
+		 */
+		public AbstractDataNotification decode(ByteBuffer frame) throws OpenemsException {
+			try {
+				var version = frame.get();
+				if (version != VERSION) {
+					throw new OpenemsException("Unsupported binary data protocol version [" + version + "]");
+				}
+				var type = frame.get();
+				var dictSize = readVarInt(frame);
+				for (var i = 0; i < dictSize; i++) {
+					this.dictionary.add(readString(frame));
+					this.lastLongs.add(0L);
+				}
+
+				var data = TreeBasedTable.<Long, String, JsonElement>create();
+				var rowCount = readVarInt(frame);
+				for (var r = 0; r < rowCount; r++) {
+					var timestamp = this.lastTimestamp + unZigZag(readVarLong(frame));
+					this.lastTimestamp = timestamp;
+					var valueCount = readVarInt(frame);
+					for (var v = 0; v < valueCount; v++) {
+						var index = readVarInt(frame);
+						if (index >= this.dictionary.size()) {
+							throw new OpenemsException("Unknown Channel-Address index [" + index + "]");
+						}
+						data.put(timestamp, this.dictionary.get(index), this.readValue(frame, index));
+					}
+				}
+
+				return switch (type) {
+				case TYPE_TIMESTAMPED -> new TimestampedDataNotification(data);
+				case TYPE_AGGREGATED -> new AggregatedDataNotification(data);
+				default -> throw new OpenemsException("Unknown binary data type [" + type + "]");
+				};
+
+			} catch (BufferUnderflowException | IllegalArgumentException | JsonParseException e) {
+				throw new OpenemsException("Invalid binary data frame: " + e.getMessage());
+			}
+		}
+
+		private JsonElement readValue(ByteBuffer frame, int index) throws OpenemsException {
+			var tag = frame.get();
+			return switch (tag) {
+			case TAG_NULL -> JsonNull.INSTANCE;
+			case TAG_FALSE -> new JsonPrimitive(false);
+			case TAG_TRUE -> new JsonPrimitive(true);
+			case TAG_LONG -> {
+				var l = this.lastLongs.get(index) + unZigZag(readVarLong(frame));
+				this.lastLongs.set(index, l);
+				yield new JsonPrimitive(l);
+			}
+			case TAG_DOUBLE -> new JsonPrimitive(frame.getDouble());
+			case TAG_STRING -> new JsonPrimitive(readString(frame));
+			case TAG_JSON -> JsonParser.parseString(readString(frame));
+			default -> throw new OpenemsException("Unknown binary value tag [" + tag + "]");
+			};
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer in) {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			var b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("Varint is too long");
+	}
+
+	private static int readVarInt(ByteBuffer in) {
+		var value = readVarLong(in);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Value [" + value + "] is out of range");
+		}
+		return (int) value;
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer in) throws OpenemsException {
+		var length = readVarInt(in);
+		if (length > in.remaining()) {
+			throw new OpenemsException(
+					"String length [" + length + "] exceeds remaining frame [" + in.remaining() + "]");
+		}
+		var bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,296 @@
+package io.openems.common.websocket;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.java_websocket.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.websocket.AbstractWebsocketServer.ThreadMode;
+
+/**
+ * Executes the tasks of a {@link AbstractWebsocketServer}.
+ *
+ * <p>
+ * Tasks are executed either by a fixed thread pool or by one virtual thread per
+ * task. In both modes the number of concurrently executed tasks per connection
+ * is limited; further tasks of the same connection wait in a per-connection
+ * FIFO queue. This way one busy connection cannot occupy the whole pool and
+ * every connection gets its turn.
+ */
+final class WebsocketExecutor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(WebsocketExecutor.class);
+
+	private record Task(Runnable command, long submitted) {
+	}
+
+	private static class Connection {
+		private final ArrayDeque<Task> queue = new ArrayDeque<>();
+		private int inFlight = 0;
+	}
+
+	private final ThreadMode threadMode;
+	private final ExecutorService executor;
+	/** The {@link ThreadPoolExecutor}; null for virtual threads. */
+	private final ThreadPoolExecutor threadPool;
+	private final int maxTasksPerConnection;
+
+	/** Connection -> queued and in-flight tasks. Guarded by 'this'. */
+	private final Map<Object, Connection> connections = new IdentityHashMap<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder waitCount = new LongAdder();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+
+	/** Wait times since the last call of {@link #debugMetrics()}. */
+	private final LongAdder metricsWaitNanos = new LongAdder();
+	private final LongAdder metricsWaitCount = new LongAdder();
+	private final AtomicLong metricsMaxWaitNanos = new AtomicLong();
+
+	/**
+	 * Creates a {@link WebsocketExecutor}.
+	 *
+	 * @param name                  the name used for thread names
+	 * @param threadMode            the {@link ThreadMode}
+	 * @param poolSize              number of threads for {@link ThreadMode#POOL}
+	 * @param maxTasksPerConnection maximum number of concurrently executed tasks
+	 *                              per connection; '0' for a quarter of
+	 *                              'poolSize'
+	 */
+	public WebsocketExecutor(String name, ThreadMode threadMode, int poolSize, int maxTasksPerConnection) {
+		this.maxTasksPerConnection = maxTasksPerConnection > 0 //
+				? maxTasksPerConnection //
+				: Math.max(1, poolSize / 4);
+		var virtual = threadMode == ThreadMode.VIRTUAL ? newVirtualThreadPerTaskExecutor(name) : null;
+		if (virtual != null) {
+			this.threadMode = ThreadMode.VIRTUAL;
+			this.executor = virtual;
+			this.threadPool = null;
+		} else {
+			this.threadMode = ThreadMode.POOL;
+			this.threadPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
+					new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+			this.executor = this.threadPool;
+		}
+	}
+
+	/**
+	 * Creates a virtual-thread-per-task {@link ExecutorService} if supported by
+	 * the Java runtime (Java 21+).
+	 *
+	 * @param name the name of the server
+	 * @return the {@link ExecutorService}; null if not supported
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			LOG.warn("[" + name + "] Virtual threads are not supported by this Java runtime. Using thread pool.");
+			return null;
+		}
+	}
+
+	/**
+	 * Executes a command.
+	 *
+	 * @param connection the connection that issued the command, used for the
+	 *                   per-connection limit; null for no limit
+	 * @param command    the command
+	 */
+	public void execute(Object connection, Runnable command) {
+		var task = new Task(command, System.nanoTime());
+		if (connection != null) {
+			synchronized (this) {
+				var c = this.connections.computeIfAbsent(connection, ignore -> new Connection());
+				if (c.inFlight >= this.maxTasksPerConnection) {
+					c.queue.add(task);
+					this.queued.incrementAndGet();
+					return;
+				}
+				c.inFlight++;
+			}
+		}
+		this.start(connection, task);
+	}
+
+	private void start(Object connection, Task task) throws RejectedExecutionException {
+		try {
+			this.submit(connection, task);
+		} catch (RejectedExecutionException e) {
+			this.onRejected(connection);
+			throw e;
+		}
+	}
+
+	private void submit(Object connection, Task task) throws RejectedExecutionException {
+		this.executor.execute(() -> {
+			var wait = System.nanoTime() - task.submitted;
+			this.waitNanos.add(wait);
+			this.waitCount.increment();
+			this.maxWaitNanos.accumulateAndGet(wait, Math::max);
+			this.metricsWaitNanos.add(wait);
+			this.metricsWaitCount.increment();
+			this.metricsMaxWaitNanos.accumulateAndGet(wait, Math::max);
+			this.inFlight.incrementAndGet();
+			try {
+				task.command.run();
+			} finally {
+				this.inFlight.decrementAndGet();
+				this.completed.increment();
+				this.onFinished(connection);
+			}
+		});
+	}
+
+	private void onFinished(Object connection) {
+		if (connection == null) {
+			return;
+		}
+		final Task next;
+		synchronized (this) {
+			var c = this.connections.get(connection);
+			next = c.queue.poll();
+			if (next == null) {
+				if (--c.inFlight == 0) {
+					this.connections.remove(connection);
+				}
+				return;
+			}
+			this.queued.decrementAndGet();
+		}
+		try {
+			this.start(connection, next);
+		} catch (RejectedExecutionException e) {
+			LOG.warn("Unable to execute queued task: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Releases the slot of a task that was not accepted by the executor, e.g.
+	 * after shutdown. Queued tasks of the connection are dropped once it has no
+	 * running task left.
+	 *
+	 * @param connection the connection
+	 */
+	private void onRejected(Object connection) {
+		if (connection == null) {
+			return;
+		}
+		synchronized (this) {
+			var c = this.connections.get(connection);
+			if (c != null && --c.inFlight == 0) {
+				this.queued.addAndGet(-c.queue.size());
+				this.connections.remove(connection);
+			}
+		}
+	}
+
+	/**
+	 * Shuts down the executor.
+	 *
+	 * @param timeoutSeconds the timeout
+	 */
+	public void shutdown(int timeoutSeconds) {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, timeoutSeconds);
+	}
+
+	/**
+	 * Gets the actually used {@link ThreadMode}.
+	 *
+	 * @return the {@link ThreadMode}
+	 */
+	public ThreadMode getThreadMode() {
+		return this.threadMode;
+	}
+
+	/**
+	 * Gets the number of currently executed tasks.
+	 *
+	 * @return the number of tasks
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Gets the number of tasks waiting for a per-connection slot.
+	 *
+	 * @return the number of tasks
+	 */
+	public int getQueued() {
+		return this.queued.get();
+	}
+
+	/**
+	 * Creates a debug log output.
+	 *
+	 * @param detailed also log the connections with waiting tasks
+	 * @return a String
+	 */
+	public String debugLog(boolean detailed) {
+		var b = new StringBuilder() //
+				.append("Mode: ").append(this.threadMode) //
+				.append(", InFlight: ").append(this.inFlight.get()) //
+				.append(", Queued: ").append(this.queued.get()) //
+				.append(", Done: ").append(this.completed.sum());
+		var waitCount = this.waitCount.sum();
+		if (waitCount > 0) {
+			b.append(", Wait: ").append(this.waitNanos.sum() / waitCount / 1_000_000).append("ms avg/") //
+					.append(this.maxWaitNanos.get() / 1_000_000).append("ms max");
+		}
+		if (this.threadPool != null) {
+			b.append(", ").append(ThreadPoolUtils.debugLog(this.threadPool));
+		}
+		if (detailed) {
+			synchronized (this) {
+				this.connections.forEach((connection, c) -> {
+					if (!c.queue.isEmpty()) {
+						var id = connection instanceof WebSocket ws //
+								? WebsocketUtils.getWsDataString(ws) //
+								: connection.toString();
+						b.append(", ").append(id).append(':').append(c.inFlight).append('+').append(c.queue.size());
+					}
+				});
+			}
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Creates a map of debug metrics. Wait times cover the period since the last
+	 * call; {@link #debugLog(boolean)} is not affected.
+	 *
+	 * @return a Map of key to value
+	 */
+	public Map<String, Number> debugMetrics() {
+		final var metrics = new HashMap<String, Number>();
+		if (this.threadPool != null) {
+			metrics.putAll(ThreadPoolUtils.debugMetrics(this.threadPool));
+		}
+		metrics.put("InFlight", this.inFlight.get());
+		metrics.put("Queued", this.queued.get());
+		metrics.put("TasksCompleted", this.completed.sum());
+		var waitCount = this.metricsWaitCount.sumThenReset();
+		var waitNanos = this.metricsWaitNanos.sumThenReset();
+		metrics.put("WaitAvgMs", waitCount == 0 ? 0 : waitNanos / waitCount / 1_000_000);
+		metrics.put("WaitMaxMs", this.metricsMaxWaitNanos.getAndSet(0) / 1_000_000);
+		return metrics;
+	}
+}
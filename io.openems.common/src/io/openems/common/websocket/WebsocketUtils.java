@@ -1,10 +1,23 @@
 package io.openems.common.websocket;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
 import org.java_websocket.WebSocket;
+import org.java_websocket.enums.Role;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.java_websocket.framing.TextFrame;
 import org.java_websocket.handshake.Handshakedata;
 
 import com.google.gson.JsonObject;
 
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+
 public class WebsocketUtils {
 
 	/**
@@ -46,4 +59,54 @@ public class WebsocketUtils {
 		return wsData.toString();
 	}
 
+	/**
+	 * Sends a {@link JsonrpcMessage} as a text frame.
+	 *
+	 * <p>
+	 * The message is encoded via {@link JsonrpcMessage#writeTo(java.io.Writer)}
+	 * directly into the UTF-8 payload of the frame, i.e. without an intermediate
+	 * JSON tree or String for messages that support streaming.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the {@link JsonrpcMessage}
+	 * @throws WebsocketNotConnectedException if the {@link WebSocket} is not
+	 *                                        connected
+	 */
+	public static void sendMessage(WebSocket ws, JsonrpcMessage message) throws WebsocketNotConnectedException {
+		var draft = ws.getDraft();
+		if (draft == null) {
+			// Handshake is not finished
+			ws.send(message.toString());
+			return;
+		}
+		var payload = new PayloadBuffer();
+		try (var writer = new OutputStreamWriter(payload, UTF_8)) {
+			message.writeTo(writer);
+		} catch (IOException e) {
+			// ByteArrayOutputStream does not throw
+			throw new UncheckedIOException(e);
+		}
+		// Same as Draft#createFrames(String, boolean)
+		var frame = new TextFrame();
+		frame.setPayload(payload.toByteBuffer());
+		frame.setTransferemasked(draft.getRole() == Role.CLIENT);
+		ws.sendFrame(frame);
+	}
+
+	private static class PayloadBuffer extends ByteArrayOutputStream {
+
+		private PayloadBuffer() {
+			super(8192);
+		}
+
+		/**
+		 * Wraps the internal buffer without copying it.
+		 *
+		 * @return a {@link ByteBuffer}
+		 */
+		private ByteBuffer toByteBuffer() {
+			return ByteBuffer.wrap(this.buf, 0, this.count);
+		}
+	}
+
 }
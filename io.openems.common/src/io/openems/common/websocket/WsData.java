@@ -101,7 +101,7 @@ public abstract class WsData {
 			throw new OpenemsException("There is no Websocket defined for this WsData.");
 		}
 		try {
-			this.websocket.send(message.toString());
+			WebsocketUtils.sendMessage(this.websocket, message);
 		} catch (WebsocketNotConnectedException e) {
 			throw new OpenemsException("Websocket is not connected: " + e.getMessage());
 		}
@@ -0,0 +1,58 @@
+package io.openems.common.jsonrpc.response;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class QueryHistoricTimeseriesDataResponseTest {
+
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> createTable() {
+		var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		var start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+		for (var i = 0; i < 3; i++) {
+			var row = new TreeMap<ChannelAddress, JsonElement>();
+			row.put(new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(50 + i));
+			row.put(new ChannelAddress("_sum", "GridActivePower"), i == 1 ? JsonNull.INSTANCE : new JsonPrimitive(1.5));
+			if (i > 0) {
+				row.put(new ChannelAddress("meter0", "State"), new JsonPrimitive("<ok>"));
+			}
+			table.put(start.plusMinutes(5 * i), row);
+		}
+		return table;
+	}
+
+	@Test
+	public void testWriteTo() {
+		var id = UUID.randomUUID();
+		var table = createTable();
+
+		var sut = new QueryHistoricTimeseriesDataResponse(id, table);
+		assertEquals(sut.toJsonObject().toString(), sut.toString());
+		assertEquals("{\"jsonrpc\":\"2.0\",\"id\":\"" + id + "\",\"result\":{" //
+				+ "\"timestamps\":[\"2023-12-31T23:00:00Z\",\"2023-12-31T23:05:00Z\",\"2023-12-31T23:10:00Z\"]," //
+				+ "\"data\":{" //
+				+ "\"_sum/EssSoc\":[50,51,52]," //
+				+ "\"_sum/GridActivePower\":[1.5,null,1.5]," //
+				+ "\"meter0/State\":[\"<ok>\",\"<ok>\"]}}}", sut.toString());
+
+		var energy = new QueryHistoricTimeseriesEnergyPerPeriodResponse(id, table);
+		assertEquals(energy.toJsonObject().toString(), energy.toString());
+
+		// Streaming is used through the 'edgeRpc' wrapper
+		var edgeRpc = new EdgeRpcResponse(id, sut);
+		assertEquals(edgeRpc.toJsonObject().toString(), edgeRpc.toString());
+	}
+
+}
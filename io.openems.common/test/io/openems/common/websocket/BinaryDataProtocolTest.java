@@ -0,0 +1,110 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataProtocolTest {
+
+	@Test
+	public void testRoundTrip() throws OpenemsException {
+		var encoder = new BinaryDataProtocol.Encoder();
+		var decoder = new BinaryDataProtocol.Decoder();
+
+		var n1 = new TimestampedDataNotification();
+		n1.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		n1.add(1_700_000_000_000L, "_sum/GridActivePower", new JsonPrimitive(-1234L));
+		n1.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(50.01));
+		n1.add(1_700_000_000_000L, "meter0/Voltage", new JsonPrimitive(1.1f));
+		n1.add(1_700_000_000_000L, "ess0/State", new JsonPrimitive(true));
+		n1.add(1_700_000_000_000L, "ess0/Serial", new JsonPrimitive("ABC-123"));
+		n1.add(1_700_000_000_000L, "ess0/Unknown", JsonNull.INSTANCE);
+		n1.add(1_700_000_000_000L, "ess0/Array", new JsonArray());
+		n1.add(1_700_000_000_000L, "ess0/Parsed", JsonParser.parseString("12345678901234567890"));
+		n1.add(1_700_000_001_000L, "_sum/EssSoc", new JsonPrimitive(56));
+
+		var frame1 = encoder.encode(n1);
+		var result1 = decoder.decode(ByteBuffer.wrap(frame1));
+		assertTrue(result1 instanceof TimestampedDataNotification);
+		assertEquals(n1.getParams().toString(), result1.getParams().toString());
+
+		// Second frame reuses the dictionary and value deltas
+		var n2 = new TimestampedDataNotification();
+		n2.add(1_700_000_002_000L, "_sum/EssSoc", new JsonPrimitive(56));
+		n2.add(1_700_000_002_000L, "_sum/GridActivePower", new JsonPrimitive(-1200L));
+		var frame2 = encoder.encode(n2);
+		assertEquals(13, frame2.length);
+		var result2 = decoder.decode(ByteBuffer.wrap(frame2));
+		assertEquals(n2.getParams(), result2.getParams());
+		assertTrue(frame2.length * 5 < n2.toString().length());
+
+		// Aggregated data
+		var n3 = new AggregatedDataNotification();
+		n3.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(50L));
+		var result3 = decoder.decode(ByteBuffer.wrap(encoder.encode(n3)));
+		assertTrue(result3 instanceof AggregatedDataNotification);
+		assertEquals(n3.getParams(), result3.getParams());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testDecoderOutOfSync() throws OpenemsException {
+		var encoder = new BinaryDataProtocol.Encoder();
+		var n = new TimestampedDataNotification();
+		n.add(1L, "_sum/EssSoc", new JsonPrimitive(55));
+		encoder.encode(n);
+
+		// Fresh decoder does not know the dictionary entry
+		new BinaryDataProtocol.Decoder().decode(ByteBuffer.wrap(encoder.encode(n)));
+	}
+
+	@Test
+	public void testInvalidStringLength() {
+		var encoder = new BinaryDataProtocol.Encoder();
+		var n = new TimestampedDataNotification();
+		n.add(1L, "_sum/EssSoc", new JsonPrimitive(55));
+		var frame = encoder.encode(n);
+
+		// Truncated frame
+		assertInvalid(Arrays.copyOf(frame, 8));
+
+		// Oversized length; encoded as varint of Integer.MAX_VALUE
+		assertInvalid(new byte[] { BinaryDataProtocol.VERSION, 0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, 0x07 });
+
+		// Negative length; out of int range
+		assertInvalid(new byte[] { BinaryDataProtocol.VERSION, 0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, 0x01 });
+	}
+
+	private static void assertInvalid(byte[] frame) {
+		try {
+			new BinaryDataProtocol.Decoder().decode(ByteBuffer.wrap(frame));
+			fail("Expected invalid frame");
+		} catch (OpenemsException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid binary data frame") //
+					|| e.getMessage().startsWith("String length"));
+		}
+	}
+
+	@Test
+	public void testIsSupported() {
+		assertTrue(BinaryDataProtocol.isSupported("1"));
+		assertFalse(BinaryDataProtocol.isSupported("2"));
+		assertFalse(BinaryDataProtocol.isSupported(null));
+	}
+}
@@ -0,0 +1,134 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.websocket.AbstractWebsocketServer.ThreadMode;
+
+public class WebsocketExecutorTest {
+
+	@Test
+	public void testMaxTasksPerConnection() throws InterruptedException {
+		var sut = new WebsocketExecutor("test", ThreadMode.POOL, 4, 2);
+		var busy = new Object();
+		var other = new Object();
+		var release = new CountDownLatch(1);
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		var finished = new CountDownLatch(6);
+
+		// 'busy' connection floods the executor
+		for (var i = 0; i < 5; i++) {
+			sut.execute(busy, () -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					// ignore
+				}
+				running.decrementAndGet();
+				finished.countDown();
+			});
+		}
+
+		// 'other' connection still gets a free thread
+		var otherExecuted = new CountDownLatch(1);
+		sut.execute(other, () -> {
+			otherExecuted.countDown();
+			finished.countDown();
+		});
+		assertTrue(otherExecuted.await(5, TimeUnit.SECONDS));
+		assertEquals(3, sut.getQueued());
+
+		release.countDown();
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+		sut.shutdown(1);
+		assertEquals(2, maxRunning.get());
+		assertEquals(0, sut.getQueued());
+		assertEquals(0, sut.getInFlight());
+
+		var metrics = sut.debugMetrics();
+		assertEquals(6L, metrics.get("TasksCompleted"));
+		assertEquals(0L, sut.debugMetrics().get("WaitMaxMs")); // reset
+		assertTrue(sut.debugLog(false).contains("Wait: ")); // not reset by debugMetrics()
+	}
+
+	@Test
+	public void testFifoPerConnection() throws InterruptedException {
+		var sut = new WebsocketExecutor("test", ThreadMode.VIRTUAL, 1, 1);
+		var connection = new Object();
+		var order = Collections.synchronizedList(new ArrayList<Integer>());
+		var finished = new CountDownLatch(10);
+		for (var i = 0; i < 10; i++) {
+			final var id = i;
+			sut.execute(connection, () -> {
+				order.add(id);
+				finished.countDown();
+			});
+		}
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+		sut.shutdown(1);
+	}
+
+	@Test
+	public void testRejected() throws InterruptedException {
+		var sut = new WebsocketExecutor("test", ThreadMode.POOL, 1, 1);
+		var connection = new Object();
+		sut.shutdown(1);
+
+		// Slot is released on rejection; otherwise the second task would be queued
+		for (var i = 0; i < 2; i++) {
+			try {
+				sut.execute(connection, () -> {
+				});
+				fail("Expected RejectedExecutionException");
+			} catch (RejectedExecutionException e) {
+				// expected
+			}
+		}
+		assertEquals(0, sut.getQueued());
+		assertEquals(0, sut.getInFlight());
+	}
+
+	@Test
+	public void testDefaultMaxTasksPerConnection() throws InterruptedException {
+		// '0' -> limited by a quarter of the pool size
+		var sut = new WebsocketExecutor("test", ThreadMode.POOL, 8, 0);
+		var connection = new Object();
+		var release = new CountDownLatch(1);
+		var started = new CountDownLatch(2);
+		for (var i = 0; i < 3; i++) {
+			sut.execute(connection, () -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					// ignore
+				}
+			});
+		}
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertEquals(1, sut.getQueued());
+		release.countDown();
+		sut.shutdown(1);
+
+		// At least one task per connection
+		sut = new WebsocketExecutor("test", ThreadMode.POOL, 2, 0);
+		var executed = new CountDownLatch(1);
+		sut.execute(connection, executed::countDown);
+		assertTrue(executed.await(5, TimeUnit.SECONDS));
+		sut.shutdown(1);
+	}
+}
@@ -4,6 +4,8 @@ import java.util.HashSet;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -122,8 +124,8 @@ public class BridgeHttpImpl implements BridgeHttp {
 	@Reference
 	private UrlFetcher urlFetcher;
 
-	// TODO change to java 21 virtual threads
-	// TODO: Single pool for every http worker & avoid same endpoint in that pool
+	// Used for scheduling and for blocking UrlFetcher implementations; requests
+	// of the default UrlFetcherImpl do not block a thread of this pool
 	private final ScheduledExecutorService pool = Executors.newScheduledThreadPool(0);
 
 	private final PriorityQueue<CycleEndpointCountdown> cycleEndpoints = new PriorityQueue<>(
@@ -131,6 +133,9 @@ public class BridgeHttpImpl implements BridgeHttp {
 
 	private final Set<TimeEndpointCountdown> timeEndpoints = new HashSet<>();
 
+	/** Keys of the subscribed {@link Endpoint}s in the {@link EndpointStatistics}. */
+	private final Set<String> statisticsKeys = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Activate method.
 	 */
@@ -148,11 +153,13 @@ public class BridgeHttpImpl implements BridgeHttp {
 		this.cycleEndpoints.clear();
 		this.timeEndpoints.forEach(TimeEndpointCountdown::shutdown);
 		this.timeEndpoints.clear();
+		this.statisticsKeys.clear();
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.pool, 0);
 	}
 
 	@Override
 	public void subscribeCycle(CycleEndpoint endpoint) {
+		this.statisticsKeys.add(EndpointStatistics.keyOf(endpoint.endpoint()));
 		if (!this.cycleEndpoints.offer(new CycleEndpointCountdown(endpoint))) {
 			this.log.warn("Unable to add " + endpoint + "!");
 		}
@@ -160,6 +167,7 @@ public class BridgeHttpImpl implements BridgeHttp {
 
 	@Override
 	public void subscribeTime(TimeEndpoint endpoint) {
+		this.statisticsKeys.add(EndpointStatistics.keyOf(endpoint.endpoint()));
 		final var endpointCountdown = new TimeEndpointCountdown(endpoint);
 		this.timeEndpoints.add(endpointCountdown);
 		final var delay = endpoint.delayTimeProvider().nextRun(true, true);
@@ -170,16 +178,28 @@ public class BridgeHttpImpl implements BridgeHttp {
 
 	@Override
 	public CompletableFuture<String> request(Endpoint endpoint) {
-		final var future = new CompletableFuture<String>();
-		this.pool.execute(() -> {
-			try {
-				final var result = this.urlFetcher.fetchEndpoint(endpoint);
-				future.complete(result);
-			} catch (Exception e) {
-				future.completeExceptionally(e);
+		return this.urlFetcher.fetchEndpointAsync(endpoint, this.pool);
+	}
+
+	@Override
+	public String debugLog() {
+		final var statistics = this.urlFetcher.getEndpointStatistics();
+		var requests = 0L;
+		var errors = 0L;
+		var maxLatency = 0L;
+		for (var key : this.statisticsKeys) {
+			final var s = statistics.get(key);
+			if (s == null) {
+				continue;
 			}
-		});
-		return future;
+			requests += s.getRequests();
+			errors += s.getErrors();
+			maxLatency = Math.max(maxLatency, s.getMaxLatency());
+		}
+		if (requests == 0) {
+			return null;
+		}
+		return "HTTP:" + requests + "|Errors:" + errors + "|MaxLatency:" + maxLatency + "ms";
 	}
 
 	private void handleEvent(Event event) {
@@ -217,16 +237,22 @@ public class BridgeHttpImpl implements BridgeHttp {
 
 	private Runnable createTask(CycleEndpointCountdown endpointItem) {
 		return () -> {
-			try {
-				final var result = this.urlFetcher.fetchEndpoint(endpointItem.cycleEndpoint.endpoint());
-				endpointItem.cycleEndpoint.result().accept(result);
-			} catch (Exception e) {
-				endpointItem.cycleEndpoint.onError().accept(e);
-			} finally {
-				synchronized (endpointItem) {
-					endpointItem.setRunning(false);
-				}
-			}
+			this.urlFetcher.fetchEndpointAsync(endpointItem.cycleEndpoint.endpoint(), this.pool) //
+					.whenComplete((result, error) -> {
+						try {
+							if (error != null) {
+								endpointItem.cycleEndpoint.onError().accept(unwrap(error));
+							} else {
+								endpointItem.cycleEndpoint.result().accept(result);
+							}
+						} catch (Exception e) {
+							endpointItem.cycleEndpoint.onError().accept(e);
+						} finally {
+							synchronized (endpointItem) {
+								endpointItem.setRunning(false);
+							}
+						}
+					});
 		};
 	}
 
@@ -238,35 +264,51 @@ public class BridgeHttpImpl implements BridgeHttp {
 				}
 				endpointCountdown.setRunning(true);
 			}
-			boolean currentRunSuccessful;
-			try {
-				final var result = this.urlFetcher.fetchEndpoint(endpointCountdown.getTimeEndpoint().endpoint());
-				endpointCountdown.getTimeEndpoint().onResult().accept(result);
-				currentRunSuccessful = true;
-			} catch (Exception e) {
-				endpointCountdown.getTimeEndpoint().onError().accept(e);
-				currentRunSuccessful = false;
-			}
-			synchronized (endpointCountdown) {
-				if (endpointCountdown.isShutdown()) {
-					return;
-				}
+			this.urlFetcher.fetchEndpointAsync(endpointCountdown.getTimeEndpoint().endpoint(), this.pool) //
+					.whenComplete((result, error) -> {
+						boolean currentRunSuccessful;
+						try {
+							if (error != null) {
+								throw unwrap(error);
+							}
+							endpointCountdown.getTimeEndpoint().onResult().accept(result);
+							currentRunSuccessful = true;
+						} catch (Throwable e) {
+							endpointCountdown.getTimeEndpoint().onError().accept(e);
+							currentRunSuccessful = false;
+						}
+						this.scheduleNextRun(endpointCountdown, currentRunSuccessful);
+					});
+		};
+	}
+
+	private void scheduleNextRun(TimeEndpointCountdown endpointCountdown, boolean currentRunSuccessful) {
+		synchronized (endpointCountdown) {
+			if (endpointCountdown.isShutdown()) {
+				return;
 			}
+		}
 
-			try {
-				final var nextDelay = endpointCountdown.getTimeEndpoint().delayTimeProvider().nextRun(false,
-						currentRunSuccessful);
+		try {
+			final var nextDelay = endpointCountdown.getTimeEndpoint().delayTimeProvider().nextRun(false,
+					currentRunSuccessful);
 
-				final var future = this.pool.schedule(this.createTask(endpointCountdown), nextDelay.toMillis(),
-						TimeUnit.MILLISECONDS);
-				endpointCountdown.setShutdownCurrentTask(() -> future.cancel(false));
-			} catch (Exception e) {
-				if (this.pool.isShutdown()) {
-					return;
-				}
-				this.log.error("Unexpected exception during Task", e);
+			final var future = this.pool.schedule(this.createTask(endpointCountdown), nextDelay.toMillis(),
+					TimeUnit.MILLISECONDS);
+			endpointCountdown.setShutdownCurrentTask(() -> future.cancel(false));
+		} catch (Exception e) {
+			if (this.pool.isShutdown()) {
+				return;
 			}
-		};
+			this.log.error("Unexpected exception during Task", e);
+		}
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		while (error instanceof CompletionException && error.getCause() != null) {
+			error = error.getCause();
+		}
+		return error;
 	}
 
 	public PriorityQueue<CycleEndpointCountdown> getCycleEndpoints() {
@@ -0,0 +1,135 @@
+package io.openems.edge.bridge.http;
+
+import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
+
+/**
+ * Request statistics of one {@link Endpoint}.
+ */
+public class EndpointStatistics {
+
+	private static final double ALPHA = 0.2;
+
+	/**
+	 * Gets the key of an {@link Endpoint} in
+	 * {@link UrlFetcher#getEndpointStatistics()}.
+	 *
+	 * @param endpoint the {@link Endpoint}
+	 * @return the key, i.e. 'METHOD url'
+	 */
+	public static String keyOf(Endpoint endpoint) {
+		return endpoint.method().name() + " " + endpoint.url();
+	}
+
+	private long requests = 0;
+	private long errors = 0;
+	private long notModified = 0;
+	private long coalesced = 0;
+	private double averageLatency = 0; // [ms]
+	private long lastLatency = 0; // [ms]
+	private long maxLatency = 0; // [ms]
+
+	/**
+	 * Records a finished request.
+	 *
+	 * @param latency     the duration of the request in [ms]
+	 * @param success     true if a valid response was received
+	 * @param notModified true if the response was served from cache after a '304
+	 *                    Not Modified'
+	 */
+	public synchronized void onResponse(long latency, boolean success, boolean notModified) {
+		this.averageLatency = this.requests == 0 //
+				? latency //
+				: ALPHA * latency + (1 - ALPHA) * this.averageLatency;
+		this.requests++;
+		this.lastLatency = latency;
+		this.maxLatency = Math.max(this.maxLatency, latency);
+		if (!success) {
+			this.errors++;
+		}
+		if (notModified) {
+			this.notModified++;
+		}
+	}
+
+	/**
+	 * Records a request that was served by a request to the same {@link Endpoint}
+	 * that was already in progress.
+	 */
+	public synchronized void onCoalesced() {
+		this.coalesced++;
+	}
+
+	/**
+	 * Gets the number of actual requests.
+	 *
+	 * @return the number of requests
+	 */
+	public synchronized long getRequests() {
+		return this.requests;
+	}
+
+	/**
+	 * Gets the number of failed requests.
+	 *
+	 * @return the number of errors
+	 */
+	public synchronized long getErrors() {
+		return this.errors;
+	}
+
+	/**
+	 * Gets the number of requests that were answered with '304 Not Modified'.
+	 *
+	 * @return the number of requests
+	 */
+	public synchronized long getNotModified() {
+		return this.notModified;
+	}
+
+	/**
+	 * Gets the number of requests that did not cause an actual request.
+	 *
+	 * @return the number of requests
+	 */
+	public synchronized long getCoalesced() {
+		return this.coalesced;
+	}
+
+	/**
+	 * Gets the smoothed latency.
+	 *
+	 * @return the latency in [ms]
+	 */
+	public synchronized long getAverageLatency() {
+		return Math.round(this.averageLatency);
+	}
+
+	/**
+	 * Gets the latency of the last request.
+	 *
+	 * @return the latency in [ms]
+	 */
+	public synchronized long getLastLatency() {
+		return this.lastLatency;
+	}
+
+	/**
+	 * Gets the maximum latency.
+	 *
+	 * @return the latency in [ms]
+	 */
+	public synchronized long getMaxLatency() {
+		return this.maxLatency;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "requests=" + this.requests //
+				+ ", errors=" + this.errors //
+				+ ", notModified=" + this.notModified //
+				+ ", coalesced=" + this.coalesced //
+				+ ", latency=" + Math.round(this.averageLatency) + "ms" //
+				+ ", maxLatency=" + this.maxLatency + "ms";
+	}
+
+}
@@ -1,5 +1,11 @@
 package io.openems.edge.bridge.http;
 
+import static java.util.Collections.emptyMap;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
 
@@ -15,4 +21,37 @@ public interface UrlFetcher {
 	 */
 	public String fetchEndpoint(Endpoint endpoint) throws OpenemsNamedException;
 
+	/**
+	 * Fetches an {@link Endpoint} without blocking the calling thread.
+	 * 
+	 * <p>
+	 * The default implementation executes {@link #fetchEndpoint(Endpoint)} on the
+	 * given {@link Executor}; non-blocking implementations may ignore it.
+	 * 
+	 * @param endpoint the {@link Endpoint} to fetch
+	 * @param executor the {@link Executor} for blocking implementations
+	 * @return the result future of the {@link Endpoint}
+	 */
+	public default CompletableFuture<String> fetchEndpointAsync(Endpoint endpoint, Executor executor) {
+		final var future = new CompletableFuture<String>();
+		executor.execute(() -> {
+			try {
+				future.complete(this.fetchEndpoint(endpoint));
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Gets the {@link EndpointStatistics} per requested URL.
+	 * 
+	 * @return a snapshot map of 'METHOD url' to {@link EndpointStatistics}; see
+	 *         {@link EndpointStatistics#keyOf(Endpoint)}
+	 */
+	public default Map<String, EndpointStatistics> getEndpointStatistics() {
+		return emptyMap();
+	}
+
 }
@@ -1,61 +1,236 @@
 package io.openems.edge.bridge.http;
 
-import static java.util.stream.Collectors.joining;
+import static java.util.Collections.unmodifiableMap;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.annotations.Component;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
+import io.openems.edge.bridge.http.api.HttpMethod;
 
+/**
+ * Fetches {@link Endpoint}s using a shared {@link HttpClient}.
+ *
+ * <ul>
+ * <li>Connections are kept alive and reused per host
+ * <li>Identical {@link HttpMethod#GET} and {@link HttpMethod#HEAD} requests that
+ * are in progress at the same time are sent only once, even if they are
+ * requested by different components
+ * <li>Responses with 'ETag' or 'Last-Modified' header are revalidated with
+ * 'If-None-Match' or 'If-Modified-Since'; on '304 Not Modified' the cached body
+ * is returned
+ * <li>{@link EndpointStatistics} are collected per URL, for the most recently
+ * requested URLs
+ * </ul>
+ *
+ * <p>
+ * Unlike the former {@link java.net.HttpURLConnection} based implementation,
+ * the response body is returned as received, i.e. line breaks are not
+ * normalized to {@link System#lineSeparator()}. Headers that are restricted by
+ * the {@link HttpClient}, like 'Connection', 'Content-Length' or 'Host', are
+ * rejected with an {@link IllegalArgumentException}.
+ */
 @Component
 public class UrlFetcherImpl implements UrlFetcher {
 
+	private static final int MAX_CACHED_RESPONSES = 256;
+	protected static final int MAX_STATISTICS = 256;
+
+	private record CachedResponse(String eTag, String lastModified, String body) {
+	}
+
+	/**
+	 * One {@link HttpClient} per connect timeout, as it can not be set per request.
+	 */
+	private final Map<Integer, HttpClient> clients = new ConcurrentHashMap<>();
+
+	private final Map<Endpoint, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+	private final Map<Endpoint, CachedResponse> cache = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Endpoint, CachedResponse> eldest) {
+					return this.size() > MAX_CACHED_RESPONSES;
+				}
+			});
+
+	private final Map<String, EndpointStatistics> statistics = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, EndpointStatistics> eldest) {
+					return this.size() > MAX_STATISTICS;
+				}
+			});
+
 	@Override
 	public String fetchEndpoint(final Endpoint endpoint) throws OpenemsNamedException {
 		try {
-			var url = new URL(endpoint.url());
-			var con = (HttpURLConnection) url.openConnection();
-			con.setRequestMethod(endpoint.method().name());
-			con.setConnectTimeout(endpoint.connectTimeout());
-			con.setReadTimeout(endpoint.readTimeout());
-
-			endpoint.properties().forEach(con::setRequestProperty);
-
-			if (endpoint.method().isBodyAllowed() && endpoint.body() != null) {
-				con.setDoOutput(true);
-				try (var os = con.getOutputStream(); //
-						var osw = new OutputStreamWriter(os, "UTF-8")) {
-					osw.write(endpoint.body());
-					osw.flush();
-				}
+			return this.fetchEndpointAsync(endpoint, Runnable::run).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OpenemsNamedException one) {
+				throw one;
 			}
+			throw new OpenemsException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException(e);
+		}
+	}
 
-			final var status = con.getResponseCode();
-			String body;
-			try (var in = new BufferedReader(new InputStreamReader(con.getInputStream()))) {
-				// Read HTTP response
-				body = in.lines().collect(joining(System.lineSeparator()));
-			}
+	@Override
+	public CompletableFuture<String> fetchEndpointAsync(Endpoint endpoint, Executor executor) {
+		final var statistics = this.statistics.computeIfAbsent(EndpointStatistics.keyOf(endpoint),
+				t -> new EndpointStatistics());
 
-			// Check valid for all?
-			if (status < 300) {
-				return body;
+		if (!isIdempotent(endpoint)) {
+			return this.send(endpoint, statistics);
+		}
+
+		final var future = new CompletableFuture<String>();
+		final var existing = this.inFlight.putIfAbsent(endpoint, future);
+		if (existing != null) {
+			statistics.onCoalesced();
+			return existing.copy();
+		}
+		this.send(endpoint, statistics).whenComplete((result, error) -> {
+			this.inFlight.remove(endpoint, future);
+			if (error != null) {
+				future.completeExceptionally(unwrap(error));
 			} else {
-				throw new OpenemsException(
-						"Error while reading Endpoint " + endpoint.url() + ". Response code: " + status + ". " + body);
+				future.complete(result);
 			}
+		});
+		// Callers must not be able to complete the shared future
+		return future.copy();
+	}
 
-		} catch (IOException e) {
-			throw new OpenemsException(e);
+	@Override
+	public Map<String, EndpointStatistics> getEndpointStatistics() {
+		synchronized (this.statistics) {
+			return unmodifiableMap(new LinkedHashMap<>(this.statistics));
+		}
+	}
+
+	private CompletableFuture<String> send(Endpoint endpoint, EndpointStatistics statistics) {
+		final var cached = endpoint.method() == HttpMethod.GET ? this.cache.get(endpoint) : null;
+		final HttpRequest request;
+		try {
+			request = buildRequest(endpoint, cached);
+		} catch (IllegalArgumentException e) {
+			statistics.onResponse(0, false, false);
+			return CompletableFuture.failedFuture(new OpenemsException(
+					"Invalid Endpoint " + endpoint.url() + ". " + e.getClass().getSimpleName() + ": " + e.getMessage()));
+		}
+
+		final var start = System.nanoTime();
+		return this.getClient(endpoint.connectTimeout()) //
+				.sendAsync(request, BodyHandlers.ofString()) //
+				.handle((response, error) -> {
+					final var latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+					if (error != null) {
+						statistics.onResponse(latency, false, false);
+						throw new CompletionException(new OpenemsException(unwrap(error)));
+					}
+
+					final var status = response.statusCode();
+					if (status == 304 && cached != null) {
+						statistics.onResponse(latency, true, true);
+						return cached.body;
+					}
+					if (status < 300) {
+						statistics.onResponse(latency, true, false);
+						this.updateCache(endpoint, response);
+						return response.body();
+					}
+					statistics.onResponse(latency, false, false);
+					throw new CompletionException(new OpenemsException("Error while reading Endpoint " + endpoint.url()
+							+ ". Response code: " + status + ". " + response.body()));
+				});
+	}
+
+	private HttpClient getClient(int connectTimeout) {
+		return this.clients.computeIfAbsent(connectTimeout, t -> HttpClient.newBuilder() //
+				// Many devices do not handle an upgrade to HTTP/2
+				.version(HttpClient.Version.HTTP_1_1) //
+				.connectTimeout(Duration.ofMillis(Math.max(1, connectTimeout))) //
+				.followRedirects(HttpClient.Redirect.NORMAL) //
+				.build());
+	}
+
+	private void updateCache(Endpoint endpoint, HttpResponse<String> response) {
+		if (endpoint.method() != HttpMethod.GET) {
+			return;
+		}
+		final var eTag = response.headers().firstValue("ETag").orElse(null);
+		final var lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+		if (eTag == null && lastModified == null) {
+			this.cache.remove(endpoint);
+			return;
+		}
+		this.cache.put(endpoint, new CachedResponse(eTag, lastModified, response.body()));
+	}
+
+	/**
+	 * Builds the {@link HttpRequest} for an {@link Endpoint}.
+	 *
+	 * @param endpoint the {@link Endpoint}
+	 * @param cached   the {@link CachedResponse} to revalidate; or null
+	 * @return the {@link HttpRequest}
+	 * @throws IllegalArgumentException on invalid url or headers
+	 */
+	private static HttpRequest buildRequest(Endpoint endpoint, CachedResponse cached) {
+		final var body = endpoint.method().isBodyAllowed() && endpoint.body() != null //
+				? BodyPublishers.ofString(endpoint.body()) //
+				: BodyPublishers.noBody();
+		final var builder = HttpRequest.newBuilder(URI.create(endpoint.url())) //
+				.method(endpoint.method().name(), body) //
+				.timeout(Duration.ofMillis(Math.max(1, endpoint.connectTimeout() + endpoint.readTimeout())));
+		endpoint.properties().forEach(builder::header);
+		if (cached != null) {
+			if (cached.eTag != null) {
+				builder.header("If-None-Match", cached.eTag);
+			}
+			if (cached.lastModified != null) {
+				builder.header("If-Modified-Since", cached.lastModified);
+			}
+		}
+		return builder.build();
+	}
+
+	private static boolean isIdempotent(Endpoint endpoint) {
+		return switch (endpoint.method()) {
+		case GET, HEAD -> true;
+		default -> false;
+		};
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		while (error instanceof CompletionException && error.getCause() != null) {
+			error = error.getCause();
 		}
+		return error;
 	}
 
 }
@@ -208,6 +208,16 @@ public interface BridgeHttp extends BridgeHttpCycle, BridgeHttpTime {
 		return mapFuture(this.request(endpoint), JsonUtils::parse);
 	}
 
+	/**
+	 * Gets a short summary of the request statistics of the subscribed
+	 * {@link Endpoint}s, to be included in the debug log of the using Component.
+	 * 
+	 * @return the summary; or null if not available
+	 */
+	public default String debugLog() {
+		return null;
+	}
+
 	private static <I, R> CompletableFuture<R> mapFuture(//
 			CompletableFuture<I> origin, //
 			ThrowingFunction<I, R, Exception> mapper //
@@ -1,7 +1,9 @@
 package io.openems.edge.bridge.http;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -15,25 +17,39 @@ public class DummyUrlFetcher implements UrlFetcher {
 	};
 
 	private final List<ThrowingFunction<Endpoint, String, OpenemsNamedException>> urlHandler = new LinkedList<>();
+	private final Map<String, EndpointStatistics> statistics = new HashMap<>();
 	private Runnable onTaskFinished = EMPTY_RUNNABLE;
 
 	@Override
 	public String fetchEndpoint(//
 			final Endpoint endpoint //
 	) throws OpenemsNamedException {
+		var success = false;
 		try {
 			for (var handler : this.urlHandler) {
 				final var result = handler.apply(endpoint);
 				if (result != null) {
+					success = true;
 					return result;
 				}
 			}
 			throw new OpenemsException("");
 		} finally {
+			synchronized (this.statistics) {
+				this.statistics.computeIfAbsent(EndpointStatistics.keyOf(endpoint), t -> new EndpointStatistics()) //
+						.onResponse(0, success, false);
+			}
 			this.onTaskFinished.run();
 		}
 	}
 
+	@Override
+	public Map<String, EndpointStatistics> getEndpointStatistics() {
+		synchronized (this.statistics) {
+			return Map.copyOf(this.statistics);
+		}
+	}
+
 	/**
 	 * Adds a static handler for a fetch request.
 	 * 
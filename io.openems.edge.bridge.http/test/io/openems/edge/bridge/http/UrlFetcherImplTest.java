@@ -0,0 +1,147 @@
+package io.openems.edge.bridge.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.http.api.BridgeHttp;
+import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
+import io.openems.edge.bridge.http.api.HttpMethod;
+
+public class UrlFetcherImplTest {
+
+	private HttpServer server;
+	private String baseUrl;
+
+	private final AtomicInteger etagRequests = new AtomicInteger();
+	private final AtomicInteger slowRequests = new AtomicInteger();
+	private final CountDownLatch releaseSlow = new CountDownLatch(1);
+
+	@Before
+	public void before() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.setExecutor(Executors.newCachedThreadPool());
+		this.server.createContext("/etag", exchange -> {
+			this.etagRequests.incrementAndGet();
+			if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				respond(exchange, 304, null);
+			} else {
+				exchange.getResponseHeaders().add("ETag", "\"v1\"");
+				respond(exchange, 200, "etag-body");
+			}
+		});
+		this.server.createContext("/slow", exchange -> {
+			this.slowRequests.incrementAndGet();
+			try {
+				this.releaseSlow.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "slow-body");
+		});
+		this.server.createContext("/error", exchange -> {
+			respond(exchange, 500, "failed");
+		});
+		this.server.start();
+		this.baseUrl = "http://127.0.0.1:" + this.server.getAddress().getPort();
+	}
+
+	@After
+	public void after() {
+		this.server.stop(0);
+	}
+
+	@Test
+	public void testNotModified() throws Exception {
+		var sut = new UrlFetcherImpl();
+		var endpoint = this.get("/etag");
+		assertEquals("etag-body", sut.fetchEndpoint(endpoint));
+		assertEquals("etag-body", sut.fetchEndpoint(endpoint));
+		assertEquals(2, this.etagRequests.get());
+
+		var statistics = sut.getEndpointStatistics().get("GET " + endpoint.url());
+		assertEquals(2, statistics.getRequests());
+		assertEquals(1, statistics.getNotModified());
+		assertEquals(0, statistics.getErrors());
+	}
+
+	@Test
+	public void testCoalescing() throws Exception {
+		var sut = new UrlFetcherImpl();
+		var endpoint = this.get("/slow");
+		var first = sut.fetchEndpointAsync(endpoint, Runnable::run);
+		var second = sut.fetchEndpointAsync(endpoint, Runnable::run);
+		this.releaseSlow.countDown();
+
+		assertEquals("slow-body", first.get(5, TimeUnit.SECONDS));
+		assertEquals("slow-body", second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, this.slowRequests.get());
+		assertEquals(1, sut.getEndpointStatistics().get("GET " + endpoint.url()).getCoalesced());
+
+		// Finished requests are not reused
+		assertEquals("slow-body", sut.fetchEndpoint(endpoint));
+		assertEquals(2, this.slowRequests.get());
+	}
+
+	@Test
+	public void testError() throws Exception {
+		var sut = new UrlFetcherImpl();
+		var endpoint = this.get("/error");
+		try {
+			sut.fetchEndpoint(endpoint);
+			fail();
+		} catch (OpenemsException e) {
+			assertTrue(e.getMessage().contains("Response code: 500"));
+		}
+		assertEquals(1, sut.getEndpointStatistics().get("GET " + endpoint.url()).getErrors());
+	}
+
+	@Test
+	public void testStatisticsAreBounded() throws Exception {
+		var sut = new UrlFetcherImpl();
+		for (var i = 0; i < UrlFetcherImpl.MAX_STATISTICS + 10; i++) {
+			sut.fetchEndpointAsync(this.get("/etag?" + i), Runnable::run).get(5, TimeUnit.SECONDS);
+		}
+		var statistics = sut.getEndpointStatistics();
+		assertEquals(UrlFetcherImpl.MAX_STATISTICS, statistics.size());
+		assertFalse(statistics.containsKey("GET " + this.baseUrl + "/etag?0"));
+		assertTrue(statistics.containsKey("GET " + this.baseUrl + "/etag?" + (UrlFetcherImpl.MAX_STATISTICS + 9)));
+	}
+
+	private Endpoint get(String path) {
+		return new Endpoint(this.baseUrl + path, HttpMethod.GET, BridgeHttp.DEFAULT_CONNECT_TIMEOUT,
+				BridgeHttp.DEFAULT_READ_TIMEOUT, null, emptyMap());
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+		} else {
+			var bytes = body.getBytes(UTF_8);
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (var os = exchange.getResponseBody()) {
+				os.write(bytes);
+			}
+		}
+		exchange.close();
+	}
+
+}
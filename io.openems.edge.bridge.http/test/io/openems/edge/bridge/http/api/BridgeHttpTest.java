@@ -19,6 +19,7 @@ import io.openems.edge.bridge.http.BridgeHttpImpl;
 import io.openems.edge.bridge.http.CycleSubscriber;
 import io.openems.edge.bridge.http.DummyUrlFetcher;
 import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
+import io.openems.edge.bridge.http.api.BridgeHttpCycle.CycleEndpoint;
 
 public class BridgeHttpTest {
 
@@ -115,6 +116,23 @@ public class BridgeHttpTest {
 		assertEquals(successJson(), response.get());
 	}
 
+	@Test
+	public void testDebugLog() throws Exception {
+		this.fetcher.addEndpointHandler(assertExact("dummy", HttpMethod.GET));
+		final var endpoint = new Endpoint("dummy", HttpMethod.GET, 12345, 1245, null, emptyMap());
+		this.bridgeHttp.subscribeCycle(new CycleEndpoint(1, endpoint, t -> {
+		}, BridgeHttp.EMPTY_ERROR_HANDLER));
+		assertNull(this.bridgeHttp.debugLog());
+
+		this.bridgeHttp.request(endpoint).get();
+		this.bridgeHttp.request(new Endpoint("failing", HttpMethod.GET, 12345, 1245, null, emptyMap()))
+				.exceptionally(t -> null).get();
+		this.bridgeHttp.request(endpoint).get();
+
+		// Only subscribed Endpoints are included
+		assertEquals("HTTP:2|Errors:0|MaxLatency:0ms", this.bridgeHttp.debugLog());
+	}
+
 	private static ThrowingFunction<Endpoint, String, OpenemsNamedException> assertExact(//
 			String url, //
 			HttpMethod method //
@@ -108,6 +108,7 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 		this.enableTermination = config.enableTermination();
 		this.delayBeforeTx = config.delayBeforeTx();
 		this.delayAfterTx = config.delayAfterTx();
+		this.worker.setReadTasksMaxGap(config.readTasksMergeGap());
 	}
 
 	@Override
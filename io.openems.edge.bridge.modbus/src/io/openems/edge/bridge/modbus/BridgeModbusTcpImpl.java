@@ -45,6 +45,8 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int maxRequestsInFlight;
+	private int connections;
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -72,6 +74,10 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.maxRequestsInFlight = Math.max(1, config.maxRequestsInFlight());
+		this.connections = Math.max(1, config.connections());
+		this.worker.setMaxConcurrentReads(this.maxRequestsInFlight * this.connections);
+		this.worker.setReadTasksMaxGap(config.readTasksMergeGap());
 	}
 
 	@Override
@@ -81,15 +87,36 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	@Override
-	public void closeModbusConnection() {
+	public synchronized void closeModbusConnection() {
 		if (this._connection != null) {
 			this._connection.close();
 			this._connection = null;
 		}
+		if (this._pipelinePool != null) {
+			this._pipelinePool.close();
+			this._pipelinePool = null;
+		}
+	}
+
+	@Override
+	public void onRequestFailed(Exception e) {
+		if (this.isPipelined()) {
+			// The ModbusTcpPipelinePool already dropped the affected connection; other
+			// requests that are in flight must not be aborted
+			return;
+		}
+		this.closeModbusConnection();
+	}
+
+	private boolean isPipelined() {
+		return this.maxRequestsInFlight > 1 || this.connections > 1;
 	}
 
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+		if (this.isPipelined()) {
+			return this.getPipelinePool().newTransaction();
+		}
 		var connection = this.getModbusConnection();
 		var transaction = new ModbusTCPTransaction(connection);
 		transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
@@ -119,6 +146,16 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return this._connection;
 	}
 
+	private ModbusTcpPipelinePool _pipelinePool = null;
+
+	private synchronized ModbusTcpPipelinePool getPipelinePool() {
+		if (this._pipelinePool == null) {
+			this._pipelinePool = new ModbusTcpPipelinePool(this.id(), this.getIpAddress(), this.port,
+					AbstractModbusBridge.DEFAULT_TIMEOUT, this.connections, this.maxRequestsInFlight);
+		}
+		return this._pipelinePool;
+	}
+
 	@Override
 	public InetAddress getIpAddress() {
 		return this.ipAddress;
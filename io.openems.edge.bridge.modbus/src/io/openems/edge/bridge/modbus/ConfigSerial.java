@@ -51,5 +51,8 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge Read-Tasks: max gap", description = "Reads neighbouring registers of a device with one request if they are at most this number of registers apart. Requires a device that allows reading the registers in the gaps; '0' disables merging.", min = "0")
+	int readTasksMergeGap() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
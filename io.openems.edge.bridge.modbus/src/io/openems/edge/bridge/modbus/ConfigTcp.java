@@ -33,5 +33,14 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Max requests in flight", description = "Number of requests that are sent per connection without waiting for the response. Requires a device that supports Modbus/TCP pipelining; '1' disables pipelining.")
+	int maxRequestsInFlight() default 1;
+
+	@AttributeDefinition(name = "Connections", description = "Number of parallel TCP connections to the device. Requires a device that accepts multiple connections.")
+	int connections() default 1;
+
+	@AttributeDefinition(name = "Merge Read-Tasks: max gap", description = "Reads neighbouring registers of a device with one request if they are at most this number of registers apart. Requires a device that allows reading the registers in the gaps; '0' disables merging.", min = "0")
+	int readTasksMergeGap() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package io.openems.edge.bridge.modbus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * A Modbus/TCP connection that keeps multiple requests in flight.
+ *
+ * <p>
+ * Modbus/TCP matches requests and responses via the Transaction-Identifier of
+ * the MBAP header. Requests are written to the socket as soon as a slot is
+ * available; a reader thread completes the waiting request by its
+ * Transaction-Identifier.
+ */
+public class ModbusTcpPipeline {
+
+	private static final int MBAP_HEADER_LENGTH = 7;
+	private static final int PROTOCOL_ID = 0;
+
+	private final Logger log = LoggerFactory.getLogger(ModbusTcpPipeline.class);
+
+	private final String name;
+	private final InetAddress ipAddress;
+	private final int port;
+	private final int timeout;
+	private final Semaphore slots;
+	private final int maxRequestsInFlight;
+	private final AtomicInteger nextTransactionId = new AtomicInteger();
+	private final ConcurrentHashMap<Integer, CompletableFuture<ModbusResponse>> pending = new ConcurrentHashMap<>();
+
+	private Socket socket = null;
+	private OutputStream output = null;
+
+	public ModbusTcpPipeline(String name, InetAddress ipAddress, int port, int timeout, int maxRequestsInFlight) {
+		this.name = name;
+		this.ipAddress = ipAddress;
+		this.port = port;
+		this.timeout = timeout;
+		this.maxRequestsInFlight = maxRequestsInFlight;
+		this.slots = new Semaphore(maxRequestsInFlight, true);
+	}
+
+	/**
+	 * Gets the number of requests that are currently in flight.
+	 *
+	 * @return the number of requests
+	 */
+	public int getRequestsInFlight() {
+		return this.maxRequestsInFlight - this.slots.availablePermits();
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for its {@link ModbusResponse}.
+	 *
+	 * @param request the {@link ModbusRequest}; Unit-ID must be set
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	public ModbusResponse execute(ModbusRequest request) throws ModbusException {
+		try {
+			if (!this.slots.tryAcquire(this.timeout, TimeUnit.MILLISECONDS)) {
+				throw new ModbusIOException("No free slot on Modbus/TCP pipeline [" + this.name + "]");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModbusIOException("Interrupted", e);
+		}
+
+		var transactionId = this.nextTransactionId.getAndIncrement() & 0xFFFF;
+		var future = new CompletableFuture<ModbusResponse>();
+		try {
+			this.pending.put(transactionId, future);
+			this.send(transactionId, request);
+			return future.get(this.timeout, TimeUnit.MILLISECONDS);
+
+		} catch (IOException e) {
+			this.close();
+			throw new ModbusIOException("Sending request failed: " + e.getMessage(), e);
+
+		} catch (TimeoutException e) {
+			throw new ModbusIOException("Timeout waiting for response [" + transactionId + "]");
+
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ModbusException me) {
+				throw me;
+			}
+			throw new ModbusIOException(e.getCause().getMessage(), e.getCause());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModbusIOException("Interrupted", e);
+
+		} finally {
+			this.pending.remove(transactionId);
+			this.slots.release();
+		}
+	}
+
+	private void send(int transactionId, ModbusRequest request) throws IOException {
+		var pdu = new ByteArrayOutputStream();
+		request.writeData(new DataOutputStream(pdu));
+
+		var frame = new ByteArrayOutputStream(MBAP_HEADER_LENGTH + 1 + pdu.size());
+		var out = new DataOutputStream(frame);
+		out.writeShort(transactionId);
+		out.writeShort(PROTOCOL_ID);
+		out.writeShort(pdu.size() + 2); // Unit-ID + Function-Code + Data
+		out.writeByte(request.getUnitID());
+		out.writeByte(request.getFunctionCode());
+		pdu.writeTo(out);
+
+		synchronized (this) {
+			var output = this.connect();
+			output.write(frame.toByteArray());
+			output.flush();
+		}
+	}
+
+	private OutputStream connect() throws IOException {
+		if (this.socket != null && !this.socket.isClosed()) {
+			return this.output;
+		}
+		var socket = new Socket();
+		socket.setTcpNoDelay(true);
+		socket.connect(new InetSocketAddress(this.ipAddress, this.port), this.timeout);
+		this.socket = socket;
+		this.output = socket.getOutputStream();
+
+		var input = socket.getInputStream();
+		var reader = new Thread(() -> this.readForever(socket, input), "Modbus/TCP Pipeline " + this.name);
+		reader.setDaemon(true);
+		reader.start();
+		return this.output;
+	}
+
+	private void readForever(Socket socket, InputStream stream) {
+		var input = new DataInputStream(stream);
+		try {
+			while (!socket.isClosed()) {
+				var transactionId = input.readUnsignedShort();
+				input.readUnsignedShort(); // Protocol-ID
+				var length = input.readUnsignedShort();
+				var unitId = input.readUnsignedByte();
+				var payload = new byte[length - 1];
+				input.readFully(payload);
+
+				var future = this.pending.get(transactionId);
+				if (future == null) {
+					// Response arrived after timeout
+					continue;
+				}
+				try {
+					future.complete(parseResponse(transactionId, unitId, payload));
+				} catch (ModbusException | IOException e) {
+					future.completeExceptionally(e);
+				}
+			}
+		} catch (IOException e) {
+			if (!socket.isClosed()) {
+				this.log.warn("Modbus/TCP Pipeline [" + this.name + "]: " + e.getMessage());
+			}
+		} finally {
+			this.close(socket);
+		}
+	}
+
+	/**
+	 * Parses the payload (Function-Code and Data) of a Modbus/TCP response.
+	 *
+	 * @param transactionId the Transaction-Identifier
+	 * @param unitId        the Unit-ID
+	 * @param payload       the payload
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on Modbus Exception response
+	 * @throws IOException     on parse error
+	 */
+	protected static ModbusResponse parseResponse(int transactionId, int unitId, byte[] payload)
+			throws ModbusException, IOException {
+		var input = new DataInputStream(new ByteArrayInputStream(payload));
+		var functionCode = input.readUnsignedByte();
+		if ((functionCode & 0x80) != 0) {
+			throw new ModbusSlaveException(input.readUnsignedByte());
+		}
+		var response = ModbusResponse.createModbusResponse(functionCode);
+		response.readData(input);
+		response.setTransactionID(transactionId);
+		response.setUnitID(unitId);
+		return response;
+	}
+
+	/**
+	 * Closes the socket and fails all pending requests.
+	 */
+	public synchronized void close() {
+		this.close(this.socket);
+	}
+
+	private synchronized void close(Socket socket) {
+		if (socket == null || socket != this.socket) {
+			return;
+		}
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		this.socket = null;
+		this.output = null;
+		var exception = new ModbusIOException("Modbus/TCP connection [" + this.name + "] closed");
+		this.pending.values().forEach(future -> future.completeExceptionally(exception));
+	}
+}
@@ -0,0 +1,76 @@
+package io.openems.edge.bridge.modbus;
+
+import java.net.InetAddress;
+import java.util.stream.IntStream;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+/**
+ * Holds one or more {@link ModbusTcpPipeline}s to the same Modbus/TCP device
+ * and distributes requests to the least busy connection.
+ */
+public class ModbusTcpPipelinePool {
+
+	private final ModbusTcpPipeline[] pipelines;
+
+	public ModbusTcpPipelinePool(String name, InetAddress ipAddress, int port, int timeout, int connections,
+			int maxRequestsInFlight) {
+		this.pipelines = IntStream.range(0, connections) //
+				.mapToObj(i -> new ModbusTcpPipeline(name + ":" + i, ipAddress, port, timeout, maxRequestsInFlight)) //
+				.toArray(ModbusTcpPipeline[]::new);
+	}
+
+	/**
+	 * Creates a new {@link ModbusTransaction} that is executed on the least busy
+	 * {@link ModbusTcpPipeline}. If the request fails without a Modbus exception
+	 * response, only this {@link ModbusTcpPipeline} is closed; it reconnects with
+	 * the next request.
+	 *
+	 * @return the {@link ModbusTransaction}
+	 */
+	public ModbusTransaction newTransaction() {
+		return new ModbusTransaction() {
+
+			@Override
+			public void execute() throws ModbusException {
+				var pipeline = ModbusTcpPipelinePool.this.getLeastBusy();
+				try {
+					this.response = pipeline.execute(this.request);
+
+				} catch (ModbusSlaveException e) {
+					// The device answered; the connection is fine
+					throw e;
+
+				} catch (ModbusException e) {
+					// Reconnect only the affected connection
+					pipeline.close();
+					throw e;
+				}
+			}
+		};
+	}
+
+	private ModbusTcpPipeline getLeastBusy() {
+		if (this.pipelines.length == 1) {
+			return this.pipelines[0];
+		}
+		var result = this.pipelines[0];
+		for (var pipeline : this.pipelines) {
+			if (pipeline.getRequestsInFlight() < result.getRequestsInFlight()) {
+				result = pipeline;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Closes all connections.
+	 */
+	public void close() {
+		for (var pipeline : this.pipelines) {
+			pipeline.close();
+		}
+	}
+}
@@ -161,6 +161,18 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	 */
 	public abstract void closeModbusConnection();
 
+	/**
+	 * Called when a request failed on its first try, before it is retried.
+	 *
+	 * <p>
+	 * Closes the Modbus connection by default, so that the retry uses a new one.
+	 *
+	 * @param e the error of the first try
+	 */
+	public void onRequestFailed(Exception e) {
+		this.closeModbusConnection();
+	}
+
 	/**
 	 * Gets the configured {@link LogVerbosity}.
 	 * 
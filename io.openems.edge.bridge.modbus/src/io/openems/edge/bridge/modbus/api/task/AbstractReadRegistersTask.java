@@ -34,4 +34,16 @@ public abstract class AbstractReadRegistersTask<//
 	protected final int calculateNextPosition(ModbusElement modbusElement, int position) {
 		return position + modbusElement.length;
 	}
+
+	/**
+	 * Creates a new Task with the same function code and {@link Priority}, e.g.
+	 * to read the registers of multiple Tasks with one request.
+	 *
+	 * @param onExecute    the onExecute callback
+	 * @param startAddress the start address
+	 * @param elements     the {@link ModbusElement}s
+	 * @return a new Task
+	 */
+	protected abstract AbstractReadRegistersTask<REQUEST, RESPONSE> newTask(Consumer<ExecuteState> onExecute,
+			int startAddress, ModbusElement... elements);
 }
\ No newline at end of file
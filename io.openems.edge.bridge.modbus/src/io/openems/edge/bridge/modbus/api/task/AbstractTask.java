@@ -40,6 +40,7 @@ public abstract non-sealed class AbstractTask<//
 	private final Logger log = LoggerFactory.getLogger(AbstractTask.class);
 
 	private AbstractOpenemsModbusComponent parent = null; // this is always set by ModbusProtocol.addTask()
+	private boolean retryOnModbusSlaveException = true;
 
 	public AbstractTask(String name, Consumer<ExecuteState> onExecute, Class<RESPONSE> responseClazz, int startAddress,
 			ModbusElement... elements) {
@@ -86,6 +87,16 @@ public abstract non-sealed class AbstractTask<//
 		return this.parent;
 	}
 
+	/**
+	 * Sets whether a request that was answered with a {@link ModbusSlaveException}
+	 * is tried again after the Bridge recovered the connection.
+	 *
+	 * @param retryOnModbusSlaveException false to fail immediately
+	 */
+	void setRetryOnModbusSlaveException(boolean retryOnModbusSlaveException) {
+		this.retryOnModbusSlaveException = retryOnModbusSlaveException;
+	}
+
 	/**
 	 * Executes the tasks - i.e. sends the query of a ReadTask or writes a
 	 * WriteTask.
@@ -100,8 +111,10 @@ public abstract non-sealed class AbstractTask<//
 	 * {@link ModbusResponse}.
 	 * 
 	 * <p>
-	 * If first request fails, the implementation reconnects the Modbus connection
-	 * and tries again.
+	 * If first request fails, the Bridge is notified via
+	 * {@link AbstractModbusBridge#onRequestFailed(Exception)} and the request is
+	 * tried again - unless the device answered with a {@link ModbusSlaveException}
+	 * and retries are disabled via {@link #setRetryOnModbusSlaveException(boolean)}.
 	 * 
 	 * <p>
 	 * Successful execution is produces a log message if {@link LogVerbosity} !=
@@ -121,8 +134,13 @@ public abstract non-sealed class AbstractTask<//
 					() -> sendRequest(bridge, unitId, this.responseClazz, request));
 
 		} catch (Exception e) {
-			// Second try; with new connection
-			bridge.closeModbusConnection();
+			if (e instanceof ModbusSlaveException && !this.retryOnModbusSlaveException) {
+				// Device answered; the connection is fine
+				throw e;
+			}
+
+			// Second try; after the Bridge recovered the connection
+			bridge.onRequestFailed(e);
 			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
 					() -> sendRequest(bridge, unitId, this.responseClazz, request));
 		}
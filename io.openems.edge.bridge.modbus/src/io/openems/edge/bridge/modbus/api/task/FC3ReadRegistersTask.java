@@ -39,6 +39,11 @@ public class FC3ReadRegistersTask
 		return response.getRegisters();
 	}
 
+	@Override
+	protected FC3ReadRegistersTask newTask(Consumer<ExecuteState> onExecute, int startAddress, ModbusElement... elements) {
+		return new FC3ReadRegistersTask(onExecute, startAddress, this.getPriority(), elements);
+	}
+
 	@Override
 	protected String payloadToString(ReadMultipleRegistersResponse response) {
 		return ModbusUtils.registersToHexString(response.getRegisters());
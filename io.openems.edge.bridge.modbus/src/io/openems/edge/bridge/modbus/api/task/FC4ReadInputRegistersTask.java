@@ -45,6 +45,11 @@ public class FC4ReadInputRegistersTask
 				.toArray(Register[]::new);
 	}
 
+	@Override
+	protected FC4ReadInputRegistersTask newTask(Consumer<ExecuteState> onExecute, int startAddress, ModbusElement... elements) {
+		return new FC4ReadInputRegistersTask(onExecute, startAddress, this.getPriority(), elements);
+	}
+
 	@Override
 	protected String payloadToString(ReadInputRegistersResponse response) {
 		return ModbusUtils.registersToHexString(response.getRegisters());
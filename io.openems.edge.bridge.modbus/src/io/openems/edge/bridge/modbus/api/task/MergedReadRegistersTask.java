@@ -0,0 +1,177 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the registers of multiple {@link AbstractReadRegistersTask}s of the
+ * same type with one request. Gaps between the Tasks are read as
+ * {@link DummyRegisterElement}s.
+ *
+ * <p>
+ * If the device answers with a Modbus Exception - e.g. because a gap contains
+ * registers that are not readable - the original Tasks are executed one after
+ * the other instead. The connection is not recovered in this case, as the
+ * device did answer.
+ */
+public class MergedReadRegistersTask implements ReadTask {
+
+	private final List<AbstractReadRegistersTask<?, ?>> tasks;
+	private final AbstractReadRegistersTask<?, ?> task;
+	private final ModbusElement[] elements;
+	private final int maxGap;
+	private final Consumer<MergedReadRegistersTask> onModbusException;
+
+	/**
+	 * Creates a {@link MergedReadRegistersTask}.
+	 *
+	 * @param tasks             the Tasks of the same type and {@link Priority},
+	 *                          sorted by start address and not overlapping
+	 * @param onModbusException callback if the merged request was answered with a
+	 *                          Modbus Exception
+	 */
+	public MergedReadRegistersTask(List<? extends AbstractReadRegistersTask<?, ?>> tasks,
+			Consumer<MergedReadRegistersTask> onModbusException) {
+		if (tasks.isEmpty()) {
+			throw new IllegalArgumentException("No Tasks to merge");
+		}
+		this.tasks = List.copyOf(tasks);
+		this.onModbusException = onModbusException;
+
+		final var first = this.tasks.get(0);
+		var elements = new ArrayList<ModbusElement>();
+		var nextStartAddress = first.startAddress;
+		var maxGap = 0;
+		for (var task : this.tasks) {
+			if (task.getClass() != first.getClass() || task.getPriority() != first.getPriority()) {
+				throw new IllegalArgumentException("Unable to merge [" + task.name + "] with [" + first.name + "]");
+			}
+			var gap = task.startAddress - nextStartAddress;
+			if (gap < 0) {
+				throw new IllegalArgumentException("Tasks are overlapping at [" + task.startAddress + "]");
+			}
+			if (gap > 0) {
+				elements.add(new DummyRegisterElement(nextStartAddress, task.startAddress - 1));
+			}
+			maxGap = Math.max(maxGap, gap);
+			elements.addAll(List.of(task.elements));
+			nextStartAddress = task.startAddress + task.length;
+		}
+		this.maxGap = maxGap;
+		this.elements = this.tasks.stream() //
+				.flatMap(t -> Stream.of(t.elements)) //
+				.toArray(ModbusElement[]::new);
+
+		this.task = first.newTask(state -> {
+			// Errors are forwarded in execute()
+			if (state instanceof ExecuteState.Ok) {
+				this.tasks.forEach(t -> t.onExecute.accept(state));
+			}
+		}, first.startAddress, elements.toArray(ModbusElement[]::new));
+		this.task.setParent(first.getParent());
+		this.task.setRetryOnModbusSlaveException(false);
+
+		// Elements keep a reference to their original Task
+		for (var task : this.tasks) {
+			for (var element : task.elements) {
+				element.setModbusTask(task);
+			}
+		}
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		var result = this.task.execute(bridge);
+		if (!(result instanceof ExecuteState.Error error)) {
+			return result;
+		}
+
+		if (!(error.exception() instanceof ModbusSlaveException)) {
+			this.tasks.forEach(t -> t.onExecute.accept(result));
+			return result;
+		}
+
+		// Device rejected the merged request -> fall back to the original Tasks
+		this.onModbusException.accept(this);
+		ExecuteState fallbackResult = ExecuteState.NO_OP;
+		for (var task : this.tasks) {
+			var taskResult = task.execute(bridge);
+			if (taskResult instanceof ExecuteState.Error || fallbackResult == ExecuteState.NO_OP) {
+				fallbackResult = taskResult;
+			}
+		}
+		return fallbackResult;
+	}
+
+	/**
+	 * Gets the merged Tasks.
+	 *
+	 * @return the Tasks
+	 */
+	public List<AbstractReadRegistersTask<?, ?>> getTasks() {
+		return this.tasks;
+	}
+
+	/**
+	 * Gets the largest number of registers between two merged Tasks.
+	 *
+	 * @return the largest gap
+	 */
+	public int getMaxGap() {
+		return this.maxGap;
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.task.getStartAddress();
+	}
+
+	@Override
+	public int getLength() {
+		return this.task.getLength();
+	}
+
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		this.task.setParent(parent);
+	}
+
+	@Override
+	public ModbusComponent getParent() {
+		return this.task.getParent();
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.task.getPriority();
+	}
+
+	@Override
+	public void deactivate() {
+		// Elements are deactivated via the original Tasks
+	}
+
+	@Override
+	public String toString() {
+		return "MergedReadRegistersTask [" + this.task.name //
+				+ ";ref=" + this.getStartAddress() //
+				+ ";length=" + this.getLength() //
+				+ ";tasks=" + this.tasks.size() + "]";
+	}
+}
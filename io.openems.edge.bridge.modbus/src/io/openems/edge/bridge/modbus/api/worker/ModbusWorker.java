@@ -1,15 +1,21 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
@@ -28,6 +34,11 @@ import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event). For this it uses a
  * {@link CycleTasksManager} that internally uses a {@link TasksSupplierImpl}
  * that supplies the tasks for one Cycle ({@link CycleTasks}).
+ *
+ * <p>
+ * If the Bridge supports concurrent requests (see
+ * {@link #setMaxConcurrentReads(int)}), consecutive Read-Tasks are executed in
+ * parallel. Before executing any other Task, all running Read-Tasks are awaited.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
@@ -39,6 +50,13 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	private volatile int maxConcurrentReads = 1;
+
+	// Only accessed by the worker thread
+	private ExecutorService readExecutor = null;
+	private Semaphore readSlots = null;
+	private int readSlotsSize = 0;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -66,15 +84,100 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
 
+	/**
+	 * Sets the maximum number of Read-Tasks that are executed concurrently.
+	 *
+	 * @param maxConcurrentReads the maximum number; '1' for sequential execution
+	 */
+	public void setMaxConcurrentReads(int maxConcurrentReads) {
+		this.maxConcurrentReads = Math.max(1, maxConcurrentReads);
+	}
+
+	/**
+	 * Sets the maximum number of unused registers between two merged Read-Tasks.
+	 *
+	 * @param maxGap the maximum gap; '0' disables merging
+	 */
+	public void setReadTasksMaxGap(int maxGap) {
+		this.tasksSupplier.setReadTasksMaxGap(maxGap);
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		var readExecutor = this.readExecutor;
+		if (readExecutor != null) {
+			readExecutor.shutdownNow();
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		if (task instanceof ReadTask && this.maxConcurrentReads > 1) {
+			this.executeConcurrently(task);
+			return;
+		}
+
+		// Writes and Waits are executed only after all running Reads finished
+		this.awaitConcurrentReads();
+
 		// execute the task
-		var result = this.execute.apply(task);
+		this.handleResult(task, this.execute.apply(task));
+	}
+
+	/**
+	 * Executes a Read-Task on the read executor; blocks while all read slots are
+	 * in use.
+	 *
+	 * @param task the {@link Task}
+	 * @throws InterruptedException on interrupt
+	 */
+	protected void executeConcurrently(Task task) throws InterruptedException {
+		var maxConcurrentReads = this.maxConcurrentReads;
+		if (this.readSlotsSize != maxConcurrentReads) {
+			this.awaitConcurrentReads();
+			if (this.readExecutor != null) {
+				this.readExecutor.shutdown();
+			}
+			this.readExecutor = Executors.newFixedThreadPool(maxConcurrentReads, new ThreadFactoryBuilder() //
+					.setNameFormat(Thread.currentThread().getName() + "-Read-%d") //
+					.setDaemon(true) //
+					.build());
+			this.readSlots = new Semaphore(maxConcurrentReads);
+			this.readSlotsSize = maxConcurrentReads;
+		}
+
+		final var readSlots = this.readSlots;
+		readSlots.acquire();
+		try {
+			this.readExecutor.execute(() -> {
+				try {
+					this.handleResult(task, this.execute.apply(task));
+				} finally {
+					readSlots.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			readSlots.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits until all running Read-Tasks are finished.
+	 *
+	 * @throws InterruptedException on interrupt
+	 */
+	protected void awaitConcurrentReads() throws InterruptedException {
+		if (this.readSlots != null) {
+			this.readSlots.acquire(this.readSlotsSize);
+			this.readSlots.release(this.readSlotsSize);
+		}
+	}
 
-		// NOTE: with Java 21 LTS this can be refactored to a pattern matching switch
-		// statement
+	private void handleResult(Task task, ExecuteState result) {
 		if (result instanceof ExecuteState.Ok) {
 			// no exception & at least one sub-task executed
 			this.markComponentAsDefective(task.getParent(), false);
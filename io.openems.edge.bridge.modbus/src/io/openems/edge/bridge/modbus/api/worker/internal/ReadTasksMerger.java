@@ -0,0 +1,184 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Plans the Read-Tasks of a Component: Register-Read-Tasks of the same type and
+ * {@link Priority} that are adjacent or separated only by a small gap are
+ * merged to one {@link MergedReadRegistersTask}.
+ *
+ * <p>
+ * Merging is disabled by default; see {@link #setMaxGap(int)}. The allowed gap
+ * is learned per Component: if a device answers a merged request with a Modbus
+ * Exception, the allowed gap for this Component is reduced below the largest
+ * gap of that request. If even adjacent Tasks cannot be read together, merging
+ * is disabled for the Component.
+ */
+public class ReadTasksMerger {
+
+	/** Maximum number of registers of one read request. */
+	public static final int MAX_LENGTH = 125;
+
+	/** Allowed gap if merging is disabled. */
+	private static final int DISABLED = -1;
+
+	private record Plan(List<Task> sourceTasks, List<Task> tasks) {
+	}
+
+	/**
+	 * Source-ID -> Planned Tasks.
+	 */
+	private final Map<String, Plan> plans = new HashMap<>();
+
+	/**
+	 * Source-ID -> learned maximum gap; negative if merging is disabled.
+	 */
+	private final Map<String, Integer> maxGaps = new HashMap<>();
+
+	/**
+	 * Initially allowed number of unused registers between two Tasks; negative if
+	 * merging is disabled.
+	 */
+	private int maxGap = DISABLED;
+
+	/**
+	 * Sets the initially allowed number of unused registers between two merged
+	 * Tasks. Resets all plans and learned gaps if the value changed.
+	 *
+	 * @param maxGap the maximum gap; '0' disables merging
+	 */
+	public synchronized void setMaxGap(int maxGap) {
+		var value = maxGap > 0 ? maxGap : DISABLED;
+		if (value == this.maxGap) {
+			return;
+		}
+		this.maxGap = value;
+		this.plans.clear();
+		this.maxGaps.clear();
+	}
+
+	/**
+	 * Gets the planned Tasks for a Component.
+	 *
+	 * @param sourceId Component-ID of the source
+	 * @param tasks    the Tasks of the ModbusProtocol
+	 * @return the planned Tasks
+	 */
+	public synchronized List<Task> getTasks(String sourceId, List<Task> tasks) {
+		var plan = this.plans.get(sourceId);
+		if (plan == null || !plan.sourceTasks.equals(tasks)) {
+			var sourceTasks = List.copyOf(tasks);
+			plan = new Plan(sourceTasks, this.plan(sourceId, sourceTasks));
+			this.plans.put(sourceId, plan);
+		}
+		return plan.tasks;
+	}
+
+	/**
+	 * Removes the plan and learned gaps of a Component.
+	 *
+	 * @param sourceId Component-ID of the source
+	 */
+	public synchronized void remove(String sourceId) {
+		this.plans.remove(sourceId);
+		this.maxGaps.remove(sourceId);
+	}
+
+	/**
+	 * Gets the currently allowed gap for a Component.
+	 *
+	 * @param sourceId Component-ID of the source
+	 * @return the allowed gap; negative if merging is disabled
+	 */
+	public synchronized int getMaxGap(String sourceId) {
+		return this.maxGaps.getOrDefault(sourceId, this.maxGap);
+	}
+
+	private synchronized void onModbusException(String sourceId, MergedReadRegistersTask task) {
+		var maxGap = Math.min(this.getMaxGap(sourceId), task.getMaxGap() - 1);
+		this.maxGaps.put(sourceId, maxGap);
+		this.plans.remove(sourceId); // re-plan on next Cycle
+	}
+
+	private List<Task> plan(String sourceId, List<Task> tasks) {
+		var maxGap = this.getMaxGap(sourceId);
+		if (maxGap < 0) {
+			return tasks;
+		}
+
+		// Group mergeable Tasks by type and Priority
+		var groups = new HashMap<List<Object>, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (task instanceof AbstractReadRegistersTask<?, ?> t) {
+				groups.computeIfAbsent(List.of(t.getClass(), t.getPriority()), ignore -> new ArrayList<>()) //
+						.add(t);
+			}
+		}
+
+		// Merge neighbouring Tasks
+		var replacements = new IdentityHashMap<Task, Task>();
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var merge = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			for (var task : group) {
+				if (!merge.isEmpty()) {
+					var first = merge.get(0);
+					var last = merge.get(merge.size() - 1);
+					var end = last.getStartAddress() + last.getLength();
+					var gap = task.getStartAddress() - end;
+					var length = task.getStartAddress() + task.getLength() - first.getStartAddress();
+					if (gap < 0 || gap > maxGap || length > MAX_LENGTH) {
+						this.addReplacement(sourceId, replacements, merge);
+						merge.clear();
+					}
+				}
+				merge.add(task);
+			}
+			this.addReplacement(sourceId, replacements, merge);
+		}
+
+		// Keep original order; a merged Task takes the place of its lowest Task
+		var result = new ArrayList<Task>(tasks.size());
+		for (var task : tasks) {
+			if (!replacements.containsKey(task)) {
+				result.add(task);
+				continue;
+			}
+			var replacement = replacements.get(task);
+			if (replacement != null) {
+				result.add(replacement);
+			}
+		}
+		return List.copyOf(result);
+	}
+
+	/**
+	 * Adds a {@link MergedReadRegistersTask} for the lowest Task; all further
+	 * Tasks are mapped to null.
+	 *
+	 * @param sourceId     Component-ID of the source
+	 * @param replacements the replacements map
+	 * @param merge        the Tasks to be merged
+	 */
+	private void addReplacement(String sourceId, Map<Task, Task> replacements,
+			List<AbstractReadRegistersTask<?, ?>> merge) {
+		if (merge.size() < 2) {
+			return;
+		}
+		var merged = new MergedReadRegistersTask(merge, task -> this.onModbusException(sourceId, task));
+		replacements.put(merge.get(0), merged);
+		for (var i = 1; i < merge.size(); i++) {
+			replacements.put(merge.get(i), null);
+		}
+	}
+}
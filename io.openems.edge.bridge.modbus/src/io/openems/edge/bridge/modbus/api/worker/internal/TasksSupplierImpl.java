@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus.api.worker.internal;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.stream.Collectors;
@@ -30,6 +31,11 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Merges neighbouring {@link ReadTask}s.
+	 */
+	private final ReadTasksMerger readTasksMerger = new ReadTasksMerger();
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -47,6 +53,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	public synchronized void removeProtocol(String sourceId) {
 		this.taskManagers.remove(sourceId);
+		this.readTasksMerger.remove(sourceId);
 	}
 
 	@Override
@@ -63,7 +70,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 		// All High Priority ReadTasks + all WriteTasks
 		this.taskManagers.forEach((id, taskManager) -> {
 			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
+			this.getTasks(id, taskManager).stream() //
 					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
 					.forEach(list::add);
 		});
@@ -112,7 +119,8 @@ public class TasksSupplierImpl implements TasksSupplier {
 			}
 			// refill the queue
 			this.taskManagers.forEach((id, taskManager) -> {
-				taskManager.getTasks(Priority.LOW).stream() //
+				this.getTasks(id, taskManager).stream() //
+						.filter(t -> t.getPriority() == Priority.LOW) //
 						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
 						.map(t -> new Tuple<String, ReadTask>(id, t)) //
 						.forEach(this.nextLowPriorityTasks::add);
@@ -121,10 +129,31 @@ public class TasksSupplierImpl implements TasksSupplier {
 		}
 	}
 
+	/**
+	 * Sets the maximum number of unused registers between two merged
+	 * {@link ReadTask}s.
+	 *
+	 * @param maxGap the maximum gap; '0' disables merging
+	 */
+	public void setReadTasksMaxGap(int maxGap) {
+		this.readTasksMerger.setMaxGap(maxGap);
+	}
+
+	/**
+	 * Gets the Tasks of a Component with neighbouring {@link ReadTask}s merged.
+	 *
+	 * @param sourceId    Component-ID of the source
+	 * @param taskManager the {@link TasksManager}
+	 * @return a list of {@link Task}s
+	 */
+	private List<Task> getTasks(String sourceId, TasksManager<Task> taskManager) {
+		return this.readTasksMerger.getTasks(sourceId, taskManager.getTasks());
+	}
+
 	@Override
 	public synchronized int getTotalNumberOfTasks() {
-		return this.taskManagers.values().stream() //
-				.mapToInt(m -> m.countTasks()) //
+		return this.taskManagers.entrySet().stream() //
+				.mapToInt(e -> this.getTasks(e.getKey(), e.getValue()).size()) //
 				.sum();
 	}
 }
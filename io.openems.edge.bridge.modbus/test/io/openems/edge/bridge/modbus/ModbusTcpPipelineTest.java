@@ -0,0 +1,189 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+
+public class ModbusTcpPipelineTest {
+
+	private static final int REQUESTS = 4;
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		try (var server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			// Collects all requests, then answers them in reverse order. Register 99
+			// results in an 'Illegal Data Address' exception response.
+			var serverThread = new Thread(() -> {
+				try (var socket = server.accept()) {
+					var in = new DataInputStream(socket.getInputStream());
+					var out = new DataOutputStream(socket.getOutputStream());
+					var requests = new ArrayList<int[]>();
+					for (var i = 0; i < REQUESTS; i++) {
+						var transactionId = in.readUnsignedShort();
+						in.readUnsignedShort(); // Protocol-ID
+						in.readUnsignedShort(); // Length
+						var unitId = in.readUnsignedByte();
+						in.readUnsignedByte(); // Function-Code
+						var reference = in.readUnsignedShort();
+						in.readUnsignedShort(); // Word-Count
+						requests.add(new int[] { transactionId, unitId, reference });
+					}
+					for (var i = requests.size() - 1; i >= 0; i--) {
+						var r = requests.get(i);
+						out.writeShort(r[0]);
+						out.writeShort(0);
+						if (r[2] == 99) {
+							out.writeShort(3);
+							out.writeByte(r[1]);
+							out.writeByte(0x83);
+							out.writeByte(2);
+						} else {
+							out.writeShort(5);
+							out.writeByte(r[1]);
+							out.writeByte(0x03);
+							out.writeByte(2);
+							out.writeShort(r[2] * 10);
+						}
+					}
+					out.flush();
+					in.read(); // wait for close
+				} catch (Exception e) {
+					// ignore
+				}
+			});
+			serverThread.start();
+
+			var sut = new ModbusTcpPipeline("test", InetAddress.getLoopbackAddress(), server.getLocalPort(), 5000,
+					REQUESTS);
+			var executor = Executors.newFixedThreadPool(REQUESTS);
+			try {
+				var futures = new ArrayList<Future<Object>>();
+				for (var reference : new int[] { 1, 2, 99, 3 }) {
+					futures.add(executor.submit(() -> {
+						var request = new ReadMultipleRegistersRequest(reference, 1);
+						request.setUnitID(1);
+						try {
+							return sut.execute(request);
+						} catch (ModbusSlaveException e) {
+							return e;
+						}
+					}));
+				}
+
+				assertEquals(10, ((ReadMultipleRegistersResponse) futures.get(0).get()).getRegisterValue(0));
+				assertEquals(20, ((ReadMultipleRegistersResponse) futures.get(1).get()).getRegisterValue(0));
+				assertEquals(2, ((ModbusSlaveException) futures.get(2).get()).getType());
+				assertEquals(30, ((ReadMultipleRegistersResponse) futures.get(3).get()).getRegisterValue(0));
+				assertEquals(0, sut.getRequestsInFlight());
+
+			} finally {
+				executor.shutdown();
+				assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+				sut.close();
+				serverThread.join(5000);
+			}
+		}
+	}
+
+	@Test
+	public void testPoolErrorOnlyClosesAffectedConnection() throws Exception {
+		try (var server = new ServerSocket(0, 2, InetAddress.getLoopbackAddress())) {
+			// Register 50 is answered after a delay; register 99 drops the connection
+			var serverThread = new Thread(() -> {
+				var connections = Executors.newCachedThreadPool();
+				try {
+					while (true) {
+						var socket = server.accept();
+						connections.execute(() -> {
+							try (socket) {
+								var in = new DataInputStream(socket.getInputStream());
+								var out = new DataOutputStream(socket.getOutputStream());
+								while (true) {
+									var transactionId = in.readUnsignedShort();
+									in.readUnsignedShort(); // Protocol-ID
+									in.readUnsignedShort(); // Length
+									var unitId = in.readUnsignedByte();
+									in.readUnsignedByte(); // Function-Code
+									var reference = in.readUnsignedShort();
+									in.readUnsignedShort(); // Word-Count
+									if (reference == 99) {
+										return;
+									}
+									if (reference == 50) {
+										Thread.sleep(500);
+									}
+									out.writeShort(transactionId);
+									out.writeShort(0);
+									out.writeShort(5);
+									out.writeByte(unitId);
+									out.writeByte(0x03);
+									out.writeByte(2);
+									out.writeShort(reference * 10);
+									out.flush();
+								}
+							} catch (Exception e) {
+								// connection closed
+							}
+						});
+					}
+				} catch (Exception e) {
+					// server closed
+				} finally {
+					connections.shutdownNow();
+				}
+			});
+			serverThread.start();
+
+			var sut = new ModbusTcpPipelinePool("test", InetAddress.getLoopbackAddress(), server.getLocalPort(), 2000,
+					2, 1);
+			var executor = Executors.newFixedThreadPool(2);
+			try {
+				var slow = executor.submit(() -> execute(sut, 50));
+				Thread.sleep(100); // 'slow' occupies the first connection
+				var failing = executor.submit(() -> execute(sut, 99));
+
+				assertTrue(failing.get(5, TimeUnit.SECONDS) instanceof ModbusIOException);
+				// The error on the second connection does not abort the first one
+				assertEquals(500, ((ReadMultipleRegistersResponse) slow.get(5, TimeUnit.SECONDS)).getRegisterValue(0));
+				// The closed connection is reopened
+				assertEquals(10, ((ReadMultipleRegistersResponse) execute(sut, 1)).getRegisterValue(0));
+
+			} finally {
+				executor.shutdown();
+				assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+				sut.close();
+				server.close();
+				serverThread.join(5000);
+			}
+		}
+	}
+
+	private static Object execute(ModbusTcpPipelinePool pool, int reference) {
+		var request = new ReadMultipleRegistersRequest(reference, 1);
+		request.setUnitID(1);
+		var transaction = pool.newTransaction();
+		transaction.setRequest(request);
+		try {
+			transaction.execute();
+			return transaction.getResponse();
+		} catch (ModbusException e) {
+			return e;
+		}
+	}
+}
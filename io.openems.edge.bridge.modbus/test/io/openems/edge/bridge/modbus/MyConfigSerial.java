@@ -20,6 +20,7 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readTasksMergeGap = 0;
 
 		private Builder() {
 		}
@@ -79,6 +80,11 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setReadTasksMergeGap(int readTasksMergeGap) {
+			this.readTasksMergeGap = readTasksMergeGap;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -150,4 +156,9 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readTasksMergeGap() {
+		return this.builder.readTasksMergeGap;
+	}
+
 }
\ No newline at end of file
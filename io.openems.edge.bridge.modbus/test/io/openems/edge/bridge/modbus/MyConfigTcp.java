@@ -12,6 +12,9 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int maxRequestsInFlight = 1;
+		private int connections = 1;
+		private int readTasksMergeGap = 0;
 
 		private Builder() {
 		}
@@ -41,6 +44,21 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setMaxRequestsInFlight(int maxRequestsInFlight) {
+			this.maxRequestsInFlight = maxRequestsInFlight;
+			return this;
+		}
+
+		public Builder setConnections(int connections) {
+			this.connections = connections;
+			return this;
+		}
+
+		public Builder setReadTasksMergeGap(int readTasksMergeGap) {
+			this.readTasksMergeGap = readTasksMergeGap;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +100,19 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int maxRequestsInFlight() {
+		return this.builder.maxRequestsInFlight;
+	}
+
+	@Override
+	public int connections() {
+		return this.builder.connections;
+	}
+
+	@Override
+	public int readTasksMergeGap() {
+		return this.builder.readTasksMergeGap;
+	}
+
 }
\ No newline at end of file
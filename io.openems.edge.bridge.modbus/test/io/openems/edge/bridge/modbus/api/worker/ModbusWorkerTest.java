@@ -0,0 +1,73 @@
+package io.openems.edge.bridge.modbus.api.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusWorkerTest {
+
+	@Test
+	public void testConcurrentReadsWithError() throws Exception {
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		var executed = Collections.synchronizedList(new ArrayList<Task>());
+		var invalidated = Collections.synchronizedList(new ArrayList<ModbusElement[]>());
+
+		var sut = new ModbusWorker(task -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				var result = ((AbstractDummyTask) task).execute(null);
+				executed.add(task);
+				return result;
+			} finally {
+				running.decrementAndGet();
+			}
+		}, invalidated::add, t -> {
+		}, t -> {
+		}, new AtomicReference<>(LogVerbosity.NONE));
+		sut.setMaxConcurrentReads(4);
+
+		var tasks = new ArrayList<DummyReadTask>();
+		for (var i = 0; i < 4; i++) {
+			tasks.add(new DummyReadTask("RT" + i, 100, Priority.HIGH));
+		}
+		var defective = tasks.get(1);
+		defective.setDefective(new OpenemsException("Timeout"), 20);
+
+		try {
+			for (var task : tasks) {
+				sut.executeConcurrently(task);
+			}
+			sut.awaitConcurrentReads();
+
+			// The error of one Read-Task does not abort the others
+			assertEquals(4, executed.size());
+			assertEquals(1, invalidated.size());
+			assertTrue(maxRunning.get() > 1);
+			assertEquals(0, executed.indexOf(defective)); // failed fast
+
+			// Worker is usable after the error
+			var next = new DummyReadTask("RT4", 0, Priority.HIGH);
+			sut.executeConcurrently(next);
+			sut.awaitConcurrentReads();
+			assertTrue(executed.contains(next));
+			assertEquals(1, invalidated.size());
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksMergerTest {
+
+	@Test
+	public void test() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		var fc3a = new FC3ReadRegistersTask(20, Priority.HIGH, //
+				new UnsignedDoublewordElement(20), //
+				new UnsignedDoublewordElement(22));
+		var fc3b = new FC3ReadRegistersTask(30, Priority.HIGH, //
+				new UnsignedDoublewordElement(30));
+		var fc3Far = new FC3ReadRegistersTask(200, Priority.HIGH, //
+				new UnsignedWordElement(200));
+		var fc3Low = new FC3ReadRegistersTask(32, Priority.LOW, //
+				new UnsignedWordElement(32));
+		var fc4 = new FC4ReadInputRegistersTask(24, Priority.HIGH, //
+				new UnsignedWordElement(24));
+		protocol.addTasks(fc3a, fc4, fc3b, fc3Far, fc3Low);
+
+		var sut = new ReadTasksMerger();
+		var tasks = sut.getTasks(component.id(), protocol.getTaskManager().getTasks());
+		assertEquals("Merging is disabled by default", 5, tasks.size());
+
+		sut.setMaxGap(16);
+		tasks = sut.getTasks(component.id(), protocol.getTaskManager().getTasks());
+		assertEquals(4, tasks.size());
+		var merged = (MergedReadRegistersTask) tasks.get(0);
+		assertEquals(20, merged.getStartAddress());
+		assertEquals(12, merged.getLength());
+		assertEquals(6, merged.getMaxGap());
+		assertEquals(3, merged.getElements().length);
+		assertEquals(fc4, tasks.get(1));
+		assertEquals(fc3Far, tasks.get(2));
+		assertEquals(fc3Low, tasks.get(3));
+
+		// Elements keep their original Task
+		assertEquals(fc3b, fc3b.getElements()[0].getModbusTask());
+
+		// Plan is cached
+		assertTrue(tasks == sut.getTasks(component.id(), protocol.getTaskManager().getTasks()));
+
+		// Device rejects the gap -> fall back and learn
+		var closed = new AtomicInteger();
+		var bridge = new DummyModbusBridge("modbus0") {
+
+			@Override
+			public ModbusTransaction getNewModbusTransaction() {
+				return new ModbusTransaction() {
+
+					@Override
+					public void execute() throws ModbusException {
+						var wordCount = ((ReadMultipleRegistersRequest) this.request).getWordCount();
+						if (wordCount > 4) {
+							throw new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION);
+						}
+						var registers = new Register[wordCount];
+						for (var i = 0; i < wordCount; i++) {
+							registers[i] = new SimpleRegister(i);
+						}
+						this.response = new ReadMultipleRegistersResponse(registers);
+					}
+				};
+			}
+
+			@Override
+			public void closeModbusConnection() {
+				closed.incrementAndGet();
+			}
+		};
+		assertEquals(ExecuteState.OK, merged.execute(bridge));
+		assertEquals("Connection is kept after Modbus Exception", 0, closed.get());
+		assertEquals(5, sut.getMaxGap(component.id()));
+
+		tasks = sut.getTasks(component.id(), protocol.getTaskManager().getTasks());
+		assertEquals(5, tasks.size());
+		assertEquals(fc3a, tasks.get(0));
+	}
+
+	@Test
+	public void testMaxLength() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		var a = new FC3ReadRegistersTask(0, Priority.HIGH, //
+				new DummyRegisterElement(0, 99), //
+				new UnsignedWordElement(100));
+		var b = new FC3ReadRegistersTask(101, Priority.HIGH, //
+				new DummyRegisterElement(101, 129), //
+				new UnsignedWordElement(130));
+		var c = new FC3ReadRegistersTask(135, Priority.HIGH, new UnsignedDoublewordElement(135));
+		protocol.addTasks(a, b, c);
+
+		var sut = new ReadTasksMerger();
+		sut.setMaxGap(16);
+		var tasks = sut.getTasks(component.id(), protocol.getTaskManager().getTasks());
+		assertEquals(2, tasks.size());
+		assertEquals(a, tasks.get(0));
+		assertEquals(101, tasks.get(1).getStartAddress());
+		assertEquals(36, tasks.get(1).getLength());
+	}
+}
@@ -12,6 +12,9 @@ import org.junit.Test;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
 import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
 import io.openems.edge.bridge.modbus.api.worker.DummyWriteTask;
 import io.openems.edge.common.taskmanager.Priority;
@@ -103,4 +106,26 @@ public class TasksSupplierImplTest {
 		assertTrue(tasks.writes().contains(WT_1));
 	}
 
+	@Test
+	public void testMergedReadTasks() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl();
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(//
+				new FC3ReadRegistersTask(10, Priority.HIGH, new UnsignedWordElement(10)), //
+				new FC3ReadRegistersTask(12, Priority.HIGH, new UnsignedWordElement(12)), //
+				WT_1);
+		sut.addProtocol(component.id(), protocol);
+		assertEquals(3, sut.getTotalNumberOfTasks());
+
+		sut.setReadTasksMaxGap(1);
+		assertEquals(2, sut.getTotalNumberOfTasks());
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(1, tasks.reads().size());
+		assertTrue(tasks.reads().get(0) instanceof MergedReadRegistersTask);
+	}
+
 }
@@ -0,0 +1,98 @@
+package io.openems.edge.common.channel;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.openems.edge.common.cycle.Cycle;
+
+/**
+ * Tracks the {@link Channel}s whose value changed in
+ * {@link Channel#nextProcessImage()}. Provided by
+ * {@link Cycle#getChangedChannels()}.
+ *
+ * <p>
+ * Instead of comparing the values of all Channels every Cycle, a consumer
+ * {@link #subscribe()}s once and then {@link Subscription#drain()}s the Channels
+ * that changed since the last call. Without subscriptions tracking costs only
+ * an iteration over an empty list.
+ */
+public final class ChangedChannels {
+
+	/** Initial capacity of a {@link Subscription}; it grows as required. */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+	/**
+	 * A set of changed {@link Channel}s of one consumer.
+	 *
+	 * <p>
+	 * Two identity-based sets are used alternately, so that marking a
+	 * {@link Channel} as changed does not allocate.
+	 */
+	public final class Subscription implements AutoCloseable {
+
+		private Set<Channel<?>> channels = newSet();
+		private Set<Channel<?>> drained = newSet();
+
+		private Subscription() {
+		}
+
+		private synchronized void add(Channel<?> channel) {
+			this.channels.add(channel);
+		}
+
+		/**
+		 * Gets the {@link Channel}s that changed since the last call and starts a new
+		 * set. The returned set is only valid until the next call.
+		 *
+		 * @return the changed {@link Channel}s
+		 */
+		public synchronized Set<Channel<?>> drain() {
+			var result = this.channels;
+			this.channels = this.drained;
+			this.channels.clear();
+			this.drained = result;
+			return result;
+		}
+
+		/**
+		 * Stops tracking for this {@link Subscription}.
+		 */
+		@Override
+		public void close() {
+			ChangedChannels.this.subscriptions.remove(this);
+		}
+	}
+
+	/**
+	 * Starts tracking changed {@link Channel}s. The {@link Subscription} must be
+	 * closed when it is not used anymore.
+	 *
+	 * @return the {@link Subscription}
+	 */
+	public Subscription subscribe() {
+		var subscription = new Subscription();
+		this.subscriptions.add(subscription);
+		return subscription;
+	}
+
+	/**
+	 * Marks a {@link Channel} as changed. Internal method. Called by the
+	 * {@link Cycle} if {@link Channel#nextProcessImage()} returned true.
+	 *
+	 * @param channel the {@link Channel}
+	 */
+	public void markChanged(Channel<?> channel) {
+		for (var subscription : this.subscriptions) {
+			subscription.add(channel);
+		}
+	}
+
+	private static Set<Channel<?>> newSet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>(INITIAL_CAPACITY));
+	}
+}
@@ -3,7 +3,7 @@ package io.openems.edge.common.channel;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -88,8 +88,10 @@ public interface Channel<T> {
 	/**
 	 * Switches to the next process image, i.e. copies the "next"-value into
 	 * "current"-value.
+	 *
+	 * @return true if the value changed
 	 */
-	public void nextProcessImage();
+	public boolean nextProcessImage();
 
 	/**
 	 * Gets the type of this Channel, e.g. INTEGER, BOOLEAN,..
@@ -169,10 +171,13 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
+	 * <p>
+	 * The returned map is a read-only view that is backed by the Channel.
+	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
-	public TreeMap<LocalDateTime, Value<T>> getPastValues();
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues();
 
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
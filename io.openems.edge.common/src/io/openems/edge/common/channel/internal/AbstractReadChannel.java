@@ -2,8 +2,8 @@ package io.openems.edge.common.channel.internal;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -34,7 +34,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues;
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -51,6 +51,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = PastValues.of(this, type);
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -108,9 +109,10 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	}
 
 	@Override
-	public void nextProcessImage() {
+	public boolean nextProcessImage() {
 		var oldValue = this.activeValue;
 		var newValue = this.nextValue;
+		var changed = false;
 		try {
 
 			// Copy 'next' value to 'active' value
@@ -121,6 +123,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 			// If value has changed -> call 'onChange' callbacks
 			if (!Objects.equals(oldValue.get(), newValue.get())) {
+				changed = true;
 				this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, newValue));
 			}
 
@@ -133,19 +136,17 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 					+ e.getMessage());
 			e.printStackTrace();
 		}
+		return changed;
 	}
 
 	/**
-	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 * Appends a value to `pastValues`. Entries that are elder than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES} are deleted by {@link PastValues}.
 	 * 
 	 * @param value a new {@link Value}
 	 */
 	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+		this.pastValues.add(value);
 	}
 
 	@Override
@@ -304,8 +305,8 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 * @return a map of recording time and historic value at that time
 	 */
 	@Override
-	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.asMap();
 	}
 
 	/**
@@ -0,0 +1,847 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.DoubleFunction;
+import java.util.function.IntFunction;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the past values of a {@link Channel}.
+ *
+ * <p>
+ * Values are stored in a ring buffer of primitive arrays together with their
+ * timestamp in milliseconds. Values that are older than
+ * {@link Channel#MAX_AGE_OF_PAST_VALUES} compared to the latest value are
+ * dropped; the ring buffer grows as required to hold all values of that period,
+ * i.e. its size follows from the Cycle-Time. Once warmed up, adding a value
+ * does not allocate any objects.
+ *
+ * <p>
+ * {@link #asMap()} provides a live, read-only {@link NavigableMap} view on the
+ * stored values. {@link Value} objects are only created on read access.
+ *
+ * <p>
+ * Timestamps are stored as milliseconds of the {@link LocalDateTime} at
+ * {@link ZoneOffset#UTC}, i.e. sub-millisecond precision is cut off. A value
+ * with the same timestamp as the latest value replaces it. If a value is added
+ * with an earlier timestamp, i.e. the clock was set back, all stored values are
+ * cleared.
+ *
+ * @param <T> the type of the Channel
+ */
+public abstract class PastValues<T> {
+
+	/**
+	 * The initial number of slots of the ring buffer.
+	 */
+	protected static final int INITIAL_CAPACITY = 32;
+
+	private static final long MAX_AGE_MILLIS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toMillis();
+
+	/**
+	 * Creates a {@link PastValues} store that matches the given
+	 * {@link OpenemsType}.
+	 *
+	 * @param <T>     the type of the Channel
+	 * @param channel the {@link Channel}
+	 * @param type    the {@link OpenemsType} of the Channel
+	 * @return a new {@link PastValues} store
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PastValues<T> of(Channel<T> channel, OpenemsType type) {
+		if (type == null) {
+			return new OfObject<>(channel);
+		}
+		return (PastValues<T>) switch (type) {
+		case BOOLEAN -> new OfBoolean((Channel<Boolean>) channel);
+		case SHORT -> new OfInteger<>((Channel<Short>) channel, i -> (short) i);
+		case INTEGER -> new OfInteger<>((Channel<Integer>) channel, i -> i);
+		case LONG -> new OfLong((Channel<Long>) channel);
+		case FLOAT -> new OfDouble<>((Channel<Float>) channel, d -> (float) d);
+		case DOUBLE -> new OfDouble<>((Channel<Double>) channel, d -> d);
+		case STRING -> new OfObject<>(channel);
+		};
+	}
+
+	private final Channel<T> channel;
+	private final NavigableMap<LocalDateTime, Value<T>> view;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private boolean[] defined = new boolean[INITIAL_CAPACITY];
+	private int head = 0;
+	private int size = 0;
+
+	protected PastValues(Channel<T> channel) {
+		this.channel = channel;
+		this.view = new View<>(this, Long.MIN_VALUE, Long.MAX_VALUE, false);
+	}
+
+	/**
+	 * Adds a {@link Value} and drops values that are older than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES} compared to the new value.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public final synchronized void add(Value<T> value) {
+		final var timestamp = toMillis(value.getTimestamp());
+
+		// Keep timestamps strictly ascending
+		if (this.size > 0) {
+			final var latest = this.timestamps[this.slot(this.size - 1)];
+			if (latest > timestamp) {
+				// Clock was set back
+				this.clear();
+			} else if (latest == timestamp) {
+				this.removeLast();
+			}
+		}
+
+		// Drop values that are too old
+		final var minTimestamp = timestamp - MAX_AGE_MILLIS;
+		while (this.size > 0 && this.timestamps[this.head] < minTimestamp) {
+			this.removeFirst();
+		}
+
+		if (this.size == this.timestamps.length) {
+			this.resize(this.size * 2);
+		}
+
+		final var slot = this.slot(this.size);
+		final var v = value.get();
+		this.timestamps[slot] = timestamp;
+		this.defined[slot] = v != null;
+		if (v != null) {
+			this.store(slot, v);
+		}
+		this.size++;
+	}
+
+	/**
+	 * Gets a live, read-only {@link NavigableMap} view on the past values.
+	 *
+	 * @return the {@link NavigableMap}
+	 */
+	public NavigableMap<LocalDateTime, Value<T>> asMap() {
+		return this.view;
+	}
+
+	/**
+	 * Stores a non-null value in the given slot.
+	 *
+	 * @param slot  the slot index
+	 * @param value the value; never null
+	 */
+	protected abstract void store(int slot, T value);
+
+	/**
+	 * Loads the value from the given slot.
+	 *
+	 * @param slot the slot index
+	 * @return the value
+	 */
+	protected abstract T load(int slot);
+
+	/**
+	 * Releases the value in the given slot. Only required for object references.
+	 *
+	 * @param slot the slot index
+	 */
+	protected void release(int slot) {
+	}
+
+	/**
+	 * Replaces the value array with a new array of the given capacity, keeping
+	 * the values in order starting at index zero.
+	 *
+	 * <p>
+	 * Implementations should use {@link #relayout(Object, Object)}.
+	 *
+	 * @param capacity the new capacity
+	 */
+	protected abstract void resizeValues(int capacity);
+
+	/**
+	 * Copies the ring buffer content from source to target array, starting at
+	 * index zero of the target.
+	 *
+	 * @param <A>    the array type
+	 * @param source the source array
+	 * @param target the target array
+	 * @return the target array
+	 */
+	protected final <A> A relayout(A source, A target) {
+		final var capacity = this.timestamps.length;
+		final var firstPart = Math.min(this.size, capacity - this.head);
+		System.arraycopy(source, this.head, target, 0, firstPart);
+		System.arraycopy(source, 0, target, firstPart, this.size - firstPart);
+		return target;
+	}
+
+	private void resize(int capacity) {
+		this.resizeValues(capacity);
+		this.defined = this.relayout(this.defined, new boolean[capacity]);
+		this.timestamps = this.relayout(this.timestamps, new long[capacity]);
+		this.head = 0;
+	}
+
+	private void clear() {
+		while (this.size > 0) {
+			this.removeLast();
+		}
+		this.head = 0;
+	}
+
+	private void removeFirst() {
+		this.release(this.head);
+		this.head = this.slot(1);
+		this.size--;
+	}
+
+	private void removeLast() {
+		this.release(this.slot(this.size - 1));
+		this.size--;
+	}
+
+	private int slot(int index) {
+		return (this.head + index) & (this.timestamps.length - 1);
+	}
+
+	/**
+	 * Finds the index of the first value with a timestamp greater than or equal
+	 * to the given timestamp.
+	 *
+	 * @param timestamp the timestamp in milliseconds
+	 * @return the index; {@link #size} if there is no such value
+	 */
+	private int indexAtOrAfter(long timestamp) {
+		var low = 0;
+		var high = this.size;
+		while (low < high) {
+			var mid = (low + high) >>> 1;
+			if (this.timestamps[this.slot(mid)] < timestamp) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private synchronized PastValue<T> firstAtOrAfter(long timestamp) {
+		return this.entry(this.indexAtOrAfter(timestamp));
+	}
+
+	private synchronized PastValue<T> lastAtOrBefore(long timestamp) {
+		if (timestamp == Long.MAX_VALUE) {
+			return this.entry(this.size - 1);
+		}
+		return this.entry(this.indexAtOrAfter(timestamp + 1) - 1);
+	}
+
+	private synchronized int count(long from, long to) {
+		if (from > to) {
+			return 0;
+		}
+		var end = to == Long.MAX_VALUE ? this.size : this.indexAtOrAfter(to + 1);
+		return end - this.indexAtOrAfter(from);
+	}
+
+	private PastValue<T> entry(int index) {
+		if (index < 0 || index >= this.size) {
+			return null;
+		}
+		final var slot = this.slot(index);
+		final var timestamp = this.timestamps[slot];
+		final var value = this.defined[slot] ? this.load(slot) : null;
+		final var key = toLocalDateTime(timestamp);
+		return new PastValue<>(timestamp, key, new Value<>(this.channel, value, key));
+	}
+
+	private static long toMillis(LocalDateTime dateTime) {
+		return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
+	private static LocalDateTime toLocalDateTime(long millis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+	}
+
+	/**
+	 * Converts a lower bound to an inclusive millisecond bound.
+	 *
+	 * @param key       the key
+	 * @param inclusive whether the key itself is included
+	 * @return the inclusive lower bound in milliseconds
+	 */
+	private static long lowerBound(LocalDateTime key, boolean inclusive) {
+		final var millis = toMillis(key);
+		final var exact = key.getNano() % 1_000_000 == 0;
+		return exact && inclusive ? millis : millis + 1;
+	}
+
+	/**
+	 * Converts an upper bound to an inclusive millisecond bound.
+	 *
+	 * @param key       the key
+	 * @param inclusive whether the key itself is included
+	 * @return the inclusive upper bound in milliseconds
+	 */
+	private static long upperBound(LocalDateTime key, boolean inclusive) {
+		final var millis = toMillis(key);
+		final var exact = key.getNano() % 1_000_000 == 0;
+		return !exact || inclusive ? millis : millis - 1;
+	}
+
+	private static final class PastValue<T> extends AbstractMap.SimpleImmutableEntry<LocalDateTime, Value<T>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long timestamp;
+
+		private PastValue(long timestamp, LocalDateTime key, Value<T> value) {
+			super(key, value);
+			this.timestamp = timestamp;
+		}
+	}
+
+	/**
+	 * A read-only {@link NavigableMap} view on a range of {@link PastValues}.
+	 * Bounds are inclusive milliseconds.
+	 */
+	private static final class View<T> extends AbstractMap<LocalDateTime, Value<T>>
+			implements NavigableMap<LocalDateTime, Value<T>> {
+
+		private final PastValues<T> store;
+		private final long from;
+		private final long to;
+		private final boolean descending;
+
+		private View(PastValues<T> store, long from, long to, boolean descending) {
+			this.store = store;
+			this.from = from;
+			this.to = to;
+			this.descending = descending;
+		}
+
+		private PastValue<T> lowest() {
+			return this.atOrAfter(this.from);
+		}
+
+		private PastValue<T> highest() {
+			return this.atOrBefore(this.to);
+		}
+
+		private PastValue<T> atOrAfter(long timestamp) {
+			var entry = this.store.firstAtOrAfter(Math.max(this.from, timestamp));
+			return entry != null && entry.timestamp <= this.to ? entry : null;
+		}
+
+		private PastValue<T> atOrBefore(long timestamp) {
+			var entry = this.store.lastAtOrBefore(Math.min(this.to, timestamp));
+			return entry != null && entry.timestamp >= this.from ? entry : null;
+		}
+
+		private PastValue<T> ceiling(LocalDateTime key, boolean inclusive) {
+			return this.descending //
+					? this.atOrBefore(upperBound(key, inclusive)) //
+					: this.atOrAfter(lowerBound(key, inclusive));
+		}
+
+		private PastValue<T> floor(LocalDateTime key, boolean inclusive) {
+			return this.descending //
+					? this.atOrAfter(lowerBound(key, inclusive)) //
+					: this.atOrBefore(upperBound(key, inclusive));
+		}
+
+		private PastValue<T> next(PastValue<T> entry) {
+			return this.descending //
+					? this.atOrBefore(entry.timestamp - 1) //
+					: this.atOrAfter(entry.timestamp + 1);
+		}
+
+		private View<T> range(long from, long to, boolean descending) {
+			return new View<>(this.store, Math.max(this.from, from), Math.min(this.to, to), descending);
+		}
+
+		private static <K> K keyOrNull(Map.Entry<K, ?> entry) {
+			return entry == null ? null : entry.getKey();
+		}
+
+		private static <K> K keyOrThrow(Map.Entry<K, ?> entry) {
+			if (entry == null) {
+				throw new NoSuchElementException();
+			}
+			return entry.getKey();
+		}
+
+		@Override
+		public Comparator<? super LocalDateTime> comparator() {
+			return this.descending ? Collections.reverseOrder() : null;
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> firstEntry() {
+			return this.descending ? this.highest() : this.lowest();
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> lastEntry() {
+			return this.descending ? this.lowest() : this.highest();
+		}
+
+		@Override
+		public LocalDateTime firstKey() {
+			return keyOrThrow(this.firstEntry());
+		}
+
+		@Override
+		public LocalDateTime lastKey() {
+			return keyOrThrow(this.lastEntry());
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> lowerEntry(LocalDateTime key) {
+			return this.floor(key, false);
+		}
+
+		@Override
+		public LocalDateTime lowerKey(LocalDateTime key) {
+			return keyOrNull(this.lowerEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> floorEntry(LocalDateTime key) {
+			return this.floor(key, true);
+		}
+
+		@Override
+		public LocalDateTime floorKey(LocalDateTime key) {
+			return keyOrNull(this.floorEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> ceilingEntry(LocalDateTime key) {
+			return this.ceiling(key, true);
+		}
+
+		@Override
+		public LocalDateTime ceilingKey(LocalDateTime key) {
+			return keyOrNull(this.ceilingEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> higherEntry(LocalDateTime key) {
+			return this.ceiling(key, false);
+		}
+
+		@Override
+		public LocalDateTime higherKey(LocalDateTime key) {
+			return keyOrNull(this.higherEntry(key));
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> pollFirstEntry() {
+			throw new UnsupportedOperationException("PastValues are read-only");
+		}
+
+		@Override
+		public Map.Entry<LocalDateTime, Value<T>> pollLastEntry() {
+			throw new UnsupportedOperationException("PastValues are read-only");
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> descendingMap() {
+			return new View<>(this.store, this.from, this.to, !this.descending);
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> navigableKeySet() {
+			return new KeySet<>(this);
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> descendingKeySet() {
+			return this.descendingMap().navigableKeySet();
+		}
+
+		@Override
+		public Set<LocalDateTime> keySet() {
+			return this.navigableKeySet();
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> subMap(LocalDateTime fromKey, boolean fromInclusive,
+				LocalDateTime toKey, boolean toInclusive) {
+			if (this.descending) {
+				return this.range(lowerBound(toKey, toInclusive), upperBound(fromKey, fromInclusive), true);
+			}
+			return this.range(lowerBound(fromKey, fromInclusive), upperBound(toKey, toInclusive), false);
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> headMap(LocalDateTime toKey, boolean inclusive) {
+			if (this.descending) {
+				return this.range(lowerBound(toKey, inclusive), Long.MAX_VALUE, true);
+			}
+			return this.range(Long.MIN_VALUE, upperBound(toKey, inclusive), false);
+		}
+
+		@Override
+		public NavigableMap<LocalDateTime, Value<T>> tailMap(LocalDateTime fromKey, boolean inclusive) {
+			if (this.descending) {
+				return this.range(Long.MIN_VALUE, upperBound(fromKey, inclusive), true);
+			}
+			return this.range(lowerBound(fromKey, inclusive), Long.MAX_VALUE, false);
+		}
+
+		@Override
+		public SortedMap<LocalDateTime, Value<T>> subMap(LocalDateTime fromKey, LocalDateTime toKey) {
+			return this.subMap(fromKey, true, toKey, false);
+		}
+
+		@Override
+		public SortedMap<LocalDateTime, Value<T>> headMap(LocalDateTime toKey) {
+			return this.headMap(toKey, false);
+		}
+
+		@Override
+		public SortedMap<LocalDateTime, Value<T>> tailMap(LocalDateTime fromKey) {
+			return this.tailMap(fromKey, true);
+		}
+
+		@Override
+		public Value<T> get(Object key) {
+			if (!(key instanceof LocalDateTime dateTime) || dateTime.getNano() % 1_000_000 != 0) {
+				return null;
+			}
+			var entry = this.atOrBefore(toMillis(dateTime));
+			return entry != null && entry.getKey().equals(dateTime) ? entry.getValue() : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.get(key) != null;
+		}
+
+		@Override
+		public int size() {
+			return this.store.count(this.from, this.to);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return this.lowest() == null;
+		}
+
+		@Override
+		public Set<Map.Entry<LocalDateTime, Value<T>>> entrySet() {
+			return new AbstractSet<>() {
+
+				@Override
+				public Iterator<Map.Entry<LocalDateTime, Value<T>>> iterator() {
+					return new Iterator<>() {
+
+						private PastValue<T> next = (PastValue<T>) View.this.firstEntry();
+
+						@Override
+						public boolean hasNext() {
+							return this.next != null;
+						}
+
+						@Override
+						public Map.Entry<LocalDateTime, Value<T>> next() {
+							if (this.next == null) {
+								throw new NoSuchElementException();
+							}
+							var result = this.next;
+							this.next = View.this.next(result);
+							return result;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return View.this.size();
+				}
+			};
+		}
+	}
+
+	/**
+	 * A live, read-only {@link NavigableSet} view on the keys of a {@link View}.
+	 */
+	private static final class KeySet<T> extends AbstractSet<LocalDateTime> implements NavigableSet<LocalDateTime> {
+
+		private final View<T> view;
+
+		private KeySet(View<T> view) {
+			this.view = view;
+		}
+
+		@Override
+		public Iterator<LocalDateTime> iterator() {
+			final var entries = this.view.entrySet().iterator();
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return entries.hasNext();
+				}
+
+				@Override
+				public LocalDateTime next() {
+					return entries.next().getKey();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return this.view.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return this.view.isEmpty();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return this.view.containsKey(o);
+		}
+
+		@Override
+		public Comparator<? super LocalDateTime> comparator() {
+			return this.view.comparator();
+		}
+
+		@Override
+		public LocalDateTime first() {
+			return this.view.firstKey();
+		}
+
+		@Override
+		public LocalDateTime last() {
+			return this.view.lastKey();
+		}
+
+		@Override
+		public LocalDateTime lower(LocalDateTime e) {
+			return this.view.lowerKey(e);
+		}
+
+		@Override
+		public LocalDateTime floor(LocalDateTime e) {
+			return this.view.floorKey(e);
+		}
+
+		@Override
+		public LocalDateTime ceiling(LocalDateTime e) {
+			return this.view.ceilingKey(e);
+		}
+
+		@Override
+		public LocalDateTime higher(LocalDateTime e) {
+			return this.view.higherKey(e);
+		}
+
+		@Override
+		public LocalDateTime pollFirst() {
+			throw new UnsupportedOperationException("PastValues are read-only");
+		}
+
+		@Override
+		public LocalDateTime pollLast() {
+			throw new UnsupportedOperationException("PastValues are read-only");
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> descendingSet() {
+			return this.view.descendingKeySet();
+		}
+
+		@Override
+		public Iterator<LocalDateTime> descendingIterator() {
+			return this.descendingSet().iterator();
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> subSet(LocalDateTime fromElement, boolean fromInclusive,
+				LocalDateTime toElement, boolean toInclusive) {
+			return this.view.subMap(fromElement, fromInclusive, toElement, toInclusive).navigableKeySet();
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> headSet(LocalDateTime toElement, boolean inclusive) {
+			return this.view.headMap(toElement, inclusive).navigableKeySet();
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> tailSet(LocalDateTime fromElement, boolean inclusive) {
+			return this.view.tailMap(fromElement, inclusive).navigableKeySet();
+		}
+
+		@Override
+		public SortedSet<LocalDateTime> subSet(LocalDateTime fromElement, LocalDateTime toElement) {
+			return this.subSet(fromElement, true, toElement, false);
+		}
+
+		@Override
+		public SortedSet<LocalDateTime> headSet(LocalDateTime toElement) {
+			return this.headSet(toElement, false);
+		}
+
+		@Override
+		public SortedSet<LocalDateTime> tailSet(LocalDateTime fromElement) {
+			return this.tailSet(fromElement, true);
+		}
+	}
+
+	private static final class OfInteger<T extends Number> extends PastValues<T> {
+
+		private final IntFunction<T> boxer;
+		private int[] values = new int[INITIAL_CAPACITY];
+
+		private OfInteger(Channel<T> channel, IntFunction<T> boxer) {
+			super(channel);
+			this.boxer = boxer;
+		}
+
+		@Override
+		protected void store(int slot, T value) {
+			this.values[slot] = value.intValue();
+		}
+
+		@Override
+		protected T load(int slot) {
+			return this.boxer.apply(this.values[slot]);
+		}
+
+		@Override
+		protected void resizeValues(int capacity) {
+			this.values = this.relayout(this.values, new int[capacity]);
+		}
+	}
+
+	private static final class OfLong extends PastValues<Long> {
+
+		private long[] values = new long[INITIAL_CAPACITY];
+
+		private OfLong(Channel<Long> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int slot, Long value) {
+			this.values[slot] = value;
+		}
+
+		@Override
+		protected Long load(int slot) {
+			return this.values[slot];
+		}
+
+		@Override
+		protected void resizeValues(int capacity) {
+			this.values = this.relayout(this.values, new long[capacity]);
+		}
+	}
+
+	private static final class OfDouble<T extends Number> extends PastValues<T> {
+
+		private final DoubleFunction<T> boxer;
+		private double[] values = new double[INITIAL_CAPACITY];
+
+		private OfDouble(Channel<T> channel, DoubleFunction<T> boxer) {
+			super(channel);
+			this.boxer = boxer;
+		}
+
+		@Override
+		protected void store(int slot, T value) {
+			this.values[slot] = value.doubleValue();
+		}
+
+		@Override
+		protected T load(int slot) {
+			return this.boxer.apply(this.values[slot]);
+		}
+
+		@Override
+		protected void resizeValues(int capacity) {
+			this.values = this.relayout(this.values, new double[capacity]);
+		}
+	}
+
+	private static final class OfBoolean extends PastValues<Boolean> {
+
+		private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+		private OfBoolean(Channel<Boolean> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int slot, Boolean value) {
+			this.values[slot] = value;
+		}
+
+		@Override
+		protected Boolean load(int slot) {
+			return this.values[slot];
+		}
+
+		@Override
+		protected void resizeValues(int capacity) {
+			this.values = this.relayout(this.values, new boolean[capacity]);
+		}
+	}
+
+	private static final class OfObject<T> extends PastValues<T> {
+
+		private Object[] values = new Object[INITIAL_CAPACITY];
+
+		private OfObject(Channel<T> channel) {
+			super(channel);
+		}
+
+		@Override
+		protected void store(int slot, T value) {
+			this.values[slot] = value;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected T load(int slot) {
+			return (T) this.values[slot];
+		}
+
+		@Override
+		protected void release(int slot) {
+			this.values[slot] = null;
+		}
+
+		@Override
+		protected void resizeValues(int capacity) {
+			this.values = this.relayout(this.values, new Object[capacity]);
+		}
+	}
+}
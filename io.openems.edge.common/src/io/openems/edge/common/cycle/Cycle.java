@@ -3,6 +3,7 @@ package io.openems.edge.common.cycle;
 import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.ChangedChannels;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
@@ -27,6 +28,17 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Length of the critical path of Controller execution in [ms], i.e. the
+		 * longest chain of Controllers that had to be executed one after the other.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		CONTROLLERS_CRITICAL_PATH_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +100,35 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#CONTROLLERS_CRITICAL_PATH_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getControllersCriticalPathTimeChannel() {
+		return this.channel(ChannelId.CONTROLLERS_CRITICAL_PATH_TIME);
+	}
+
+	/**
+	 * Gets the Critical Path Time of Controller execution in [ms]. See
+	 * {@link ChannelId#CONTROLLERS_CRITICAL_PATH_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getControllersCriticalPathTime() {
+		return this.getControllersCriticalPathTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#CONTROLLERS_CRITICAL_PATH_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setControllersCriticalPathTime(long value) {
+		this.getControllersCriticalPathTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
@@ -124,4 +165,12 @@ public interface Cycle extends OpenemsComponent {
 	 */
 	public int getCycleTime();
 
+	/**
+	 * Gets the {@link ChangedChannels}, i.e. the Channels whose value changed in
+	 * the process image of a Cycle.
+	 *
+	 * @return the {@link ChangedChannels}
+	 */
+	public ChangedChannels getChangedChannels();
+
 }
@@ -0,0 +1,64 @@
+package io.openems.edge.common.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+
+public class ChangedChannelsTest {
+
+	@Test
+	public void test() {
+		var channel1 = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		var channel2 = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+
+		var changedChannels = new ChangedChannels();
+		Consumer<Channel<?>> nextProcessImage = channel -> {
+			if (channel.nextProcessImage()) {
+				changedChannels.markChanged(channel);
+			}
+		};
+
+		try (var sut = changedChannels.subscribe()) {
+			channel1.setNextValue(1);
+			nextProcessImage.accept(channel1);
+			nextProcessImage.accept(channel2); // unchanged
+			assertEquals(Set.of(channel1), sut.drain());
+			assertTrue(sut.drain().isEmpty());
+
+			nextProcessImage.accept(channel1); // unchanged
+			channel2.setNextValue(2);
+			nextProcessImage.accept(channel2);
+			channel2.setNextValue(3);
+			nextProcessImage.accept(channel2);
+			assertEquals(Set.of(channel2), sut.drain());
+
+			sut.close();
+			channel1.setNextValue(4);
+			nextProcessImage.accept(channel1);
+			assertTrue(sut.drain().isEmpty());
+		}
+	}
+
+	@Test
+	public void testSubscriptionsAreIndependent() {
+		var channel = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER).createChannelInstance(null, null);
+		var changedChannels = new ChangedChannels();
+		try (var sut1 = changedChannels.subscribe(); //
+				var sut2 = changedChannels.subscribe()) {
+			changedChannels.markChanged(channel);
+			assertEquals(Set.of(channel), sut1.drain());
+			assertEquals(Set.of(channel), sut2.drain());
+
+			// Other instance is not affected
+			new ChangedChannels().markChanged(channel);
+			assertTrue(sut1.drain().isEmpty());
+		}
+	}
+
+}
@@ -0,0 +1,127 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	private static <T> void add(PastValues<T> pastValues, int second, T value) {
+		pastValues.add(new Value<>(null, value, START.plusSeconds(second)));
+	}
+
+	@Test
+	public void testNavigation() {
+		final var sut = PastValues.<Integer>of(null, OpenemsType.INTEGER);
+		final var map = sut.asMap();
+		assertTrue(map.isEmpty());
+
+		add(sut, 0, 10);
+		add(sut, 1, null);
+		add(sut, 2, 30);
+		add(sut, 3, 40);
+
+		assertEquals(4, map.size());
+		assertEquals(START, map.firstKey());
+		assertEquals(START.plusSeconds(3), map.lastKey());
+		assertNull(map.get(START.plusSeconds(1)).get());
+		assertEquals(30, (int) map.get(START.plusSeconds(2)).get());
+
+		assertEquals(START.plusSeconds(1), map.floorKey(START.plusNanos(1_500_000_000L)));
+		assertEquals(START.plusSeconds(2), map.ceilingKey(START.plusNanos(1_500_000_000L)));
+		assertEquals(START.plusSeconds(1), map.lowerKey(START.plusSeconds(2)));
+		assertEquals(START.plusSeconds(3), map.higherKey(START.plusSeconds(2)));
+		assertNull(map.floorKey(START.minusSeconds(1)));
+
+		assertEquals(List.of(30, 40), map.tailMap(START.plusSeconds(2), true).values().stream() //
+				.map(Value::get) //
+				.toList());
+		assertEquals(List.of(40, 30), map.descendingMap().headMap(START.plusSeconds(2), true).values().stream() //
+				.map(Value::get) //
+				.toList());
+		assertEquals(2, map.subMap(START, START.plusSeconds(2)).size());
+	}
+
+	@Test
+	public void testMaxAgeAndReplace() {
+		final var sut = PastValues.<Double>of(null, OpenemsType.DOUBLE);
+		final var map = sut.asMap();
+
+		final var maxAge = (int) java.time.Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toSeconds();
+		for (var i = 0; i <= maxAge + 100; i++) {
+			add(sut, i, (double) i);
+		}
+		assertEquals(maxAge + 1, map.size());
+		assertEquals(START.plusSeconds(100), map.firstKey());
+
+		// Same timestamp replaces the latest value
+		add(sut, maxAge + 100, 1.5);
+		assertEquals(maxAge + 1, map.size());
+		assertEquals(1.5, map.lastEntry().getValue().get(), 0.0);
+	}
+
+	@Test
+	public void testShortCycleTime() {
+		final var sut = PastValues.<Boolean>of(null, OpenemsType.BOOLEAN);
+		final var map = sut.asMap();
+
+		// 1 ms Cycle-Time: all values of the retention period are kept
+		for (var i = 0; i < 10_000; i++) {
+			sut.add(new Value<>(null, i % 2 == 0, START.plusNanos(i * 1_000_000L)));
+		}
+		assertEquals(10_000, map.size());
+		assertEquals(START, map.firstKey());
+		assertEquals(true, map.firstEntry().getValue().get());
+	}
+
+	@Test
+	public void testClockSetBack() {
+		final var sut = PastValues.<String>of(null, OpenemsType.STRING);
+		final var map = sut.asMap();
+		add(sut, 10, "a");
+		add(sut, 11, "b");
+		add(sut, 12, "c");
+
+		add(sut, 5, "d");
+		assertEquals(1, map.size());
+		assertEquals(START.plusSeconds(5), map.firstKey());
+		assertEquals("d", map.firstEntry().getValue().get());
+
+		add(sut, 6, "e");
+		assertEquals(List.of("d", "e"), map.values().stream() //
+				.map(Value::get) //
+				.toList());
+	}
+
+	@Test
+	public void testNavigableKeySet() {
+		final var sut = PastValues.<Long>of(null, OpenemsType.LONG);
+		final var keys = sut.asMap().navigableKeySet();
+		assertTrue(keys.isEmpty());
+
+		// Key set is a live view
+		add(sut, 0, 1L);
+		add(sut, 1, 2L);
+		add(sut, 2, 3L);
+		assertEquals(List.of(START, START.plusSeconds(1), START.plusSeconds(2)), List.copyOf(keys));
+		assertEquals(START.plusSeconds(1), keys.floor(START.plusNanos(1_500_000_000L)));
+		assertTrue(keys.contains(START.plusSeconds(2)));
+		assertEquals(List.of(START.plusSeconds(2), START.plusSeconds(1)),
+				List.copyOf(keys.descendingSet().headSet(START.plusSeconds(1), true)));
+
+		add(sut, 3, 4L);
+		assertEquals(START.plusSeconds(3), keys.last());
+		assertEquals(4, keys.size());
+	}
+}
@@ -38,6 +38,7 @@ import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataProtocol;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -142,6 +143,9 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryDataProtocol()) {
+			httpHeaders.put(BinaryDataProtocol.HTTP_HEADER, String.valueOf(BinaryDataProtocol.VERSION));
+		}
 
 		// Create Websocket instance
 		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
@@ -7,6 +7,8 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonObject;
 
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataProtocol;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -19,7 +21,13 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 
 	@Override
 	public void run(WebSocket ws, JsonObject handshake) {
-		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
+		// Use binary data protocol if the Backend confirmed it in the handshake
+		final var binary = BinaryDataProtocol.isSupported(//
+				JsonUtils.getAsOptionalString(handshake, BinaryDataProtocol.HTTP_HEADER).orElse(null));
+		WsData wsData = ws.getAttachment();
+		wsData.setBinaryEncoder(binary ? new BinaryDataProtocol.Encoder() : null);
+
+		this.parent.logInfo(this.log, "Connected to OpenEMS Backend" + (binary ? " [binary data protocol]" : ""));
 
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
@@ -12,7 +12,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -24,7 +23,6 @@ import java.util.stream.Collector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
@@ -37,6 +35,7 @@ import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.channel.ChangedChannels;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -49,7 +48,9 @@ import io.openems.edge.common.type.TypeUtils;
  *
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}. Changed values are
+ * taken from the {@link ChangedChannels} of the Cycle; values that could not be sent are kept
+ * and sent with the next Cycle.
  */
 public class SendChannelValuesWorker {
 
@@ -74,12 +75,22 @@ public class SendChannelValuesWorker {
 	/**
 	 * Keeps the last timestamp when all channel values were sent.
 	 */
-	private Instant lastSendValuesOfAllChannels = Instant.MIN;
+	private volatile Instant lastSendValuesOfAllChannels = Instant.MIN;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * Tracks the changed Channels; null if not activated.
 	 */
-	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
+	private ChangedChannels.Subscription changedChannels = null;
+
+	/**
+	 * Values that were not yet sent. Guarded by 'this'.
+	 */
+	private Map<String, JsonElement> pendingValues = new HashMap<>();
+
+	/**
+	 * Are {@link #pendingValues} the values of all Channels?. Guarded by 'this'.
+	 */
+	private boolean pendingValuesOfAllChannels = false;
 
 	private Instant lastSendAggregatedDataTimestamp;
 
@@ -101,6 +112,13 @@ public class SendChannelValuesWorker {
 	public void deactivate() {
 		// Shutdown executor
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+
+		synchronized (this) {
+			if (this.changedChannels != null) {
+				this.changedChannels.close();
+				this.changedChannels = null;
+			}
+		}
 	}
 
 	/**
@@ -110,13 +128,13 @@ public class SendChannelValuesWorker {
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
+		// Update the changed values; all values once in a while
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		this.collectData(enabledComponents, now);
 		final var aggregatedValues = this.collectAggregatedData(enabledComponents);
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(new SendTask(this, now));
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
 			aggregatedValues.rowMap().forEach((timestamp, data) -> {
 				this.executor.execute(new SendAggregatedDataTask(this, Instant.ofEpochMilli(timestamp), data));
@@ -124,37 +142,103 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	/**
+	 * Adds the values of the changed Channels to the {@link #pendingValues}; or the
+	 * values of all Channels if it is time to send all values.
+	 *
+	 * @param enabledComponents the enabled components
+	 * @param now               the current timestamp
+	 */
+	private void collectData(List<OpenemsComponent> enabledComponents, Instant now) {
+		if (this.changedChannels == null) {
+			// First run: all Channels are sent anyway
+			this.changedChannels = this.parent.cycle.getChangedChannels().subscribe();
+		}
+		final var changedChannels = this.changedChannels.drain();
+
+		if (this.sendValuesOfAllChannels.getAndSet(false) //
+				|| !this.pendingValuesOfAllChannels && Duration.between(this.lastSendValuesOfAllChannels, now)
+						.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
+			// Send values of all Channels once in a while or if explicitly asked for
+			final var values = new HashMap<String, JsonElement>();
+			if (this.collectAllData(enabledComponents, values)) {
+				this.pendingValues = values;
+				this.pendingValuesOfAllChannels = true;
+				return;
+			}
+			// Incomplete: send what was collected and try again in next Cycle
+			this.pendingValues.putAll(values);
+			this.sendValuesOfAllChannels.set(true);
+		}
+
+		for (var channel : changedChannels) {
+			if (this.isSentChannel(channel)) {
+				this.pendingValues.put(channel.address().toString(), channel.value().asJson());
+			}
+		}
+	}
+
+	private boolean isSentChannel(Channel<?> channel) {
+		// Ignore WRITE_ONLY Channels
+		return channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
+				// Ignore Low-Priority Channels
+				&& channel.channelDoc().getPersistencePriority()
+						.isAtLeast(this.parent.config.persistencePriority());
+	}
+
 	/**
 	 * Cycles through all Channels and collects the value.
 	 *
 	 * @param enabledComponents the enabled components
-	 * @return collected data
+	 * @param result            the map for the collected data
+	 * @return true if the values of all Channels were collected
 	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+	private boolean collectAllData(List<OpenemsComponent> enabledComponents, Map<String, JsonElement> result) {
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
+			for (var component : enabledComponents) {
+				for (var channel : component.channels()) {
+					if (!this.isSentChannel(channel)) {
+						continue;
+					}
+					var address = channel.address().toString();
+					if (result.putIfAbsent(address, channel.value().asJson()) != null) {
+						this.parent.logWarn(this.log, "Duplicate Key [" + address + "]");
+					}
+				}
+			}
 		} catch (Exception e) {
 			// ConcurrentModificationException can happen if Channels are dynamically added
 			// or removed
 			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
+			return false;
 		}
+		return true;
+	}
+
+	/**
+	 * Takes the {@link #pendingValues} for sending.
+	 *
+	 * @return the values and whether they are the values of all Channels
+	 */
+	private synchronized PendingValues takePendingValues() {
+		var result = new PendingValues(this.pendingValues, this.pendingValuesOfAllChannels);
+		this.pendingValues = new HashMap<>();
+		this.pendingValuesOfAllChannels = false;
+		return result;
+	}
+
+	/**
+	 * Gives back values that could not be sent. Values that changed in the
+	 * meantime are kept.
+	 *
+	 * @param values the {@link PendingValues}
+	 */
+	private synchronized void returnPendingValues(PendingValues values) {
+		values.values.forEach(this.pendingValues::putIfAbsent);
+		this.pendingValuesOfAllChannels |= values.allChannels;
+	}
+
+	private static record PendingValues(Map<String, JsonElement> values, boolean allChannels) {
 	}
 
 	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(List<OpenemsComponent> enabledComponents) {
@@ -337,74 +421,41 @@ public class SendChannelValuesWorker {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Map<String, JsonElement> lastAllValues;
-
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableMap.of();
-
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableMap.of();
-
-			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
-			}
+			final var pending = this.parent.takePendingValues();
 
 			// Round timestamp to Global Cycle-Time
 			final var cycleTime = this.parent.parent.cycle.getCycleTime();
 			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
-			// Prepare message values
-			var sendValuesMap = new HashMap<String, JsonElement>();
-
-			// Collect Changed values
-			for (var entry : this.allValues.entrySet()) {
-				var channelAddress = entry.getKey();
-				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
-				}
-			}
-
 			// Create JSON-RPC notification
 			var message = new TimestampedDataNotification();
-			message.add(timestampMillis, sendValuesMap);
+			message.add(timestampMillis, pending.values);
 
 			// Debug-Log
 			if (this.parent.parent.config.debugMode()) {
 				this.parent.parent.logInfo(this.parent.log,
-						"Sending [" + sendValuesMap.size() + " values]: " + sendValuesMap);
+						"Sending [" + pending.values.size() + " values]: " + pending.values);
 			}
 
 			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
-
-			if (wasSent) {
-				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
-				}
-			}
+			var wasSent = this.parent.parent.websocket.sendDataNotification(message);
+
+			if (!wasSent) {
+				// Keep values for next run
+				this.parent.returnPendingValues(pending);
 
+			} else if (pending.allChannels) {
+				// All values were sent
+				this.parent.lastSendValuesOfAllChannels = this.timestamp;
+			}
 		}
 
 	}
@@ -428,7 +479,7 @@ public class SendChannelValuesWorker {
 			final var message = new AggregatedDataNotification();
 			message.add(this.timestamp.toEpochMilli(), this.allValues);
 
-			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final var wasSent = this.parent.parent.websocket.sendDataNotification(message);
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
@@ -10,6 +10,9 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
 import io.openems.common.websocket.OnClose;
 
@@ -34,6 +37,8 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
+			// Binary encoder state is valid only for one session
+			((WsData) ws.getAttachment()).setBinaryEncoder(null);
 		};
 	}
 
@@ -82,6 +87,36 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Sends a {@link TimestampedDataNotification} or
+	 * {@link AggregatedDataNotification}; using the binary data protocol if it was
+	 * negotiated for the current session, otherwise JSON-RPC.
+	 *
+	 * @param message the {@link AbstractDataNotification}
+	 * @return true if sending was successful
+	 */
+	public boolean sendDataNotification(AbstractDataNotification message) {
+		WsData wsData = this.ws.getAttachment();
+		var encoder = wsData.getBinaryEncoder();
+		if (encoder == null) {
+			return this.sendMessage(message);
+		}
+		// Frames have to be sent in the same order as they are encoded
+		synchronized (encoder) {
+			try {
+				this.ws.send(encoder.encode(message));
+				return true;
+
+			} catch (Exception e) {
+				// Encoder state is not in sync with the Backend anymore -> fall back to JSON
+				wsData.setBinaryEncoder(null);
+				this.logWarn(this.log, "Unable to send binary data. " + e.getClass().getSimpleName() + ": "
+						+ e.getMessage());
+				return false;
+			}
+		}
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
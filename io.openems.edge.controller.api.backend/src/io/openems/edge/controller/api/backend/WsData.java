@@ -1,10 +1,28 @@
 package io.openems.edge.controller.api.backend;
 
+import io.openems.common.websocket.BinaryDataProtocol;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
+	/**
+	 * Holds the {@link BinaryDataProtocol.Encoder} of the current session; null if
+	 * the Backend does not support the binary data protocol.
+	 */
+	private BinaryDataProtocol.Encoder binaryEncoder = null;
+
+	public synchronized void setBinaryEncoder(BinaryDataProtocol.Encoder binaryEncoder) {
+		this.binaryEncoder = binaryEncoder;
+	}
+
+	public synchronized BinaryDataProtocol.Encoder getBinaryEncoder() {
+		return this.binaryEncoder;
+	}
+
 	@Override
 	public String toString() {
-		return "BackendApi.WsData []";
+		return "BackendApi.WsData [" //
+				+ "binary=" + (this.getBinaryEncoder() != null) //
+				+ "]";
 	}
 
 }
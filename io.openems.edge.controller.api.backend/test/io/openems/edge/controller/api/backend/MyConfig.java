@@ -19,6 +19,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private boolean binaryDataProtocol;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +75,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryDataProtocol(boolean binaryDataProtocol) {
+			this.binaryDataProtocol = binaryDataProtocol;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +151,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public boolean binaryDataProtocol() {
+		return this.builder.binaryDataProtocol;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
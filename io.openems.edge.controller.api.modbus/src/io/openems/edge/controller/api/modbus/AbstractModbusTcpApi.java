@@ -1,6 +1,9 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -59,6 +62,17 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 	 */
 	protected final TreeMap<Integer, ModbusRecord> records = new TreeMap<>();
 
+	/**
+	 * Holds the encoded values of the {@link #records}; published once per Cycle.
+	 */
+	protected final RegisterImage registerImage = new RegisterImage();
+
+	/**
+	 * IDs of the disabled Components that were accessed in the last Cycle; only
+	 * accessed by the Cycle thread.
+	 */
+	private Set<String> disabledComponentIds = new HashSet<>();
+
 	/**
 	 * Holds the link between Modbus start address of a Component and the
 	 * Component-ID.
@@ -138,6 +152,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 		// Initialize Modbus Records
 		this.initializeModbusRecords(this.config.metaComponent, this.config.componentIds);
+		this.registerImage.setRecords(this.records);
 	}
 
 	@Override
@@ -336,9 +351,39 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		}
 
 		this.updateCycleValues();
+		this.publishRegisterImage();
 		this.apiWorker.run();
 	}
 
+	/**
+	 * Once every cycle: encode the values of all {@link ModbusRecord}s for the
+	 * Modbus/TCP requests until the next cycle.
+	 */
+	private void publishRegisterImage() {
+		var components = new HashMap<String, OpenemsComponent>();
+		var disabledComponentIds = new HashSet<String>();
+		this.registerImage.publish(componentId -> {
+			if (components.containsKey(componentId)) {
+				return components.get(componentId);
+			}
+			OpenemsComponent component = this.getPossiblyDisabledComponent(componentId);
+			if (component != null && !component.isEnabled()) {
+				disabledComponentIds.add(component.id());
+				component = null;
+			}
+			components.put(componentId, component);
+			return component;
+		});
+
+		// Log only once after a Component got disabled
+		for (var componentId : disabledComponentIds) {
+			if (!this.disabledComponentIds.contains(componentId)) {
+				this.logWarn(this.log, "Trying to access disabled Component [" + componentId + "]");
+			}
+		}
+		this.disabledComponentIds = disabledComponentIds;
+	}
+
 	@SuppressWarnings("unchecked")
 	/**
 	 * Once every cycle: update the values for each registered
@@ -34,6 +34,10 @@ public class MyRegister implements Register {
 		return this.byte2;
 	}
 
+	protected Consumer<MyRegister> getOnSetCallback() {
+		return this.onSetCallback;
+	}
+
 	@Override
 	public int getValue() {
 		return (this.byte1 & 0xff) << 8 | this.byte2 & 0xff;
@@ -0,0 +1,292 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
+
+/**
+ * Holds the encoded values of all {@link ModbusRecord}s as one flat array of
+ * registers.
+ *
+ * <p>
+ * The Cycle encodes all values once per Cycle via
+ * {@link #publish(Function)}. Modbus/TCP requests are answered from the last
+ * published image without locking and without encoding any value.
+ *
+ * <p>
+ * Two buffers are used alternately: the Cycle writes into the buffer that is
+ * not published. Every buffer carries a version that is odd while it is being
+ * written; readers retry if the version changed while they were copying, i.e.
+ * if a slow request overlapped with the next-but-one Cycle.
+ */
+public class RegisterImage {
+
+	private static final byte[] RESERVED_VALUE = ModbusRecordUint16.UNDEFINED_VALUE;
+
+	/**
+	 * The immutable mapping of Modbus addresses to {@link ModbusRecord}s.
+	 */
+	private static class Layout {
+
+		/** The {@link ModbusRecord} starting at an address; or null. */
+		private final ModbusRecord[] records;
+		/** The write callback of the {@link ModbusRecord} at an address; or null. */
+		private final Consumer<MyRegister>[] onWrite;
+		/** The write callbacks of reserved addresses; created on first read. */
+		private final AtomicReferenceArray<Consumer<MyRegister>> reservedOnWrite;
+		/** The write callbacks of reserved addresses outside of the records. */
+		private final Map<Integer, Consumer<MyRegister>> reservedOnWriteOutside = new ConcurrentHashMap<>();
+
+		@SuppressWarnings("unchecked")
+		private Layout(SortedMap<Integer, ModbusRecord> records) {
+			var length = 0;
+			for (var entry : records.entrySet()) {
+				length = Math.max(length, entry.getKey() + entry.getValue().getType().getWords());
+			}
+			this.records = new ModbusRecord[length];
+			this.onWrite = new Consumer[length];
+			this.reservedOnWrite = new AtomicReferenceArray<>(length);
+			for (var entry : records.entrySet()) {
+				if (entry.getKey() < 0) {
+					continue;
+				}
+				this.records[entry.getKey()] = entry.getValue();
+				this.onWrite[entry.getKey()] = onWrite(entry.getValue());
+			}
+		}
+
+		/**
+		 * Gets the write callback of a reserved address, i.e. an address without
+		 * {@link ModbusRecord}.
+		 *
+		 * @param address the address
+		 * @return the write callback
+		 */
+		private Consumer<MyRegister> getReservedOnWrite(int address) {
+			if (address < 0 || address >= this.reservedOnWrite.length()) {
+				return this.reservedOnWriteOutside.computeIfAbsent(address,
+						a -> onWrite(new ModbusRecordUint16Reserved(a)));
+			}
+			var result = this.reservedOnWrite.get(address);
+			if (result == null) {
+				// Concurrent readers might create it twice; both are equivalent
+				result = onWrite(new ModbusRecordUint16Reserved(address));
+				this.reservedOnWrite.set(address, result);
+			}
+			return result;
+		}
+	}
+
+	private static class Buffer {
+
+		private final Layout layout;
+		private final short[] values;
+		/** The error while encoding the {@link ModbusRecord} at an address; or null. */
+		private final String[] errors;
+		private volatile long version = 0;
+
+		private Buffer(Layout layout) {
+			this.layout = layout;
+			this.values = new short[layout.records.length];
+			this.errors = new String[layout.records.length];
+		}
+	}
+
+	@FunctionalInterface
+	private interface Reader<T> {
+		T read(Buffer buffer) throws IllegalArgumentException;
+	}
+
+	private volatile Layout layout = null;
+	private volatile Buffer published = null;
+
+	// Only accessed by the Cycle thread
+	private Buffer spare = null;
+
+	/**
+	 * Sets the {@link ModbusRecord}s. Takes effect with the next call to
+	 * {@link #publish(Function)}.
+	 *
+	 * @param records the {@link ModbusRecord}s by Modbus address
+	 */
+	public void setRecords(SortedMap<Integer, ModbusRecord> records) {
+		this.layout = new Layout(records);
+	}
+
+	/**
+	 * Encodes the values of all {@link ModbusRecord}s and publishes them for
+	 * subsequent reads. Must be called by one thread only.
+	 *
+	 * @param getComponent gets the enabled Component for a Component-ID; or null
+	 */
+	public void publish(Function<String, OpenemsComponent> getComponent) {
+		var layout = this.layout;
+		if (layout == null) {
+			return;
+		}
+		var buffer = this.spare;
+		if (buffer == null || buffer.layout != layout) {
+			buffer = new Buffer(layout);
+		}
+
+		final var version = buffer.version;
+		buffer.version = version + 1;
+		VarHandle.storeStoreFence();
+		var values = buffer.values;
+		var records = layout.records;
+		for (var address = 0; address < records.length; address++) {
+			var record = records[address];
+			if (record == null) {
+				continue;
+			}
+			try {
+				var value = record.getValue(getComponent.apply(record.getComponentId()));
+				var words = Math.min(value.length / 2, values.length - address);
+				for (var j = 0; j < words; j++) {
+					values[address + j] = (short) ((value[j * 2] & 0xff) << 8 | value[j * 2 + 1] & 0xff);
+				}
+				buffer.errors[address] = null;
+			} catch (RuntimeException e) {
+				buffer.errors[address] = "Unable to get value of " + record + ": " + e.getClass().getSimpleName()
+						+ ": " + e.getMessage();
+			}
+		}
+		buffer.version = version + 2;
+
+		var previous = this.published;
+		this.published = buffer;
+		this.spare = previous != null && previous.layout == layout ? previous : null;
+	}
+
+	/**
+	 * Gets the {@link MyRegister}s of a range of addresses. Addresses without
+	 * {@link ModbusRecord} are answered as reserved.
+	 *
+	 * @param offset the start address
+	 * @param count  the number of registers
+	 * @return the {@link MyRegister}s
+	 * @throws IllegalArgumentException if a {@link ModbusRecord} does not fit in
+	 *                                  the range or its value is not available
+	 */
+	public MyRegister[] getRegisters(int offset, int count) throws IllegalArgumentException {
+		return this.read(buffer -> {
+			var layout = buffer.layout;
+			var records = layout.records;
+			var result = new MyRegister[count];
+			for (var i = 0; i < count;) {
+				var ref = offset + i;
+				var record = ref >= 0 && ref < records.length ? records[ref] : null;
+				if (record == null) {
+					result[i] = new MyRegister(0, RESERVED_VALUE[0], RESERVED_VALUE[1],
+							layout.getReservedOnWrite(ref));
+					i++;
+					continue;
+				}
+
+				// make sure this Record fits
+				var words = record.getType().getWords();
+				if (count < i + words) {
+					throw new IllegalArgumentException(
+							"Record for Modbus address [" + ref + "] does not fit in Result.");
+				}
+				copy(buffer, ref, words, result, i);
+				i += words;
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * Gets the {@link MyRegister} of a {@link ModbusRecord} that requires only one
+	 * register.
+	 *
+	 * @param ref the address
+	 * @return the {@link MyRegister}
+	 * @throws IllegalArgumentException if there is no such {@link ModbusRecord} or
+	 *                                  its value is not available
+	 */
+	public MyRegister getRegister(int ref) throws IllegalArgumentException {
+		return this.read(buffer -> {
+			var records = buffer.layout.records;
+			var record = ref >= 0 && ref < records.length ? records[ref] : null;
+
+			// make sure the ModbusRecord is available
+			if (record == null) {
+				throw new IllegalArgumentException("Record for Modbus address [" + ref + "] is not available.");
+			}
+
+			// make sure this Record requires only one Register/Word
+			if (record.getType().getWords() > 1) {
+				throw new IllegalArgumentException(
+						"Record for Modbus address [" + ref + "] requires more than one Register.");
+			}
+			var result = new MyRegister[1];
+			copy(buffer, ref, 1, result, 0);
+			return result[0];
+		});
+	}
+
+	/**
+	 * Reads a consistent state of the published {@link Buffer}.
+	 *
+	 * @param <T>    the type of the result
+	 * @param reader the {@link Reader}
+	 * @return the result
+	 * @throws IllegalArgumentException on error
+	 */
+	private <T> T read(Reader<T> reader) throws IllegalArgumentException {
+		while (true) {
+			var buffer = this.published;
+			if (buffer == null) {
+				throw new IllegalArgumentException("Process image is not available yet.");
+			}
+			var version = buffer.version;
+			if ((version & 1) != 0) {
+				// Buffer is being written by the Cycle; the other one is published by now
+				Thread.onSpinWait();
+				continue;
+			}
+			T result;
+			try {
+				result = reader.read(buffer);
+			} catch (IllegalArgumentException e) {
+				VarHandle.loadLoadFence();
+				if (buffer.version == version) {
+					throw e;
+				}
+				continue;
+			}
+			VarHandle.loadLoadFence();
+			if (buffer.version == version) {
+				return result;
+			}
+		}
+	}
+
+	private static void copy(Buffer buffer, int address, int words, MyRegister[] target, int targetOffset)
+			throws IllegalArgumentException {
+		var error = buffer.errors[address];
+		if (error != null) {
+			throw new IllegalArgumentException(error);
+		}
+		var onWrite = buffer.layout.onWrite[address];
+		for (var j = 0; j < words; j++) {
+			var value = buffer.values[address + j];
+			target[targetOffset + j] = new MyRegister(j, (byte) (value >> 8), (byte) value, onWrite);
+		}
+	}
+
+	private static Consumer<MyRegister> onWrite(ModbusRecord record) {
+		return register -> record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+	}
+
+}
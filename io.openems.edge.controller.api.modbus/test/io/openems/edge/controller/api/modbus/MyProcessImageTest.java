@@ -0,0 +1,54 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.net.ServerSocket;
+
+import org.junit.Test;
+
+import io.openems.edge.common.test.DummyConfigurationAdmin;
+import io.openems.edge.common.test.DummyMeta;
+import io.openems.edge.controller.api.modbus.readonly.ControllerApiModbusTcpReadOnlyImpl;
+import io.openems.edge.controller.api.modbus.readonly.MyConfig;
+import io.openems.edge.controller.test.ControllerTest;
+
+public class MyProcessImageTest {
+
+	private static final String CTRL_ID = "ctrl0";
+
+	private static int getFreePort() throws Exception {
+		try (var socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	@Test
+	public void testPublishedInRun() throws Exception {
+		var sut = new ControllerApiModbusTcpReadOnlyImpl();
+		new ControllerTest(sut) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("metaComponent", new DummyMeta("_meta")) //
+				.activate(MyConfig.create() //
+						.setId(CTRL_ID) //
+						.setEnabled(true) //
+						.setComponentIds() //
+						.setMaxConcurrentConnections(5) //
+						.setPort(getFreePort()) //
+						.build());
+		var processImage = new MyProcessImage(sut);
+
+		try {
+			processImage.getRegisterRange(0, 1);
+			fail("Image is published only in run()");
+		} catch (MyIllegalAddressException e) {
+			// expected
+		}
+
+		sut.run();
+		var registers = processImage.getRegisterRange(0, 2);
+		assertEquals((short) "OpenEMS".hashCode(), registers[0].toShort());
+		assertEquals((short) "OpenEMS".hashCode(), processImage.getRegister(0).toShort());
+	}
+
+}
@@ -0,0 +1,222 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Hash;
+import io.openems.edge.common.modbusslave.ModbusType;
+
+public class RegisterImageTest {
+
+	private final Logger log = LoggerFactory.getLogger(RegisterImageTest.class);
+
+	/**
+	 * A UINT32 {@link ModbusRecord} whose words both hold the same changing value.
+	 */
+	private static class CounterRecord extends ModbusRecord {
+
+		private short value = 0;
+		private short written = 0;
+
+		private CounterRecord() {
+			super(0, ModbusType.UINT32);
+		}
+
+		@Override
+		public String getName() {
+			return "Counter";
+		}
+
+		@Override
+		public String getValueDescription() {
+			return "";
+		}
+
+		@Override
+		public byte[] getValue(OpenemsComponent component) {
+			return new byte[] { (byte) (this.value >> 8), (byte) this.value, (byte) (this.value >> 8),
+					(byte) this.value };
+		}
+
+		@Override
+		public void writeValue(int index, byte byte1, byte byte2) {
+			this.written = (short) ((byte1 & 0xff) << 8 | byte2 & 0xff);
+		}
+
+		@Override
+		public AccessMode getAccessMode() {
+			return AccessMode.READ_WRITE;
+		}
+	}
+
+	private static RegisterImage createImage(CounterRecord counter) {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16Hash(0, "OpenEMS"));
+		records.put(1, new ModbusRecordUint16(1, "Value", (short) 1234));
+		records.put(3, counter);
+		var sut = new RegisterImage();
+		sut.setRecords(records);
+		return sut;
+	}
+
+	@Test
+	public void test() throws Exception {
+		var counter = new CounterRecord();
+		var sut = createImage(counter);
+
+		try {
+			sut.getRegisters(0, 1);
+			fail("Image is not published yet");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+
+		counter.value = 42;
+		sut.publish(componentId -> null);
+
+		var registers = sut.getRegisters(0, 5);
+		assertEquals((short) "OpenEMS".hashCode(), registers[0].toShort());
+		assertEquals(1234, registers[1].getValue());
+		assertEquals(0xFFFF, registers[2].getValue()); // reserved
+		assertEquals(42, registers[3].getValue());
+		assertEquals(42, registers[4].getValue());
+		assertEquals(1234, sut.getRegister(1).getValue());
+
+		// Values change only with the next publish
+		counter.value = 43;
+		assertEquals(42, sut.getRegisters(3, 2)[0].getValue());
+		sut.publish(componentId -> null);
+		assertEquals(43, sut.getRegisters(3, 2)[0].getValue());
+		sut.publish(componentId -> null);
+		assertEquals(43, sut.getRegisters(3, 2)[1].getValue());
+
+		// Writes are forwarded to the Record
+		sut.getRegisters(3, 2)[1].setValue(7);
+		assertEquals(7, counter.written);
+
+		// Reserved addresses reuse their write callback
+		var reserved = sut.getRegisters(2, 1)[0];
+		reserved.setValue(7);
+		assertEquals(0xFFFF, sut.getRegisters(2, 1)[0].getValue());
+		assertSame(reserved.getOnSetCallback(), sut.getRegisters(2, 1)[0].getOnSetCallback());
+		assertSame(sut.getRegisters(100, 1)[0].getOnSetCallback(), sut.getRegisters(100, 1)[0].getOnSetCallback());
+
+		// Record does not fit
+		try {
+			sut.getRegisters(3, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("does not fit"));
+		}
+		try {
+			sut.getRegister(3);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("more than one Register"));
+		}
+		try {
+			sut.getRegister(2);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().contains("not available"));
+		}
+	}
+
+	@Test
+	public void testConcurrentReads() throws Exception {
+		var counter = new CounterRecord();
+		var sut = createImage(counter);
+		sut.publish(componentId -> null);
+
+		var running = new AtomicBoolean(true);
+		var torn = new AtomicLong();
+		var executor = Executors.newFixedThreadPool(2);
+		for (var t = 0; t < 2; t++) {
+			executor.execute(() -> {
+				while (running.get()) {
+					var registers = sut.getRegisters(3, 2);
+					if (registers[0].getValue() != registers[1].getValue()) {
+						torn.incrementAndGet();
+					}
+				}
+			});
+		}
+		for (var i = 0; i < 100_000; i++) {
+			counter.value = (short) i;
+			sut.publish(componentId -> null);
+		}
+		running.set(false);
+		executor.shutdown();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+		assertEquals(0, torn.get());
+	}
+
+	@Ignore
+	@Test
+	public void benchmark() throws Exception {
+		final var readerThreads = 4;
+		final var durationMillis = 5_000L;
+		var counter = new CounterRecord();
+		var records = new TreeMap<Integer, ModbusRecord>();
+		for (var address = 0; address < 10_000; address++) {
+			records.put(address, new ModbusRecordUint16(address, "Value", (short) address));
+		}
+		records.put(10_000, counter);
+		var sut = new RegisterImage();
+		sut.setRecords(records);
+		sut.publish(componentId -> null);
+
+		var reads = new AtomicLong();
+		var executor = Executors.newFixedThreadPool(readerThreads + 1);
+		final var end = System.currentTimeMillis() + durationMillis;
+
+		// Cycle thread
+		executor.execute(() -> {
+			while (System.currentTimeMillis() < end) {
+				counter.value++;
+				sut.publish(componentId -> null);
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		});
+		for (var t = 0; t < readerThreads; t++) {
+			executor.execute(() -> {
+				var offset = 0;
+				while (System.currentTimeMillis() < end) {
+					sut.getRegisters(offset, 125);
+					reads.incrementAndGet();
+					offset = (offset + 125) % 9_875;
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(durationMillis * 2, TimeUnit.MILLISECONDS);
+
+		assertTrue(reads.get() > 0);
+		this.log.info("RegisterImage Benchmark: " //
+				+ "Requests/s [" + reads.get() * 1000 / durationMillis + "] " //
+				+ "with 125 Registers each");
+	}
+
+}
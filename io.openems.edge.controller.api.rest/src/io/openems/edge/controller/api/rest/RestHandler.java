@@ -290,6 +290,18 @@ public class RestHandler extends AbstractHandler {
 		}
 	}
 
+	private void sendOkResponse(Request baseRequest, HttpServletResponse response, JsonrpcMessage message)
+			throws OpenemsException {
+		try {
+			response.setContentType("application/json");
+			response.setStatus(HttpServletResponse.SC_OK);
+			baseRequest.setHandled(true);
+			message.writeTo(response.getWriter());
+		} catch (IOException e) {
+			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
+		}
+	}
+
 	private boolean sendOkResponse(Request baseRequest, HttpServletResponse response, JsonElement data)
 			throws OpenemsException {
 		try {
@@ -431,7 +443,7 @@ public class RestHandler extends AbstractHandler {
 			}
 
 			// send response
-			this.sendOkResponse(baseRequest, httpResponse, response.toJsonObject());
+			this.sendOkResponse(baseRequest, httpResponse, response);
 
 		} catch (Exception e) {
 			this.sendErrorResponse(baseRequest, httpResponse, requestId,
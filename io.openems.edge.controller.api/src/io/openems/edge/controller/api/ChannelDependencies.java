@@ -0,0 +1,143 @@
+package io.openems.edge.controller.api;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableSet;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Describes the Channels a {@link Controller} reads and writes during
+ * {@link Controller#run()}.
+ *
+ * <p>
+ * If parallel Controller execution is activated in the Core Cycle, Controllers
+ * whose {@link ChannelDependencies} do not conflict are executed in parallel.
+ * Wildcards are allowed as described in
+ * {@link ChannelAddress#match(ChannelAddress, ChannelAddress)}, e.g.
+ * <code>ess0/*</code> for all Channels of Component 'ess0'.
+ *
+ * @param reads  the Channels that are read
+ * @param writes the Channels that are written
+ */
+public record ChannelDependencies(Set<ChannelAddress> reads, Set<ChannelAddress> writes) {
+
+	public ChannelDependencies {
+		reads = ImmutableSet.copyOf(reads);
+		writes = ImmutableSet.copyOf(writes);
+	}
+
+	/**
+	 * Creates a {@link ChannelDependencies} builder.
+	 *
+	 * @return a {@link Builder}
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	public static class Builder {
+
+		private final ImmutableSet.Builder<ChannelAddress> reads = ImmutableSet.builder();
+		private final ImmutableSet.Builder<ChannelAddress> writes = ImmutableSet.builder();
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds a Channel that is read by the Controller.
+		 *
+		 * @param componentId the Component-ID; possibly with wildcard
+		 * @param channelId   the Channel-ID; possibly with wildcard
+		 * @return myself
+		 */
+		public Builder read(String componentId, String channelId) {
+			this.reads.add(new ChannelAddress(componentId, channelId));
+			return this;
+		}
+
+		/**
+		 * Adds all Channels of a Component that are read by the Controller.
+		 *
+		 * @param componentId the Component-ID
+		 * @return myself
+		 */
+		public Builder read(String componentId) {
+			return this.read(componentId, "*");
+		}
+
+		/**
+		 * Adds a Channel that is written by the Controller.
+		 *
+		 * @param componentId the Component-ID; possibly with wildcard
+		 * @param channelId   the Channel-ID; possibly with wildcard
+		 * @return myself
+		 */
+		public Builder write(String componentId, String channelId) {
+			this.writes.add(new ChannelAddress(componentId, channelId));
+			return this;
+		}
+
+		/**
+		 * Adds all Channels of a Component that are written by the Controller.
+		 *
+		 * @param componentId the Component-ID
+		 * @return myself
+		 */
+		public Builder write(String componentId) {
+			return this.write(componentId, "*");
+		}
+
+		public ChannelDependencies build() {
+			return new ChannelDependencies(this.reads.build(), this.writes.build());
+		}
+	}
+
+	/**
+	 * Gets a new {@link ChannelDependencies} with an additional written Channel.
+	 *
+	 * @param address the {@link ChannelAddress}
+	 * @return a new {@link ChannelDependencies}
+	 */
+	public ChannelDependencies withWrite(ChannelAddress address) {
+		return new ChannelDependencies(this.reads, ImmutableSet.<ChannelAddress>builder() //
+				.addAll(this.writes) //
+				.add(address) //
+				.build());
+	}
+
+	/**
+	 * Gets all read and written Channels.
+	 *
+	 * @return a {@link Stream} of {@link ChannelAddress}es
+	 */
+	public Stream<ChannelAddress> all() {
+		return Stream.concat(this.reads.stream(), this.writes.stream());
+	}
+
+	/**
+	 * Checks whether executing two Controllers in parallel might give a different
+	 * result than executing them one after the other, i.e. if one of them writes
+	 * a Channel that the other one reads or writes.
+	 *
+	 * @param other the other {@link ChannelDependencies}
+	 * @return true if there is a conflict
+	 */
+	public boolean conflictsWith(ChannelDependencies other) {
+		return overlaps(this.writes, other.reads) //
+				|| overlaps(this.writes, other.writes) //
+				|| overlaps(this.reads, other.writes);
+	}
+
+	private static boolean overlaps(Set<ChannelAddress> a, Set<ChannelAddress> b) {
+		for (var x : a) {
+			for (var y : b) {
+				if (ChannelAddress.match(x, y) >= 0 || ChannelAddress.match(y, x) >= 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -23,6 +23,20 @@ public interface Controller extends OpenemsComponent {
 	 */
 	public void run() throws OpenemsNamedException;
 
+	/**
+	 * Gets the Channels this Controller reads and writes in {@link #run()}.
+	 *
+	 * <p>
+	 * Used by the Cycle for parallel Controller execution. Defaults to null, i.e.
+	 * the dependencies are unknown and the Controller is always executed
+	 * exclusively in the order given by the Scheduler.
+	 *
+	 * @return the {@link ChannelDependencies}; or null if unknown
+	 */
+	public default ChannelDependencies getChannelDependencies() {
+		return null;
+	}
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		RUN_FAILED(Doc.of(Level.FAULT) //
 				.persistencePriority(PersistencePriority.HIGH) //
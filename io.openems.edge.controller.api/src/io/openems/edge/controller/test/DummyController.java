@@ -2,6 +2,7 @@ package io.openems.edge.controller.test;
 
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.controller.api.ChannelDependencies;
 import io.openems.edge.controller.api.Controller;
 
 /**
@@ -12,6 +13,7 @@ public class DummyController extends AbstractDummyOpenemsComponent<DummyControll
 		implements Controller, OpenemsComponent {
 
 	private Runnable runCallback = null;
+	private ChannelDependencies channelDependencies = null;
 
 	public DummyController(String id) {
 		this(id, "");
@@ -39,6 +41,22 @@ public class DummyController extends AbstractDummyOpenemsComponent<DummyControll
 		return this;
 	}
 
+	/**
+	 * Set the {@link ChannelDependencies}.
+	 *
+	 * @param channelDependencies the {@link ChannelDependencies}
+	 * @return myself
+	 */
+	public DummyController withChannelDependencies(ChannelDependencies channelDependencies) {
+		this.channelDependencies = channelDependencies;
+		return this;
+	}
+
+	@Override
+	public ChannelDependencies getChannelDependencies() {
+		return this.channelDependencies;
+	}
+
 	@Override
 	public void run() {
 		if (this.runCallback != null) {
@@ -16,6 +16,7 @@ import org.osgi.service.metatype.annotations.Designate;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.ChannelDependencies;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.ess.api.HybridEss;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
@@ -44,6 +45,7 @@ public class ControllerEssFixActivePowerImpl extends AbstractOpenemsComponent
 	private ManagedSymmetricEss ess;
 
 	private Config config;
+	private ChannelDependencies channelDependencies = null;
 
 	@Reference(policy = ReferencePolicy.DYNAMIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile Timedata timedata = null;
@@ -74,6 +76,10 @@ public class ControllerEssFixActivePowerImpl extends AbstractOpenemsComponent
 
 	private boolean applyConfig(ComponentContext context, Config config) {
 		this.config = config;
+		this.channelDependencies = ChannelDependencies.create() //
+				.write(config.ess_id()) //
+				.write(this.id()) //
+				.build();
 		return OpenemsComponent.updateReferenceFilter(this.cm, this.servicePid(), "ess", config.ess_id());
 	}
 
@@ -83,6 +89,11 @@ public class ControllerEssFixActivePowerImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public ChannelDependencies getChannelDependencies() {
+		return this.channelDependencies;
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var isActive = false;
@@ -30,6 +30,7 @@ import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.ChannelDependencies;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.timedata.api.Timedata;
 import io.openems.edge.timedata.api.TimedataProvider;
@@ -46,6 +47,7 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 
 	private final Logger log = LoggerFactory.getLogger(ControllerIoChannelSingleThresholdImpl.class);
 	private final Set<ChannelAddress> outputChannelAdresses = new HashSet<>();
+	private ChannelDependencies channelDependencies = null;
 	private final CalculateActiveTime calculateCumulatedActiveTime = new CalculateActiveTime(this,
 			ControllerIoChannelSingleThreshold.ChannelId.CUMULATED_ACTIVE_TIME);
 
@@ -97,6 +99,20 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 			}
 			this.outputChannelAdresses.add(ChannelAddress.fromString(channel));
 		}
+
+		var inputChannelAddress = ChannelAddress.fromString(config.inputChannelAddress());
+		var channelDependencies = ChannelDependencies.create() //
+				.read(inputChannelAddress.getComponentId(), inputChannelAddress.getChannelId()) //
+				.write(this.id());
+		for (var address : this.outputChannelAdresses) {
+			channelDependencies.write(address.getComponentId(), address.getChannelId());
+		}
+		this.channelDependencies = channelDependencies.build();
+	}
+
+	@Override
+	public ChannelDependencies getChannelDependencies() {
+		return this.channelDependencies;
 	}
 
 	@Override
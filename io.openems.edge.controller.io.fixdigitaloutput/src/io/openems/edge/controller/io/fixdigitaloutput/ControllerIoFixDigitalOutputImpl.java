@@ -20,6 +20,7 @@ import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.ChannelDependencies;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.timedata.api.Timedata;
 import io.openems.edge.timedata.api.TimedataProvider;
@@ -49,6 +50,8 @@ public class ControllerIoFixDigitalOutputImpl extends AbstractOpenemsComponent
 	/** Takes the configured "isOn" setting. */
 	private boolean isOn = false;
 
+	private ChannelDependencies channelDependencies = null;
+
 	@Reference(policy = ReferencePolicy.DYNAMIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile Timedata timedata = null;
 
@@ -67,6 +70,10 @@ public class ControllerIoFixDigitalOutputImpl extends AbstractOpenemsComponent
 		this.outputChannelAddress = ChannelAddress.fromString(config.outputChannelAddress());
 
 		super.activate(context, config.id(), config.alias(), config.enabled());
+		this.channelDependencies = ChannelDependencies.create() //
+				.write(this.outputChannelAddress.getComponentId(), this.outputChannelAddress.getChannelId()) //
+				.write(this.id()) //
+				.build();
 	}
 
 	@Override
@@ -75,6 +82,11 @@ public class ControllerIoFixDigitalOutputImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Override
+	public ChannelDependencies getChannelDependencies() {
+		return this.channelDependencies;
+	}
+
 	@Override
 	public void run() throws IllegalArgumentException, OpenemsNamedException {
 
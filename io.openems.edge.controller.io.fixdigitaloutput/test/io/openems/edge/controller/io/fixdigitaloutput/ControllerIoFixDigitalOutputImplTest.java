@@ -1,5 +1,8 @@
 package io.openems.edge.controller.io.fixdigitaloutput;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import org.junit.Test;
 
 import io.openems.common.types.ChannelAddress;
@@ -38,4 +41,28 @@ public class ControllerIoFixDigitalOutputImplTest {
 						.output(IO_INPUT_OUTPUT0, on));
 	}
 
+	@Test
+	public void testChannelDependencies() throws Exception {
+		var ctrl0 = createController(CTRL_ID, IO_INPUT_OUTPUT0);
+		var ctrl1 = createController("ctrl1", new ChannelAddress(IO_ID, "InputOutput1"));
+		var ctrl2 = createController("ctrl2", IO_INPUT_OUTPUT0);
+
+		// Different outputs can be switched in parallel
+		assertFalse(ctrl0.getChannelDependencies().conflictsWith(ctrl1.getChannelDependencies()));
+		assertTrue(ctrl0.getChannelDependencies().conflictsWith(ctrl2.getChannelDependencies()));
+	}
+
+	private static ControllerIoFixDigitalOutputImpl createController(String id, ChannelAddress output)
+			throws Exception {
+		var sut = new ControllerIoFixDigitalOutputImpl();
+		new ControllerTest(sut) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.activate(MyConfig.create() //
+						.setId(id) //
+						.setOutputChannelAddress(output.toString()) //
+						.setOn(true) //
+						.build());
+		return sut;
+	}
+
 }
@@ -28,6 +28,7 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.MetaTypeService;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonNull;
 
@@ -67,11 +68,14 @@ import io.openems.edge.core.componentmanager.jsonrpc.ChannelExportXlsxResponse;
 public class ComponentManagerImpl extends AbstractOpenemsComponent
 		implements ComponentManager, OpenemsComponent, ConfigurationListener, ComponentJsonApi {
 
+	private final Logger log = LoggerFactory.getLogger(ComponentManagerImpl.class);
 	private final List<ComponentManagerWorker> workers = new ArrayList<>();
 	private final EdgeConfigWorker edgeConfigWorker;
 
 	protected BundleContext bundleContext;
 
+	private volatile ComponentRegistry registry = null;
+
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile ClockProvider clockProvider = null;
 
@@ -102,6 +106,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext componentContext, BundleContext bundleContext) throws OpenemsException {
 		super.activate(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
+		this.openRegistry();
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.activate(this.id());
@@ -116,6 +121,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private void modified(ComponentContext componentContext, BundleContext bundleContext) {
 		super.modified(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
+		this.openRegistry();
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.modified(this.id());
@@ -134,27 +140,58 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.deactivate();
 		}
+
+		if (this.registry != null) {
+			this.registry.close();
+			this.registry = null;
+		}
+	}
+
+	private void openRegistry() {
+		if (this.bundleContext == null || this.registry != null) {
+			// Can be null in JUnit tests
+			return;
+		}
+		var registry = new ComponentRegistry(this.bundleContext);
+		try {
+			registry.open();
+			this.registry = registry;
+		} catch (InvalidSyntaxException e) {
+			this.logError(this.log, "Unable to open ComponentRegistry: " + e.getMessage());
+		}
 	}
 
 	@Override
 	public List<OpenemsComponent> getEnabledComponents() {
-		return this.getComponentsViaService("(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))");
+		var registry = this.registry;
+		if (registry == null) {
+			return Collections.emptyList();
+		}
+		return registry.getEnabledComponents();
 	}
 
 	@Override
 	public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
-		return this.getComponentsViaService(clazz, "(enabled=true)");
+		var registry = this.registry;
+		if (registry == null) {
+			return Collections.emptyList();
+		}
+		return registry.getEnabledComponentsOfType(clazz);
 	}
 
 	@Override
 	public List<OpenemsComponent> getAllComponents() {
-		return this.getComponentsViaService("(!(service.factoryPid=" + ComponentManager.SINGLETON_SERVICE_PID + "))");
+		var registry = this.registry;
+		if (registry == null) {
+			return Collections.emptyList();
+		}
+		return registry.getAllComponents();
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getComponent(String componentId) throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId, true);
+		var component = this.getComponentFromRegistry(componentId, true);
 		if (component != null) {
 			return (T) component;
 		}
@@ -165,7 +202,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
 			throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId);
+		var component = this.getComponentFromRegistry(componentId, false);
 		if (component != null) {
 			return (T) component;
 		}
@@ -173,85 +210,19 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	}
 
 	/**
-	 * Gets the components via OSGi service reference.
+	 * Gets the component from the {@link ComponentRegistry}.
 	 *
-	 * @param filter the filter for the components
-	 * @return the components matching the filter
-	 */
-	private List<OpenemsComponent> getComponentsViaService(String filter) {
-		return this.getComponentsViaService(OpenemsComponent.class, filter);
-	}
-
-	/**
-	 * Gets the components via OSGi service reference.
-	 * 
-	 * @param <T>    the class type
-	 * @param clazz  The class under whose name the service was registered. Must not
-	 *               be {@code null}.
-	 * @param filter the filter for the components
-	 * @return the components matching the filter
-	 */
-	private <T> List<T> getComponentsViaService(Class<T> clazz, String filter) {
-		if (this.bundleContext == null) {
-			// Can be null in JUnit tests
-			return Collections.emptyList();
-		}
-
-		try {
-			var serviceReferences = this.bundleContext.getServiceReferences(clazz, filter);
-
-			var allComponents = new ArrayList<T>(serviceReferences.size());
-			for (var reference : serviceReferences) {
-				var component = this.bundleContext.getService(reference);
-				if (component == null) {
-					continue;
-				}
-				allComponents.add(component);
-				this.bundleContext.ungetService(reference);
-			}
-			return allComponents;
-
-		} catch (InvalidSyntaxException e) {
-			// filter invalid
-			e.printStackTrace();
-			return Collections.emptyList();
-		} catch (RuntimeException e) {
-			e.printStackTrace();
-			return Collections.emptyList();
-		}
-	}
-
-	/**
-	 * Gets the component via OSGi service reference. Be careful, that the Component
-	 * might not be 'enabled'.
-	 *
-	 * @param <T>         the type of the component
-	 * @param componentId the id of the component
-	 * @return the component or null if not found
-	 */
-	private <T extends OpenemsComponent> T getComponentViaService(String componentId) {
-		return this.getComponentViaService(componentId, false);
-	}
-
-	/**
-	 * Gets the component via OSGi service reference.
-	 *
-	 * @param <T>            the type of the component
 	 * @param componentId    the id of the component
 	 * @param hasToBeEnabled if the component has to be enabled
 	 * @return the component or null if not found
 	 */
-	@SuppressWarnings("unchecked")
-	private <T extends OpenemsComponent> T getComponentViaService(String componentId, boolean hasToBeEnabled) {
-		var filter = "(id=" + componentId + ")";
-		if (hasToBeEnabled) {
-			filter = "(&(enabled=true)" + filter + ")";
-		}
-		var components = this.getComponentsViaService(filter);
-		if (components.isEmpty()) {
+	private OpenemsComponent getComponentFromRegistry(String componentId, boolean hasToBeEnabled) {
+		var registry = this.registry;
+		if (registry == null) {
+			// Can be null in JUnit tests
 			return null;
 		}
-		return (T) components.get(0);
+		return registry.getComponent(componentId, hasToBeEnabled);
 	}
 
 	@Override
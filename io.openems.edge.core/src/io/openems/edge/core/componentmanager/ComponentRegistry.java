@@ -0,0 +1,349 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Keeps track of all registered {@link OpenemsComponent} services.
+ *
+ * <p>
+ * The registry is maintained by OSGi {@link ServiceEvent}s instead of querying
+ * the service registry on every call. Lookups work on an immutable snapshot
+ * that is rebuilt lazily on the first access after a service was registered,
+ * modified or unregistered; lists by type are indexed on first use per
+ * snapshot.
+ *
+ * <p>
+ * Service objects are acquired without holding a lock, as getting a service
+ * can activate its component, which in turn may access the registry.
+ */
+public class ComponentRegistry implements ServiceListener {
+
+	/**
+	 * Matches all {@link OpenemsComponent}s and all services with an 'enabled'
+	 * property, i.e. all services that are returned by
+	 * {@link ComponentManager#getEnabledComponentsOfType(Class)}.
+	 */
+	protected static final String FILTER = "(|(" + Constants.OBJECTCLASS + "=" + OpenemsComponent.class.getName()
+			+ ")(enabled=*))";
+
+	private final BundleContext bundleContext;
+	private final Map<ServiceReference<?>, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong version = new AtomicLong();
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	public ComponentRegistry(BundleContext bundleContext) {
+		this.bundleContext = bundleContext;
+	}
+
+	/**
+	 * Starts listening for service events and adds the already registered
+	 * services.
+	 *
+	 * @throws InvalidSyntaxException on error
+	 */
+	public void open() throws InvalidSyntaxException {
+		this.bundleContext.addServiceListener(this, FILTER);
+		var references = this.bundleContext.getServiceReferences((String) null, FILTER);
+		if (references != null) {
+			for (var reference : references) {
+				this.entries.computeIfAbsent(reference, Entry::new);
+				if (reference.getBundle() == null) {
+					// Unregistered in the meantime
+					this.remove(reference);
+				}
+			}
+		}
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Stops listening for service events and releases all services.
+	 */
+	public void close() {
+		this.bundleContext.removeServiceListener(this);
+		for (var reference : List.copyOf(this.entries.keySet())) {
+			this.remove(reference);
+		}
+		this.version.incrementAndGet();
+	}
+
+	@Override
+	public void serviceChanged(ServiceEvent event) {
+		var reference = event.getServiceReference();
+		switch (event.getType()) {
+		case ServiceEvent.REGISTERED:
+			this.entries.computeIfAbsent(reference, Entry::new);
+			break;
+		case ServiceEvent.MODIFIED:
+			this.entries.compute(reference, (r, entry) -> {
+				if (entry == null) {
+					return new Entry(r);
+				}
+				entry.properties = ServiceProperties.from(r);
+				return entry;
+			});
+			break;
+		case ServiceEvent.MODIFIED_ENDMATCH:
+		case ServiceEvent.UNREGISTERING:
+			this.remove(reference);
+			break;
+		}
+		this.version.incrementAndGet();
+	}
+
+	private void remove(ServiceReference<?> reference) {
+		var entry = this.entries.remove(reference);
+		if (entry != null) {
+			entry.release(this.bundleContext);
+		}
+	}
+
+	/**
+	 * Gets all enabled {@link OpenemsComponent}s, excluding the
+	 * {@link ComponentManager}.
+	 *
+	 * @return an immutable list of components
+	 */
+	public List<OpenemsComponent> getEnabledComponents() {
+		return this.getSnapshot().enabled;
+	}
+
+	/**
+	 * Gets all {@link OpenemsComponent}s, excluding the {@link ComponentManager}.
+	 *
+	 * @return an immutable list of components
+	 */
+	public List<OpenemsComponent> getAllComponents() {
+		return this.getSnapshot().all;
+	}
+
+	/**
+	 * Gets all enabled services that were registered under the name of the given
+	 * class.
+	 *
+	 * @param <T>   the type
+	 * @param clazz the class
+	 * @return an immutable list of components
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+		var snapshot = this.getSnapshot();
+		return (List<T>) snapshot.byType.computeIfAbsent(clazz, snapshot::ofType);
+	}
+
+	/**
+	 * Gets a {@link OpenemsComponent} by its ID.
+	 *
+	 * @param componentId    the ID of the component
+	 * @param hasToBeEnabled if the component has to be enabled
+	 * @return the component or null if not found
+	 */
+	public OpenemsComponent getComponent(String componentId, boolean hasToBeEnabled) {
+		var snapshot = this.getSnapshot();
+		return (hasToBeEnabled ? snapshot.enabledById : snapshot.allById).get(componentId);
+	}
+
+	private Snapshot getSnapshot() {
+		var version = this.version.get();
+		var snapshot = this.snapshot.get();
+		if (snapshot != null && snapshot.version == version) {
+			return snapshot;
+		}
+		snapshot = this.build(version);
+
+		// Publish unless a newer Snapshot was published in the meantime
+		return this.snapshot.accumulateAndGet(snapshot, ComponentRegistry::newer);
+	}
+
+	private static Snapshot newer(Snapshot current, Snapshot next) {
+		return current != null && current.version >= next.version ? current : next;
+	}
+
+	private Snapshot build(long version) {
+		var entries = new ArrayList<Entry>(this.entries.values());
+		entries.sort(Comparator.comparingLong(Entry::getServiceId));
+		var resolved = new ArrayList<Resolved>(entries.size());
+		for (var entry : entries) {
+			var service = entry.getService(this.bundleContext);
+			if (service != null) {
+				resolved.add(new Resolved(entry.properties, service));
+			}
+		}
+		return new Snapshot(version, resolved);
+	}
+
+	private record ServiceProperties(String id, boolean enabled, String factoryPid, Set<String> objectClass) {
+
+		private static ServiceProperties from(ServiceReference<?> reference) {
+			var id = reference.getProperty("id");
+			var factoryPid = reference.getProperty("service.factoryPid");
+			var objectClass = reference.getProperty(Constants.OBJECTCLASS);
+			return new ServiceProperties(//
+					id == null ? null : id.toString(), //
+					Boolean.parseBoolean(String.valueOf(reference.getProperty("enabled"))), //
+					factoryPid == null ? null : factoryPid.toString(), //
+					objectClass instanceof String[] names ? Set.of(names) : Set.of());
+		}
+
+		private boolean isOpenemsComponent() {
+			return this.objectClass.contains(OpenemsComponent.class.getName());
+		}
+	}
+
+	private record Resolved(ServiceProperties properties, Object service) {
+	}
+
+	private static final class Snapshot {
+
+		private final long version;
+		private final List<Resolved> resolved;
+		private final List<OpenemsComponent> enabled;
+		private final List<OpenemsComponent> all;
+		private final Map<String, OpenemsComponent> enabledById;
+		private final Map<String, OpenemsComponent> allById;
+		private final Map<Class<?>, List<?>> byType = new ConcurrentHashMap<>();
+
+		private Snapshot(long version, List<Resolved> resolved) {
+			this.version = version;
+			this.resolved = resolved;
+			var enabled = new ArrayList<OpenemsComponent>();
+			var all = new ArrayList<OpenemsComponent>();
+			var enabledById = new HashMap<String, OpenemsComponent>();
+			var allById = new HashMap<String, OpenemsComponent>();
+			for (var r : resolved) {
+				var p = r.properties;
+				if (!p.isOpenemsComponent() || !(r.service instanceof OpenemsComponent component)) {
+					continue;
+				}
+				if (p.id != null) {
+					allById.putIfAbsent(p.id, component);
+					if (p.enabled) {
+						enabledById.putIfAbsent(p.id, component);
+					}
+				}
+				if (ComponentManager.SINGLETON_SERVICE_PID.equals(p.factoryPid)) {
+					continue;
+				}
+				all.add(component);
+				if (p.enabled) {
+					enabled.add(component);
+				}
+			}
+			this.enabled = Collections.unmodifiableList(enabled);
+			this.all = Collections.unmodifiableList(all);
+			this.enabledById = enabledById;
+			this.allById = allById;
+		}
+
+		private List<?> ofType(Class<?> clazz) {
+			var result = new ArrayList<Object>();
+			for (var r : this.resolved) {
+				var p = r.properties;
+				if (p.enabled && p.objectClass.contains(clazz.getName()) && clazz.isInstance(r.service)) {
+					result.add(r.service);
+				}
+			}
+			return Collections.unmodifiableList(result);
+		}
+	}
+
+	private static final class Entry {
+
+		private final ServiceReference<?> reference;
+
+		private volatile ServiceProperties properties;
+
+		private Object service = null;
+		private boolean released = false;
+
+		private Entry(ServiceReference<?> reference) {
+			this.reference = reference;
+			this.properties = ServiceProperties.from(reference);
+		}
+
+		private long getServiceId() {
+			var serviceId = this.reference.getProperty(Constants.SERVICE_ID);
+			return serviceId instanceof Long l ? l : Long.MAX_VALUE;
+		}
+
+		/**
+		 * Gets the service object. The service is acquired once and held until it is
+		 * released; failed attempts are retried on the next call.
+		 *
+		 * <p>
+		 * {@link BundleContext#getService(ServiceReference)} is called without
+		 * holding the lock; if another thread acquired the service in the meantime,
+		 * the surplus usage is given back.
+		 *
+		 * @param bundleContext the {@link BundleContext}
+		 * @return the service or null if it is not available
+		 */
+		private Object getService(BundleContext bundleContext) {
+			synchronized (this) {
+				if (this.service != null || this.released) {
+					return this.service;
+				}
+			}
+			Object service;
+			try {
+				service = bundleContext.getService(this.reference);
+			} catch (RuntimeException e) {
+				// e.g. component failed to activate; retry on next snapshot
+				return null;
+			}
+			if (service == null) {
+				return null;
+			}
+			synchronized (this) {
+				if (this.service == null && !this.released) {
+					this.service = service;
+					return service;
+				}
+			}
+			ungetService(bundleContext, this.reference);
+			synchronized (this) {
+				return this.service;
+			}
+		}
+
+		private void release(BundleContext bundleContext) {
+			synchronized (this) {
+				this.released = true;
+				if (this.service == null) {
+					return;
+				}
+				this.service = null;
+			}
+			ungetService(bundleContext, this.reference);
+		}
+
+		private static void ungetService(BundleContext bundleContext, ServiceReference<?> reference) {
+			try {
+				bundleContext.ungetService(reference);
+			} catch (RuntimeException e) {
+				// BundleContext is no longer valid
+			}
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.controller.api.ChannelDependencies;
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+
+/**
+ * Executes the Controllers of one Cycle.
+ *
+ * <p>
+ * By default Controllers are executed one after the other in the order given by
+ * the Schedulers. In parallel mode a Controller only waits for previous
+ * Controllers whose {@link ChannelDependencies} conflict with its own;
+ * Controllers without {@link ChannelDependencies} conflict with every other
+ * Controller.
+ */
+public class ControllerExecutor {
+
+	/**
+	 * Virtual address of the shared ESS Power solver. Controllers that touch a
+	 * {@link ManagedSymmetricEss} implicitly write it, so that their Constraints
+	 * are applied in Scheduler order.
+	 */
+	protected static final ChannelAddress ESS_POWER = new ChannelAddress("_power", "*");
+
+	/**
+	 * The result of executing the Controllers.
+	 *
+	 * @param executionTimes the execution time per Controller-ID in [ns]
+	 * @param criticalPath   the length of the critical path in [ns]
+	 */
+	public record Result(Map<String, Long> executionTimes, long criticalPath) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ControllerExecutor.class);
+	private final CycleImpl parent;
+
+	private ForkJoinPool pool = null;
+
+	public ControllerExecutor(CycleImpl parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Activates or deactivates parallel execution.
+	 *
+	 * @param parallel true to execute non-conflicting Controllers in parallel
+	 */
+	public synchronized void setParallel(boolean parallel) {
+		if (parallel && this.pool == null) {
+			// At least two threads, so that a blocking Controller does not stall others
+			this.pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+		} else if (!parallel && this.pool != null) {
+			this.pool.shutdown();
+			this.pool = null;
+		}
+	}
+
+	/**
+	 * Shuts down the thread pool.
+	 */
+	public void deactivate() {
+		this.setParallel(false);
+	}
+
+	/**
+	 * Executes the given Controllers.
+	 *
+	 * @param controllers the Controllers in Scheduler order
+	 * @return the {@link Result}
+	 */
+	public Result execute(List<Controller> controllers) {
+		final var pool = this.pool;
+		final var durations = new long[controllers.size()];
+		final List<List<Integer>> predecessors;
+
+		if (pool == null) {
+			predecessors = new ArrayList<>();
+			for (var i = 0; i < controllers.size(); i++) {
+				durations[i] = this.run(controllers.get(i));
+				predecessors.add(i == 0 ? List.of() : List.of(i - 1));
+			}
+
+		} else {
+			predecessors = this.getPredecessors(controllers);
+			var futures = new ArrayList<CompletableFuture<Void>>(controllers.size());
+			for (var i = 0; i < controllers.size(); i++) {
+				final var index = i;
+				final var controller = controllers.get(i);
+				var before = CompletableFuture.allOf(predecessors.get(i).stream() //
+						.map(futures::get) //
+						.toArray(CompletableFuture[]::new));
+				futures.add(before.thenRunAsync(() -> durations[index] = this.run(controller), pool));
+			}
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		}
+
+		// Calculate critical path
+		var executionTimes = new HashMap<String, Long>();
+		var pathLengths = new long[controllers.size()];
+		var criticalPath = 0L;
+		for (var i = 0; i < controllers.size(); i++) {
+			var longestPredecessor = 0L;
+			for (var j : predecessors.get(i)) {
+				longestPredecessor = Math.max(longestPredecessor, pathLengths[j]);
+			}
+			pathLengths[i] = longestPredecessor + durations[i];
+			criticalPath = Math.max(criticalPath, pathLengths[i]);
+			executionTimes.merge(controllers.get(i).id(), durations[i], Long::sum);
+		}
+		return new Result(executionTimes, criticalPath);
+	}
+
+	/**
+	 * Finds for each Controller the previous Controllers it has to wait for.
+	 *
+	 * @param controllers the Controllers in Scheduler order
+	 * @return the indexes of the predecessors per Controller
+	 */
+	private List<List<Integer>> getPredecessors(List<Controller> controllers) {
+		var dependencies = controllers.stream() //
+				.map(this::getDependencies) //
+				.toList();
+		var result = new ArrayList<List<Integer>>(controllers.size());
+		for (var i = 0; i < controllers.size(); i++) {
+			var predecessors = new ArrayList<Integer>();
+			for (var j = 0; j < i; j++) {
+				if (conflicts(dependencies.get(i), dependencies.get(j))) {
+					predecessors.add(j);
+				}
+			}
+			result.add(predecessors);
+		}
+		return result;
+	}
+
+	private static boolean conflicts(ChannelDependencies a, ChannelDependencies b) {
+		return a == null || b == null || a.conflictsWith(b);
+	}
+
+	/**
+	 * Gets the {@link ChannelDependencies} of a Controller, including the
+	 * implicit {@link #ESS_POWER} dependency.
+	 *
+	 * @param controller the {@link Controller}
+	 * @return the {@link ChannelDependencies}; null if unknown
+	 */
+	private ChannelDependencies getDependencies(Controller controller) {
+		var dependencies = controller.getChannelDependencies();
+		if (dependencies == null) {
+			return null;
+		}
+		if (dependencies.all().anyMatch(address -> this.isEss(address.getComponentId()))) {
+			return dependencies.withWrite(ESS_POWER);
+		}
+		return dependencies;
+	}
+
+	private boolean isEss(String componentId) {
+		if (componentId.contains("*")) {
+			return true;
+		}
+		try {
+			return this.parent.componentManager
+					.getPossiblyDisabledComponent(componentId) instanceof ManagedSymmetricEss;
+		} catch (OpenemsNamedException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Executes a Controller and handles errors.
+	 *
+	 * @param controller the {@link Controller}
+	 * @return the execution time in [ns]
+	 */
+	private long run(Controller controller) {
+		final var start = System.nanoTime();
+		try {
+			// Execute Controller logic
+			controller.run();
+
+			// announce running was ok
+			controller._setRunFailed(false);
+
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+			// announce running failed
+			controller._setRunFailed(true);
+
+		} catch (Exception e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			if (e instanceof ClassCastException || e instanceof NullPointerException
+					|| e instanceof IllegalArgumentException) {
+				e.printStackTrace();
+			}
+			// announce running failed
+			controller._setRunFailed(true);
+		}
+		return System.nanoTime() - start;
+	}
+}
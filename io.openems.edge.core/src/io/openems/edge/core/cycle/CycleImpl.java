@@ -1,7 +1,12 @@
 package io.openems.edge.core.cycle;
 
+import java.time.Duration;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -18,13 +23,27 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
+import com.google.common.base.CaseFormat;
+
+import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.session.Role;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.ChangedChannels;
+import io.openems.edge.common.channel.ChannelId.ChannelIdImpl;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
+import io.openems.edge.common.jsonapi.EdgeGuards;
+import io.openems.edge.common.jsonapi.JsonApiBuilder;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfile;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,9 +54,34 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, ComponentJsonApi {
+
+	/**
+	 * Minimum time between two logs of the recent Cycles on Cycle-Time overrun.
+	 */
+	private static final Duration OVERRUN_LOG_INTERVAL = Duration.ofMinutes(1);
+
+	/**
+	 * Number of recent Cycles that are logged on Cycle-Time overrun.
+	 */
+	private static final int OVERRUN_LOG_CYCLES = 10;
 
 	private final CycleWorker worker = new CycleWorker(this);
+	protected final ControllerExecutor controllerExecutor = new ControllerExecutor(this);
+	protected final CycleProfiler profiler = new CycleProfiler();
+	protected final ChangedChannels changedChannels = new ChangedChannels();
+
+	/**
+	 * Holds the execution time Channels per {@link Phase}.
+	 */
+	private final Map<Phase, LongReadChannel> phaseExecutionTimeChannels = new EnumMap<>(Phase.class);
+
+	private long lastOverrunLog = 0; // [ms]
+
+	/**
+	 * Holds the dynamically created execution time Channels per Controller-ID.
+	 */
+	private final Map<String, LongReadChannel> controllerExecutionTimeChannels = new HashMap<>();
 
 	@Reference
 	private ConfigurationAdmin cm;
@@ -81,12 +125,24 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 				OpenemsComponent.ChannelId.values(), //
 				Cycle.ChannelId.values() //
 		);
+		for (var phase : Phase.values()) {
+			if (phase == Phase.TOTAL) {
+				// see MEASURED_CYCLE_TIME
+				continue;
+			}
+			this.phaseExecutionTimeChannels.put(phase, (LongReadChannel) this.addChannel(new ChannelIdImpl(//
+					"PHASE_" + phase.name() + "_TIME", //
+					Doc.of(OpenemsType.LONG) //
+							.unit(Unit.MILLISECONDS) //
+							.text("Execution time of Cycle phase [" + phase.name() + "]"))));
+		}
 	}
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.controllerExecutor.setParallel(config.parallelControllers());
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +154,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.controllerExecutor.setParallel(config.parallelControllers());
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +167,90 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.controllerExecutor.deactivate();
+	}
+
+	/**
+	 * Updates the execution time Channels of the Controllers and the
+	 * {@link Cycle.ChannelId#CONTROLLERS_CRITICAL_PATH_TIME} Channel.
+	 *
+	 * @param result the {@link ControllerExecutor.Result}
+	 */
+	protected void updateControllerExecutionTimes(ControllerExecutor.Result result) {
+		this._setControllersCriticalPathTime(TimeUnit.NANOSECONDS.toMillis(result.criticalPath()));
+
+		// Controllers that were not executed in this Cycle keep their Channel;
+		// it is only removed once the Controller does not exist anymore
+		var iterator = this.controllerExecutionTimeChannels.entrySet().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			if (result.executionTimes().containsKey(entry.getKey())) {
+				continue;
+			}
+			if (this.controllerExists(entry.getKey())) {
+				entry.getValue().setNextValue(null);
+			} else {
+				this.removeChannel(entry.getValue());
+				iterator.remove();
+			}
+		}
+
+		result.executionTimes().forEach((controllerId, executionTime) -> {
+			var channel = this.controllerExecutionTimeChannels.computeIfAbsent(controllerId,
+					id -> (LongReadChannel) this.addChannel(new ChannelIdImpl(
+							CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, id) + "_EXECUTION_TIME", //
+							Doc.of(OpenemsType.LONG) //
+									.unit(Unit.MILLISECONDS) //
+									.text("Execution time of Controller [" + id + "]"))));
+			channel.setNextValue(TimeUnit.NANOSECONDS.toMillis(executionTime));
+		});
+	}
+
+	private boolean controllerExists(String controllerId) {
+		try {
+			return this.componentManager.getPossiblyDisabledComponent(controllerId) != null;
+		} catch (OpenemsNamedException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Updates the Cycle-Time Channels from the durations recorded by the
+	 * {@link CycleProfiler} and logs the recent Cycles if the Cycle-Time was
+	 * exceeded.
+	 *
+	 * @param log       the {@link Logger}
+	 * @param durations the durations of the Cycle in [ns], indexed by
+	 *                  {@link Phase}
+	 */
+	protected void updateCycleTimes(Logger log, long[] durations) {
+		this.phaseExecutionTimeChannels.forEach((phase, channel) -> {
+			channel.setNextValue(TimeUnit.NANOSECONDS.toMillis(durations[phase.ordinal()]));
+		});
+		var cycleTime = TimeUnit.NANOSECONDS.toMillis(durations[Phase.TOTAL.ordinal()]);
+		this._setMeasuredCycleTime(cycleTime);
+
+		var now = System.currentTimeMillis();
+		if (cycleTime > this.getCycleTime() && now - this.lastOverrunLog > OVERRUN_LOG_INTERVAL.toMillis()) {
+			this.lastOverrunLog = now;
+			this.logWarn(log, "Cycle-Time [" + cycleTime + "ms] exceeded configured [" + this.getCycleTime()
+					+ "ms]. " + CycleProfiler.formatSlowestPhase(durations) + ". Recent Cycles in [ms]:"
+					+ this.profiler.formatRecentCycles(OVERRUN_LOG_CYCLES));
+		}
+	}
+
+	@Override
+	public void buildJsonApiRoutes(JsonApiBuilder builder) {
+		builder.handleRequest(new GetCycleProfile(), endpoint -> {
+			endpoint.setDescription("""
+					Gets percentiles of the durations of the phases of the recent Cycles.
+					""") //
+					.setGuards(EdgeGuards.roleIsAtleast(Role.ADMIN));
+		}, call -> {
+			var statistics = this.profiler.getStatistics();
+			var cycles = (int) Math.min(this.profiler.getCount(), CycleProfiler.CAPACITY - 1);
+			return new GetCycleProfile.Response(cycles, statistics);
+		});
 	}
 
 	@Override
@@ -131,4 +272,9 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		return Cycle.DEFAULT_CYCLE_TIME;
 	}
 
+	@Override
+	public ChangedChannels getChangedChannels() {
+		return this.changedChannels;
+	}
+
 }
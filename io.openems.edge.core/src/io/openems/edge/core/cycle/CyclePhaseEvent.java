@@ -0,0 +1,58 @@
+package io.openems.edge.core.cycle;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for one {@link CycleProfiler.Phase} of a Cycle.
+ *
+ * <p>
+ * Only referenced by {@link CycleProfiler} if 'jdk.jfr' is available.
+ */
+@Name("io.openems.edge.CyclePhase")
+@Label("Cycle Phase")
+@Description("Execution of one phase of the OpenEMS Edge Cycle")
+@Category({ "OpenEMS", "Cycle" })
+@StackTrace(false)
+public class CyclePhaseEvent extends Event {
+
+	@Label("Phase")
+	protected String phase;
+
+	@Label("Cycle")
+	@Description("Number of the Cycle since start")
+	protected long cycle;
+
+	/**
+	 * Creates and begins an event.
+	 *
+	 * @return the event
+	 */
+	protected static Object create() {
+		var event = new CyclePhaseEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends and commits an event created by {@link #create()}.
+	 *
+	 * @param event the event
+	 * @param phase the {@link CycleProfiler.Phase}
+	 * @param cycle the number of the Cycle
+	 */
+	protected static void commit(Object event, CycleProfiler.Phase phase, long cycle) {
+		var e = (CyclePhaseEvent) event;
+		e.end();
+		if (e.shouldCommit()) {
+			e.phase = phase.name();
+			e.cycle = cycle;
+			e.commit();
+		}
+	}
+
+}
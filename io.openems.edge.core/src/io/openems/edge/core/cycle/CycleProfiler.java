@@ -0,0 +1,282 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * Records the duration of every phase of the OpenEMS Cycle.
+ *
+ * <p>
+ * Samples are kept in a ring buffer of the last {@link #CAPACITY} Cycles. The
+ * buffer is written by the Cycle thread only and can be read from any thread
+ * without locking: a Cycle is published after all its phases are written, and
+ * readers skip the slot that is currently being written.
+ *
+ * <p>
+ * Phases that dispatch an event are measured as a whole, i.e. the duration is
+ * the sum of all handlers of the event topic. The OSGi EventAdmin does not
+ * expose the execution time of single handlers; to find a slow handler, use
+ * {@link #formatSlowestPhase(long[])} to identify the topic and then profile
+ * its handlers.
+ *
+ * <p>
+ * If the JDK Flight Recorder is available, every phase is additionally
+ * committed as {@link CyclePhaseEvent}.
+ */
+public class CycleProfiler {
+
+	public static final int CAPACITY = 1024; // must be a power of two
+
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	/**
+	 * The phases of a Cycle in execution order.
+	 */
+	public enum Phase {
+		/** Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_PROCESS_IMAGE}. */
+		BEFORE_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE), //
+		/** Switching to the next process image of all Channels. */
+		PROCESS_IMAGE(null), //
+		/** Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE}. */
+		AFTER_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), //
+		/** Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_CONTROLLERS}. */
+		BEFORE_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS), //
+		/** Collecting and executing the Controllers. */
+		CONTROLLERS(null), //
+		/** Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_CONTROLLERS}. */
+		AFTER_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS), //
+		/**
+		 * Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_WRITE}, i.e. mainly
+		 * solving the ESS Power.
+		 */
+		BEFORE_WRITE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE), //
+		/** Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_EXECUTE_WRITE}. */
+		EXECUTE_WRITE(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE), //
+		/** Handlers of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_WRITE}. */
+		AFTER_WRITE(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE), //
+		/** The whole Cycle. */
+		TOTAL(null);
+
+		/** The event topic; null if the phase does not dispatch an event. */
+		public final String topic;
+
+		private Phase(String topic) {
+			this.topic = topic;
+		}
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+
+	/**
+	 * Percentiles of the duration of a {@link Phase} in [ns].
+	 *
+	 * @param p50 the median
+	 * @param p95 the 95th percentile
+	 * @param p99 the 99th percentile
+	 * @param max the maximum
+	 */
+	public record Statistics(long p50, long p95, long p99, long max) {
+	}
+
+	/** Durations in [ns]; one row of {@link #PHASES} per Cycle. */
+	private final AtomicLongArray samples = new AtomicLongArray(CAPACITY * PHASES.length);
+
+	/** Number of published Cycles. */
+	private final AtomicLong count = new AtomicLong();
+
+	// Only accessed by the Cycle thread
+	private int row = 0;
+	private long cycleStart = 0;
+	private long phaseStart = 0;
+	private Object cycleEvent = null;
+	private Object phaseEvent = null;
+
+	/**
+	 * Starts a new Cycle.
+	 */
+	public void start() {
+		this.row = (int) (this.count.get() & (CAPACITY - 1)) * PHASES.length;
+		for (var i = 0; i < PHASES.length; i++) {
+			this.samples.setPlain(this.row + i, 0);
+		}
+		this.cycleStart = this.phaseStart = System.nanoTime();
+		if (JFR_AVAILABLE) {
+			this.cycleEvent = CyclePhaseEvent.create();
+			this.phaseEvent = CyclePhaseEvent.create();
+		}
+	}
+
+	/**
+	 * Finishes a {@link Phase} that started with the previous call to
+	 * {@link #start()} or {@link #mark(Phase)}.
+	 *
+	 * @param phase the finished {@link Phase}
+	 */
+	public void mark(Phase phase) {
+		var now = System.nanoTime();
+		this.samples.setPlain(this.row + phase.ordinal(), now - this.phaseStart);
+		this.phaseStart = now;
+		if (JFR_AVAILABLE) {
+			CyclePhaseEvent.commit(this.phaseEvent, phase, this.count.get());
+			this.phaseEvent = CyclePhaseEvent.create();
+		}
+	}
+
+	/**
+	 * Finishes and publishes the Cycle.
+	 *
+	 * @return the durations of the Cycle in [ns], indexed by {@link Phase}
+	 */
+	public long[] finish() {
+		var total = System.nanoTime() - this.cycleStart;
+		this.samples.setPlain(this.row + Phase.TOTAL.ordinal(), total);
+		if (JFR_AVAILABLE) {
+			CyclePhaseEvent.commit(this.cycleEvent, Phase.TOTAL, this.count.get());
+		}
+		var result = new long[PHASES.length];
+		for (var i = 0; i < PHASES.length; i++) {
+			result[i] = this.samples.getPlain(this.row + i);
+		}
+		this.count.setRelease(this.count.get() + 1);
+		return result;
+	}
+
+	/**
+	 * Gets the number of recorded Cycles since start.
+	 *
+	 * @return the number of Cycles
+	 */
+	public long getCount() {
+		return this.count.getAcquire();
+	}
+
+	/**
+	 * Gets the durations of the most recent Cycles.
+	 *
+	 * @param limit the maximum number of Cycles
+	 * @return the durations in [ns] per Cycle, indexed by {@link Phase}; oldest
+	 *         first
+	 */
+	public List<long[]> getRecentCycles(int limit) {
+		var count = this.count.getAcquire();
+		// The oldest slot might already be overwritten by the running Cycle
+		var size = (int) Math.min(Math.min(count, CAPACITY - 1), limit);
+		var result = new ArrayList<long[]>(size);
+		for (var cycle = count - size; cycle < count; cycle++) {
+			var row = (int) (cycle & (CAPACITY - 1)) * PHASES.length;
+			var durations = new long[PHASES.length];
+			for (var i = 0; i < PHASES.length; i++) {
+				durations[i] = this.samples.get(row + i);
+			}
+			result.add(durations);
+		}
+		// Drop Cycles that were overwritten while copying
+		var overwritten = this.count.getAcquire() - (CAPACITY - 1) - (count - size);
+		if (overwritten > 0) {
+			return result.subList((int) Math.min(overwritten, size), size);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the {@link Statistics} of all recorded Cycles per {@link Phase}.
+	 *
+	 * @return the {@link Statistics}; empty if no Cycle was recorded
+	 */
+	public Map<Phase, Statistics> getStatistics() {
+		var cycles = this.getRecentCycles(CAPACITY);
+		var result = new EnumMap<Phase, Statistics>(Phase.class);
+		if (cycles.isEmpty()) {
+			return result;
+		}
+		var values = new long[cycles.size()];
+		for (var phase : PHASES) {
+			for (var i = 0; i < values.length; i++) {
+				values[i] = cycles.get(i)[phase.ordinal()];
+			}
+			Arrays.sort(values);
+			result.put(phase, new Statistics(//
+					percentile(values, 50), //
+					percentile(values, 95), //
+					percentile(values, 99), //
+					values[values.length - 1]));
+		}
+		return result;
+	}
+
+	/**
+	 * Formats the most recent Cycles for the log.
+	 *
+	 * @param limit the maximum number of Cycles
+	 * @return one line per Cycle with the durations of all phases in [ms]
+	 */
+	public String formatRecentCycles(int limit) {
+		var b = new StringBuilder();
+		for (var durations : this.getRecentCycles(limit)) {
+			b.append("\n ");
+			for (var phase : PHASES) {
+				b.append(" ") //
+						.append(phase.name()) //
+						.append(":") //
+						.append(TimeUnit.NANOSECONDS.toMillis(durations[phase.ordinal()]));
+			}
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Formats a hint to the slowest phase of a Cycle for the log. For phases that
+	 * dispatch an event the hint names the topic, whose handlers are measured as
+	 * a whole.
+	 *
+	 * @param durations the durations of the Cycle in [ns], indexed by
+	 *                  {@link Phase}
+	 * @return the hint
+	 */
+	public static String formatSlowestPhase(long[] durations) {
+		var slowest = PHASES[0];
+		for (var phase : PHASES) {
+			if (phase != Phase.TOTAL && durations[phase.ordinal()] > durations[slowest.ordinal()]) {
+				slowest = phase;
+			}
+		}
+		var b = new StringBuilder() //
+				.append("Slowest phase [").append(slowest.name()).append("] took [") //
+				.append(TimeUnit.NANOSECONDS.toMillis(durations[slowest.ordinal()])).append("ms]");
+		if (slowest.topic != null) {
+			b.append(" in all handlers of event [").append(slowest.topic).append("]");
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Gets the value at the given percentile using the nearest-rank method.
+	 *
+	 * @param sorted     the sorted values; not empty
+	 * @param percentile the percentile in [0, 100]
+	 * @return the value
+	 */
+	protected static long percentile(long[] sorted, int percentile) {
+		var rank = (int) Math.ceil(percentile / 100. * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, CycleProfiler.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			// 'jdk.jfr' is an optional import
+			return false;
+		}
+	}
+
+}
@@ -1,12 +1,10 @@
 package io.openems.edge.core.cycle;
 
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.base.Stopwatch;
-
 import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -14,6 +12,7 @@ import io.openems.common.worker.AbstractWorker;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
@@ -33,7 +32,8 @@ public class CycleWorker extends AbstractWorker {
 	@Override
 	protected void forever() {
 		// Prepare Cycle-Time measurement
-		var stopwatch = Stopwatch.createStarted();
+		final var profiler = this.parent.profiler;
+		profiler.start();
 
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
@@ -48,19 +48,25 @@ public class CycleWorker extends AbstractWorker {
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			profiler.mark(Phase.BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
+			final var changedChannels = this.parent.changedChannels;
 			this.parent.componentManager.getEnabledComponents().stream() //
 					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
 					.forEach(component -> {
 						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
+							if (channel.nextProcessImage()) {
+								changedChannels.markChanged(channel);
+							}
 						});
 					});
 			this.parent.channels().forEach(channel -> {
-				channel.nextProcessImage();
+				if (channel.nextProcessImage()) {
+					changedChannels.markChanged(channel);
+				}
 			});
 
 			/*
@@ -68,23 +74,29 @@ public class CycleWorker extends AbstractWorker {
 			 */
 			this.parent.sumComponent.updateChannelsBeforeProcessImage();
 			this.parent.sumComponent.channels().forEach(channel -> {
-				channel.nextProcessImage();
+				if (channel.nextProcessImage()) {
+					changedChannels.markChanged(channel);
+				}
 			});
+			profiler.mark(Phase.PROCESS_IMAGE);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			profiler.mark(Phase.AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			profiler.mark(Phase.BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
+			var controllers = new ArrayList<Controller>();
 
 			/*
-			 * Execute Schedulers and their Controllers
+			 * Collect Controllers from Schedulers
 			 */
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
@@ -109,30 +121,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
-						}
+						controllers.add(controller);
 					}
 
 					// announce Scheduler Controller is missing
@@ -140,28 +129,39 @@ public class CycleWorker extends AbstractWorker {
 				}
 			}
 
+			/*
+			 * Execute the Controllers
+			 */
+			var result = this.parent.controllerExecutor.execute(controllers);
+			this.parent.updateControllerExecutionTimes(result);
+
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			profiler.mark(Phase.CONTROLLERS);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			profiler.mark(Phase.AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			profiler.mark(Phase.BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			profiler.mark(Phase.EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			profiler.mark(Phase.AFTER_WRITE);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -172,7 +172,7 @@ public class CycleWorker extends AbstractWorker {
 		}
 
 		// Measure actual Cycle-Time
-		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		this.parent.updateCycleTimes(this.log, profiler.finish());
 	}
 
 }
@@ -0,0 +1,139 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import static io.openems.common.jsonrpc.serialization.JsonSerializerUtil.emptyObjectSerializer;
+import static io.openems.common.jsonrpc.serialization.JsonSerializerUtil.jsonObjectSerializer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.serialization.JsonSerializer;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.jsonapi.EndpointRequestType;
+import io.openems.edge.core.cycle.CycleProfiler;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
+import io.openems.edge.core.cycle.CycleProfiler.Statistics;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfile.Request;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfile.Response;
+
+/**
+ * Gets the durations of the phases of the recent Cycles as recorded by the
+ * {@link CycleProfiler}.
+ *
+ * <p>
+ * Request:
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleProfile",
+ *   "params": {}
+ * }
+ * </pre>
+ *
+ * <p>
+ * Response:
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "cycles": number, // number of evaluated Cycles
+ *     "phases": {
+ *       [phase: {@link Phase}]: {
+ *         "p50": number, // in [us]
+ *         "p95": number,
+ *         "p99": number,
+ *         "max": number
+ *       }
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleProfile implements EndpointRequestType<Request, Response> {
+
+	@Override
+	public String getMethod() {
+		return "getCycleProfile";
+	}
+
+	@Override
+	public JsonSerializer<Request> getRequestSerializer() {
+		return Request.serializer();
+	}
+
+	@Override
+	public JsonSerializer<Response> getResponseSerializer() {
+		return Response.serializer();
+	}
+
+	public record Request() {
+
+		/**
+		 * Returns a {@link JsonSerializer} for a {@link GetCycleProfile.Request}.
+		 * 
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<Request> serializer() {
+			return emptyObjectSerializer(Request::new);
+		}
+
+	}
+
+	public record Response(//
+			int cycles, //
+			Map<Phase, Statistics> phases //
+	) {
+
+		/**
+		 * Returns a {@link JsonSerializer} for a {@link GetCycleProfile.Response}.
+		 * 
+		 * @return the created {@link JsonSerializer}
+		 */
+		public static JsonSerializer<Response> serializer() {
+			return jsonObjectSerializer(Response.class, //
+					json -> {
+						var phases = new EnumMap<Phase, Statistics>(Phase.class);
+						json.getJsonObject("phases").entrySet().forEach(entry -> {
+							var s = entry.getValue().getAsJsonObject();
+							phases.put(Phase.valueOf(entry.getKey()), new Statistics(//
+									fromMicros(s, "p50"), //
+									fromMicros(s, "p95"), //
+									fromMicros(s, "p99"), //
+									fromMicros(s, "max")));
+						});
+						return new Response(json.get().get("cycles").getAsInt(), phases);
+					}, //
+					obj -> {
+						var phases = JsonUtils.buildJsonObject();
+						obj.phases().forEach((phase, s) -> {
+							phases.add(phase.name(), JsonUtils.buildJsonObject() //
+									.addProperty("p50", toMicros(s.p50())) //
+									.addProperty("p95", toMicros(s.p95())) //
+									.addProperty("p99", toMicros(s.p99())) //
+									.addProperty("max", toMicros(s.max())) //
+									.build());
+						});
+						return JsonUtils.buildJsonObject() //
+								.addProperty("cycles", obj.cycles()) //
+								.add("phases", phases.build()) //
+								.build();
+					});
+		}
+
+		private static long toMicros(long nanos) {
+			return TimeUnit.NANOSECONDS.toMicros(nanos);
+		}
+
+		private static long fromMicros(JsonObject json, String member) {
+			return TimeUnit.MICROSECONDS.toNanos(json.get(member).getAsLong());
+		}
+
+	}
+
+}
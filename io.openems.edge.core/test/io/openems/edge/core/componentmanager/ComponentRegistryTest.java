@@ -0,0 +1,211 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.meta.Meta;
+import io.openems.edge.common.test.DummyMeta;
+
+public class ComponentRegistryTest {
+
+	/**
+	 * A minimal service registry that backs a {@link BundleContext} proxy.
+	 */
+	private static class DummyRegistry {
+
+		private final Map<ServiceReference<?>, Object> services = new HashMap<>();
+		private final Map<ServiceReference<?>, Map<String, Object>> properties = new HashMap<>();
+		private final List<ServiceListener> listeners = new ArrayList<>();
+		private long nextServiceId = 1;
+		private int getServiceCalls = 0;
+		private int usages = 0;
+		private Runnable onGetService = null;
+
+		private final BundleContext bundleContext = (BundleContext) Proxy.newProxyInstance(
+				this.getClass().getClassLoader(), new Class<?>[] { BundleContext.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "addServiceListener":
+						this.listeners.add((ServiceListener) args[0]);
+						return null;
+					case "removeServiceListener":
+						this.listeners.remove(args[0]);
+						return null;
+					case "getServiceReferences":
+						return this.services.isEmpty() ? null
+								: this.services.keySet().toArray(new ServiceReference<?>[0]);
+					case "getService":
+						var onGetService = this.onGetService;
+						this.onGetService = null;
+						if (onGetService != null) {
+							onGetService.run();
+						}
+						synchronized (this) {
+							this.getServiceCalls++;
+							this.usages++;
+						}
+						return this.services.get(args[0]);
+					case "ungetService":
+						synchronized (this) {
+							this.usages--;
+						}
+						return true;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+
+		private ServiceReference<?> register(OpenemsComponent component, boolean enabled, String factoryPid,
+				String... objectClass) {
+			var props = new HashMap<String, Object>();
+			props.put("id", component.id());
+			props.put("enabled", enabled);
+			props.put("service.factoryPid", factoryPid);
+			props.put(Constants.OBJECTCLASS, objectClass);
+			props.put(Constants.SERVICE_ID, this.nextServiceId++);
+			var reference = (ServiceReference<?>) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+					new Class<?>[] { ServiceReference.class }, (proxy, method, args) -> {
+						switch (method.getName()) {
+						case "getProperty":
+							return props.get(args[0]);
+						case "getBundle":
+							return this.services.containsKey(proxy) ? DUMMY_BUNDLE : null;
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == args[0];
+						case "toString":
+							return "ServiceReference " + props.get("id");
+						}
+						throw new UnsupportedOperationException(method.getName());
+					});
+			this.services.put(reference, component);
+			this.properties.put(reference, props);
+			this.fire(ServiceEvent.REGISTERED, reference);
+			return reference;
+		}
+
+		private void setEnabled(ServiceReference<?> reference, boolean enabled) {
+			this.properties.get(reference).put("enabled", enabled);
+			this.fire(ServiceEvent.MODIFIED, reference);
+		}
+
+		private void unregister(ServiceReference<?> reference) {
+			this.fire(ServiceEvent.UNREGISTERING, reference);
+			this.services.remove(reference);
+		}
+
+		private void fire(int type, ServiceReference<?> reference) {
+			for (var listener : this.listeners) {
+				listener.serviceChanged(new ServiceEvent(type, reference));
+			}
+		}
+	}
+
+	private static final Bundle DUMMY_BUNDLE = (Bundle) Proxy.newProxyInstance(
+			ComponentRegistryTest.class.getClassLoader(), new Class<?>[] { Bundle.class }, (proxy, method, args) -> {
+				throw new UnsupportedOperationException(method.getName());
+			});
+
+	private static final String OPENEMS_COMPONENT = OpenemsComponent.class.getName();
+	private static final String META = Meta.class.getName();
+
+	@Test
+	public void test() throws Exception {
+		var dummy = new DummyRegistry();
+		var cm = new DummyMeta("_componentManager");
+		var meta0 = new DummyMeta("meta0");
+		dummy.register(cm, true, ComponentManager.SINGLETON_SERVICE_PID, OPENEMS_COMPONENT);
+		var meta0Ref = dummy.register(meta0, true, "Meta", OPENEMS_COMPONENT, META);
+
+		var sut = new ComponentRegistry(dummy.bundleContext);
+		sut.open();
+
+		assertEquals(List.of(meta0), sut.getEnabledComponents());
+		assertEquals(List.of(meta0), sut.getAllComponents());
+		assertEquals(List.of(meta0), sut.getEnabledComponentsOfType(Meta.class));
+		assertEquals(List.of(cm, meta0), sut.getEnabledComponentsOfType(OpenemsComponent.class));
+		assertSame(cm, sut.getComponent("_componentManager", true));
+		assertSame(meta0, sut.getComponent("meta0", true));
+		assertNull(sut.getComponent("meta1", false));
+
+		// Snapshot is reused while there are no service events
+		var snapshot = sut.getEnabledComponents();
+		assertSame(snapshot, sut.getEnabledComponents());
+		assertSame(sut.getEnabledComponentsOfType(Meta.class), sut.getEnabledComponentsOfType(Meta.class));
+		assertEquals(2, dummy.getServiceCalls);
+
+		// Register
+		var meta1 = new DummyMeta("meta1");
+		var meta1Ref = dummy.register(meta1, false, "Meta", OPENEMS_COMPONENT, META);
+		assertEquals(List.of(meta0), sut.getEnabledComponents());
+		assertEquals(List.of(meta0, meta1), sut.getAllComponents());
+		assertNull(sut.getComponent("meta1", true));
+		assertSame(meta1, sut.getComponent("meta1", false));
+		assertEquals(3, dummy.getServiceCalls);
+
+		// Modify
+		dummy.setEnabled(meta1Ref, true);
+		assertEquals(List.of(meta0, meta1), sut.getEnabledComponents());
+		assertEquals(List.of(meta0, meta1), sut.getEnabledComponentsOfType(Meta.class));
+		assertSame(meta1, sut.getComponent("meta1", true));
+		assertEquals(3, dummy.getServiceCalls);
+
+		// Unregister
+		dummy.unregister(meta0Ref);
+		assertEquals(List.of(meta1), sut.getEnabledComponents());
+		assertNull(sut.getComponent("meta0", false));
+		assertTrue(snapshot.contains(meta0));
+
+		sut.close();
+		assertEquals(0, dummy.usages);
+		assertTrue(dummy.listeners.isEmpty());
+	}
+
+	@Test
+	public void testGetServiceFromOtherThread() throws Exception {
+		var dummy = new DummyRegistry();
+		var meta0 = new DummyMeta("meta0");
+		dummy.register(meta0, true, "Meta", OPENEMS_COMPONENT, META);
+		var sut = new ComponentRegistry(dummy.bundleContext);
+		sut.open();
+
+		// Activation of the Component waits for another thread that accesses the
+		// registry
+		var other = new AtomicReference<List<OpenemsComponent>>();
+		dummy.onGetService = () -> {
+			var thread = new Thread(() -> other.set(sut.getEnabledComponents()));
+			thread.start();
+			try {
+				thread.join(5_000);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		};
+		assertEquals(List.of(meta0), sut.getEnabledComponents());
+		assertEquals(List.of(meta0), other.get());
+
+		// Surplus usage was given back
+		assertEquals(1, dummy.usages);
+		sut.close();
+		assertEquals(0, dummy.usages);
+	}
+
+}
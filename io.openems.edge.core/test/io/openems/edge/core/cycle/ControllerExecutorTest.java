@@ -0,0 +1,140 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.controller.api.ChannelDependencies;
+import io.openems.edge.controller.test.DummyController;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class ControllerExecutorTest {
+
+	private static ControllerExecutor createExecutor(DummyComponentManager componentManager) {
+		var cycle = new CycleImpl();
+		cycle.componentManager = componentManager;
+		return new ControllerExecutor(cycle);
+	}
+
+	@Test
+	public void testConflicts() {
+		var a = ChannelDependencies.create().read("meter0", "ActivePower").write("io0").build();
+		var b = ChannelDependencies.create().read("meter0").build();
+		var c = ChannelDependencies.create().read("io0", "Relay1").build();
+
+		assertFalse(a.conflictsWith(b));
+		assertTrue(a.conflictsWith(c));
+		assertTrue(c.conflictsWith(a));
+		assertFalse(b.conflictsWith(c));
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		var sut = createExecutor(new DummyComponentManager());
+		sut.setParallel(true);
+		try {
+			var latch = new CountDownLatch(1);
+			var ctrl0Finished = new AtomicBoolean(false);
+			var ctrl2WasOrdered = new AtomicBoolean(false);
+
+			var ctrl0 = new DummyController("ctrl0") //
+					.withChannelDependencies(ChannelDependencies.create().write("io0", "Relay1").build()) //
+					.setRunCallback(() -> {
+						try {
+							// Only succeeds if ctrl1 runs in parallel
+							assertTrue(latch.await(5, TimeUnit.SECONDS));
+						} catch (InterruptedException e) {
+							throw new RuntimeException(e);
+						}
+						ctrl0Finished.set(true);
+					});
+			var ctrl1 = new DummyController("ctrl1") //
+					.withChannelDependencies(ChannelDependencies.create().read("meter0").build()) //
+					.setRunCallback(latch::countDown);
+			var ctrl2 = new DummyController("ctrl2") //
+					.withChannelDependencies(ChannelDependencies.create().read("io0").build()) //
+					.setRunCallback(() -> ctrl2WasOrdered.set(ctrl0Finished.get()));
+
+			var result = sut.execute(List.of(ctrl0, ctrl1, ctrl2));
+
+			assertTrue(ctrl0Finished.get());
+			assertTrue(ctrl2WasOrdered.get());
+			assertEquals(3, result.executionTimes().size());
+			assertTrue(result.criticalPath() >= result.executionTimes().get("ctrl0"));
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testEssPowerOrder() throws Exception {
+		var sut = createExecutor(new DummyComponentManager() //
+				.addComponent(new DummyManagedSymmetricEss("ess0")) //
+				.addComponent(new DummyManagedSymmetricEss("ess1")));
+		sut.setParallel(true);
+		try {
+			var ctrl0Finished = new AtomicBoolean(false);
+			var ctrl1WasOrdered = new AtomicBoolean(false);
+
+			var ctrl0 = new DummyController("ctrl0") //
+					.withChannelDependencies(ChannelDependencies.create().write("ess0").build()) //
+					.setRunCallback(() -> {
+						try {
+							Thread.sleep(50);
+						} catch (InterruptedException e) {
+							throw new RuntimeException(e);
+						}
+						ctrl0Finished.set(true);
+					});
+			// Different ESS, but same EssPower solver
+			var ctrl1 = new DummyController("ctrl1") //
+					.withChannelDependencies(ChannelDependencies.create().write("ess1").build()) //
+					.setRunCallback(() -> ctrl1WasOrdered.set(ctrl0Finished.get()));
+
+			sut.execute(List.of(ctrl0, ctrl1));
+
+			assertTrue(ctrl1WasOrdered.get());
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testExecutionTimeChannels() throws Exception {
+		var ctrl0 = new DummyController("ctrl0");
+		var componentManager = new DummyComponentManager().addComponent(ctrl0);
+		var cycle = new CycleImpl();
+		cycle.componentManager = componentManager;
+		var channels = cycle.channels().size();
+
+		cycle.updateControllerExecutionTimes(new ControllerExecutor.Result(Map.of("ctrl0", 1_000_000L), 1_000_000L));
+		assertEquals(channels + 1, cycle.channels().size());
+		var channel = cycle.channel("Ctrl0ExecutionTime");
+		assertEquals(1L, channel.getNextValue().get());
+
+		// Channel is kept while the Controller exists
+		cycle.updateControllerExecutionTimes(new ControllerExecutor.Result(Map.of(), 0L));
+		assertSame(channel, cycle.channel("Ctrl0ExecutionTime"));
+		assertNull(channel.getNextValue().get());
+
+		// ...and removed once it is gone
+		var cycle2 = new CycleImpl();
+		cycle2.componentManager = new DummyComponentManager();
+		cycle2.updateControllerExecutionTimes(new ControllerExecutor.Result(Map.of("ctrl0", 0L), 0L));
+		cycle2.updateControllerExecutionTimes(new ControllerExecutor.Result(Map.of(), 0L));
+		assertEquals(channels, cycle2.channels().size());
+	}
+}
@@ -0,0 +1,69 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
+
+public class CycleProfilerTest {
+
+	@Test
+	public void testPercentile() {
+		var values = new long[100];
+		for (var i = 0; i < values.length; i++) {
+			values[i] = i + 1;
+		}
+		assertEquals(50, CycleProfiler.percentile(values, 50));
+		assertEquals(95, CycleProfiler.percentile(values, 95));
+		assertEquals(99, CycleProfiler.percentile(values, 99));
+		assertEquals(100, CycleProfiler.percentile(values, 100));
+		assertEquals(7, CycleProfiler.percentile(new long[] { 7 }, 50));
+	}
+
+	@Test
+	public void testRingBuffer() {
+		var sut = new CycleProfiler();
+		assertTrue(sut.getStatistics().isEmpty());
+
+		for (var i = 0; i < CycleProfiler.CAPACITY + 10; i++) {
+			sut.start();
+			sut.mark(Phase.BEFORE_PROCESS_IMAGE);
+			sut.mark(Phase.CONTROLLERS);
+			var durations = sut.finish();
+			assertEquals(Phase.values().length, durations.length);
+			assertTrue(durations[Phase.TOTAL.ordinal()] >= durations[Phase.CONTROLLERS.ordinal()]);
+			assertEquals(0, durations[Phase.AFTER_WRITE.ordinal()]);
+		}
+		assertEquals(CycleProfiler.CAPACITY + 10, sut.getCount());
+		assertEquals(CycleProfiler.CAPACITY - 1, sut.getRecentCycles(Integer.MAX_VALUE).size());
+		assertEquals(3, sut.getRecentCycles(3).size());
+
+		var statistics = sut.getStatistics();
+		assertEquals(Phase.values().length, statistics.size());
+		var total = statistics.get(Phase.TOTAL);
+		assertTrue(total.p50() <= total.p95());
+		assertTrue(total.p95() <= total.p99());
+		assertTrue(total.p99() <= total.max());
+		assertEquals(0, statistics.get(Phase.AFTER_WRITE).max());
+
+		var log = sut.formatRecentCycles(2);
+		assertEquals(2, log.split("\n").length - 1);
+		assertTrue(log.contains("CONTROLLERS:"));
+	}
+
+	@Test
+	public void testFormatSlowestPhase() {
+		var durations = new long[Phase.values().length];
+		durations[Phase.CONTROLLERS.ordinal()] = 20_000_000;
+		durations[Phase.TOTAL.ordinal()] = 50_000_000;
+		assertEquals("Slowest phase [CONTROLLERS] took [20ms]", CycleProfiler.formatSlowestPhase(durations));
+
+		durations[Phase.BEFORE_WRITE.ordinal()] = 30_000_000;
+		assertEquals("Slowest phase [BEFORE_WRITE] took [30ms] in all handlers of event ["
+				+ EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE + "]", CycleProfiler.formatSlowestPhase(durations));
+	}
+
+}
@@ -11,5 +11,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Is enabled?", description = "Is this Component enabled?")
 	boolean enabled() default true;
 
+	@AttributeDefinition(name = "Optimizer Threads", description = "Number of threads that evaluate Schedules in parallel. Limited to the number of available processors - 1; '0' for this maximum.")
+	int optimizerThreads() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Core Energy Scheduler";
 }
\ No newline at end of file
@@ -130,6 +130,8 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent
 			return false;
 		}
 
+		this.optimizer.setThreads(config.optimizerThreads());
+
 		return true;
 	}
 
@@ -40,6 +40,7 @@ public class Optimizer extends AbstractImmediateWorker {
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
 
 	private Params params = null;
+	private volatile int threads = 1;
 
 	public Optimizer(ThrowingSupplier<GlobalContext, OpenemsException> globalContext) {
 		this.globalContext = globalContext;
@@ -64,7 +65,7 @@ public class Optimizer extends AbstractImmediateWorker {
 		executionLimitSeconds = calculateExecutionLimitSeconds(globalContext.clock());
 
 		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds, this.threads);
 
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
@@ -95,6 +96,16 @@ public class Optimizer extends AbstractImmediateWorker {
 		}
 	}
 
+	/**
+	 * Sets the number of threads that evaluate Schedules in parallel.
+	 * 
+	 * @param threads number of threads; limited to the number of available
+	 *                processors - 1; '0' for this maximum
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
 	/**
 	 * Try forever till all data is available (e.g. ESS Capacity)
 	 * 
@@ -0,0 +1,119 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.simulatePeriod;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Memoizes the simulation of Schedule prefixes for one {@link Params}.
+ *
+ * <p>
+ * The result of simulating a period only depends on the {@link StateMachine}
+ * states of the periods before. Simulated prefixes are kept in a tree, so a
+ * Schedule is only simulated from the first period that differs from an
+ * already known Schedule. The genetic algorithm produces mostly small
+ * variations of existing Schedules, so most periods are not simulated again.
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public class SimulationCache {
+
+	/** Limits memory usage: about 80 bytes per node. */
+	public static final int DEFAULT_MAX_NODES = 200_000;
+
+	private static final int NO_OF_STATES = StateMachine.values().length;
+
+	private static final class Node {
+		private final int nextEssInitial;
+		private final double cost;
+		private final AtomicReferenceArray<Node> children = new AtomicReferenceArray<>(NO_OF_STATES);
+
+		private Node(int nextEssInitial, double cost) {
+			this.nextEssInitial = nextEssInitial;
+			this.cost = cost;
+		}
+	}
+
+	private final Params p;
+	private final int maxNodes;
+	private final Node root;
+	private final AtomicInteger nodes = new AtomicInteger();
+
+	public SimulationCache(Params p) {
+		this(p, DEFAULT_MAX_NODES);
+	}
+
+	public SimulationCache(Params p, int maxNodes) {
+		this.p = p;
+		this.maxNodes = maxNodes;
+		this.root = new Node(p.essInitialEnergy(), 0.);
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost. Returns the same result as
+	 * {@link Simulator#calculateCost(Params, StateMachine[])}.
+	 *
+	 * @param schedule the {@link StateMachine} states of the Schedule
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(StateMachine[] schedule) {
+		final var periods = this.p.optimizePeriods();
+
+		// Find longest known prefix
+		var node = this.root;
+		var i = 0;
+		for (; i < periods.size(); i++) {
+			var child = node.children.get(schedule[i].ordinal());
+			if (child == null) {
+				break;
+			}
+			node = child;
+		}
+
+		// Simulate remaining periods
+		final var nextEssInitial = new AtomicInteger(node.nextEssInitial);
+		var sum = node.cost;
+		for (; i < periods.size(); i++) {
+			sum += simulatePeriod(this.p, periods.get(i), schedule[i], nextEssInitial, null);
+			if (node != null) {
+				node = this.addChild(node, schedule[i].ordinal(), nextEssInitial.get(), sum);
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Adds a child to the tree.
+	 *
+	 * @param parent         the parent {@link Node}
+	 * @param index          the index of the child
+	 * @param nextEssInitial the initial SoC-Energy of the next period
+	 * @param cost           the cumulated cost
+	 * @return the child; null if the tree is full
+	 */
+	private Node addChild(Node parent, int index, int nextEssInitial, double cost) {
+		if (this.nodes.get() >= this.maxNodes) {
+			return null;
+		}
+		var child = new Node(nextEssInitial, cost);
+		if (parent.children.compareAndSet(index, null, child)) {
+			this.nodes.incrementAndGet();
+			return child;
+		}
+		// Added concurrently by another thread; results are equal
+		return parent.children.get(index);
+	}
+
+	/**
+	 * Gets the number of cached periods.
+	 *
+	 * @return the number of nodes
+	 */
+	public int size() {
+		return this.nodes.get();
+	}
+}
@@ -6,9 +6,12 @@ import static io.openems.edge.energy.optimizer.InitialPopulationUtils.buildIniti
 import static io.openems.edge.energy.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.energy.optimizer.Utils.postprocessSimulatorState;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.time.Duration.ofSeconds;
 
 import java.time.ZonedDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -17,11 +20,13 @@ import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evaluators;
 import io.jenetics.engine.EvolutionResult;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.energy.optimizer.Params.Length;
@@ -128,18 +133,49 @@ public class Simulator {
 	}
 
 	/**
-	 * Runs the optimization with default settings.
+	 * Runs the optimization with default settings in a single thread.
 	 * 
 	 * @param p                     the {@link Params}
 	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
 	 * @return the best schedule
 	 */
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds) {
-		return getBestSchedule(p, executionLimitSeconds, null, null);
+		return getBestSchedule(p, executionLimitSeconds, 1);
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param threads               number of threads that evaluate Schedules in
+	 *                              parallel; see {@link #getNumberOfThreads(int)}
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, int threads) {
+		return getBestSchedule(p, executionLimitSeconds, null, null, threads);
+	}
+
+	/**
+	 * Gets the number of threads that evaluate Schedules in parallel. One
+	 * processor is always left for the Cycle.
+	 * 
+	 * @param threads the configured number of threads; '0' for the maximum
+	 * @return the number of threads; at least 1 and at most the number of
+	 *         available processors - 1
+	 */
+	protected static int getNumberOfThreads(int threads) {
+		var maxThreads = max(1, Runtime.getRuntime().availableProcessors() - 1);
+		return threads > 0 ? min(threads, maxThreads) : maxThreads;
 	}
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, populationSize, limit, 1);
+	}
+
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
+			Integer limit, int threads) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
 			return p.optimizePeriods().stream() //
@@ -147,31 +183,53 @@ public class Simulator {
 					.toArray(StateMachine[]::new);
 		}
 
-		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
-			}
-			return calculateCost(p, modes);
-		};
-		var engine = Engine //
-				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
-				.minimizing();
-		if (populationSize != null) {
-			engine.populationSize(populationSize); //
+		var noOfThreads = getNumberOfThreads(threads);
+		final ExecutorService executor;
+		if (noOfThreads > 1) {
+			executor = Executors.newFixedThreadPool(noOfThreads, new ThreadFactoryBuilder() //
+					.setNameFormat("Energy-Optimizer-%d") //
+					.setPriority(Thread.MIN_PRIORITY) //
+					.setDaemon(true) //
+					.build());
+		} else {
+			executor = null;
 		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
-				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
-		if (limit != null) {
-			stream = stream.limit(limit); // apply optional limit
+
+		try {
+			var cache = new SimulationCache(p);
+			var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)),
+					p.optimizePeriods().size()); //
+			var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
+				var modes = new StateMachine[p.optimizePeriods().size()];
+				for (var i = 0; i < modes.length; i++) {
+					modes[i] = p.states()[gt.get(i).get(0).intValue()];
+				}
+				return cache.calculateCost(modes);
+			};
+			var engine = new Engine.Builder<>(executor == null //
+					? Evaluators.serial(eval) //
+					: Evaluators.concurrent(eval, executor), gtf) //
+					.executor(Runnable::run) // current thread; the RandomRegistry is not thread-safe
+					.minimizing();
+			if (populationSize != null) {
+				engine.populationSize(populationSize); //
+			}
+			Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
+					.stream(buildInitialPopulation(p)) //
+					.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
+			if (limit != null) {
+				stream = stream.limit(limit); // apply optional limit
+			}
+			var bestGt = stream //
+					.collect(toBestGenotype());
+			return IntStream.range(0, p.optimizePeriods().size()) //
+					.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
+					.toArray(StateMachine[]::new);
+
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
 		}
-		var bestGt = stream //
-				.collect(toBestGenotype());
-		return IntStream.range(0, p.optimizePeriods().size()) //
-				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
-				.toArray(StateMachine[]::new);
 	}
 }
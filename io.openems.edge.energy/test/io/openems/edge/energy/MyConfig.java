@@ -12,6 +12,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int essMaxChargePower;
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
+		private int optimizerThreads = 1;
 
 		private Builder() {
 		}
@@ -46,6 +47,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -71,4 +77,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public boolean enabled() {
 		return this.builder.enabled;
 	}
+
+	@Override
+	public int optimizerThreads() {
+		return this.builder.optimizerThreads;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.calculateCost;
+import static io.openems.edge.energy.optimizer.SimulatorTest.createParams888d20231106;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.openems.edge.controller.ess.timeofusetariff.ControlMode;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class SimulationCacheTest {
+
+	@Test
+	public void testCalculateCost() {
+		var p = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		var noOfPeriods = p.optimizePeriods().size();
+		var sut = new SimulationCache(p);
+		var random = new Random(123);
+
+		var schedule = new StateMachine[noOfPeriods];
+		for (var i = 0; i < schedule.length; i++) {
+			schedule[i] = p.states()[random.nextInt(p.states().length)];
+		}
+		assertEquals(calculateCost(p, schedule), sut.calculateCost(schedule), 0.);
+		assertEquals(noOfPeriods, sut.size());
+
+		// Fully cached
+		assertEquals(calculateCost(p, schedule), sut.calculateCost(schedule), 0.);
+		assertEquals(noOfPeriods, sut.size());
+
+		// Mutations only simulate from the first changed period
+		for (var run = 0; run < 100; run++) {
+			var size = sut.size();
+			var index = random.nextInt(noOfPeriods);
+			schedule = schedule.clone();
+			schedule[index] = p.states()[random.nextInt(p.states().length)];
+			assertEquals(calculateCost(p, schedule), sut.calculateCost(schedule), 0.);
+			assertTrue(sut.size() - size <= noOfPeriods - index);
+		}
+	}
+
+	@Test
+	public void testMaxNodes() {
+		var p = createParams888d20231106(ControlMode.CHARGE_CONSUMPTION.states);
+		var sut = new SimulationCache(p, 10);
+
+		var schedule = new StateMachine[p.optimizePeriods().size()];
+		for (var i = 0; i < schedule.length; i++) {
+			schedule[i] = p.states()[i % p.states().length];
+		}
+		assertEquals(calculateCost(p, schedule), sut.calculateCost(schedule), 0.);
+		assertEquals(calculateCost(p, schedule), sut.calculateCost(schedule), 0.);
+		assertEquals(10, sut.size());
+	}
+
+}
@@ -7,6 +7,7 @@ import static io.openems.edge.energy.TestData.CONSUMPTION_888_20231106;
 import static io.openems.edge.energy.TestData.PRICES_888_20231106;
 import static io.openems.edge.energy.TestData.PRODUCTION_888_20231106;
 import static io.openems.edge.energy.optimizer.Simulator.getBestSchedule;
+import static io.openems.edge.energy.optimizer.Simulator.getNumberOfThreads;
 import static io.openems.edge.energy.optimizer.Simulator.simulate;
 import static io.openems.edge.energy.optimizer.Utils.interpolateArray;
 import static io.openems.edge.energy.optimizer.Utils.toEnergy;
@@ -203,4 +204,12 @@ public class SimulatorTest {
 				.flatMap(v -> DoubleStream.of(v, v, v, v)) //
 				.toArray();
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testGetNumberOfThreads() {
+		var maxThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		assertEquals(1, getNumberOfThreads(1));
+		assertEquals(maxThreads, getNumberOfThreads(0));
+		assertEquals(maxThreads, getNumberOfThreads(Integer.MAX_VALUE));
+	}
+}
@@ -1,8 +1,9 @@
 package io.openems.edge.ess.power.api;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -12,6 +13,11 @@ public class Coefficients {
 
 	private final List<Coefficient> coefficients = new CopyOnWriteArrayList<>();
 
+	/**
+	 * Ess-ID to Coefficients, indexed by {@link #index(Phase, Pwr)}.
+	 */
+	private volatile Map<String, Coefficient[]> coefficientsByEssId = Collections.emptyMap();
+
 	private boolean symmetricMode = false;
 	private int noOfCoefficients = 0;
 
@@ -26,25 +32,38 @@ public class Coefficients {
 	public synchronized void initialize(boolean symmetricMode, Set<String> essIds) {
 		this.coefficients.clear();
 		this.symmetricMode = symmetricMode;
+		var coefficientsByEssId = new HashMap<String, Coefficient[]>();
 		var index = 0;
 		for (String essId : essIds) {
+			var cos = new Coefficient[Phase.values().length * Pwr.values().length];
+			coefficientsByEssId.put(essId, cos);
 			if (symmetricMode) {
 				// Symmetric Mode
 				for (Pwr pwr : Pwr.values()) {
-					this.coefficients.add(new Coefficient(index++, essId, Phase.ALL, pwr));
+					this.add(cos, new Coefficient(index++, essId, Phase.ALL, pwr));
 				}
 			} else {
 				// Asymmetric Mode
 				for (Phase phase : Phase.values()) {
 					for (Pwr pwr : Pwr.values()) {
-						this.coefficients.add(new Coefficient(index++, essId, phase, pwr));
+						this.add(cos, new Coefficient(index++, essId, phase, pwr));
 					}
 				}
 			}
 		}
+		this.coefficientsByEssId = coefficientsByEssId;
 		this.noOfCoefficients = index;
 	}
 
+	private void add(Coefficient[] cos, Coefficient coefficient) {
+		this.coefficients.add(coefficient);
+		cos[index(coefficient.phase, coefficient.pwr)] = coefficient;
+	}
+
+	private static int index(Phase phase, Pwr pwr) {
+		return phase.ordinal() * Pwr.values().length + pwr.ordinal();
+	}
+
 	/**
 	 * Gets the {@link Coefficient} for the given Ess-ID, {@link Phase} and
 	 * {@link Pwr}.
@@ -60,10 +79,9 @@ public class Coefficients {
 			throw new OpenemsException("Symmetric-Mode is activated. Coefficients for [" + essId + "," + phase + ","
 					+ pwr + "] is not available!");
 		}
-		for (Coefficient c : this.coefficients) {
-			if (Objects.equals(c.essId, essId) && c.phase == phase && c.pwr == pwr) {
-				return c;
-			}
+		var cos = this.coefficientsByEssId.get(essId);
+		if (cos != null && cos[index(phase, pwr)] != null) {
+			return cos[index(phase, pwr)];
 		}
 		throw new OpenemsException("Coefficient for [" + essId + "," + phase + "," + pwr
 				+ "] was not found. Ess-Power is not (yet) fully initialized.");
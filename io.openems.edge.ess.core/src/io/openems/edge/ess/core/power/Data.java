@@ -5,17 +5,24 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
 import com.google.common.collect.Streams;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.data.ApparentPowerConstraintUtil;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.WeightsUtil;
+import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
@@ -40,6 +47,24 @@ public class Data {
 	private final List<Constraint> constraints = new CopyOnWriteArrayList<>();
 	private final Coefficients coefficients = new Coefficients();
 
+	/**
+	 * Constraints that only depend on the Ess setup, i.e. Meta-Ess, Sum-of-Phases,
+	 * Symmetric and Single-Phase Constraints. Built once after
+	 * {@link #updateInverters()}; null if not yet built.
+	 */
+	private volatile List<Constraint> setupConstraints = null;
+	private final ApparentPowerConstraintUtil.Cache apparentPowerCache = new ApparentPowerConstraintUtil.Cache();
+
+	/**
+	 * Results of {@link CalculatePowerExtrema}; valid until the Constraints
+	 * change, i.e. at most for one Cycle.
+	 */
+	private final Map<PowerExtremaKey, Double> powerExtrema = new ConcurrentHashMap<>();
+	private final AtomicLong constraintsVersion = new AtomicLong();
+
+	private static record PowerExtremaKey(String essId, Phase phase, Pwr pwr, GoalType goal) {
+	}
+
 	private boolean symmetricMode = EssPower.DEFAULT_SYMMETRIC_MODE;
 	private Consumer<Boolean> onStaticConstraintsFailed = null;
 
@@ -104,11 +129,17 @@ public class Data {
 		// Initially sort Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.sortByWeights(this.inverters);
+
+		// Constraints refer to the old Coefficients
+		this.setupConstraints = null;
+		this.apparentPowerCache.clear();
+		this.onConstraintsChanged();
 	}
 
 	protected synchronized void initializeCycle() {
 		// Remove Constraints of last Cycle
 		this.constraints.clear();
+		this.onConstraintsChanged();
 		// Update sorting of Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.adjustSortingByWeights(this.inverters);
@@ -124,10 +155,50 @@ public class Data {
 
 	protected void addConstraint(Constraint constraint) {
 		this.constraints.add(constraint);
+		this.onConstraintsChanged();
 	}
 
 	protected void removeConstraint(Constraint constraint) {
 		this.constraints.remove(constraint);
+		this.onConstraintsChanged();
+	}
+
+	/**
+	 * Invalidates cached results, e.g. after Constraints were added or removed or
+	 * Channel values were updated.
+	 */
+	protected void onConstraintsChanged() {
+		this.constraintsVersion.incrementAndGet();
+		this.powerExtrema.clear();
+	}
+
+	/**
+	 * Calculates the extrema under the current Constraints for the given
+	 * parameters. Results are kept until the Constraints change, so repeated
+	 * calls within a Cycle, e.g. by multiple Controllers, are cheap.
+	 *
+	 * @param essId the Component-ID of a {@link ManagedSymmetricEss}
+	 * @param phase the {@link Phase}
+	 * @param pwr   the {@link Pwr}
+	 * @param goal  the {@link GoalType}
+	 * @return the extrema value
+	 * @throws OpenemsException on error
+	 */
+	protected double getPowerExtrema(String essId, Phase phase, Pwr pwr, GoalType goal) throws OpenemsException {
+		var key = new PowerExtremaKey(essId, phase, pwr, goal);
+		var result = this.powerExtrema.get(key);
+		if (result != null) {
+			return result;
+		}
+		var version = this.constraintsVersion.get();
+		result = CalculatePowerExtrema.from(this.coefficients, this.getConstraintsForAllInverters(), essId, phase, pwr,
+				goal);
+		this.powerExtrema.put(key, result);
+		if (version != this.constraintsVersion.get()) {
+			// Constraints changed during calculation
+			this.powerExtrema.remove(key);
+		}
+		return result;
 	}
 
 	/**
@@ -148,7 +219,7 @@ public class Data {
 			phase = Phase.ALL;
 			value *= 3;
 		}
-		this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, //
+		this.addConstraint(ConstraintUtil.createSimpleConstraint(this.coefficients, //
 				description, essId, phase, pwr, relationship, value));
 	}
 
@@ -208,16 +279,36 @@ public class Data {
 		return Streams.concat(//
 				ConstraintUtil.createDisableConstraintsForInactiveInverters(this.coefficients, disabledInverters)
 						.stream(),
-				ConstraintUtil.createGenericEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
+				ConstraintUtil.createGenericEssConstraints(this.coefficients, this.esss, this.symmetricMode,
+						this.apparentPowerCache).stream(), //
 				ConstraintUtil.createStaticEssConstraints(this.esss, this.onStaticConstraintsFailed).stream(), //
-				ConstraintUtil.createMetaEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
-				ConstraintUtil.createSumOfPhasesConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
-				ConstraintUtil.createSymmetricEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
-				ConstraintUtil.createSinglePhaseEssConstraints(this.coefficients, this.inverters, this.symmetricMode)
-						.stream(), //
+				this.getSetupConstraints().stream(), //
 				this.constraints.stream()).collect(Collectors.toList());
 	}
 
+	/**
+	 * Gets the Constraints that only depend on the Ess setup.
+	 *
+	 * @return List of Constraints
+	 * @throws OpenemsException on error
+	 */
+	private List<Constraint> getSetupConstraints() throws OpenemsException {
+		var result = this.setupConstraints;
+		if (result == null) {
+			result = List.copyOf(Streams.concat(//
+					ConstraintUtil.createMetaEssConstraints(this.coefficients, this.esss, this.symmetricMode).stream(), //
+					ConstraintUtil.createSumOfPhasesConstraints(this.coefficients, this.esss, this.symmetricMode)
+							.stream(), //
+					ConstraintUtil.createSymmetricEssConstraints(this.coefficients, this.esss, this.symmetricMode)
+							.stream(), //
+					ConstraintUtil.createSinglePhaseEssConstraints(this.coefficients, this.inverters,
+							this.symmetricMode).stream() //
+			).collect(Collectors.toList()));
+			this.setupConstraints = result;
+		}
+		return result;
+	}
+
 	protected ManagedSymmetricEss getEss(String essId) {
 		for (ManagedSymmetricEss ess : this.esss) {
 			if (essId.equals(ess.id())) {
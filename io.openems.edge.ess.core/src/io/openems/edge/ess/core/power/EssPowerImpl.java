@@ -1,7 +1,5 @@
 package io.openems.edge.ess.core.power;
 
-import java.util.List;
-
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -31,7 +29,6 @@ import io.openems.edge.common.filter.PidFilter;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
-import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -49,6 +46,7 @@ import io.openems.edge.ess.power.api.Relationship;
 				"enabled=true" //
 		})
 @EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE, //
 		EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE, //
 		EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
 })
@@ -195,14 +193,13 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	}
 
 	private int getActivePowerExtrema(ManagedSymmetricEss ess, Phase phase, Pwr pwr, GoalType goal) {
-		final List<Constraint> allConstraints;
+		final double power;
 		try {
-			allConstraints = this.data.getConstraintsForAllInverters();
+			power = this.data.getPowerExtrema(ess.id(), phase, pwr, goal);
 		} catch (OpenemsException e) {
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.logError(this.log, goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + ","
 					+ pwr.toString() + "=" + power + "] is out of bounds. Returning '0'");
@@ -217,6 +214,10 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	@Override
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			// Ess Channel values changed
+			this.data.onConstraintsChanged();
+			break;
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE:
 			this.solver.solve(this.config.strategy());
 			break;
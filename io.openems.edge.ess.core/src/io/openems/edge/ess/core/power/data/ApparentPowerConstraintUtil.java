@@ -2,6 +2,8 @@ package io.openems.edge.ess.core.power.data;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
@@ -34,6 +36,49 @@ public class ApparentPowerConstraintUtil {
 	private ApparentPowerConstraintUtil() {
 	}
 
+	/**
+	 * Keeps the generated Constraints per Ess and Phase; they are only generated
+	 * again if the apparent power changes. Must be cleared if the
+	 * {@link Coefficients} are initialized again.
+	 */
+	public static class Cache {
+
+		private record Entry(double apparentPower, List<Constraint> constraints) {
+		}
+
+		private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+		/**
+		 * Generate Constraints for ApparentPower or get them from cache.
+		 *
+		 * @param coefficients  the {@link Coefficients}
+		 * @param essId         the Id of the {@link ManagedSymmetricEss}
+		 * @param phase         the {@link Phase}
+		 * @param apparentPower the apparent power in [VA]
+		 * @return a list of {@link Constraint}s
+		 * @throws OpenemsException on error
+		 */
+		public List<Constraint> generateConstraints(Coefficients coefficients, String essId, Phase phase,
+				double apparentPower) throws OpenemsException {
+			var key = essId + "/" + phase.name();
+			var entry = this.entries.get(key);
+			if (entry == null || entry.apparentPower != apparentPower) {
+				entry = new Entry(apparentPower, //
+						List.copyOf(ApparentPowerConstraintUtil.generateConstraints(coefficients, essId, phase,
+								apparentPower)));
+				this.entries.put(key, entry);
+			}
+			return entry.constraints;
+		}
+
+		/**
+		 * Clears the cache.
+		 */
+		public void clear() {
+			this.entries.clear();
+		}
+	}
+
 	/**
 	 * Generate Constraints for ApparentPower.
 	 *
@@ -82,14 +82,16 @@ public class ConstraintUtil {
 	 * Creates for each Ess constraints for AllowedCharge, AllowedDischarge and
 	 * MaxApparentPower.
 	 *
-	 * @param coefficients  the {@link Coefficients}
-	 * @param esss          list of {@link ManagedSymmetricEss}s
-	 * @param symmetricMode Symmetric-Mode enabled?
+	 * @param coefficients       the {@link Coefficients}
+	 * @param esss               list of {@link ManagedSymmetricEss}s
+	 * @param symmetricMode      Symmetric-Mode enabled?
+	 * @param apparentPowerCache the {@link ApparentPowerConstraintUtil.Cache}
 	 * @return List of {@link Constraint}s
 	 * @throws OpenemsException on error
 	 */
 	public static List<Constraint> createGenericEssConstraints(Coefficients coefficients,
-			List<ManagedSymmetricEss> esss, boolean symmetricMode) throws OpenemsException {
+			List<ManagedSymmetricEss> esss, boolean symmetricMode, ApparentPowerConstraintUtil.Cache apparentPowerCache)
+			throws OpenemsException {
 		List<Constraint> result = new ArrayList<>();
 		for (ManagedSymmetricEss ess : esss) {
 
@@ -116,11 +118,11 @@ public class ConstraintUtil {
 					if (phase == Phase.ALL) {
 						continue; // do not add Max Apparent Power Constraint for ALL phases
 					}
-					result.addAll(ApparentPowerConstraintUtil.generateConstraints(coefficients, ess.id(), phase,
+					result.addAll(apparentPowerCache.generateConstraints(coefficients, ess.id(), phase,
 							maxApparentPowerPerPhase));
 				}
 			} else {
-				result.addAll(ApparentPowerConstraintUtil.generateConstraints(coefficients, ess.id(), Phase.ALL,
+				result.addAll(apparentPowerCache.generateConstraints(coefficients, ess.id(), Phase.ALL,
 						maxApparentPower));
 			}
 		}
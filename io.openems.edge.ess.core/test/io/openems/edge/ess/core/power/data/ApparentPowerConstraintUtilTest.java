@@ -0,0 +1,40 @@
+package io.openems.edge.ess.core.power.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Phase;
+
+public class ApparentPowerConstraintUtilTest {
+
+	@Test
+	public void testCache() throws OpenemsException {
+		var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0", "ess1"));
+		var sut = new ApparentPowerConstraintUtil.Cache();
+
+		var constraints = sut.generateConstraints(coefficients, "ess0", Phase.ALL, 10000);
+		assertEquals(ApparentPowerConstraintUtil.generateConstraints(coefficients, "ess0", Phase.ALL, 10000).size(),
+				constraints.size());
+
+		// Same apparent power -> same Constraints
+		assertSame(constraints, sut.generateConstraints(coefficients, "ess0", Phase.ALL, 10000));
+		assertNotSame(constraints, sut.generateConstraints(coefficients, "ess1", Phase.ALL, 10000));
+
+		// Changed apparent power -> new Constraints
+		var changed = sut.generateConstraints(coefficients, "ess0", Phase.ALL, 5000);
+		assertNotSame(constraints, changed);
+		assertSame(changed, sut.generateConstraints(coefficients, "ess0", Phase.ALL, 5000));
+
+		sut.clear();
+		assertNotSame(changed, sut.generateConstraints(coefficients, "ess0", Phase.ALL, 5000));
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.edge.io.shelly.common;
 
+import io.openems.edge.bridge.http.api.BridgeHttp;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -26,4 +27,26 @@ public class Utils {
 		return b.toString();
 	}
 
+	/**
+	 * Generates a standard Debug-Log string for Shellys with one relay and power
+	 * meter, followed by the request statistics of the {@link BridgeHttp}.
+	 * 
+	 * @param relayChannel       the Relay-Channel
+	 * @param activePowerChannel the ActivePower-Channel
+	 * @param httpBridge         the {@link BridgeHttp}; possibly null
+	 * @return suitable for {@link OpenemsComponent#debugLog()}
+	 */
+	public static String generateDebugLog(Channel<Boolean> relayChannel, Channel<Integer> activePowerChannel,
+			BridgeHttp httpBridge) {
+		var debugLog = generateDebugLog(relayChannel, activePowerChannel);
+		if (httpBridge == null) {
+			return debugLog;
+		}
+		var bridgeDebugLog = httpBridge.debugLog();
+		if (bridgeDebugLog == null) {
+			return debugLog;
+		}
+		return debugLog + "|" + bridgeDebugLog;
+	}
+
 }
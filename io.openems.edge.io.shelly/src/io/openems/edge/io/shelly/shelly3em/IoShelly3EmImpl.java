@@ -110,7 +110,7 @@ public class IoShelly3EmImpl extends AbstractOpenemsComponent
 
 	@Override
 	public String debugLog() {
-		return generateDebugLog(this.getRelayChannel(), this.getActivePowerChannel());
+		return generateDebugLog(this.getRelayChannel(), this.getActivePowerChannel(), this.httpBridge);
 	}
 
 	@Override
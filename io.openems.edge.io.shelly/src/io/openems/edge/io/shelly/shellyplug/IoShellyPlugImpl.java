@@ -101,7 +101,7 @@ public class IoShellyPlugImpl extends AbstractOpenemsComponent
 
 	@Override
 	public String debugLog() {
-		return generateDebugLog(this.getRelayChannel(), this.getActivePowerChannel());
+		return generateDebugLog(this.getRelayChannel(), this.getActivePowerChannel(), this.httpBridge);
 	}
 
 	@Override
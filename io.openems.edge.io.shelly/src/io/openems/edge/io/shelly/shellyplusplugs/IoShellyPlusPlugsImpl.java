@@ -121,7 +121,7 @@ public class IoShellyPlusPlugsImpl extends AbstractOpenemsComponent implements I
 
 	@Override
 	public String debugLog() {
-		return generateDebugLog(this.getRelayChannel(), this.getActivePowerChannel());
+		return generateDebugLog(this.getRelayChannel(), this.getActivePowerChannel(), this.httpBridge);
 	}
 
 	@Override
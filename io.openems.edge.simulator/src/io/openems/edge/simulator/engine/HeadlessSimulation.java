@@ -0,0 +1,295 @@
+package io.openems.edge.simulator.engine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingConsumer;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+
+/**
+ * Runs the OpenEMS Cycle for a set of Components outside of the OSGi runtime.
+ *
+ * <p>
+ * Every Cycle advances the {@link TimeLeapClock} by the Cycle-Time, without
+ * waiting in wall time, and then executes the same sequence as the Core
+ * Cycle: events, process image, Controllers in the order they were added and
+ * the write phase. Instead of the ESS Power solver, the requested power of
+ * every {@link ManagedSymmetricEss} is limited to its allowed charge and
+ * discharge power - if those are defined - and applied in
+ * {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_WRITE}.
+ *
+ * <p>
+ * Components are created and activated like in a JUnit test, using the
+ * {@link #getComponentManager()} of this simulation:
+ *
+ * <pre>
+ * var simulation = new HeadlessSimulation(start, Duration.ofSeconds(1));
+ * var ess = new SimulatorEssSymmetricReactingImpl();
+ * new ComponentTest(ess) //
+ * 		.addReference("componentManager", simulation.getComponentManager()) //
+ * 		// ...
+ * 		.activate(config);
+ * simulation.addComponent(ess);
+ * simulation.run(Duration.ofDays(365));
+ * </pre>
+ *
+ * <p>
+ * A {@link HeadlessSimulation} is not thread-safe; use a
+ * {@link SimulationEngine} to run independent simulations in parallel.
+ */
+public class HeadlessSimulation {
+
+	private static final Event BEFORE_PROCESS_IMAGE = event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+	private static final Event AFTER_PROCESS_IMAGE = event(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+	private static final Event BEFORE_CONTROLLERS = event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+	private static final Event AFTER_CONTROLLERS = event(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+	private static final Event BEFORE_WRITE = event(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+	private static final Event EXECUTE_WRITE = event(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+	private static final Event AFTER_WRITE = event(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+
+	private final TimeLeapClock clock;
+	private final Duration cycleTime;
+	private final DummyComponentManager componentManager;
+
+	private final List<OpenemsComponent> components = new ArrayList<>();
+	private final List<EventHandler> eventHandlers = new ArrayList<>();
+	private final List<Controller> controllers = new ArrayList<>();
+	private final List<ManagedSymmetricEss> esss = new ArrayList<>();
+	private final List<ThrowingConsumer<HeadlessSimulation, Exception>> afterCycleListeners = new ArrayList<>();
+
+	private long cycle = 0;
+	private long controllerErrors = 0;
+
+	/**
+	 * Creates a {@link HeadlessSimulation} in UTC.
+	 *
+	 * @param start     the simulated start time
+	 * @param cycleTime the simulated duration of one Cycle
+	 */
+	public HeadlessSimulation(Instant start, Duration cycleTime) {
+		this(start, ZoneId.of("UTC"), cycleTime);
+	}
+
+	/**
+	 * Creates a {@link HeadlessSimulation}.
+	 *
+	 * @param start     the simulated start time
+	 * @param zone      the {@link ZoneId} of the simulated clock
+	 * @param cycleTime the simulated duration of one Cycle
+	 */
+	public HeadlessSimulation(Instant start, ZoneId zone, Duration cycleTime) {
+		this.clock = new TimeLeapClock(start, zone);
+		this.cycleTime = cycleTime;
+		this.componentManager = new DummyComponentManager(this.clock);
+	}
+
+	/**
+	 * Gets the simulated {@link TimeLeapClock}.
+	 *
+	 * @return the clock
+	 */
+	public TimeLeapClock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Gets the {@link DummyComponentManager} that knows all Components of this
+	 * simulation and provides the simulated clock.
+	 *
+	 * @return the {@link DummyComponentManager}
+	 */
+	public DummyComponentManager getComponentManager() {
+		return this.componentManager;
+	}
+
+	/**
+	 * Adds an activated Component.
+	 *
+	 * <p>
+	 * {@link EventHandler}s receive the Cycle events; {@link Controller}s are
+	 * executed in the order they were added.
+	 *
+	 * @param <T>       the type of the Component
+	 * @param component the Component
+	 * @return the Component
+	 */
+	public <T extends OpenemsComponent> T addComponent(T component) {
+		this.components.add(component);
+		this.componentManager.addComponent(component);
+		if (component instanceof EventHandler eventHandler) {
+			this.eventHandlers.add(eventHandler);
+		}
+		if (component instanceof Controller controller) {
+			this.controllers.add(controller);
+		}
+		if (component instanceof ManagedSymmetricEss ess) {
+			this.esss.add(ess);
+		}
+		return component;
+	}
+
+	/**
+	 * Adds a listener that is called after every Cycle, e.g. to collect results.
+	 *
+	 * @param listener the listener
+	 * @return myself
+	 */
+	public HeadlessSimulation onAfterCycle(ThrowingConsumer<HeadlessSimulation, Exception> listener) {
+		this.afterCycleListeners.add(listener);
+		return this;
+	}
+
+	/**
+	 * Gets the number of executed Cycles.
+	 *
+	 * @return the number of Cycles
+	 */
+	public long getCycle() {
+		return this.cycle;
+	}
+
+	/**
+	 * Gets the number of failed Controller executions.
+	 *
+	 * @return the number of errors
+	 */
+	public long getControllerErrors() {
+		return this.controllerErrors;
+	}
+
+	/**
+	 * Runs Cycles until the given simulated duration has passed.
+	 *
+	 * @param duration the simulated duration; a multiple of the Cycle-Time
+	 * @throws OpenemsException         on error
+	 * @throws IllegalArgumentException if the duration is not a multiple of the
+	 *                                  Cycle-Time
+	 */
+	public void run(Duration duration) throws OpenemsException {
+		var cycleTime = this.cycleTime.toMillis();
+		if (duration.toMillis() % cycleTime != 0) {
+			throw new IllegalArgumentException(
+					"Duration [" + duration + "] is not a multiple of the Cycle-Time [" + this.cycleTime + "]");
+		}
+		this.run(duration.toMillis() / cycleTime);
+	}
+
+	/**
+	 * Runs the given number of Cycles.
+	 *
+	 * @param cycles the number of Cycles
+	 * @throws OpenemsException on error
+	 */
+	public void run(long cycles) throws OpenemsException {
+		for (var i = 0L; i < cycles; i++) {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new OpenemsException("Simulation was interrupted in Cycle [" + this.cycle + "]");
+			}
+			this.runCycle();
+		}
+	}
+
+	/**
+	 * Advances the clock by one Cycle-Time and executes one Cycle.
+	 *
+	 * @throws OpenemsException on error
+	 */
+	public void runCycle() throws OpenemsException {
+		this.clock.leap(this.cycleTime.toMillis(), ChronoUnit.MILLIS);
+		try {
+			this.handleEvent(BEFORE_PROCESS_IMAGE);
+			for (var component : this.components) {
+				for (var channel : component.channels()) {
+					channel.nextProcessImage();
+				}
+			}
+			this.handleEvent(AFTER_PROCESS_IMAGE);
+			this.handleEvent(BEFORE_CONTROLLERS);
+			for (var controller : this.controllers) {
+				this.runController(controller);
+			}
+			this.handleEvent(AFTER_CONTROLLERS);
+			for (var ess : this.esss) {
+				applyPower(ess);
+			}
+			this.handleEvent(BEFORE_WRITE);
+			this.handleEvent(EXECUTE_WRITE);
+			this.handleEvent(AFTER_WRITE);
+			this.cycle++;
+
+			for (var listener : this.afterCycleListeners) {
+				listener.accept(this);
+			}
+
+		} catch (Exception e) {
+			throw new OpenemsException("Simulation failed in Cycle [" + this.cycle + "] at [" + this.clock.instant()
+					+ "]. " + e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+		}
+	}
+
+	private void handleEvent(Event event) {
+		for (var eventHandler : this.eventHandlers) {
+			eventHandler.handleEvent(event);
+		}
+	}
+
+	private void runController(Controller controller) {
+		try {
+			controller.run();
+			controller._setRunFailed(false);
+		} catch (OpenemsNamedException | RuntimeException e) {
+			this.controllerErrors++;
+			controller._setRunFailed(true);
+		}
+	}
+
+	/**
+	 * Applies the requested power of the Controllers, limited to the allowed
+	 * charge and discharge power if they are defined.
+	 *
+	 * @param ess the {@link ManagedSymmetricEss}
+	 * @throws OpenemsNamedException on error
+	 */
+	private static void applyPower(ManagedSymmetricEss ess) throws OpenemsNamedException {
+		var equals = ess.getSetActivePowerEqualsChannel().getNextWriteValueAndReset();
+		var lessOrEquals = ess.getSetActivePowerLessOrEqualsChannel().getNextWriteValueAndReset();
+		var greaterOrEquals = ess.getSetActivePowerGreaterOrEqualsChannel().getNextWriteValueAndReset();
+		int activePower = equals.orElse(0);
+		if (lessOrEquals.isPresent()) {
+			activePower = Math.min(activePower, lessOrEquals.get());
+		}
+		if (greaterOrEquals.isPresent()) {
+			activePower = Math.max(activePower, greaterOrEquals.get());
+		}
+		var allowedChargePower = ess.getAllowedChargePower();
+		if (allowedChargePower.isDefined()) {
+			activePower = Math.max(activePower, allowedChargePower.get());
+		}
+		var allowedDischargePower = ess.getAllowedDischargePower();
+		if (allowedDischargePower.isDefined()) {
+			activePower = Math.min(activePower, allowedDischargePower.get());
+		}
+		int reactivePower = ess.getSetReactivePowerEqualsChannel().getNextWriteValueAndReset().orElse(0);
+		ess.applyPower(activePower, reactivePower);
+	}
+
+	private static Event event(String topic) {
+		return new Event(topic, new HashMap<String, Object>());
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.openems.edge.simulator.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Runs independent {@link HeadlessSimulation}s in parallel.
+ *
+ * <p>
+ * Every scenario builds its own {@link HeadlessSimulation} and Components, so
+ * scenarios share no state and need no synchronization.
+ *
+ * <pre>
+ * try (var engine = new SimulationEngine(Runtime.getRuntime().availableProcessors())) {
+ * 	var results = engine.runAll(scenarios.stream() //
+ * 			.map(scenario -&gt; (Callable&lt;Result&gt;) () -&gt; {
+ * 				var simulation = new HeadlessSimulation(start, Duration.ofSeconds(1));
+ * 				// ... add Components
+ * 				simulation.run(Duration.ofDays(365));
+ * 				return result;
+ * 			}) //
+ * 			.toList());
+ * }
+ * </pre>
+ */
+public class SimulationEngine implements AutoCloseable {
+
+	private final ExecutorService executor;
+
+	/**
+	 * Creates a {@link SimulationEngine}.
+	 *
+	 * @param parallelism the maximum number of simulations that run at the same
+	 *                    time
+	 */
+	public SimulationEngine(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1");
+		}
+		var counter = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			var thread = new Thread(runnable, "Simulation-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Runs all scenarios and waits for their results.
+	 *
+	 * <p>
+	 * If one scenario fails, the remaining scenarios are cancelled.
+	 *
+	 * @param <T>       the type of the result
+	 * @param scenarios the scenarios
+	 * @return the results in the order of the scenarios
+	 * @throws OpenemsException on error
+	 */
+	public <T> List<T> runAll(List<? extends Callable<T>> scenarios) throws OpenemsException {
+		var futures = new ArrayList<Future<T>>(scenarios.size());
+		for (var scenario : scenarios) {
+			futures.add(this.executor.submit(scenario));
+		}
+		var result = new ArrayList<T>(futures.size());
+		try {
+			for (var i = 0; i < futures.size(); i++) {
+				try {
+					result.add(futures.get(i).get());
+				} catch (ExecutionException e) {
+					var cause = e.getCause();
+					throw new OpenemsException("Scenario [" + i + "] failed. " + cause.getClass().getSimpleName() + ": "
+							+ cause.getMessage(), cause);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Simulation was interrupted", e);
+		} finally {
+			for (var future : futures) {
+				future.cancel(true);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+		try {
+			this.executor.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
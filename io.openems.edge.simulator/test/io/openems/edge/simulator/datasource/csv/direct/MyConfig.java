@@ -6,7 +6,7 @@ import io.openems.edge.simulator.CsvFormat;
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
 
-	protected static class Builder {
+	public static class Builder {
 		private String id;
 		private float factor;
 		private int timeDelta;
@@ -0,0 +1,196 @@
+package io.openems.edge.simulator.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.sum.GridMode;
+import io.openems.edge.common.test.ComponentTest;
+import io.openems.edge.common.test.DummyConfigurationAdmin;
+import io.openems.edge.controller.test.DummyController;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyPower;
+import io.openems.edge.simulator.CsvFormat;
+import io.openems.edge.simulator.datasource.csv.direct.SimulatorDatasourceCsvDirectImpl;
+import io.openems.edge.simulator.ess.symmetric.reacting.SimulatorEssSymmetricReactingImpl;
+import io.openems.edge.simulator.meter.grid.acting.SimulatorGridMeterActing;
+import io.openems.edge.simulator.meter.grid.acting.SimulatorGridMeterActingImpl;
+
+public class HeadlessSimulationTest {
+
+	private static final Instant START = Instant.ofEpochSecond(1577836800); // 1. January 2020 00:00:00
+
+	private static List<Integer> runScenario(int setActivePower) throws Exception {
+		var simulation = new HeadlessSimulation(START, Duration.ofSeconds(1));
+		var ess = simulation.addComponent(new DummyManagedSymmetricEss("ess0") //
+				.withAllowedChargePower(-5_000) //
+				.withAllowedDischargePower(5_000));
+		var applied = new ArrayList<Integer>();
+		ess.withSymmetricApplyPowerCallback(record -> applied.add(record.activePower()));
+		simulation.addComponent(new DummyController("ctrl0") //
+				.setRunCallback(() -> {
+					try {
+						ess.setActivePowerEquals(setActivePower);
+					} catch (OpenemsNamedException e) {
+						throw new RuntimeException(e);
+					}
+				}));
+		simulation.run(Duration.ofMinutes(1));
+
+		assertEquals(60, simulation.getCycle());
+		assertEquals(START.plus(Duration.ofMinutes(1)), simulation.getClock().instant());
+		assertEquals(0, simulation.getControllerErrors());
+		return applied;
+	}
+
+	@Test
+	public void testRun() throws Exception {
+		var applied = runScenario(3_000);
+		assertEquals(60, applied.size());
+		assertTrue(applied.stream().allMatch(p -> p == 3_000));
+
+		// Limited to allowed discharge power
+		assertTrue(runScenario(10_000).stream().allMatch(p -> p == 5_000));
+	}
+
+	@Test
+	public void testUndefinedAllowedPower() throws Exception {
+		var simulation = new HeadlessSimulation(START, Duration.ofSeconds(1));
+		var ess = simulation.addComponent(new DummyManagedSymmetricEss("ess0"));
+		var applied = new ArrayList<Integer>();
+		ess.withSymmetricApplyPowerCallback(record -> applied.add(record.activePower()));
+		simulation.addComponent(new DummyController("ctrl0") //
+				.setRunCallback(() -> {
+					try {
+						ess.setActivePowerEquals(-3_000);
+					} catch (OpenemsNamedException e) {
+						throw new RuntimeException(e);
+					}
+				}));
+		simulation.run(3);
+		assertEquals(List.of(-3_000, -3_000, -3_000), applied);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRunPartialCycle() throws Exception {
+		var simulation = new HeadlessSimulation(START, Duration.ofMinutes(15));
+		simulation.run(Duration.ofMinutes(20));
+	}
+
+	@Test
+	public void testSimulatorComponents() throws Exception {
+		var simulation = new HeadlessSimulation(START, Duration.ofMinutes(15));
+		var datasource = new SimulatorDatasourceCsvDirectImpl();
+		new ComponentTest(datasource) //
+				.addReference("componentManager", simulation.getComponentManager()) //
+				.activate(io.openems.edge.simulator.datasource.csv.direct.MyConfig.create() //
+						.setId("datasource0") //
+						.setFactor(1) //
+						.setFormat(CsvFormat.ENGLISH) //
+						.setSource("ActivePower\n2000\n4000\n6000\n0") //
+						.setTimeDelta(0) //
+						.build());
+		var ess = new SimulatorEssSymmetricReactingImpl();
+		new ComponentTest(ess) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", simulation.getComponentManager()) //
+				.addReference("power", new DummyPower()) //
+				.activate(io.openems.edge.simulator.ess.symmetric.reacting.MyConfig.create() //
+						.setId("ess0") //
+						.setCapacity(10_000) //
+						.setMaxApparentPower(10_000) //
+						.setInitialSoc(50) //
+						.setGridMode(GridMode.ON_GRID) //
+						.build());
+		var meter = new SimulatorGridMeterActingImpl();
+		new ComponentTest(meter) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("datasource", datasource) //
+				.addReference("symmetricEsss", List.of(ess)) //
+				.activate(io.openems.edge.simulator.meter.grid.acting.MyConfig.create() //
+						.setId("meter0") //
+						.setDatasourceId("datasource0") //
+						.build());
+		simulation.addComponent(datasource);
+		simulation.addComponent(meter);
+		simulation.addComponent(ess);
+
+		// Discharges the simulated consumption
+		simulation.addComponent(new DummyController("ctrl0") //
+				.setRunCallback(() -> {
+					try {
+						IntegerReadChannel simulatedActivePower = meter
+								.channel(SimulatorGridMeterActing.ChannelId.SIMULATED_ACTIVE_POWER);
+						ess.setActivePowerEquals(simulatedActivePower.value().get());
+					} catch (OpenemsNamedException e) {
+						throw new RuntimeException(e);
+					}
+				}));
+
+		var socs = new ArrayList<Integer>();
+		var activePowers = new ArrayList<Integer>();
+		simulation.onAfterCycle(s -> {
+			socs.add(ess.getSocChannel().getNextValue().get());
+			activePowers.add(ess.getActivePowerChannel().getNextValue().get());
+		});
+		simulation.run(Duration.ofMinutes(135));
+
+		assertEquals(0, simulation.getControllerErrors());
+		assertEquals(List.of(50, 45, 35, 20, 20, 15, 5, 0, 0), socs);
+		// Empty ESS is limited by its allowed discharge power
+		assertEquals(List.of(2000, 4000, 6000, 0, 2000, 4000, 6000, 0, 0), activePowers);
+	}
+
+	@Test
+	public void testControllerError() throws Exception {
+		var simulation = new HeadlessSimulation(START, Duration.ofSeconds(1));
+		var ctrl = simulation.addComponent(new DummyController("ctrl0") //
+				.setRunCallback(() -> {
+					throw new IllegalStateException("failed");
+				}));
+		simulation.run(10);
+		assertEquals(10, simulation.getControllerErrors());
+		assertEquals(true, ctrl.getRunFailedChannel().getNextValue().get());
+	}
+
+	@Test
+	public void testAfterCycleListener() throws Exception {
+		var simulation = new HeadlessSimulation(START, Duration.ofMinutes(15));
+		simulation.onAfterCycle(s -> {
+			if (s.getCycle() == 3) {
+				throw new IllegalStateException("stop");
+			}
+		});
+		try {
+			simulation.run(Duration.ofDays(1));
+			fail();
+		} catch (OpenemsException e) {
+			assertTrue(e.getMessage().contains("IllegalStateException: stop"));
+		}
+		assertEquals(3, simulation.getCycle());
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		var scenarios = new ArrayList<Callable<Integer>>();
+		for (var i = 0; i < 8; i++) {
+			final var power = i * 500;
+			scenarios.add(() -> runScenario(power).get(0));
+		}
+		try (var engine = new SimulationEngine(4)) {
+			assertEquals(List.of(0, 500, 1000, 1500, 2000, 2500, 3000, 3500), engine.runAll(scenarios));
+		}
+	}
+
+}
@@ -6,7 +6,7 @@ import io.openems.edge.common.sum.GridMode;
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
 
-	protected static class Builder {
+	public static class Builder {
 		private String id = null;
 		private Integer maxApparentPower = null;
 		private Integer capacity = null;
@@ -6,7 +6,7 @@ import io.openems.common.utils.ConfigUtils;
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
 
-	protected static class Builder {
+	public static class Builder {
 		private String id;
 		private String datasourceId;
 
@@ -25,6 +25,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to rrd4j.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Max open files", description = "Maximum number of RRD4J files that are kept open between writes. Every open file uses a file handle; files beyond this limit are opened for each write.")
+	int maxOpenFiles() default 32;
+
+	@AttributeDefinition(name = "Memory-mapped files", description = "Write via memory-mapped files that are synced to disk once per 5 minutes; otherwise every write goes directly to the file.")
+	boolean memoryMappedFiles() default false;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
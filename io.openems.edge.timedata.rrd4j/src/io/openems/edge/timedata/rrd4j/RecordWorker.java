@@ -3,6 +3,7 @@ package io.openems.edge.timedata.rrd4j;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -13,6 +14,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
@@ -22,6 +24,8 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +56,8 @@ public class RecordWorker extends AbstractImmediateWorker {
 			boolean readOnly, //
 			boolean debugMode, //
 			PersistencePriority persistencePriority, //
+			int maxOpenFiles, //
+			boolean memoryMappedFiles, //
 			Consumer<? super Boolean> onQueueFull, //
 			Consumer<? super Boolean> onUnableToInsert //
 	) {
@@ -62,10 +68,24 @@ public class RecordWorker extends AbstractImmediateWorker {
 			long timestamp, //
 			ChannelAddress address, //
 			Unit unit, //
-			double value //
+			double value, //
+			int retries //
 	) {
+
+		private DataRecord retry() {
+			return new DataRecord(this.timestamp, this.address, this.unit, this.value, this.retries + 1);
+		}
 	}
 
+	/** Maximum number of queued records, i.e. a few periods of all Channels. */
+	protected static final int QUEUE_CAPACITY = 20_000;
+
+	/** Maximum number of retries of a record after a failed write. */
+	private static final int MAX_RETRIES = 3;
+
+	/** Delay after a write failed, before the next batch is written. */
+	private static final long RETRY_DELAY_MILLIS = 1_000;
+
 	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
 
 	@Reference
@@ -75,13 +95,27 @@ public class RecordWorker extends AbstractImmediateWorker {
 	private ComponentManager componentManager;
 
 	private Config config;
+	private RrdDbCache cache;
+	private RrdNioBackendFactory nioBackendFactory;
 
+	/**
+	 * Sets the {@link Config}. Must be called before
+	 * {@link #activate(String)}.
+	 *
+	 * @param config the {@link Config}
+	 */
 	public void setConfig(Config config) {
 		this.config = config;
+		this.cache = new RrdDbCache(config.maxOpenFiles());
+		this.rrd4jSupplier.setWriterCache(config.rrdDbId(), this.cache);
+		if (config.memoryMappedFiles()) {
+			// Dirty pages are synced to disk once per period
+			this.nioBackendFactory = new RrdNioBackendFactory(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+		}
 	}
 
 	// Record queue
-	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>();
+	private final BlockingQueue<DataRecord> records = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
 
 	// keeps the last recorded timestamp
 	private Instant lastTimestamp = Instant.MIN;
@@ -94,6 +128,13 @@ public class RecordWorker extends AbstractImmediateWorker {
 	@Deactivate
 	public void deactivate() {
 		super.deactivate();
+		if (this.cache != null) {
+			this.rrd4jSupplier.removeWriterCache(this.config.rrdDbId(), this.cache);
+			this.cache.clear();
+		}
+		if (this.nioBackendFactory != null) {
+			this.nioBackendFactory.close();
+		}
 	}
 
 	/**
@@ -111,6 +152,11 @@ public class RecordWorker extends AbstractImmediateWorker {
 	 * 08:00 -> timestamp of the data
 	 * 08:35 -> timestamp the data gets collected
 	 * </pre>
+	 * 
+	 * <p>
+	 * If the queue cannot take all records of the period, nothing is queued and
+	 * the period is collected again in the next Cycle (backpressure), instead of
+	 * dropping single records.
 	 */
 	public void collectData() {
 		final var timestamp = Instant.now(this.componentManager.getClock()) //
@@ -133,9 +179,12 @@ public class RecordWorker extends AbstractImmediateWorker {
 			return;
 		}
 
-		this.lastTimestamp = timestamp;
+		if (this.records.remainingCapacity() == 0) {
+			this.config.onQueueFull.accept(true);
+			return;
+		}
 
-		this.componentManager.getEnabledComponents().stream() //
+		final var records = this.componentManager.getEnabledComponents().stream() //
 				.flatMap(component -> component.channels().stream()) //
 				.filter(channel -> {
 					final var doc = channel.channelDoc();
@@ -188,49 +237,99 @@ public class RecordWorker extends AbstractImmediateWorker {
 							writeSeconds, //
 							channel.address(), //
 							channel.channelDoc().getUnit(), //
-							value.getAsDouble() //
+							value.getAsDouble(), //
+							0 //
 					);
 				}) //
 				.filter(Objects::nonNull) //
-				.forEach(dataRecord -> {
-					this.config.onUnableToInsert.accept(!this.records.offer(dataRecord));
-				});
+				.toList();
 
+		if (this.records.remainingCapacity() < records.size()) {
+			// Writer is behind -> try again in next Cycle
+			this.config.onQueueFull.accept(true);
+			return;
+		}
+		this.config.onQueueFull.accept(false);
+		this.lastTimestamp = timestamp;
+
+		for (var record : records) {
+			if (!this.records.offer(record)) {
+				this.config.onUnableToInsert.accept(true);
+			}
+		}
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
-		final var record = this.records.take();
+		// Wait for the records of the next period and write them as one batch
+		final var batch = new ArrayList<DataRecord>();
+		batch.add(this.records.take());
+		this.records.drainTo(batch);
 
-		if (this.config.readOnly() && this.config.debugMode()) {
-			this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+		if (this.config.readOnly()) {
+			if (this.config.debugMode()) {
+				this.log.info("Read-Only-Mode is activated. Not writing " + batch.size() + " records");
+			}
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
-				record.timestamp - 1)) {
-			if (database.getLastUpdateTime() == record.timestamp()) {
-				// overwrite last value if same time stamp
-				final var robin = database.getArchive(0).getRobin(0);
-				robin.setValue(robin.getSize() - 1, record.value());
-			} else if (database.getLastUpdateTime() < record.timestamp()) {
-				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
-				// YYY. Last update time was ZZZ, at least one second step is required".
-
-				// Add Sample to RRD4J
-				database.createSample(record.timestamp()) //
-						.setValue(0, record.value) //
-						.update();
+		var failed = 0;
+		synchronized (this.cache) {
+			for (var record : batch) {
+				try {
+					this.write(record);
+
+				} catch (Throwable e) {
+					failed++;
+					// Reopen the RrdDb on next write
+					this.cache.invalidate(record.address);
+					if (record.retries < MAX_RETRIES && this.records.offer(record.retry())) {
+						continue;
+					}
+					this.config.onUnableToInsert.accept(true);
+					if (this.config.debugMode()) {
+						this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
+								e.getClass().getSimpleName(), e.getMessage()), e);
+					}
+				}
 			}
+		}
 
-			this.config.onQueueFull.accept(false);
-		} catch (Throwable e) {
-			this.config.onQueueFull.accept(true);
+		if (failed == 0) {
+			this.config.onUnableToInsert.accept(false);
+		} else {
 			if (this.config.debugMode()) {
-				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
-						e.getClass().getSimpleName(), e.getMessage()), e);
+				this.log.warn("Unable to write " + failed + " of " + batch.size() + " records");
 			}
+			TimeUnit.MILLISECONDS.sleep(RETRY_DELAY_MILLIS);
+		}
+	}
+
+	private void write(DataRecord record) throws IOException {
+		final var database = this.cache.get(record.address, address -> this.open(record));
+		if (database.getLastUpdateTime() == record.timestamp()) {
+			// overwrite last value if same time stamp
+			final var robin = database.getArchive(0).getRobin(0);
+			robin.setValue(robin.getSize() - 1, record.value());
+		} else if (database.getLastUpdateTime() < record.timestamp()) {
+			// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
+			// YYY. Last update time was ZZZ, at least one second step is required".
+
+			// Add Sample to RRD4J
+			database.createSample(record.timestamp()) //
+					.setValue(0, record.value) //
+					.update();
+		}
+	}
+
+	private RrdDb open(DataRecord record) throws IOException {
+		// Creates or migrates the RrdDb if required, before it is cached
+		if (this.nioBackendFactory == null) {
+			return this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
+					record.timestamp - 1);
 		}
+		return this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit, record.timestamp - 1,
+				this.nioBackendFactory);
 	}
 
 	private static final ToDoubleFunction<? super Object> MAP_BOOLEAN_TO_DOUBLE //
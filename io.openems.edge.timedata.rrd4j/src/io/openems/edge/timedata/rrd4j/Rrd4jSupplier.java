@@ -49,6 +49,9 @@ public class Rrd4jSupplier {
 	private final KeyLock keyLock = new KeyLock();
 	private final RrdBackendFactory factory;
 
+	/** RrdDbId => {@link RrdDbCache} of the {@link RecordWorker}. */
+	private final Map<String, RrdDbCache> writerCaches = new ConcurrentHashMap<>();
+
 	// channelAddress, rrdDbId => file path
 	private final BiFunction<ChannelAddress, String, String> fileValidator;
 
@@ -94,15 +97,45 @@ public class Rrd4jSupplier {
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
-			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
-			if (rrdDb != null) {
+		return this.getRrdDb(rrdDbId, channelAddress, channelUnit, startTime, this.factory);
+	}
+
+	/**
+	 * Gets the RRD4j database for the given Channel-Address, opened with the given
+	 * {@link RrdBackendFactory}.
+	 * 
+	 * <p>
+	 * Like {@link #getRrdDb(String, ChannelAddress, Unit, long)}, the database is
+	 * created or migrated to the latest definition if required.
+	 * 
+	 * @param rrdDbId        the id of the rrd4j database
+	 * @param channelAddress the Channel-Address
+	 * @param channelUnit    the {@link Unit}
+	 * @param startTime      the starttime for newly created RrdDbs
+	 * @param factory        the {@link RrdBackendFactory}
+	 * @return the RrdDb
+	 * @throws IOException on error
+	 */
+	public RrdDb getRrdDb(//
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final Unit channelUnit, //
+			final long startTime, //
+			final RrdBackendFactory factory //
+	) throws IOException {
+		final ThrowingSupplier<RrdDb, IOException> createNewDb = () -> this.createNewDb(rrdDbId, channelAddress,
+				channelUnit, startTime, factory);
+		var rrdDb = this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+			var existing = this.getExistingRrdDb(channelAddress, rrdDbId, factory);
+			if (existing != null) {
 				// Database exists
-				return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+				return existing;
 			}
 			// Create new database
-			return this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
+			return createNewDb.get();
 		});
+		return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit, factory,
+				createNewDb);
 	}
 
 	/**
@@ -120,13 +153,39 @@ public class Rrd4jSupplier {
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
-			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
-			if (rrdDb == null) {
-				return null;
-			}
-			return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
-		});
+		var rrdDb = this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(),
+				() -> this.getExistingRrdDb(channelAddress, rrdDbId, this.factory));
+		if (rrdDb == null) {
+			return null;
+		}
+		return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit, this.factory,
+				() -> null);
+	}
+
+	/**
+	 * Sets the {@link RrdDbCache} of the {@link RecordWorker} for the given RrdDb-ID.
+	 * 
+	 * <p>
+	 * Before a database file gets migrated, its cached {@link RrdDb} is closed
+	 * while holding the lock of the {@link RrdDbCache}, so that the
+	 * {@link RecordWorker} does not write to the replaced file.
+	 * 
+	 * @param rrdDbId the id of the RrdDb
+	 * @param cache   the {@link RrdDbCache}
+	 */
+	public void setWriterCache(String rrdDbId, RrdDbCache cache) {
+		this.writerCaches.put(rrdDbId, cache);
+	}
+
+	/**
+	 * Removes the {@link RrdDbCache} set via
+	 * {@link #setWriterCache(String, RrdDbCache)}.
+	 * 
+	 * @param rrdDbId the id of the RrdDb
+	 * @param cache   the {@link RrdDbCache}
+	 */
+	public void removeWriterCache(String rrdDbId, RrdDbCache cache) {
+		this.writerCaches.remove(rrdDbId, cache);
 	}
 
 	/**
@@ -157,11 +216,13 @@ public class Rrd4jSupplier {
 	 * 
 	 * @param channelAddress the ChannelAddress
 	 * @param rrdDbId        the id of the rrdDb
+	 * @param factory        the {@link RrdBackendFactory}
 	 * @return the RrdDb or null
 	 */
 	private RrdDb getExistingRrdDb(//
 			final ChannelAddress channelAddress, //
-			final String rrdDbId //
+			final String rrdDbId, //
+			final RrdBackendFactory factory //
 	) {
 		final var filePath = this.fileValidator.apply(channelAddress, rrdDbId);
 		if (filePath == null) {
@@ -169,7 +230,7 @@ public class Rrd4jSupplier {
 		}
 		try {
 			return RrdDb.getBuilder() //
-					.setBackendFactory(this.factory) //
+					.setBackendFactory(factory) //
 					// .setPool(RrdDbPool.getInstance()) //
 					// ^^ is not used anymore because of caching
 					// problems when overwriting the old database file
@@ -213,6 +274,7 @@ public class Rrd4jSupplier {
 	 * @param channelAddress the {@link ChannelAddress}
 	 * @param channelUnit    the {@link Unit} of the Channel
 	 * @param startTime      the timestamp of the newly added data
+	 * @param factory        the {@link RrdBackendFactory}
 	 * @return the {@link RrdDb}
 	 * @throws IOException on error
 	 */
@@ -220,7 +282,8 @@ public class Rrd4jSupplier {
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
-			final long startTime //
+			final long startTime, //
+			final RrdBackendFactory factory //
 	) throws IOException {
 		return this.versionHandler.getLatestVersion() //
 				.createNewDb(new CreateDatabaseConfig(//
@@ -228,7 +291,7 @@ public class Rrd4jSupplier {
 						channelUnit, //
 						getDbFile(channelAddress, rrdDbId).getCanonicalPath(), //
 						startTime, //
-						this.factory, //
+						factory, //
 						null //
 				// ^^ was "RrdDbPool.getInstance()" but is not used anymore because of caching
 				// problems when overwriting the old database file
@@ -236,20 +299,77 @@ public class Rrd4jSupplier {
 	}
 
 	/**
-	 * Migrates between different versions of the OpenEMS-RRD4j Definition.
+	 * Migrates the given {@link RrdDb} to the latest version of the OpenEMS-RRD4j
+	 * Definition, if it is not up-to-date.
 	 * 
+	 * <p>
+	 * The migration replaces the database file. It runs while holding the lock of
+	 * the {@link RrdDbCache} of the {@link RecordWorker} (if any) and after closing
+	 * its cached {@link RrdDb}. Locks are always acquired in this order: first the
+	 * {@link RrdDbCache}, then the {@link KeyLock}.
+	 * 
+	 * @param rrdDb          the opened {@link RrdDb}
 	 * @param rrdDbId        the id of the RrdDb
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param channelUnit    the {@link Unit} of the Channel
+	 * @param factory        the {@link RrdBackendFactory}
+	 * @param orElse         provides the {@link RrdDb} if the file does not exist
+	 *                       anymore
+	 * @return the up-to-date {@link RrdDb}
+	 * @throws IOException on error
+	 */
+	private RrdDb updateRrdDbToLatestDefinition(//
+			final RrdDb rrdDb, //
+			final String rrdDbId, //
+			final ChannelAddress channelAddress, //
+			final Unit channelUnit, //
+			final RrdBackendFactory factory, //
+			final ThrowingSupplier<RrdDb, IOException> orElse //
+	) throws IOException {
+		if (this.versionHandler.isUpToDate(rrdDb)) {
+			// No Update required
+			return rrdDb;
+		}
+		rrdDb.close();
+
+		final var writerCache = this.writerCaches.get(rrdDbId);
+		final ThrowingSupplier<RrdDb, IOException> migrate = () -> this.keyLock
+				.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+					if (writerCache != null) {
+						writerCache.invalidate(channelAddress);
+					}
+					// Reopen; the file might have been migrated in the meantime
+					var oldDb = this.getExistingRrdDb(channelAddress, rrdDbId, factory);
+					if (oldDb == null) {
+						return orElse.get();
+					}
+					return this.migrate(oldDb, rrdDbId, channelAddress, channelUnit, factory);
+				});
+		if (writerCache == null) {
+			return migrate.get();
+		}
+		synchronized (writerCache) {
+			return migrate.get();
+		}
+	}
+
+	/**
+	 * Migrates between different versions of the OpenEMS-RRD4j Definition.
+	 * 
 	 * @param oldDb          the old {@link RrdDb} database
+	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the {@link ChannelAddress}
 	 * @param channelUnit    the {@link Unit} of the Channel
+	 * @param factory        the {@link RrdBackendFactory}
 	 * @return new {@link RrdDb}
 	 * @throws IOException on error
 	 */
-	private RrdDb updateRrdDbToLatestDefinition(//
+	private RrdDb migrate(//
 			final RrdDb oldDb, //
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
-			final Unit channelUnit //
+			final Unit channelUnit, //
+			final RrdBackendFactory factory //
 	) throws IOException {
 		if (this.versionHandler.isUpToDate(oldDb)) {
 			// No Update required
@@ -282,7 +402,7 @@ public class Rrd4jSupplier {
 							channelUnit, //
 							tmpFile.getAbsolutePath(), //
 							oldDb.getLastUpdateTime(), //
-							this.factory, //
+							factory, //
 							null //
 					// ^^ was "RrdDbPool.getInstance()" but is not used anymore because of caching
 					// problems when overwriting the old database file
@@ -303,7 +423,7 @@ public class Rrd4jSupplier {
 							StandardCopyOption.ATOMIC_MOVE //
 					);
 
-					lastCreatedDb = this.getExistingRrdDb(channelAddress, rrdDbId);
+					lastCreatedDb = this.getExistingRrdDb(channelAddress, rrdDbId, factory);
 				} catch (RuntimeException | IOException e) {
 					if (newDb != null && !newDb.isClosed()) {
 						newDb.close();
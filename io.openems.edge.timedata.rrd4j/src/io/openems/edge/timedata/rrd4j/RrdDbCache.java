@@ -0,0 +1,102 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.function.ThrowingFunction;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Keeps the {@link RrdDb}s of a {@link RecordWorker} open between writes.
+ *
+ * <p>
+ * Without this cache every record opens, validates and closes its RRD4J file.
+ * The cache is bounded; the least recently used {@link RrdDb} is closed if the
+ * limit is exceeded.
+ */
+public class RrdDbCache {
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	private final int maxSize;
+	private final LinkedHashMap<ChannelAddress, RrdDb> databases;
+
+	public RrdDbCache(int maxSize) {
+		this.maxSize = Math.max(1, maxSize);
+		this.databases = new LinkedHashMap<>(16, 0.75f, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ChannelAddress, RrdDb> eldest) {
+				if (this.size() <= RrdDbCache.this.maxSize) {
+					return false;
+				}
+				RrdDbCache.this.close(eldest.getKey(), eldest.getValue());
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Gets the open {@link RrdDb} for the given {@link ChannelAddress}; opens it
+	 * if it is not cached or has been closed.
+	 *
+	 * @param address the {@link ChannelAddress}
+	 * @param open    opens the {@link RrdDb}
+	 * @return the {@link RrdDb}
+	 * @throws IOException on error
+	 */
+	public synchronized RrdDb get(ChannelAddress address, ThrowingFunction<ChannelAddress, RrdDb, IOException> open)
+			throws IOException {
+		var database = this.databases.get(address);
+		if (database != null && !database.isClosed()) {
+			return database;
+		}
+		database = open.apply(address);
+		this.databases.put(address, database);
+		return database;
+	}
+
+	/**
+	 * Closes and removes the {@link RrdDb} for the given {@link ChannelAddress},
+	 * e.g. after an error.
+	 *
+	 * @param address the {@link ChannelAddress}
+	 */
+	public synchronized void invalidate(ChannelAddress address) {
+		var database = this.databases.remove(address);
+		if (database != null) {
+			this.close(address, database);
+		}
+	}
+
+	/**
+	 * Closes and removes all {@link RrdDb}s.
+	 */
+	public synchronized void clear() {
+		this.databases.forEach(this::close);
+		this.databases.clear();
+	}
+
+	/**
+	 * Gets the number of open {@link RrdDb}s.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.databases.size();
+	}
+
+	private void close(ChannelAddress address, RrdDb database) {
+		try {
+			database.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close RrdDb [" + address + "]: " + e.getMessage());
+		}
+	}
+}
@@ -69,6 +69,8 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 				config.isReadOnly(), //
 				this.debugMode, //
 				config.persistencePriority(), //
+				config.maxOpenFiles(), //
+				config.memoryMappedFiles(), //
 				isFull -> this._setQueueIsFull(isFull), //
 				unableToInsert -> this._setUnableToInsertSample(unableToInsert) //
 		));
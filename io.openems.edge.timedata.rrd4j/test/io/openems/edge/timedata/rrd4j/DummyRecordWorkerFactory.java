@@ -31,6 +31,7 @@ public class DummyRecordWorkerFactory extends RecordWorkerFactory {
 			final var worker = new RecordWorker();
 			try {
 				ReflectionUtils.setAttribute(RecordWorker.class, worker, "componentManager", this.componentManager);
+				ReflectionUtils.setAttribute(RecordWorker.class, worker, "rrd4jSupplier", new Rrd4jSupplier());
 			} catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
 				throw new RuntimeException(e);
 			}
@@ -10,6 +10,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String id;
 		private PersistencePriority persistencePriority;
 		private boolean readOnly;
+		private int maxOpenFiles = 32;
+		private boolean memoryMappedFiles;
 		private boolean debugMode;
 
 		private Builder() {
@@ -30,6 +32,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setMaxOpenFiles(int maxOpenFiles) {
+			this.maxOpenFiles = maxOpenFiles;
+			return this;
+		}
+
+		public Builder setMemoryMappedFiles(boolean memoryMappedFiles) {
+			this.memoryMappedFiles = memoryMappedFiles;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -66,6 +78,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.readOnly;
 	}
 
+	@Override
+	public int maxOpenFiles() {
+		return this.builder.maxOpenFiles;
+	}
+
+	@Override
+	public boolean memoryMappedFiles() {
+		return this.builder.memoryMappedFiles;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
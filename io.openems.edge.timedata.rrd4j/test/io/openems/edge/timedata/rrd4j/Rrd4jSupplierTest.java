@@ -1,14 +1,34 @@
 package io.openems.edge.timedata.rrd4j;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.rrd4j.ConsolFun;
+import org.rrd4j.core.RrdBackend;
+import org.rrd4j.core.RrdBackendAnnotation;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 
 import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ReflectionUtils;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+import io.openems.edge.timedata.rrd4j.version.VersionHandler;
 
 public class Rrd4jSupplierTest {
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testGetDsDefForChannel() {
 		for (var unit : Unit.values()) {
@@ -21,4 +41,88 @@ public class Rrd4jSupplierTest {
 		}
 	}
 
+	@RrdBackendAnnotation(name = "COUNTING", shouldValidateHeader = false)
+	private static class CountingBackendFactory extends RrdMemoryBackendFactory {
+
+		private final AtomicInteger opened = new AtomicInteger();
+
+		@Override
+		protected RrdBackend open(String path, boolean readOnly) {
+			this.opened.incrementAndGet();
+			return super.open(path, readOnly);
+		}
+	}
+
+	@Test
+	public void testGetRrdDbWithBackendFactory() throws Exception {
+		final var start = Instant.ofEpochSecond(1577836800L).getEpochSecond();
+		final var address = new ChannelAddress("comp0", "DummyChannel");
+		final var version3 = Version3Test.createDummyVersion3();
+		final var factory = new CountingBackendFactory();
+		try (var db = version3.createNewDb(new CreateDatabaseConfig("rrdDbId", Unit.WATT, address.toString(), start,
+				factory, null))) {
+			db.createSample(start + 300).setValue(0, 42).update();
+		}
+
+		final var sut = new Rrd4jSupplier(new RrdMemoryBackendFactory(), (t, u) -> t.toString());
+		final var versionHandler = new VersionHandler();
+		versionHandler.bindVersion(version3);
+		ReflectionUtils.setAttribute(Rrd4jSupplier.class, sut, "versionHandler", versionHandler);
+
+		// Existing and up-to-date RrdDb is opened exactly once via the given factory
+		factory.opened.set(0);
+		try (var db = sut.getRrdDb("rrdDbId", address, Unit.WATT, start, factory)) {
+			assertEquals(start + 300, db.getLastUpdateTime());
+		}
+		assertEquals(1, factory.opened.get());
+	}
+
+	@Test
+	public void testMigrationClosesCachedWriterRrdDb() throws Exception {
+		final var dataDir = System.getProperty("openems.data.dir");
+		System.setProperty("openems.data.dir", this.folder.getRoot().getAbsolutePath());
+		try {
+			final var start = Instant.ofEpochSecond(1577836800L).getEpochSecond();
+			final var address = new ChannelAddress("comp0", "DummyChannel");
+			final var factory = new RrdRandomAccessFileBackendFactory();
+			final var file = Paths.get(this.folder.getRoot().getAbsolutePath(), Rrd4jConstants.RRD4J_PATH, "rrdDbId",
+					address.getComponentId(), address.getChannelId()).toFile();
+			file.getParentFile().mkdirs();
+			final var version2 = Version3Test.createDummyVersion2();
+			try (var db = version2.createNewDb(new CreateDatabaseConfig("rrdDbId", Unit.WATT,
+					file.getAbsolutePath(), start, factory, null))) {
+				db.createSample(start + 300).setValue(0, 42).update();
+			}
+
+			final var sut = new Rrd4jSupplier();
+			final var versionHandler = new VersionHandler();
+			versionHandler.bindVersion(version2);
+			versionHandler.bindVersion(Version3Test.createDummyVersion3());
+			ReflectionUtils.setAttribute(Rrd4jSupplier.class, sut, "versionHandler", versionHandler);
+
+			// RecordWorker holds the old file open
+			final var cache = new RrdDbCache(10);
+			sut.setWriterCache("rrdDbId", cache);
+			final var cached = cache.get(address, a -> RrdDb.getBuilder() //
+					.setBackendFactory(factory) //
+					.setPath(file.getAbsolutePath()) //
+					.build());
+
+			try (var db = sut.getExistingUpdatedRrdDb("rrdDbId", address, Unit.WATT)) {
+				assertTrue(versionHandler.isUpToDate(db));
+				assertEquals(start + 300, db.getLastUpdateTime());
+			}
+			assertTrue(cached.isClosed());
+			assertEquals(0, cache.size());
+
+			sut.removeWriterCache("rrdDbId", cache);
+		} finally {
+			if (dataDir == null) {
+				System.clearProperty("openems.data.dir");
+			} else {
+				System.setProperty("openems.data.dir", dataDir);
+			}
+		}
+	}
+
 }
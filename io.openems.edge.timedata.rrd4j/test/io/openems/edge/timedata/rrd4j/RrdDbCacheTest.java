@@ -0,0 +1,67 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+
+public class RrdDbCacheTest {
+
+	private final RrdMemoryBackendFactory factory = new RrdMemoryBackendFactory();
+
+	private RrdDb open(ChannelAddress address) throws IOException {
+		return Version3Test.createDummyVersion3().createNewDb(new CreateDatabaseConfig(//
+				"rrd4j0", //
+				Unit.WATT, //
+				address.toString(), //
+				0L, //
+				this.factory, //
+				null //
+		));
+	}
+
+	@Test
+	public void test() throws IOException {
+		final var a = new ChannelAddress("comp0", "A");
+		final var b = new ChannelAddress("comp0", "B");
+		final var c = new ChannelAddress("comp0", "C");
+		final var sut = new RrdDbCache(2);
+
+		final var dbA = sut.get(a, this::open);
+		final var dbB = sut.get(b, this::open);
+		assertSame(dbA, sut.get(a, this::open));
+
+		// B is least recently used -> gets closed
+		final var dbC = sut.get(c, this::open);
+		assertEquals(2, sut.size());
+		assertTrue(dbB.isClosed());
+		assertFalse(dbA.isClosed());
+		assertNotSame(dbB, sut.get(b, this::open));
+
+		// Invalidate
+		sut.invalidate(c);
+		assertTrue(dbC.isClosed());
+		assertEquals(1, sut.size());
+
+		// Closed externally -> reopen
+		final var dbB2 = sut.get(b, this::open);
+		dbB2.close();
+		assertNotSame(dbB2, sut.get(b, this::open));
+
+		sut.clear();
+		assertEquals(0, sut.size());
+	}
+
+}
@@ -1,16 +1,22 @@
 package io.openems.shared.influxdb;
 
-import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
@@ -19,9 +25,8 @@ import io.openems.common.worker.AbstractImmediateWorker;
 
 public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWorker implements MergePointsWorker {
 
-	private static final int MAX_POINTS_PER_WRITE = 1_000;
-	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
 	private static final int POINTS_QUEUE_SIZE = 1_000_000;
+	private static final long THROUGHPUT_WINDOW = 10_000; // [ms]
 
 	private final Logger log = LoggerFactory.getLogger(MergePointsWorker.class);
 
@@ -29,8 +34,23 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	protected final InfluxConnector parent;
 	protected final WriteParameters writeParameters;
 	private final Consumer<BadRequestException> onWriteError;
+	private final WritePrecision precision;
+	private final AdaptiveBatching batching = new AdaptiveBatching();
+	private final SpillBuffer spillBuffer;
 
-	private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
+	private record Queued<T>(T point, long enqueuedAt) {
+	}
+
+	private final BlockingQueue<Queued<T>> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
+
+	private final AtomicLong writtenPoints = new AtomicLong();
+	private final AtomicLong spilledPoints = new AtomicLong();
+	private final AtomicLong droppedPoints = new AtomicLong();
+	private volatile long lag = 0; // [ms]
+
+	private long throughputWindowStart = System.currentTimeMillis();
+	private long throughputWindowPoints = 0;
+	private double throughput = 0; // [points/s]
 
 	public AbstractMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
 			Consumer<BadRequestException> onWriteError) {
@@ -38,6 +58,8 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		this.name = name;
 		this.writeParameters = writeParameters;
 		this.onWriteError = onWriteError;
+		this.precision = writeParameters.precisionSafe(parent.defaultOptions);
+		this.spillBuffer = parent.createSpillBuffer(name);
 	}
 
 	@Override
@@ -49,39 +71,102 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	protected void forever() throws InterruptedException {
 		var points = this.pollPoints();
 
-		if (points.isEmpty()) {
-			return;
+		if (!points.isEmpty()) {
+			/*
+			 * Write points async. If the executor is saturated, the points are spilled to
+			 * disk instead.
+			 */
+			this.parent.executor.execute(new WriteTask(points, null));
 		}
 
 		/*
-		 * Write points async.
+		 * Write back spilled points once the executor has caught up.
 		 */
-		this.parent.executor.execute(() -> {
-			if (this.parent.queryProxy.isLimitReached()) {
+		if (this.spillBuffer != null && !this.spillBuffer.isEmpty() //
+				&& this.parent.executor.getQueue().isEmpty() //
+				&& !this.parent.queryProxy.isLimitReached()) {
+			var records = this.spillBuffer.read();
+			if (!records.isEmpty()) {
+				this.parent.executor.execute(new WriteTask(null, records));
+			}
+		}
+	}
+
+	/**
+	 * Writes either a batch of queued points or a batch of spilled records.
+	 */
+	protected final class WriteTask implements Runnable {
+
+		private final List<Queued<T>> points;
+		private final List<String> records;
+
+		private WriteTask(List<Queued<T>> points, List<String> records) {
+			this.points = points;
+			this.records = records;
+		}
+
+		@Override
+		public void run() {
+			final var self = AbstractMergePointsWorker.this;
+			if (self.parent.queryProxy.isLimitReached()) {
+				this.onRejected();
 				return;
 			}
+			final var start = System.nanoTime();
 			try {
-				this.parent.getInfluxConnection().writeApi.writePoints(this.writePoints(points), this.writeParameters);
-				this.parent.queryProxy.queryLimit.decrease();
+				final var writeApi = self.parent.getInfluxConnection().writeApi;
+				if (this.points != null) {
+					writeApi.writePoints(self.writePoints(unwrap(this.points)), self.writeParameters);
+				} else {
+					writeApi.writeRecords(this.records, self.writeParameters);
+				}
+				self.parent.queryProxy.queryLimit.decrease();
+				self.onWritten(this.size(), millisSince(start), this.points);
+
 			} catch (Throwable t) {
-				this.parent.queryProxy.queryLimit.increase();
-				this.onWriteError(t, points);
+				self.parent.queryProxy.queryLimit.increase();
+				self.batching.onFailure(millisSince(start));
+				if (this.points != null) {
+					self.onWriteError(t, unwrap(this.points));
+				} else {
+					self.onSpillWriteError(t, this.records);
+				}
 			}
-		});
+		}
+
+		/**
+		 * Called if the task is rejected by the executor.
+		 */
+		protected void onRejected() {
+			final var self = AbstractMergePointsWorker.this;
+			if (this.points != null) {
+				self.spill(unwrap(this.points));
+			} else if (!self.spillRecords(this.records)) {
+				self.droppedPoints.addAndGet(this.records.size());
+			}
+		}
+
+		private int size() {
+			return this.points != null ? this.points.size() : this.records.size();
+		}
 	}
 
-	private List<T> pollPoints() throws InterruptedException {
-		final Instant maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
-		var points = new ArrayList<T>(MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < MAX_POINTS_PER_WRITE; i++) {
-			var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
+	private List<Queued<T>> pollPoints() throws InterruptedException {
+		final var batchSize = this.batching.getBatchSize();
+		final var deadline = System.nanoTime() + this.batching.getFlushInterval().toNanos();
+		var points = new ArrayList<Queued<T>>(batchSize);
+		this.pointsQueue.drainTo(points, batchSize);
+		while (points.size() < batchSize) {
+			var remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
 				break;
 			}
-			points.add(point);
-			if (Instant.now().isAfter(maxWait)) {
+			var point = this.pointsQueue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (point == null) {
 				break;
 			}
+			points.add(point);
+			this.pointsQueue.drainTo(points, batchSize - points.size());
 		}
 		return points;
 	}
@@ -95,29 +180,127 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		}
 	}
 
+	private void onSpillWriteError(Throwable t, List<String> records) {
+		this.log.warn("Unable to write spilled points to InfluxDB. " + t.getClass().getSimpleName() + ": "
+				+ t.getMessage());
+		if (t instanceof BadRequestException) {
+			// Retrying would fail again
+			this.droppedPoints.addAndGet(records.size());
+			this.onWriteError.accept((BadRequestException) t);
+		} else if (!this.spillRecords(records)) {
+			this.droppedPoints.addAndGet(records.size());
+		}
+	}
+
+	private void onWritten(int size, long latency, List<Queued<T>> points) {
+		this.batching.onSuccess(size, latency);
+		this.writtenPoints.addAndGet(size);
+		if (points != null) {
+			this.lag = System.currentTimeMillis() - points.get(0).enqueuedAt;
+		}
+		synchronized (this) {
+			var now = System.currentTimeMillis();
+			this.throughputWindowPoints += size;
+			if (now - this.throughputWindowStart >= THROUGHPUT_WINDOW) {
+				this.throughput = this.throughputWindowPoints * 1000. / (now - this.throughputWindowStart);
+				this.throughputWindowStart = now;
+				this.throughputWindowPoints = 0;
+			}
+		}
+	}
+
+	/**
+	 * Spills points to disk; drops them if spilling is not possible.
+	 *
+	 * @param points the points
+	 */
+	protected void spill(List<T> points) {
+		var records = this.writePoints(points).stream() //
+				.map(p -> p.toLineProtocol(null, this.precision)) //
+				.collect(Collectors.toList());
+		if (this.spillRecords(records)) {
+			this.spilledPoints.addAndGet(records.size());
+		} else {
+			this.droppedPoints.addAndGet(records.size());
+		}
+	}
+
+	private boolean spillRecords(List<String> records) {
+		return this.spillBuffer != null && this.spillBuffer.write(records);
+	}
+
 	/**
 	 * Inserts the specified element into this queue if it is possible to do so
 	 * immediately without violating capacity restrictions, returning true upon
 	 * success and false if no space is currently available.
-	 * 
+	 *
 	 * @param point the point to add
 	 * @return true if the point was added to this queue, else false
 	 */
 	public boolean offer(T point) {
-		return this.pointsQueue.offer(point);
+		if (this.pointsQueue.offer(new Queued<>(point, System.currentTimeMillis()))) {
+			return true;
+		}
+		this.droppedPoints.incrementAndGet();
+		return false;
 	}
 
 	@Override
 	public String debugLog() {
 		final var pointsQueueSize = this.pointsQueue.size();
-		return new StringBuilder() //
+		var b = new StringBuilder() //
 				.append(this.name) //
 				.append(": ") //
 				.append(pointsQueueSize) //
 				.append("/") //
 				.append(POINTS_QUEUE_SIZE) //
 				.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? " !!!POINTS BACKPRESSURE!!!" : "") //
-				.toString();
+				.append(" Batch:") //
+				.append(this.batching.getBatchSize()) //
+				.append(", Lag:") //
+				.append(this.lag) //
+				.append("ms");
+		if (this.spillBuffer != null) {
+			b.append(", Spill:") //
+					.append(this.spillBuffer.getSizeBytes() / 1024) //
+					.append("kB");
+		}
+		return b.toString();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final double throughput;
+		synchronized (this) {
+			// Report zero if nothing was written for a while
+			throughput = System.currentTimeMillis() - this.throughputWindowStart > 2 * THROUGHPUT_WINDOW //
+					? 0 //
+					: this.throughput;
+		}
+		var prefix = this.name + "/";
+		var metrics = new HashMap<String, JsonElement>();
+		metrics.put(prefix + "QueuedPoints", new JsonPrimitive(this.pointsQueue.size()));
+		metrics.put(prefix + "WrittenPoints", new JsonPrimitive(this.writtenPoints.get()));
+		metrics.put(prefix + "PointsPerSecond", new JsonPrimitive(Math.round(throughput)));
+		metrics.put(prefix + "LagMillis", new JsonPrimitive(this.lag));
+		metrics.put(prefix + "LatencyMillis", new JsonPrimitive(this.batching.getLatency()));
+		metrics.put(prefix + "BatchSize", new JsonPrimitive(this.batching.getBatchSize()));
+		metrics.put(prefix + "FlushIntervalMillis", new JsonPrimitive(this.batching.getFlushInterval().toMillis()));
+		metrics.put(prefix + "SpilledPoints", new JsonPrimitive(this.spilledPoints.get()));
+		metrics.put(prefix + "SpillBytes",
+				new JsonPrimitive(this.spillBuffer != null ? this.spillBuffer.getSizeBytes() : 0));
+		metrics.put(prefix + "DroppedPoints", new JsonPrimitive(this.droppedPoints.get()));
+		return metrics;
+	}
+
+	private static <T> List<T> unwrap(List<Queued<T>> points) {
+		return points.stream() //
+				.map(Queued::point) //
+				.collect(Collectors.toList());
+	}
+
+	private static long millisSince(long nanoTime) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoTime);
 	}
 
 }
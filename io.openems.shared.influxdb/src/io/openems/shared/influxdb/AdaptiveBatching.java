@@ -0,0 +1,91 @@
+package io.openems.shared.influxdb;
+
+import java.time.Duration;
+
+/**
+ * Adapts the batch size and flush interval of a {@link MergePointsWorker} to
+ * the observed write latency of the InfluxDB server.
+ *
+ * <p>
+ * The batch size follows an additive-increase/multiplicative-decrease scheme:
+ * full batches that are written faster than {@link #TARGET_LATENCY} grow the
+ * batch size by {@link #BATCH_SIZE_STEP}; slower writes and failures halve it.
+ * The flush interval is a multiple of the smoothed latency, i.e. a fast server
+ * receives small batches often, while a slow server receives fewer, larger
+ * batches.
+ */
+public class AdaptiveBatching {
+
+	public static final int MIN_BATCH_SIZE = 100;
+	public static final int MAX_BATCH_SIZE = 10_000;
+	public static final int BATCH_SIZE_STEP = 250;
+	public static final Duration MIN_FLUSH_INTERVAL = Duration.ofSeconds(1);
+	public static final Duration MAX_FLUSH_INTERVAL = Duration.ofSeconds(10);
+	public static final Duration TARGET_LATENCY = Duration.ofSeconds(1);
+
+	private static final int FLUSH_INTERVAL_FACTOR = 4;
+	private static final double ALPHA = 0.2;
+
+	private int batchSize = 1_000;
+	private double latency = TARGET_LATENCY.toMillis(); // [ms]
+
+	/**
+	 * Gets the current maximum number of points per write.
+	 *
+	 * @return the batch size
+	 */
+	public synchronized int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Gets the current maximum time to wait for a batch to fill up.
+	 *
+	 * @return the flush interval
+	 */
+	public synchronized Duration getFlushInterval() {
+		var millis = Math.round(this.latency * FLUSH_INTERVAL_FACTOR);
+		return Duration.ofMillis(Math.max(MIN_FLUSH_INTERVAL.toMillis(), //
+				Math.min(MAX_FLUSH_INTERVAL.toMillis(), millis)));
+	}
+
+	/**
+	 * Gets the smoothed write latency.
+	 *
+	 * @return the latency in milliseconds
+	 */
+	public synchronized long getLatency() {
+		return Math.round(this.latency);
+	}
+
+	/**
+	 * Records a successful write.
+	 *
+	 * @param points  the number of written points
+	 * @param latency the duration of the write in milliseconds
+	 */
+	public synchronized void onSuccess(int points, long latency) {
+		this.latency = ALPHA * latency + (1 - ALPHA) * this.latency;
+		if (latency > TARGET_LATENCY.toMillis()) {
+			this.decrease();
+		} else if (points >= this.batchSize) {
+			// Only full batches show that a larger batch size would be used
+			this.batchSize = Math.min(MAX_BATCH_SIZE, this.batchSize + BATCH_SIZE_STEP);
+		}
+	}
+
+	/**
+	 * Records a failed write.
+	 *
+	 * @param latency the duration until the write failed in milliseconds
+	 */
+	public synchronized void onFailure(long latency) {
+		this.latency = ALPHA * Math.max(latency, TARGET_LATENCY.toMillis()) + (1 - ALPHA) * this.latency;
+		this.decrease();
+	}
+
+	private void decrease() {
+		this.batchSize = Math.max(MIN_BATCH_SIZE, this.batchSize / 2);
+	}
+
+}
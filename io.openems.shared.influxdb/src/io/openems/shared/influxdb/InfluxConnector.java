@@ -1,6 +1,8 @@
 package io.openems.shared.influxdb;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,6 +24,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
@@ -59,7 +62,10 @@ public class InfluxConnector {
 	private final String bucket;
 	private final boolean isReadOnly;
 	private final boolean safeWrite;
+	private final Path spillDirectory;
+	private final long maxSpillBytes;
 
+	protected final InfluxDBClientOptions defaultOptions;
 	private final WriteParameters defaultWriteParameters;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
 	private final AtomicInteger rejectedExecutionCount = new AtomicInteger();
@@ -67,27 +73,32 @@ public class InfluxConnector {
 	/**
 	 * The Constructor.
 	 *
-	 * @param componentId   ID of the calling OpenEMS Component
-	 * @param queryLanguage A {@link QueryLanguageConfig}
-	 * @param url           URL of the InfluxDB-Server (http://ip:port)
-	 * @param org           The organisation; '-' for InfluxDB v1
-	 * @param apiKey        The apiKey; 'username:password' for InfluxDB v1
-	 * @param bucket        The bucket name; 'database/retentionPolicy' for InfluxDB
-	 *                      v1
-	 * @param tag           The InfluxDB tag
-	 * @param isReadOnly    If true, a 'Read-Only-Mode' is activated, where no data
-	 *                      is actually written to the database
-	 * @param poolSize      the number of threads dedicated to handle the tasks
-	 * @param maxQueueSize  queue size limit for executor
-	 * @param onWriteError  A consumer for write-errors
-	 * @param safeWrite     Adds back points to the queue if a write fails
-	 * @param parameters    the {@link WriteParameters} to create a
-	 *                      {@link MergePointsWorker} for. All later used
-	 *                      {@link WriteParameters} need to be passed here
+	 * @param componentId    ID of the calling OpenEMS Component
+	 * @param queryLanguage  A {@link QueryLanguageConfig}
+	 * @param url            URL of the InfluxDB-Server (http://ip:port)
+	 * @param org            The organisation; '-' for InfluxDB v1
+	 * @param apiKey         The apiKey; 'username:password' for InfluxDB v1
+	 * @param bucket         The bucket name; 'database/retentionPolicy' for
+	 *                       InfluxDB v1
+	 * @param tag            The InfluxDB tag
+	 * @param isReadOnly     If true, a 'Read-Only-Mode' is activated, where no
+	 *                       data is actually written to the database
+	 * @param poolSize       the number of threads dedicated to handle the tasks
+	 * @param maxQueueSize   queue size limit for executor
+	 * @param onWriteError   A consumer for write-errors
+	 * @param safeWrite      Adds back points to the queue if a write fails
+	 * @param spillDirectory directory for points that cannot be written in time
+	 *                       because InfluxDB is slow; null to drop them
+	 * @param maxSpillBytes  the maximum size of the spilled points per bucket on
+	 *                       disk
+	 * @param parameters     the {@link WriteParameters} to create a
+	 *                       {@link MergePointsWorker} for. All later used
+	 *                       {@link WriteParameters} need to be passed here
 	 */
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
-			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, Path spillDirectory, long maxSpillBytes,
+			WriteParameters... parameters) {
 		this.queryProxy = QueryProxy.from(queryLanguage, tag);
 		this.url = url;
 		this.org = org;
@@ -95,6 +106,13 @@ public class InfluxConnector {
 		this.bucket = bucket;
 		this.isReadOnly = isReadOnly;
 		this.safeWrite = safeWrite;
+		this.spillDirectory = spillDirectory == null ? null : spillDirectory.resolve(componentId);
+		this.maxSpillBytes = maxSpillBytes;
+		this.defaultOptions = InfluxDBClientOptions.builder() //
+				.url(this.url.toString()) //
+				.org(this.org) //
+				.bucket(this.bucket) //
+				.build();
 
 		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<Runnable>(maxQueueSize), //
@@ -102,6 +120,9 @@ public class InfluxConnector {
 				(r, executor) -> {
 					// Custom RejectedExecutionHandler; avoid throwing a RejectedExecutionException
 					this.rejectedExecutionCount.incrementAndGet();
+					if (r instanceof AbstractMergePointsWorker<?>.WriteTask task) {
+						task.onRejected();
+					}
 				});
 
 		BiFunction<String, WriteParameters, MergePointsWorker> mergePointsWorkerFactory;
@@ -120,20 +141,23 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
-		final var defaultOptions = InfluxDBClientOptions.builder() //
-				.url(this.url.toString()) //
-				.org(this.org) //
-				.bucket(this.bucket) //
-				.build();
 		// initialize merge points worker for specific write parameters
 		for (var writeParameters : parameters) {
-			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(defaultOptions),
+			final var mergePointsWorker = mergePointsWorkerFactory.apply(
+					writeParameters.bucketSafe(this.defaultOptions),
 					writeParameters);
 			mergePointsWorker.activate();
 			this.mergePointsWorkerByWriteParameters.put(writeParameters, mergePointsWorker);
 		}
 	}
 
+	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
+			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+		this(componentId, queryLanguage, url, org, apiKey, bucket, tag, isReadOnly, poolSize, maxQueueSize,
+				onWriteError, safeWrite, null, 0, parameters);
+	}
+
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
 			Consumer<BadRequestException> onWriteError, WriteParameters... parameters) {
@@ -141,6 +165,26 @@ public class InfluxConnector {
 				onWriteError, false, parameters);
 	}
 
+	/**
+	 * Creates the {@link SpillBuffer} for a {@link MergePointsWorker}.
+	 *
+	 * @param name the name of the {@link MergePointsWorker}
+	 * @return the {@link SpillBuffer}; null if spilling is disabled or the
+	 *         directory is not accessible
+	 */
+	protected SpillBuffer createSpillBuffer(String name) {
+		if (this.spillDirectory == null || this.maxSpillBytes <= 0) {
+			return null;
+		}
+		var directory = this.spillDirectory.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_"));
+		try {
+			return new SpillBuffer(directory, this.maxSpillBytes);
+		} catch (IOException e) {
+			this.log.warn("Unable to create spill buffer in [" + directory + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
 	public static class InfluxConnection {
 		public final InfluxDBClient client;
 		public final WriteApiBlocking writeApi;
@@ -169,6 +213,24 @@ public class InfluxConnector {
 				.toString();
 	}
 
+	/**
+	 * Gets the metrics of the executor and the write throughput and lag per
+	 * bucket.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, JsonElement> debugMetrics() {
+		var metrics = new HashMap<String, JsonElement>();
+		ThreadPoolUtils.debugMetrics(this.executor).forEach((key, value) -> {
+			metrics.put(key, new JsonPrimitive(value));
+		});
+		metrics.put("RejectedExecutions", new JsonPrimitive(this.rejectedExecutionCount.get()));
+		this.mergePointsWorkerByWriteParameters.values().forEach(worker -> {
+			metrics.putAll(worker.debugMetrics());
+		});
+		return metrics;
+	}
+
 	private InfluxConnection influxConnection = null;
 
 	/**
@@ -1,5 +1,8 @@
 package io.openems.shared.influxdb;
 
+import java.util.Map;
+
+import com.google.gson.JsonElement;
 import com.influxdb.client.write.Point;
 
 public interface MergePointsWorker {
@@ -31,4 +34,12 @@ public interface MergePointsWorker {
 	 */
 	public String debugLog();
 
+	/**
+	 * Gets the write metrics, e.g. throughput and lag, prefixed with the name of
+	 * the worker.
+	 * 
+	 * @return the metrics
+	 */
+	public Map<String, JsonElement> debugMetrics();
+
 }
@@ -0,0 +1,167 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A disk-backed FIFO buffer for InfluxDB line-protocol records that could not
+ * be written in time.
+ *
+ * <p>
+ * Every call to {@link #write(List)} creates one gzip compressed segment file.
+ * Segments are read back in the order they were written; they survive a
+ * restart of the application.
+ */
+public class SpillBuffer {
+
+	private static final String SUFFIX = ".lp.gz";
+
+	private final Logger log = LoggerFactory.getLogger(SpillBuffer.class);
+
+	private final Path directory;
+	private final long maxBytes;
+	private final Deque<Path> segments = new ArrayDeque<>();
+
+	private long sizeBytes = 0;
+	private long sequence = 0;
+
+	/**
+	 * Creates a {@link SpillBuffer} and loads the existing segments of the
+	 * directory.
+	 *
+	 * @param directory the directory; created if it does not exist
+	 * @param maxBytes  the maximum size of all segments on disk
+	 * @throws IOException on error
+	 */
+	public SpillBuffer(Path directory, long maxBytes) throws IOException {
+		this.directory = directory;
+		this.maxBytes = maxBytes;
+		Files.createDirectories(directory);
+		try (var files = Files.list(directory)) {
+			for (var file : files //
+					.filter(f -> f.getFileName().toString().endsWith(SUFFIX)) //
+					.sorted() //
+					.collect(Collectors.toList())) {
+				this.segments.add(file);
+				this.sizeBytes += Files.size(file);
+				this.sequence = Math.max(this.sequence, parseSequence(file) + 1);
+			}
+		}
+	}
+
+	/**
+	 * Appends records as a new segment.
+	 *
+	 * @param records the line-protocol records
+	 * @return false if the buffer is full or the segment could not be written
+	 */
+	public synchronized boolean write(List<String> records) {
+		if (records.isEmpty()) {
+			return true;
+		}
+		if (this.sizeBytes >= this.maxBytes) {
+			return false;
+		}
+		var file = this.directory.resolve(String.format("%019d", this.sequence++) + SUFFIX);
+		var tmp = this.directory.resolve(file.getFileName() + ".tmp");
+		try {
+			try (var writer = new BufferedWriter(
+					new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tmp)), UTF_8))) {
+				for (var record : records) {
+					writer.write(record);
+					writer.newLine();
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+			this.segments.add(file);
+			this.sizeBytes += Files.size(file);
+			return true;
+
+		} catch (IOException e) {
+			this.log.warn("Unable to write spill segment [" + file + "]: " + e.getMessage());
+			try {
+				Files.deleteIfExists(tmp);
+			} catch (IOException e1) {
+				// ignore
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Removes the oldest segment and returns its records.
+	 *
+	 * @return the records; empty if the buffer is empty
+	 */
+	public synchronized List<String> read() {
+		var file = this.segments.poll();
+		if (file == null) {
+			return List.of();
+		}
+		var records = new ArrayList<String>();
+		try {
+			try (var reader = new BufferedReader(
+					new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					records.add(line);
+				}
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to read spill segment [" + file + "]: " + e.getMessage());
+		}
+		try {
+			this.sizeBytes -= Files.size(file);
+			Files.delete(file);
+		} catch (IOException e) {
+			this.log.warn("Unable to delete spill segment [" + file + "]: " + e.getMessage());
+		}
+		return records;
+	}
+
+	/**
+	 * Is the buffer empty?.
+	 *
+	 * @return true if there are no segments
+	 */
+	public synchronized boolean isEmpty() {
+		return this.segments.isEmpty();
+	}
+
+	/**
+	 * Gets the size of all segments on disk.
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long getSizeBytes() {
+		return this.sizeBytes;
+	}
+
+	private static long parseSequence(Path file) {
+		var name = file.getFileName().toString();
+		try {
+			return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+}
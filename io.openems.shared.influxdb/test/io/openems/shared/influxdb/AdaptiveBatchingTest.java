@@ -0,0 +1,51 @@
+package io.openems.shared.influxdb;
+
+import static io.openems.shared.influxdb.AdaptiveBatching.MAX_BATCH_SIZE;
+import static io.openems.shared.influxdb.AdaptiveBatching.MAX_FLUSH_INTERVAL;
+import static io.openems.shared.influxdb.AdaptiveBatching.MIN_BATCH_SIZE;
+import static io.openems.shared.influxdb.AdaptiveBatching.MIN_FLUSH_INTERVAL;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class AdaptiveBatchingTest {
+
+	@Test
+	public void testFastServer() {
+		var sut = new AdaptiveBatching();
+		assertEquals(1_000, sut.getBatchSize());
+
+		// Partially filled batches do not increase the batch size
+		sut.onSuccess(10, 50);
+		assertEquals(1_000, sut.getBatchSize());
+
+		for (var i = 0; i < 100; i++) {
+			sut.onSuccess(sut.getBatchSize(), 50);
+		}
+		assertEquals(MAX_BATCH_SIZE, sut.getBatchSize());
+		assertEquals(MIN_FLUSH_INTERVAL, sut.getFlushInterval());
+	}
+
+	@Test
+	public void testSlowServer() {
+		var sut = new AdaptiveBatching();
+		sut.onSuccess(1_000, 5_000);
+		assertEquals(500, sut.getBatchSize());
+
+		for (var i = 0; i < 100; i++) {
+			sut.onSuccess(sut.getBatchSize(), 5_000);
+		}
+		assertEquals(MIN_BATCH_SIZE, sut.getBatchSize());
+		assertEquals(MAX_FLUSH_INTERVAL, sut.getFlushInterval());
+		assertEquals(5_000, sut.getLatency());
+	}
+
+	@Test
+	public void testFailure() {
+		var sut = new AdaptiveBatching();
+		sut.onFailure(0);
+		assertEquals(500, sut.getBatchSize());
+		assertEquals(1_000, sut.getLatency());
+	}
+
+}
@@ -0,0 +1,50 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SpillBufferTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void test() throws IOException {
+		var directory = this.folder.getRoot().toPath().resolve("bucket");
+		var sut = new SpillBuffer(directory, 1024 * 1024);
+		assertTrue(sut.isEmpty());
+		assertEquals(List.of(), sut.read());
+
+		assertTrue(sut.write(List.of("data,edge=0 a=1i 1", "data,edge=0 a=2i 2")));
+		assertTrue(sut.write(List.of("data,edge=0 a=3i 3")));
+		assertFalse(sut.isEmpty());
+		assertTrue(sut.getSizeBytes() > 0);
+
+		// Segments survive a restart
+		sut = new SpillBuffer(directory, 1024 * 1024);
+		assertEquals(List.of("data,edge=0 a=1i 1", "data,edge=0 a=2i 2"), sut.read());
+		assertTrue(sut.write(List.of("data,edge=0 a=4i 4")));
+		assertEquals(List.of("data,edge=0 a=3i 3"), sut.read());
+		assertEquals(List.of("data,edge=0 a=4i 4"), sut.read());
+		assertTrue(sut.isEmpty());
+		assertEquals(0, sut.getSizeBytes());
+	}
+
+	@Test
+	public void testFull() throws IOException {
+		var sut = new SpillBuffer(this.folder.getRoot().toPath(), 1);
+		assertTrue(sut.write(List.of("data,edge=0 a=1i 1")));
+		assertFalse(sut.write(List.of("data,edge=0 a=2i 2")));
+		assertEquals(List.of("data,edge=0 a=1i 1"), sut.read());
+		assertTrue(sut.write(List.of("data,edge=0 a=2i 2")));
+	}
+
+}